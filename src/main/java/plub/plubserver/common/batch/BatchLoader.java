@@ -0,0 +1,56 @@
+package plub.plubserver.common.batch;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * DataLoader 방식의 일괄 조회기 (목록 조회 한 번 동안만 사용)
+ * 카드마다 연관 데이터를 조회하던 N+1 을, 페이지의 키를 모아 IN / group by 쿼리 한 번으로 가져오도록 바꾼다
+ * 한 번 가져온 키는 다시 조회하지 않고, 결과에 없는 키는 기본값으로 채운다
+ */
+public class BatchLoader<K, V> {
+
+    private final Function<Collection<K>, Map<K, V>> loadFunction;
+    private final V defaultValue;
+    private final Map<K, V> loaded = new HashMap<>();
+
+    private BatchLoader(Function<Collection<K>, Map<K, V>> loadFunction, V defaultValue) {
+        this.loadFunction = loadFunction;
+        this.defaultValue = defaultValue;
+    }
+
+    public static <K, V> BatchLoader<K, V> of(Function<Collection<K>, Map<K, V>> loadFunction, V defaultValue) {
+        return new BatchLoader<>(loadFunction, defaultValue);
+    }
+
+    // 아직 가져오지 않은 키만 모아 한 번에 조회
+    public BatchLoader<K, V> loadAll(Collection<K> keys) {
+        Set<K> missing = new LinkedHashSet<>();
+        keys.stream()
+                .filter(Objects::nonNull)
+                .filter(key -> !loaded.containsKey(key))
+                .forEach(missing::add);
+        if (missing.isEmpty()) return this;
+
+        Map<K, V> result = loadFunction.apply(missing);
+        missing.forEach(key -> loaded.put(key, result.getOrDefault(key, defaultValue)));
+        return this;
+    }
+
+    public <T> BatchLoader<K, V> loadAll(Collection<T> items, Function<T, K> keyExtractor) {
+        return loadAll(items.stream().map(keyExtractor).toList());
+    }
+
+    // loadAll 에서 빠진 키는 단건으로 조회
+    public V get(K key) {
+        if (key == null) return defaultValue;
+        if (!loaded.containsKey(key)) loadAll(List.of(key));
+        return loaded.get(key);
+    }
+}
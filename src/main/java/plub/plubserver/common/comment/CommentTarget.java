@@ -0,0 +1,49 @@
+package plub.plubserver.common.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글 대상별 테이블 정보
+ * 한 댓글 트리(원댓글 + 모든 답글)는 같은 comment_group_id(원댓글 id)를 가지므로
+ * 하위 트리 삭제는 그룹 범위 안에서 update 한 문장으로 처리한다
+ */
+@Getter
+@AllArgsConstructor
+public enum CommentTarget {
+
+    FEED(
+            groupDeleteSql("feed_comment"),
+            subtreeDeleteSql("feed_comment", "feed_comment_id"),
+            "update feed set comment_count = comment_count + :delta where feed_id = :ownerId"
+    ),
+    NOTICE(
+            groupDeleteSql("notice_comment"),
+            subtreeDeleteSql("notice_comment", "notice_comment_id"),
+            "update notice set comment_count = comment_count + :delta where notice_id = :ownerId"
+    );
+
+    // 원댓글 삭제 : 그룹 전체 (파라미터 : groupId, now)
+    private final String groupDeleteSql;
+    // 답글 삭제 : 그룹 안에서 parent_id 를 따라 내려간 하위 트리 (파라미터 : commentId, groupId, now)
+    private final String subtreeDeleteSql;
+    // 파라미터 : delta, ownerId
+    private final String counterSql;
+
+    private static String groupDeleteSql(String table) {
+        return "update " + table + " set visibility = false, modified_at = :now"
+                + " where comment_group_id = :groupId and visibility = true";
+    }
+
+    private static String subtreeDeleteSql(String table, String idColumn) {
+        return "with recursive subtree as ("
+                + " select " + idColumn + " from " + table + " where " + idColumn + " = :commentId"
+                + " union all"
+                + " select c." + idColumn + " from " + table + " c join subtree s on c.parent_id = s." + idColumn
+                + " where c.comment_group_id = :groupId"
+                + ")"
+                + " update " + table + " set visibility = false, modified_at = :now"
+                + " where comment_group_id = :groupId and visibility = true"
+                + " and " + idColumn + " in (select " + idColumn + " from subtree)";
+    }
+}
@@ -0,0 +1,49 @@
+package plub.plubserver.common.comment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 피드/공지 댓글 트리
+ * 하위 댓글을 하나씩 불러와 저장하던 재귀 삭제 대신 bulk update 한 번으로 숨기고,
+ * 실제로 숨겨진 행 수만큼 대상 행의 댓글 수를 줄인다
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentTree {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void addComment(CommentTarget target, Long ownerId) {
+        addCount(target, ownerId, 1);
+    }
+
+    /**
+     * 댓글과 하위 댓글 전체 soft delete
+     * @return 새로 삭제된(보이던) 댓글 수
+     */
+    public int softDeleteSubtree(CommentTarget target, Long ownerId, Long commentId, Long commentGroupId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("commentId", commentId)
+                .addValue("groupId", commentGroupId)
+                .addValue("now", LocalDateTime.now().format(DATE_TIME_FORMATTER));
+        // 원댓글이면 그룹 전체가 하위 트리
+        String sql = commentId.equals(commentGroupId) ? target.getGroupDeleteSql() : target.getSubtreeDeleteSql();
+        int deletedCount = jdbcTemplate.update(sql, params);
+        if (deletedCount > 0) addCount(target, ownerId, -deletedCount);
+        return deletedCount;
+    }
+
+    private void addCount(CommentTarget target, Long ownerId, int delta) {
+        jdbcTemplate.update(target.getCounterSql(), new MapSqlParameterSource()
+                .addValue("delta", delta)
+                .addValue("ownerId", ownerId));
+    }
+}
@@ -7,6 +7,7 @@ public class GlobalConstants {
      */
     public static final int NICKNAME_CHANGE_LIMIT = 3;
     public static final int SMS_LIMIT_TIME = 5 * 60;
+    public static final int ACCOUNT_SNAPSHOT_CACHE_TIME = 60;
 
     /**
      * Report
@@ -30,4 +31,79 @@ public class GlobalConstants {
     public static final int ACCOUNT_CHECK_FREQUENCY = 10;
     public static final int ACCOUNT_CHECK_RECENT_FREQUENCY = 5;
 
+    /**
+     * Notification
+     */
+    public static final int FCM_MAX_IN_FLIGHT = 64;
+    public static final int FCM_TOKEN_REFRESH_MARGIN = 5 * 60;
+    public static final int NOTIFICATION_DELIVERY_BATCH_SIZE = 100;
+    public static final int NOTIFICATION_MAX_RETRY = 3;
+    public static final int NOTIFICATION_RETRY_INTERVAL = 30;
+    public static final int NOTIFICATION_SEND_TIMEOUT = 60;
+
+    /**
+     * Calendar
+     */
+    public static final int CALENDAR_ALARM_TICK = 1;
+    public static final int CALENDAR_ALARM_WHEEL_SIZE = 512;
+    public static final int CALENDAR_ALARM_SWEEP_INTERVAL = 5 * 60;
+    public static final int CALENDAR_ALARM_WINDOW = 10 * 60;
+    public static final int CALENDAR_ALARM_GRACE = 60;
+    public static final int CALENDAR_ALARM_PARTITION_COUNT = 16;
+    public static final int CALENDAR_ALARM_LEASE_TIME = 30;
+    public static final int CALENDAR_ALARM_LEASE_RENEW_INTERVAL = 10;
+    public static final int CALENDAR_ALARM_SENT_KEEP_TIME = 60 * 60;
+
+    /**
+     * Recommendation
+     */
+    public static final int RECOMMEND_ACCOUNT_CACHE_TIME = 5 * 60;
+    public static final int RECOMMEND_REBUILD_INTERVAL = 30 * 60;
+    public static final int RECOMMEND_RECENCY_HALF_LIFE = 3 * 24 * 60 * 60;
+    public static final int RECOMMEND_VIEW_WEIGHT = 1;
+    public static final int RECOMMEND_FILL_RATE_WEIGHT = 2;
+    public static final int RECOMMEND_RECENCY_WEIGHT = 3;
+
+    /**
+     * Plubbing
+     */
+    public static final int PLUBBING_CATEGORY_INDEX_REPAIR_INTERVAL = 60 * 60;
+    public static final int VIEW_COUNT_FLUSH_INTERVAL = 10;
+    public static final int VIEW_COUNT_FLUSH_BATCH_SIZE = 500;
+
+    /**
+     * Plubbing Ranking
+     */
+    public static final int RANKING_HALF_LIFE = 24 * 60 * 60;
+    public static final int RANKING_FLUSH_INTERVAL = 10;
+    public static final int RANKING_RECONCILE_INTERVAL = 60 * 60;
+    public static final int RANKING_REBASE_INTERVAL = 7 * 24 * 60 * 60;
+    public static final int RANKING_SEED_BATCH_SIZE = 500;
+    public static final int RANKING_VIEW_WEIGHT = 1;
+    public static final int RANKING_BOOKMARK_WEIGHT = 3;
+    public static final int RANKING_APPLY_WEIGHT = 5;
+    public static final int RANKING_JOIN_WEIGHT = 8;
+
+    /**
+     * Recruit
+     */
+    public static final int RECRUIT_SEARCH_SNIPPET_PADDING = 30;
+    public static final int RECRUIT_SEARCH_INDEX_BATCH_SIZE = 500;
+    public static final int RECRUIT_SEARCH_INDEX_COMMIT_INTERVAL = 60;
+    public static final int RECRUIT_SEARCH_REINDEX_INTERVAL = 6 * 60 * 60;
+    public static final int BOOKMARK_CACHE_TIME = 60 * 60;
+
+    /**
+     * Feed, Notice
+     */
+    public static final int COUNTER_RECONCILE_INTERVAL = 60 * 60;
+    public static final int COUNTER_RECONCILE_BATCH_SIZE = 1000;
+    public static final int FEED_TIMELINE_SIZE = 100;
+    public static final int FEED_TIMELINE_CACHE_TIME = 60 * 60;
+
+    /**
+     * Geo
+     */
+    public static final int GEO_CITY_CACHE_SIZE = 10_000;
+
 }
@@ -0,0 +1,103 @@
+package plub.plubserver.common.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static plub.plubserver.common.constant.GlobalConstants.COUNTER_RECONCILE_BATCH_SIZE;
+import static plub.plubserver.common.constant.GlobalConstants.COUNTER_RECONCILE_INTERVAL;
+
+/**
+ * 피드/공지의 좋아요, 댓글 수와 투두 타임라인 좋아요 수 보정
+ * 평소에는 증감 쿼리로만 유지하고, 신고 처리 등 증감을 거치지 않은 변경으로 생긴 차이는 주기적으로 다시 맞춘다
+ * id 구간별 트랜잭션에서 부모 행을 먼저 잠근 뒤 집계하므로, 보정 중에 커밋되는 증감을 덮어쓰지 않는다
+ * (증감은 부모 행 update 에서 대기하고, 집계는 잠금 이후의 스냅샷으로 실행된다)
+ * 처음 배포할 때의 일괄 보정은 db/counter_backfill.sql 로 한 번 실행한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterReconciler {
+
+    private static final String RECONCILE_LOCK_KEY = "counter:reconcile:lock";
+
+    static final List<Counter> COUNTERS = List.of(
+            new Counter("feed", "feed_id", "like_count", "feed_like", "feed_like_id", ""),
+            new Counter("feed", "feed_id", "comment_count", "feed_comment", "feed_comment_id", ""),
+            new Counter("notice", "notice_id", "like_count", "notice_like", "notice_like_id", ""),
+            new Counter("notice", "notice_id", "comment_count", "notice_comment", "notice_comment_id", ""),
+            // 투두 좋아요 행은 취소해도 남아 있으므로 is_like 인 행만 센다
+            new Counter("todo_timeline", "todo_timelime_id", "like_todo", "todo_like", "todo_like_id", " and ch.is_like = true")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate template;
+
+    record Counter(String table, String idColumn, String countColumn, String childTable, String childIdColumn, String childCondition) {
+
+        String rangeSql() {
+            return "select min(" + idColumn + ") as min_id, max(" + idColumn + ") as max_id from " + table;
+        }
+
+        String lockSql() {
+            return "select " + idColumn + " from " + table
+                    + " where " + idColumn + " between ? and ? order by " + idColumn + " for update";
+        }
+
+        // 구간 안에서 보이는 자식 행 수와 다른 카운터만 갱신
+        String reconcileSql() {
+            return "update " + table + " t set " + countColumn + " = c.cnt"
+                    + " from (select p." + idColumn + ", count(ch." + childIdColumn + ") as cnt"
+                    + " from " + table + " p left join " + childTable + " ch"
+                    + " on ch." + idColumn + " = p." + idColumn + " and ch.visibility = true" + childCondition
+                    + " where p." + idColumn + " between ? and ?"
+                    + " group by p." + idColumn + ") c"
+                    + " where t." + idColumn + " = c." + idColumn
+                    + " and t." + countColumn + " is distinct from c.cnt";
+        }
+    }
+
+    public int reconcile() {
+        int updated = 0;
+        for (Counter counter : COUNTERS) {
+            Map<String, Object> range = jdbcTemplate.queryForMap(counter.rangeSql());
+            if (range.get("min_id") == null) continue;
+            long minId = ((Number) range.get("min_id")).longValue();
+            long maxId = ((Number) range.get("max_id")).longValue();
+            for (long from = minId; from <= maxId; from += COUNTER_RECONCILE_BATCH_SIZE) {
+                updated += reconcileRange(counter, from, from + COUNTER_RECONCILE_BATCH_SIZE - 1);
+            }
+        }
+        return updated;
+    }
+
+    private int reconcileRange(Counter counter, long fromId, long toId) {
+        Integer updated = transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForList(counter.lockSql(), Long.class, fromId, toId);
+            return jdbcTemplate.update(counter.reconcileSql(), fromId, toId);
+        });
+        return updated == null ? 0 : updated;
+    }
+
+    // 여러 인스턴스 중 하나만 보정
+    @Scheduled(fixedDelay = COUNTER_RECONCILE_INTERVAL * 1000L, initialDelay = COUNTER_RECONCILE_INTERVAL * 1000L)
+    public void scheduleReconcile() {
+        try {
+            Boolean locked = template.opsForValue().setIfAbsent(
+                    RECONCILE_LOCK_KEY, "1", Duration.ofSeconds(COUNTER_RECONCILE_INTERVAL / 2));
+            if (!Boolean.TRUE.equals(locked)) return;
+            log.info("좋아요/댓글 수 보정 : {}건", reconcile());
+        } catch (Exception e) {
+            log.error("좋아요/댓글 수 보정 중 예외 발생: " + e.getMessage(), e);
+        }
+    }
+}
@@ -6,6 +6,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import plub.plubserver.common.pagination.KeysetSlice;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,6 +18,7 @@ public class PageResponse<T> {
     Long totalElements;
     boolean last;
     List<T> content;
+    String nextCursor;
 
     public static <T> PageResponse<T> of(Page<T> page) {
         return PageResponse.<T>builder()
@@ -26,19 +29,28 @@ public class PageResponse<T> {
     }
 
 
-    public static <T> PageResponse<T> ofCursor(Page<T> page, Long totalElements) {
+    public static <T> PageResponse<T> ofCursor(Slice<T> slice, Long totalElements) {
         return PageResponse.<T>builder()
                 .totalElements(totalElements)
-                .last(page.isLast())
-                .content(page.getContent())
+                .last(slice.isLast())
+                .content(slice.getContent())
                 .build();
     }
 
-    public static <T> PageResponse<T> ofCursor(Page<T> page, Long totalElements, boolean last) {
+    public static <T> PageResponse<T> ofCursor(Slice<T> slice, Long totalElements, boolean last) {
         return PageResponse.<T>builder()
                 .totalElements(totalElements)
                 .last(last)
-                .content(page.getContent())
+                .content(slice.getContent())
+                .build();
+    }
+
+    public static <T> PageResponse<T> ofKeyset(KeysetSlice<T> slice, Long totalElements) {
+        return PageResponse.<T>builder()
+                .totalElements(totalElements)
+                .last(slice.isLast())
+                .content(slice.content())
+                .nextCursor(slice.nextCursor())
                 .build();
     }
 
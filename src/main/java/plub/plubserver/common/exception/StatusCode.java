@@ -21,6 +21,7 @@ public enum StatusCode {
     PERMANENTLY_BANNED_ACCOUNT(400, 9090, "permanently banned account error."),
     INACTIVE_ACCOUNT(400, 9100, "inactive account error."),
     DORMANT_ACCOUNT(400, 9110, "dormant account error."),
+    INVALID_CURSOR(400, 9120, "invalid cursor."),
 
     /**
      * Account
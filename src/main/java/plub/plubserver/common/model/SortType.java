@@ -1,10 +1,11 @@
 package plub.plubserver.common.model;
 
 public enum SortType {
-    NEW, POPULAR;
+    NEW, POPULAR, ACCURACY;
 
     public static SortType of(String sort) {
         if (sort.equals("popular")) return SortType.POPULAR;
+        else if (sort.equals("accuracy")) return SortType.ACCURACY;
         else return SortType.NEW;
     }
 }
@@ -0,0 +1,27 @@
+package plub.plubserver.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이징 결과
+ * @param nextCursor 다음 페이지 조회에 사용할 커서 (마지막 페이지면 null)
+ */
+public record KeysetSlice<T>(
+        List<T> content,
+        boolean hasNext,
+        String nextCursor
+) {
+    public <R> KeysetSlice<R> map(Function<? super T, ? extends R> converter) {
+        return new KeysetSlice<>(content.stream().<R>map(converter).toList(), hasNext, nextCursor);
+    }
+
+    // 페이지 내용을 한 번에 변환 (배치 조회가 필요한 DTO 조립용)
+    public <R> KeysetSlice<R> mapContent(Function<List<T>, List<R>> converter) {
+        return new KeysetSlice<>(converter.apply(content), hasNext, nextCursor);
+    }
+
+    public boolean isLast() {
+        return !hasNext;
+    }
+}
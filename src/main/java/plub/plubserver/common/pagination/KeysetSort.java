@@ -0,0 +1,148 @@
+package plub.plubserver.common.pagination;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPQLQuery;
+import plub.plubserver.common.exception.PlubException;
+import plub.plubserver.common.exception.StatusCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(seek) 페이징 정렬 키
+ * (views desc, id desc) 처럼 마지막 키는 유일한 값(id)이어야 하고, 모든 키는 null 이 아니어야 한다
+ * OFFSET 없이 "마지막으로 본 행의 키 값 이후" 조건으로 다음 페이지를 조회하므로 페이지 깊이와 관계없이 페이지 크기만큼만 읽는다
+ */
+public class KeysetSort<E> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private record Key<E>(
+            ComparableExpressionBase<?> path,
+            boolean ascending,
+            Class<?> type,
+            Function<E, ?> extractor
+    ) {
+    }
+
+    private final List<Key<E>> keys = new ArrayList<>();
+
+    public static <E> KeysetSort<E> create() {
+        return new KeysetSort<>();
+    }
+
+    public <V extends Comparable<?>> KeysetSort<E> asc(ComparableExpressionBase<V> path, Class<V> type, Function<E, V> extractor) {
+        keys.add(new Key<>(path, true, type, extractor));
+        return this;
+    }
+
+    public <V extends Comparable<?>> KeysetSort<E> desc(ComparableExpressionBase<V> path, Class<V> type, Function<E, V> extractor) {
+        keys.add(new Key<>(path, false, type, extractor));
+        return this;
+    }
+
+    /**
+     * 커서 이후의 페이지 조회 (페이지 크기 + 1 개를 조회해서 다음 페이지 유무 판단)
+     * @param cursorValues resolveCursor 로 해석한 커서 값, null 이면 첫 페이지
+     */
+    public KeysetSlice<E> fetch(JPQLQuery<E> query, List<Object> cursorValues, int size) {
+        if (cursorValues != null) query.where(after(cursorValues));
+        List<E> content = query.orderBy(orderSpecifiers())
+                .limit(size + 1L)
+                .fetch();
+        boolean hasNext = content.size() > size;
+        if (hasNext) content = new ArrayList<>(content.subList(0, size));
+        String nextCursor = hasNext ? encode(valuesOf(content.get(content.size() - 1))) : null;
+        return new KeysetSlice<>(content, hasNext, nextCursor);
+    }
+
+    public OrderSpecifier<?>[] orderSpecifiers() {
+        return keys.stream()
+                .map(key -> key.ascending() ? key.path().asc() : key.path().desc())
+                .toArray(OrderSpecifier<?>[]::new);
+    }
+
+    // (k1 > v1) or (k1 = v1 and k2 > v2) or ... (내림차순 키는 <)
+    // 키마다 정렬 방향이 다를 수 있어서 행 값 비교 (k1, k2) > (v1, v2) 대신 OR 로 풀어서 만든다
+    public Predicate after(List<Object> values) {
+        if (values.size() != keys.size()) throw new PlubException(StatusCode.INVALID_CURSOR);
+        Predicate result = null;
+        Predicate equalPrefix = null;
+        for (int i = 0; i < keys.size(); i++) {
+            Key<E> key = keys.get(i);
+            Object value = values.get(i);
+            Predicate seek = Expressions.predicate(key.ascending() ? Ops.GT : Ops.LT, key.path(), Expressions.constant(value));
+            result = ExpressionUtils.or(result, ExpressionUtils.and(equalPrefix, seek));
+            equalPrefix = ExpressionUtils.and(equalPrefix, Expressions.predicate(Ops.EQ, key.path(), Expressions.constant(value)));
+        }
+        return result;
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 해석
+     * 새 커서(cursor)가 없으면 기존 클라이언트가 보내는 cursorId(마지막으로 본 행의 id)의 키 값으로 커서를 만든다
+     * @return null 이면 첫 페이지
+     */
+    public List<Object> resolveCursor(String cursor, Long cursorId, Function<Long, E> rowLoader) {
+        if (cursor != null && !cursor.isBlank()) return decode(cursor);
+        if (cursorId == null || cursorId == 0) return null;
+        E row = rowLoader.apply(cursorId);
+        return row == null ? null : valuesOf(row);
+    }
+
+    public List<Object> valuesOf(E entity) {
+        return keys.stream().map(key -> (Object) key.extractor().apply(entity)).toList();
+    }
+
+    // 커서 값 -> base64 (클라이언트는 내용을 알 필요 없음)
+    public String encode(List<Object> values) {
+        try {
+            List<String> raw = values.stream().map(String::valueOf).toList();
+            byte[] json = OBJECT_MAPPER.writeValueAsBytes(raw);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (Exception e) {
+            throw new PlubException(StatusCode.INVALID_CURSOR);
+        }
+    }
+
+    public List<Object> decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            List<String> raw = OBJECT_MAPPER.readValue(json, new TypeReference<>() {
+            });
+            if (raw.size() != keys.size()) throw new PlubException(StatusCode.INVALID_CURSOR);
+            List<Object> values = new ArrayList<>();
+            for (int i = 0; i < keys.size(); i++) {
+                values.add(convert(raw.get(i), keys.get(i).type()));
+            }
+            return values;
+        } catch (PlubException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new PlubException(StatusCode.INVALID_CURSOR);
+        }
+    }
+
+    private Object convert(String raw, Class<?> type) {
+        if (type == Long.class) return Long.valueOf(raw);
+        if (type == Integer.class) return Integer.valueOf(raw);
+        if (type == Double.class) return Double.valueOf(raw);
+        if (type == String.class) return raw;
+        if (type == LocalDate.class) return LocalDate.parse(raw);
+        if (type == LocalDateTime.class) return LocalDateTime.parse(raw);
+        throw new IllegalArgumentException("unsupported keyset type : " + type);
+    }
+}
@@ -0,0 +1,107 @@
+package plub.plubserver.common.pagination;
+
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import plub.plubserver.common.exception.PlubException;
+import plub.plubserver.common.exception.StatusCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * sorted set 키셋 페이징 커서 (score desc, member desc)
+ * 점수가 계속 바뀌는 sorted set 을 순위(offset)로 넘기면 페이지 사이에 항목이 건너뛰거나 중복되므로
+ * 마지막으로 본 (점수, 멤버) 다음부터 ZREVRANGEBYSCORE 로 조회한다
+ * DB 키셋 커서(KeysetSort)와 구분되도록 접두어를 붙여서, 조회 방식이 바뀌면 멤버(모임 id) 다음부터 이어서 조회할 수 있다
+ */
+public record ScoreCursor(double score, String member) {
+
+    // base64url 에 없는 문자를 포함해서 KeysetSort 커서와 겹치지 않는다
+    private static final String PREFIX = "z.";
+    private static final String SEPARATOR = ":";
+
+    public static boolean isScoreCursor(String cursor) {
+        return cursor != null && cursor.startsWith(PREFIX);
+    }
+
+    public String encode() {
+        String raw = score + SEPARATOR + member;
+        return PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ScoreCursor decode(String cursor) {
+        if (!isScoreCursor(cursor)) throw new PlubException(StatusCode.INVALID_CURSOR);
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.substring(PREFIX.length())), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(SEPARATOR);
+            if (index <= 0 || index == raw.length() - 1) throw new PlubException(StatusCode.INVALID_CURSOR);
+            return new ScoreCursor(Double.parseDouble(raw.substring(0, index)), raw.substring(index + 1));
+        } catch (PlubException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new PlubException(StatusCode.INVALID_CURSOR);
+        }
+    }
+
+    // 멤버가 모임 id 인 sorted set 커서를 DB 조회의 cursorId 로 이어갈 때 사용
+    public Long memberId() {
+        try {
+            return Long.valueOf(member);
+        } catch (NumberFormatException e) {
+            throw new PlubException(StatusCode.INVALID_CURSOR);
+        }
+    }
+
+    // 정렬 순서에서 커서 뒤에 오는지 (같은 점수는 Redis 처럼 멤버 사전 역순)
+    public boolean isBefore(TypedTuple<String> tuple) {
+        double tupleScore = tuple.getScore() == null ? 0 : tuple.getScore();
+        if (tupleScore != score) return tupleScore < score;
+        return tuple.getValue() != null && tuple.getValue().compareTo(member) < 0;
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 해석
+     * 새 커서(cursor)가 없으면 기존 클라이언트가 보내는 cursorId(마지막으로 본 모임 id)의 현재 점수로 커서를 만든다
+     * @return null 이면 첫 페이지
+     */
+    public static ScoreCursor resolve(ZSetOperations<String, String> operations, String key, String cursor, Long cursorId) {
+        if (cursor != null && !cursor.isBlank()) return decode(cursor);
+        if (cursorId == null || cursorId == 0) return null;
+        String member = String.valueOf(cursorId);
+        Double score = operations.score(key, member);
+        return score == null ? null : new ScoreCursor(score, member);
+    }
+
+    /**
+     * 커서 다음 페이지 조회 (페이지 크기 + 1 개를 조회해서 다음 페이지 유무 판단)
+     * 커서와 점수가 같은 멤버는 범위에 함께 포함되므로 그 수만큼 더 읽어서 걸러낸다
+     * @param cursor null 이면 첫 페이지
+     */
+    public static KeysetSlice<String> fetch(ZSetOperations<String, String> operations, String key, ScoreCursor cursor, int size) {
+        double max = cursor == null ? Double.POSITIVE_INFINITY : cursor.score();
+        Long ties = cursor == null ? null : operations.count(key, max, max);
+        long limit = size + 1L + (ties == null ? 0 : ties);
+        Set<TypedTuple<String>> tuples = Optional.ofNullable(
+                operations.reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, max, 0, limit)
+        ).orElse(Set.of());
+
+        List<TypedTuple<String>> content = new ArrayList<>();
+        for (TypedTuple<String> tuple : tuples) {
+            if (cursor != null && !cursor.isBefore(tuple)) continue;
+            content.add(tuple);
+            if (content.size() > size) break;
+        }
+        boolean hasNext = content.size() > size;
+        if (hasNext) content = content.subList(0, size);
+        String nextCursor = null;
+        if (hasNext) {
+            TypedTuple<String> last = content.get(content.size() - 1);
+            nextCursor = new ScoreCursor(last.getScore() == null ? 0 : last.getScore(), last.getValue()).encode();
+        }
+        return new KeysetSlice<>(content.stream().map(TypedTuple::getValue).toList(), hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,43 @@
+package plub.plubserver.common.reaction;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 피드/공지/투두 좋아요 토글
+ * 조회 후 저장/삭제하던 방식 대신 unique (account, 대상) 제약 위에서 upsert / delete-returning 한 문장으로 토글해서
+ * 연타나 동시 요청에도 좋아요 행이 중복되지 않고, 좋아요 수는 실제로 바뀐 만큼만 같은 트랜잭션의 증감 쿼리로 반영한다
+ * (메모리에 모았다가 나중에 반영하면 서버가 죽을 때 유실되고 CounterReconciler 보정 뒤에 더해져 수가 어긋나므로 모으지 않는다)
+ * unique 제약은 배포 전에 db/reaction_unique_constraints.sql 로 기존 중복 행을 정리하고 추가한다
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactionEngine {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 좋아요 토글
+     * @return 좋아요 수 증감 (+1 : 좋아요, -1 : 취소, 0 : 피드/공지에서 동시 요청으로 이미 반영됨)
+     */
+    public int toggle(ReactionTarget target, Long targetId, Long accountId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("accountId", accountId)
+                .addValue("targetId", targetId)
+                .addValue("now", LocalDateTime.now().format(DATE_TIME_FORMATTER));
+        Integer delta = jdbcTemplate.queryForObject(target.getToggleSql(), params, Integer.class);
+        if (delta == null || delta == 0) return 0;
+
+        jdbcTemplate.update(target.getCounterSql(), new MapSqlParameterSource()
+                .addValue("delta", delta)
+                .addValue("targetId", targetId));
+        return delta;
+    }
+}
@@ -0,0 +1,48 @@
+package plub.plubserver.common.reaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 좋아요 대상별 테이블 정보
+ * 토글은 (account, 대상) unique 제약을 이용해 SQL 한 문장으로 처리하고, 결과로 좋아요 수 증감을 돌려받는다
+ */
+@Getter
+@AllArgsConstructor
+public enum ReactionTarget {
+
+    // 좋아요 행이 있으면 삭제, 없으면 추가 (동시에 추가하면 한 건만 들어가고 나머지는 0)
+    FEED(
+            presenceToggleSql("feed_like", "feed_id"),
+            "update feed set like_count = like_count + :delta where feed_id = :targetId"
+    ),
+    NOTICE(
+            presenceToggleSql("notice_like", "notice_id"),
+            "update notice set like_count = like_count + :delta where notice_id = :targetId"
+    ),
+    // 투두 좋아요는 is_like 플래그를 뒤집는 upsert (동시 요청도 차례로 뒤집으므로 항상 +1 / -1)
+    TODO(
+            "insert into todo_like (account_id, todo_timelime_id, is_like, visibility, created_at, modified_at)"
+                    + " values (:accountId, :targetId, true, true, :now, :now)"
+                    + " on conflict (account_id, todo_timelime_id)"
+                    + " do update set is_like = not todo_like.is_like, modified_at = excluded.modified_at"
+                    + " returning case when is_like then 1 else -1 end",
+            "update todo_timeline set like_todo = like_todo + :delta where todo_timelime_id = :targetId"
+    );
+
+    // 파라미터 : accountId, targetId, now
+    private final String toggleSql;
+    // 파라미터 : delta, targetId
+    private final String counterSql;
+
+    private static String presenceToggleSql(String table, String targetColumn) {
+        return "with deleted as ("
+                + " delete from " + table + " where account_id = :accountId and " + targetColumn + " = :targetId returning 1"
+                + "), inserted as ("
+                + " insert into " + table + " (account_id, " + targetColumn + ", visibility, created_at, modified_at)"
+                + " select :accountId, :targetId, true, :now, :now where not exists (select 1 from deleted)"
+                + " on conflict (account_id, " + targetColumn + ") do nothing returning 1"
+                + ")"
+                + " select (select count(*) from inserted) - (select count(*) from deleted)";
+    }
+}
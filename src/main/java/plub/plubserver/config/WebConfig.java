@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import plub.plubserver.config.security.AccountQueryMetricsInterceptor;
 import plub.plubserver.util.IpTrackInterceptor;
 
 @Configuration
@@ -18,9 +19,11 @@ public class WebConfig implements WebMvcConfigurer {
     }
 
     private final IpTrackInterceptor ipTrackInterceptor;
+    private final AccountQueryMetricsInterceptor accountQueryMetricsInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(ipTrackInterceptor);
+        registry.addInterceptor(accountQueryMetricsInterceptor);
     }
 }
@@ -1,5 +1,6 @@
 package plub.plubserver.config.jwt;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -22,9 +23,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String accessToken = jwtProvider.resolveToken(request);
-        if (StringUtils.hasText(accessToken) && jwtProvider.validate(accessToken)) {
-            Authentication authentication = jwtProvider.getAuthentication(accessToken);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (StringUtils.hasText(accessToken)) {
+            // 검증과 클레임 추출을 한 번의 파싱으로 처리
+            Claims claims = jwtProvider.parseClaims(accessToken);
+            Authentication authentication = claims == null ? null : jwtProvider.getAuthentication(claims);
+            if (authentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
         filterChain.doFilter(request, response);
     }
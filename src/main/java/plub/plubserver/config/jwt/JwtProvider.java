@@ -9,9 +9,12 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import plub.plubserver.common.exception.StatusCode;
+import plub.plubserver.config.security.AccountSnapshot;
 import plub.plubserver.config.security.PrincipalDetailService;
+import plub.plubserver.config.security.PrincipalDetails;
 import plub.plubserver.domain.account.exception.AuthException;
 import plub.plubserver.domain.account.model.Account;
+import plub.plubserver.domain.account.model.AccountStatus;
 import plub.plubserver.domain.account.model.Role;
 import plub.plubserver.util.CustomEncryptUtil;
 
@@ -29,6 +32,10 @@ import static plub.plubserver.domain.account.service.AuthService.checkAccountSta
 @Transactional
 public class JwtProvider {
 
+    private static final String ACCOUNT_ID_CLAIM = "accountId";
+    private static final String ROLE_CLAIM = "role";
+    private static final String STATUS_VERSION_CLAIM = "statusVersion";
+
     private final PrincipalDetailService principalDetailService;
     private final RefreshTokenRepository refreshTokenRepository;
     private final CustomEncryptUtil customEncryptUtil;
@@ -84,7 +91,9 @@ public class JwtProvider {
         Date now = new Date(System.currentTimeMillis());
         return Jwts.builder()
                 .setSubject(customEncryptUtil.encrypt(account.getEmail()))
-                .claim("role", account.getRole())
+                .claim(ROLE_CLAIM, account.getRole())
+                .claim(ACCOUNT_ID_CLAIM, account.getId())
+                .claim(STATUS_VERSION_CLAIM, account.getStatusVersion())
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + accessDuration))
                 .signWith(privateKey)
@@ -105,12 +114,17 @@ public class JwtProvider {
 
     // Access, Refresh Token 검증 (만료 여부 검사)
     public boolean validate(String token) {
+        return parseClaims(token) != null;
+    }
+
+    // 토큰을 한 번만 파싱 및 서명 검증하고, 유효하지 않으면 null 반환
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder()
+            return Jwts.parserBuilder()
                     .setSigningKey(privateKey)
                     .build()
-                    .parseClaimsJws(token);
-            return true;
+                    .parseClaimsJws(token)
+                    .getBody();
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.warn("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -120,21 +134,34 @@ public class JwtProvider {
         } catch (IllegalArgumentException e) {
             log.warn("JWT 잘못 되었습니다.");
         }
-        return false;
+        return null;
     }
 
     /**
      * Authentication 객체 가져오기
+     * 토큰 클레임(회원 id, 권한, 상태 버전)과 캐싱된 회원 스냅샷으로 인증 객체를 만든다
+     * 상태 버전이 다르면 (정지, 탈퇴 등) 인증하지 않는다
      */
-    public Authentication getAuthentication(String accessToken) {
-        Claims body = Jwts.parserBuilder()
-                .setSigningKey(privateKey)
-                .build()
-                .parseClaimsJws(accessToken)
-                .getBody();
-        String email = customEncryptUtil.decrypt(body.getSubject());
-        UserDetails userDetails = principalDetailService.loadUserByUsername(email);
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+    public Authentication getAuthentication(Claims body) {
+        Long accountId = body.get(ACCOUNT_ID_CLAIM, Long.class);
+        if (accountId == null) {
+            // accountId 클레임이 없는 이전 버전 토큰
+            String email = customEncryptUtil.decrypt(body.getSubject());
+            UserDetails userDetails = principalDetailService.loadUserByUsername(email);
+            return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        }
+        AccountSnapshot snapshot = principalDetailService.loadSnapshot(accountId).orElse(null);
+        if (snapshot == null || !isValidSnapshot(snapshot, body)) return null;
+        PrincipalDetails principal = new PrincipalDetails(snapshot);
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+    }
+
+    private boolean isValidSnapshot(AccountSnapshot snapshot, Claims body) {
+        Integer statusVersion = body.get(STATUS_VERSION_CLAIM, Integer.class);
+        String role = body.get(ROLE_CLAIM, String.class);
+        return snapshot.accountStatus() != AccountStatus.DELETED
+                && statusVersion != null && statusVersion == snapshot.statusVersion()
+                && snapshot.role().name().equals(role);
     }
 
     public SigningAccount getSignKey(String signToken) {
@@ -0,0 +1,55 @@
+package plub.plubserver.config.security;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 현재 회원 조회 횟수 집계
+ * lookups : getCurrentAccount 호출 수, loads : 실제 회원 조회 쿼리 수
+ */
+@Component
+public class AccountQueryMetrics {
+
+    private final Map<String, Stat> stats = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, int lookups, int loads) {
+        Stat stat = stats.computeIfAbsent(endpoint, it -> new Stat());
+        stat.requests.increment();
+        stat.lookups.add(lookups);
+        stat.loads.add(loads);
+    }
+
+    public List<EndpointStat> getStats() {
+        return stats.entrySet().stream()
+                .map(entry -> new EndpointStat(
+                        entry.getKey(),
+                        entry.getValue().requests.sum(),
+                        entry.getValue().lookups.sum(),
+                        entry.getValue().loads.sum()
+                ))
+                .sorted(Comparator.comparingLong(EndpointStat::avoided).reversed())
+                .toList();
+    }
+
+    public record EndpointStat(
+            String endpoint,
+            long requests,
+            long lookups,
+            long loads
+    ) {
+        public long avoided() {
+            return lookups - loads;
+        }
+    }
+
+    private static class Stat {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder lookups = new LongAdder();
+        private final LongAdder loads = new LongAdder();
+    }
+}
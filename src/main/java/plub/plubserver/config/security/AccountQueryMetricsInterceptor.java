@@ -0,0 +1,31 @@
+package plub.plubserver.config.security;
+
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+@Component
+@RequiredArgsConstructor
+public class AccountQueryMetricsInterceptor implements HandlerInterceptor {
+
+    private final CurrentAccountContext currentAccountContext;
+    private final AccountQueryMetrics accountQueryMetrics;
+
+    @Override
+    public void afterCompletion(
+            @NotNull HttpServletRequest request,
+            @NotNull HttpServletResponse response,
+            @NotNull Object handler,
+            Exception ex
+    ) {
+        if (currentAccountContext.getLookupCount() == 0) return;
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern == null ? request.getRequestURI() : pattern);
+        accountQueryMetrics.record(endpoint, currentAccountContext.getLookupCount(), currentAccountContext.getLoadCount());
+    }
+}
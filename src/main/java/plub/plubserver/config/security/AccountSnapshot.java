@@ -0,0 +1,26 @@
+package plub.plubserver.config.security;
+
+import plub.plubserver.domain.account.model.Account;
+import plub.plubserver.domain.account.model.AccountStatus;
+import plub.plubserver.domain.account.model.Role;
+
+/**
+ * 인증에 필요한 최소한의 회원 정보 (엔티티 대신 캐싱)
+ */
+public record AccountSnapshot(
+        Long accountId,
+        String email,
+        Role role,
+        AccountStatus accountStatus,
+        int statusVersion
+) {
+    public static AccountSnapshot of(Account account) {
+        return new AccountSnapshot(
+                account.getId(),
+                account.getEmail(),
+                account.getRole(),
+                account.getAccountStatus(),
+                account.getStatusVersion()
+        );
+    }
+}
@@ -0,0 +1,92 @@
+package plub.plubserver.config.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static plub.plubserver.common.constant.GlobalConstants.ACCOUNT_SNAPSHOT_CACHE_TIME;
+
+/**
+ * JWT 인증 시 매 요청마다 회원을 조회하지 않도록 짧은 TTL 로 회원 스냅샷을 캐싱
+ * 회원 엔티티가 수정되면 커밋 후 AccountSnapshotListener 가 무효화하고, Redis pub/sub 으로 다른 인스턴스의 캐시도 비운다
+ * 조회(DB) 하는 동안 무효화가 일어났으면 이전 값일 수 있으므로 캐시에 남기지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountSnapshotCache implements MessageListener {
+
+    static final String EVICT_CHANNEL = "account:snapshot:evict";
+
+    private final StringRedisTemplate template;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Map<Long, CachedSnapshot> cache = new ConcurrentHashMap<>();
+    // 무효화 순번 (조회 전후로 바뀌었으면 조회 중에 무효화된 것)
+    private final AtomicLong evictions = new AtomicLong();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    public Optional<AccountSnapshot> get(Long accountId, Supplier<Optional<AccountSnapshot>> loader) {
+        long now = System.currentTimeMillis();
+        CachedSnapshot cached = cache.get(accountId);
+        if (cached != null && cached.expiredAt() > now) {
+            return Optional.of(cached.snapshot());
+        }
+        long evictionsBefore = evictions.get();
+        Optional<AccountSnapshot> snapshot = loader.get();
+        if (snapshot.isEmpty()) {
+            cache.remove(accountId);
+            return snapshot;
+        }
+        CachedSnapshot loaded = new CachedSnapshot(snapshot.get(), now + ACCOUNT_SNAPSHOT_CACHE_TIME * 1000L);
+        cache.put(accountId, loaded);
+        if (evictions.get() != evictionsBefore) cache.remove(accountId, loaded);
+        return snapshot;
+    }
+
+    // 이 인스턴스의 캐시를 비우고 다른 인스턴스에도 알림
+    public void evict(Long accountId) {
+        if (accountId == null) return;
+        evictLocal(accountId);
+        try {
+            template.convertAndSend(EVICT_CHANNEL, String.valueOf(accountId));
+        } catch (Exception e) {
+            // 알리지 못한 인스턴스의 스냅샷은 ACCOUNT_SNAPSHOT_CACHE_TIME 후 만료된다
+            log.warn("회원 스냅샷 무효화 전파 실패 (accountId={}) : {}", accountId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            evictLocal(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 회원 스냅샷 무효화 메시지 : {}", e.getMessage());
+        }
+    }
+
+    private void evictLocal(Long accountId) {
+        evictions.incrementAndGet();
+        cache.remove(accountId);
+    }
+
+    private record CachedSnapshot(AccountSnapshot snapshot, long expiredAt) {
+    }
+}
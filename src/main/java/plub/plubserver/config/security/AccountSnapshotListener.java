@@ -0,0 +1,60 @@
+package plub.plubserver.config.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import plub.plubserver.domain.account.model.Account;
+
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 회원 상태, 권한 등이 변경되면 인증용 스냅샷 캐시를 비운다
+ * 커밋 전에 비우면 그 사이 다른 요청이 아직 커밋된 이전 값으로 다시 채우므로, 바뀐 회원 id 를 모아 두었다가 커밋된 뒤에 비운다 (롤백되면 버림)
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountSnapshotListener {
+
+    private final AccountSnapshotCache accountSnapshotCache;
+
+    private static class PendingEvictions implements TransactionSynchronization {
+        private final AccountSnapshotCache cache;
+        private final Set<Long> accountIds = new HashSet<>();
+
+        private PendingEvictions(AccountSnapshotCache cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public void afterCommit() {
+            accountIds.forEach(cache::evict);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PendingEvictions.class);
+        }
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(Account account) {
+        if (account.getId() == null) return;
+        // 트랜잭션 밖에서 바뀐 경우 바로 비움
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accountSnapshotCache.evict(account.getId());
+            return;
+        }
+        PendingEvictions evictions = (PendingEvictions) TransactionSynchronizationManager.getResource(PendingEvictions.class);
+        if (evictions == null) {
+            evictions = new PendingEvictions(accountSnapshotCache);
+            TransactionSynchronizationManager.bindResource(PendingEvictions.class, evictions);
+            TransactionSynchronizationManager.registerSynchronization(evictions);
+        }
+        evictions.accountIds.add(account.getId());
+    }
+}
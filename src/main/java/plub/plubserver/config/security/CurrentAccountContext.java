@@ -0,0 +1,47 @@
+package plub.plubserver.config.security;
+
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+import plub.plubserver.domain.account.model.Account;
+
+/**
+ * 요청 단위로 현재 로그인 회원을 보관
+ * 회원은 요청 당 한 번만 DB 에서 조회하고, 이후 호출은 보관된 회원(트랜잭션 안에서는 같은 id 의 참조)을 사용한다
+ */
+@Getter
+@Component
+@RequestScope
+public class CurrentAccountContext {
+
+    private Long accountId;
+    private String email;
+    private Account account;
+    private int lookupCount;
+    private int loadCount;
+
+    public Long resolveAccountId() {
+        lookupCount++;
+        if (accountId == null) {
+            accountId = SecurityUtils.getCurrentAccountId();
+            email = SecurityUtils.getCurrentAccountEmail();
+        }
+        return accountId;
+    }
+
+    // DB 에서 조회한 회원 보관 (조회 쿼리 집계)
+    public void load(Account account) {
+        loadCount++;
+        this.account = account;
+    }
+
+    // 트랜잭션에서 갱신된 회원으로 교체 (조회 쿼리 없음)
+    public void replace(Account account) {
+        this.account = account;
+    }
+
+    // 롤백된 트랜잭션에서 조회한 회원은 버리고 다음 호출에서 다시 조회
+    public void evict() {
+        this.account = null;
+    }
+}
@@ -8,11 +8,14 @@ import org.springframework.stereotype.Service;
 import plub.plubserver.domain.account.model.Account;
 import plub.plubserver.domain.account.repository.AccountRepository;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class PrincipalDetailService implements UserDetailsService {
 
     private final AccountRepository accountRepository;
+    private final AccountSnapshotCache accountSnapshotCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -20,4 +23,12 @@ public class PrincipalDetailService implements UserDetailsService {
                 .orElseThrow(()-> new UsernameNotFoundException("해당 사용자를 찾을 수 없습니다. : " + email));
         return new PrincipalDetails(principal);
     }
+
+    // JWT 인증용 회원 스냅샷 조회 (캐시 미스일 때만 DB 조회)
+    public Optional<AccountSnapshot> loadSnapshot(Long accountId) {
+        return accountSnapshotCache.get(
+                accountId,
+                () -> accountRepository.findById(accountId).map(AccountSnapshot::of)
+        );
+    }
 }
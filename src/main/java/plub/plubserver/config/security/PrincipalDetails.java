@@ -1,36 +1,56 @@
 package plub.plubserver.config.security;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import plub.plubserver.domain.account.model.Account;
+import plub.plubserver.domain.account.model.Role;
 
 import java.util.ArrayList;
 import java.util.Collection;
 
 @Getter
-@AllArgsConstructor
 public class PrincipalDetails implements UserDetails {
 
+    private final Long accountId;
+    private final String email;
+    private final String password;
+    private final Role role;
+
+    // 로그인(AuthenticationManager) 과정에서만 채워짐, JWT 인증 시에는 null
     private Account account;
 
+    public PrincipalDetails(Account account) {
+        this.accountId = account.getId();
+        this.email = account.getEmail();
+        this.password = account.getPassword();
+        this.role = account.getRole();
+        this.account = account;
+    }
+
+    // 토큰 클레임 + 캐싱된 스냅샷으로 생성 (DB 조회 X)
+    public PrincipalDetails(AccountSnapshot snapshot) {
+        this.accountId = snapshot.accountId();
+        this.email = snapshot.email();
+        this.password = null;
+        this.role = snapshot.role();
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         Collection<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(() -> account.getRole().toString());
+        authorities.add(() -> role.toString());
         return authorities;
     }
 
     @Override
     public String getUsername() {
-        return account.getEmail();
+        return email;
     }
 
     @Override
     public String getPassword() {
-        return account.getPassword();
+        return password;
     }
 
     @Override
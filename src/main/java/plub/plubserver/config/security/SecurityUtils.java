@@ -15,4 +15,21 @@ public class SecurityUtils {
         }
         return authentication.getName();
     }
+
+    public static Long getCurrentAccountId() {
+        Long accountId = findCurrentAccountId();
+        if (accountId == null) {
+            throw new AccountException(StatusCode.NOT_FOUND_ACCOUNT);
+        }
+        return accountId;
+    }
+
+    // 인증 정보가 없으면 null
+    public static Long findCurrentAccountId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof PrincipalDetails principal)) {
+            return null;
+        }
+        return principal.getAccountId();
+    }
 }
@@ -0,0 +1,6 @@
+package plub.plubserver.domain.account.event;
+
+public record AccountCategoryChangedEvent(
+        Long accountId
+) {
+}
@@ -3,6 +3,7 @@ package plub.plubserver.domain.account.model;
 import lombok.*;
 import plub.plubserver.common.exception.StatusCode;
 import plub.plubserver.common.model.BaseEntity;
+import plub.plubserver.config.security.AccountSnapshotListener;
 import plub.plubserver.domain.account.exception.AccountException;
 import plub.plubserver.domain.archive.model.Archive;
 import plub.plubserver.domain.calendar.model.Calendar;
@@ -34,6 +35,7 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AccountSnapshotListener.class)
 public class Account extends BaseEntity {
 
     @Id
@@ -63,6 +65,10 @@ public class Account extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private AccountStatus accountStatus;
 
+    // 상태가 바뀔 때마다 증가, 이전 상태로 발급된 access token 무효화 용도
+    @Column(columnDefinition = "integer default 0")
+    private int statusVersion;
+
     private LocalDateTime joinDate;
     private LocalDateTime lastLoginDate;
     private LocalDateTime pausedStartDate;
@@ -249,6 +255,7 @@ public class Account extends BaseEntity {
     }
 
     public void updateAccountStatus(AccountStatus accountStatus) {
+        if (this.accountStatus != accountStatus) this.statusVersion++;
         this.accountStatus = accountStatus;
     }
 
@@ -258,6 +265,7 @@ public class Account extends BaseEntity {
     }
 
     public void deletedAccount() {
+        this.statusVersion++;
         this.accountStatus = AccountStatus.DELETED;
         this.email = null;
         this.password = null;
@@ -5,7 +5,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.api.client.util.Base64;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpEntity;
@@ -14,11 +16,16 @@ import org.springframework.http.MediaType;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
 import plub.plubserver.common.exception.StatusCode;
 import plub.plubserver.config.jwt.RefreshTokenRepository;
 import plub.plubserver.config.redis.RedisService;
+import plub.plubserver.config.security.CurrentAccountContext;
+import plub.plubserver.domain.account.event.AccountCategoryChangedEvent;
 import plub.plubserver.domain.account.exception.AccountException;
 import plub.plubserver.domain.account.model.*;
 import plub.plubserver.domain.account.repository.AccountNicknameHistoryRepository;
@@ -41,6 +48,7 @@ import plub.plubserver.domain.plubbing.model.AccountPlubbingStatus;
 import plub.plubserver.domain.plubbing.model.Plubbing;
 import plub.plubserver.domain.plubbing.model.PlubbingStatus;
 import plub.plubserver.domain.plubbing.repository.AccountPlubbingRepository;
+import plub.plubserver.domain.plubbing.repository.PlubbingCategoryIndex;
 import plub.plubserver.domain.plubbing.repository.PlubbingRepository;
 import plub.plubserver.domain.recruit.model.AppliedAccount;
 import plub.plubserver.domain.recruit.repository.AppliedAccountRepository;
@@ -54,6 +62,7 @@ import plub.plubserver.domain.todo.repository.TodoTimelineRepository;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
+import javax.persistence.EntityManager;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -68,6 +77,7 @@ import java.util.regex.Pattern;
 
 import static plub.plubserver.common.constant.GlobalConstants.NICKNAME_CHANGE_LIMIT;
 import static plub.plubserver.common.constant.GlobalConstants.SMS_LIMIT_TIME;
+import static plub.plubserver.config.security.SecurityUtils.findCurrentAccountId;
 import static plub.plubserver.config.security.SecurityUtils.getCurrentAccountEmail;
 import static plub.plubserver.domain.account.dto.AccountDto.*;
 import static plub.plubserver.domain.account.dto.AuthDto.RevokeResponse;
@@ -113,11 +123,16 @@ public class AccountService {
     private final BookmarkRepository bookmarkRepository;
     private final CalendarRepository calendarRepository;
     private final PlubbingRepository plubbingRepository;
+    private final PlubbingCategoryIndex plubbingCategoryIndex;
     private final RecruitRepository recruitRepository;
 
+    private final CurrentAccountContext currentAccountContext;
+    private final EntityManager em;
+    private final ApplicationEventPublisher eventPublisher;
+
     // 회원 정보 조회
     public AccountInfoResponse getMyAccount() {
-        return accountRepository.findByEmail(getCurrentAccountEmail()).map(AccountInfoResponse::of).orElseThrow(() -> new AccountException(StatusCode.NOT_FOUND_ACCOUNT));
+        return AccountInfoResponse.of(getCurrentAccount());
     }
 
     public AccountInfoResponse getAccount(String nickname) {
@@ -125,6 +140,9 @@ public class AccountService {
     }
 
     public Account getAccount(Long accountId) {
+        if (isRequestScope() && accountId != null && accountId.equals(findCurrentAccountId())) {
+            return getCurrentAccount();
+        }
         return accountRepository.findById(accountId).orElseThrow(() -> new AccountException(StatusCode.NOT_FOUND_ACCOUNT));
     }
 
@@ -132,8 +150,46 @@ public class AccountService {
         return accountRepository.findByEmail(email).orElseThrow(() -> new AccountException(StatusCode.NOT_FOUND_ACCOUNT));
     }
 
+    /**
+     * 현재 로그인 회원 조회
+     * 요청 당 한 번만 DB 에서 조회해서 요청 컨텍스트에 보관하고, 이후 호출은 보관된 회원을 돌려준다
+     * 트랜잭션 안에서는 같은 id 의 참조(영속성 컨텍스트에 있으면 그 인스턴스)를 돌려줘서 변경 감지, 연관관계 설정이 현재 트랜잭션 기준으로 동작한다
+     */
     public Account getCurrentAccount() {
-        return accountRepository.findByEmail(getCurrentAccountEmail()).orElseThrow(() -> new AccountException(StatusCode.NOT_FOUND_ACCOUNT));
+        if (!isRequestScope()) {
+            // 스케줄러, 비동기 스레드 등 요청 범위 밖
+            return accountRepository.findByEmail(getCurrentAccountEmail()).orElseThrow(() -> new AccountException(StatusCode.NOT_FOUND_ACCOUNT));
+        }
+        Long accountId = currentAccountContext.resolveAccountId();
+        Account account = currentAccountContext.getAccount();
+        if (account == null) {
+            account = accountRepository.findById(accountId).orElseThrow(() -> new AccountException(StatusCode.NOT_FOUND_ACCOUNT));
+            currentAccountContext.load(account);
+            syncOnCompletion(account);
+            return account;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive() || em.contains(account)) return account;
+        // 참조는 필드에 접근할 때만 조회된다 (id, 외래키로만 쓰면 쿼리 없음)
+        Account reference = em.getReference(Account.class, accountId);
+        syncOnCompletion(reference);
+        return reference;
+    }
+
+    private boolean isRequestScope() {
+        return RequestContextHolder.getRequestAttributes() != null;
+    }
+
+    // 트랜잭션이 끝나면 요청 컨텍스트의 회원을 결과에 맞춘다
+    // 커밋: 트랜잭션에서 읽거나 바꾼 회원으로 교체, 롤백: 버리고 다음 호출에서 다시 조회
+    private void syncOnCompletion(Account account) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) currentAccountContext.evict();
+                else if (Hibernate.isInitialized(account)) currentAccountContext.replace((Account) Hibernate.unproxy(account));
+            }
+        });
     }
 
     public NicknameResponse isDuplicateNickname(String nickname) {
@@ -244,6 +300,7 @@ public class AccountService {
             accountCategoryList.add(accountCategory);
         }
         myAccount.setAccountCategory(accountCategoryList);
+        eventPublisher.publishEvent(new AccountCategoryChangedEvent(myAccount.getId()));
         return AccountCategoryResponse.of(myAccount);
     }
 
@@ -356,10 +413,16 @@ public class AccountService {
 
 
     public void exitPlubbing(AccountPlubbing accountPlubbing) {
-        checkAdmin(accountPlubbing.getPlubbing(), accountPlubbing);
+        boolean active = accountPlubbing.getAccountPlubbingStatus() == AccountPlubbingStatus.ACTIVE;
+        Plubbing plubbing = accountPlubbing.getPlubbing();
+        checkAdmin(plubbing, accountPlubbing);
         accountPlubbing.updateAccountPlubbingStatus(AccountPlubbingStatus.EXIT);
-        accountPlubbing.getPlubbing().removeAccountPlubbing(accountPlubbing);
+        plubbing.removeAccountPlubbing(accountPlubbing);
         accountPlubbingRepository.save(accountPlubbing);
+        if (active && plubbingRepository.decreaseCurAccountNum(plubbing.getId()) > 0) {
+            plubbing.minusCurAccountNum();
+            plubbingCategoryIndex.adjustMembersAfterCommit(plubbing.getId(), -1);
+        }
     }
 
     private void checkAdmin(Plubbing plubbing, AccountPlubbing accountPlubbing) {
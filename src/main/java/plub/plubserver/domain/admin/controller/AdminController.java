@@ -8,8 +8,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import plub.plubserver.common.dto.ApiResponse;
 import plub.plubserver.domain.admin.dto.AdminDto;
+import plub.plubserver.domain.admin.dto.AdminDto.AccountQueryStatResponse;
 import plub.plubserver.domain.admin.dto.AdminDto.AccountPlubbingStatResponse;
 import plub.plubserver.domain.admin.dto.AdminDto.AccountPlubbingTotalCountResponse;
+import plub.plubserver.domain.admin.dto.AdminDto.GeoCacheStatResponse;
 import plub.plubserver.domain.admin.dto.AdminDto.LikePlubbingStatResponse;
 import plub.plubserver.domain.admin.dto.AdminDto.WeeklySummaryResponse;
 import plub.plubserver.domain.admin.service.AdminService;
@@ -55,4 +57,16 @@ public class AdminController {
         return success(adminService.getAccountPlubbingTotalCount());
     }
 
+    @ApiOperation(value = "엔드포인트별 회원 조회 쿼리 절감 현황")
+    @GetMapping("/stats/account-queries")
+    public ApiResponse<List<AccountQueryStatResponse>> getAccountQueryStat() {
+        return success(adminService.getAccountQueryStat());
+    }
+
+    @ApiOperation(value = "접속 지역 조회 캐시 적중 현황")
+    @GetMapping("/stats/geo-cache")
+    public ApiResponse<GeoCacheStatResponse> getGeoCacheStat() {
+        return success(adminService.getGeoCacheStat());
+    }
+
 }
@@ -1,6 +1,8 @@
 package plub.plubserver.domain.admin.dto;
 
 import lombok.Builder;
+import plub.plubserver.config.security.AccountQueryMetrics;
+import plub.plubserver.util.GeoReader;
 
 import java.util.List;
 
@@ -50,4 +52,38 @@ public class AdminDto {
             Long totalAccounts,
             Long totalPlubbings
     ) {}
+
+    public record GeoCacheStatResponse(
+            Long hits,
+            Long misses,
+            Double hitRate,
+            Integer size
+    ) {
+        public static GeoCacheStatResponse of(GeoReader geoReader) {
+            return new GeoCacheStatResponse(
+                    geoReader.getHitCount(),
+                    geoReader.getMissCount(),
+                    geoReader.getHitRate(),
+                    geoReader.getCacheSize()
+            );
+        }
+    }
+
+    public record AccountQueryStatResponse(
+            String endpoint,
+            Long requests,
+            Long lookups,
+            Long loads,
+            Long avoided
+    ) {
+        public static AccountQueryStatResponse of(AccountQueryMetrics.EndpointStat stat) {
+            return new AccountQueryStatResponse(
+                    stat.endpoint(),
+                    stat.requests(),
+                    stat.lookups(),
+                    stat.loads(),
+                    stat.avoided()
+            );
+        }
+    }
 }
@@ -3,14 +3,23 @@ package plub.plubserver.domain.admin.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import plub.plubserver.config.security.AccountQueryMetrics;
 import plub.plubserver.domain.account.repository.AccountRepository;
 import plub.plubserver.domain.admin.dto.AdminDto.*;
+import plub.plubserver.domain.plubbing.model.Plubbing;
 import plub.plubserver.domain.plubbing.repository.PlubbingRepository;
+import plub.plubserver.domain.plubbing.service.PlubbingRankingService;
+import plub.plubserver.util.GeoReader;
 
 import java.time.LocalDate;
 import java.time.Month;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static plub.plubserver.util.CustomDateUtil.getWeekDatesFromToday;
 
@@ -20,6 +29,9 @@ import static plub.plubserver.util.CustomDateUtil.getWeekDatesFromToday;
 public class AdminService {
     private final AccountRepository accountRepository;
     private final PlubbingRepository plubbingRepository;
+    private final AccountQueryMetrics accountQueryMetrics;
+    private final GeoReader geoReader;
+    private final PlubbingRankingService plubbingRankingService;
 
     /**
      * 대시보드
@@ -83,9 +95,19 @@ public class AdminService {
         return null;
     }
 
-    // 실시간 좋아요 플러빙 현황, 일단 views desc, limit 10
+    // 실시간 인기 플러빙 현황 (인기 순위 상위 10개, 순위를 사용할 수 없으면 views desc)
     public List<LikePlubbingStatResponse> getLikePlubbingRanking() {
-        return plubbingRepository.findTop10ByOrderByViewsDesc().stream()
+        Optional<List<Long>> top = plubbingRankingService.getTop(10);
+        if (top.isEmpty()) {
+            return plubbingRepository.findTop10ByOrderByViewsDesc().stream()
+                    .map(plubbing -> new LikePlubbingStatResponse(plubbing.getId(), plubbing.getName()))
+                    .toList();
+        }
+        Map<Long, Plubbing> plubbings = plubbingRepository.findAllById(top.get()).stream()
+                .collect(Collectors.toMap(Plubbing::getId, Function.identity()));
+        return top.get().stream()
+                .map(plubbings::get)
+                .filter(Objects::nonNull)
                 .map(plubbing -> new LikePlubbingStatResponse(plubbing.getId(), plubbing.getName()))
                 .toList();
     }
@@ -96,4 +118,16 @@ public class AdminService {
         return new AccountPlubbingTotalCountResponse(totalAccounts, totalPlubbings);
     }
 
+    // 엔드포인트별 현재 회원 조회 쿼리 절감 현황
+    public List<AccountQueryStatResponse> getAccountQueryStat() {
+        return accountQueryMetrics.getStats().stream()
+                .map(AccountQueryStatResponse::of)
+                .toList();
+    }
+
+    // 접속 로그 IP -> 도시 캐시 적중 현황 (서버 기동 후 누적)
+    public GeoCacheStatResponse getGeoCacheStat() {
+        return GeoCacheStatResponse.of(geoReader);
+    }
+
 }
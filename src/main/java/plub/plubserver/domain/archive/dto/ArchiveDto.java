@@ -55,14 +55,19 @@ public class ArchiveDto {
         }
 
         public static ArchiveCardResponse of(Archive archive, String accessType) {
+            return of(archive, accessType, archive.getImages().stream()
+                    .map(ArchiveImage::getImage)
+                    .toList());
+        }
+
+        public static ArchiveCardResponse of(Archive archive, String accessType, List<String> images) {
             return ArchiveCardResponse.builder()
                     .archiveId(archive.getId())
                     .title(archive.getTitle())
-                    .images(archive.getImages().stream()
-                            .map(ArchiveImage::getImage)
+                    .images(images.stream()
                             .limit(3)
                             .toList())
-                    .imageCount(archive.getImages().size())
+                    .imageCount(images.size())
                     .sequence(archive.getSequence())
                     .createdAt(archive.getCreatedAt().split(" ")[0])
                     .accessType(accessType)
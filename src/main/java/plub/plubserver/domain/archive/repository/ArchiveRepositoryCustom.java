@@ -4,6 +4,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import plub.plubserver.domain.archive.model.Archive;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 public interface ArchiveRepositoryCustom {
     Page<Archive> findAllByPlubbingId(Long plubbingId, Pageable pageable, Long cursorId);
+
+    Map<Long, List<String>> findAllImagesByArchiveIds(Collection<Long> archiveIds);
 }
@@ -1,5 +1,6 @@
 package plub.plubserver.domain.archive.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -10,7 +11,14 @@ import org.springframework.data.support.PageableExecutionUtils;
 import plub.plubserver.domain.archive.model.Archive;
 import plub.plubserver.util.CursorUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import static plub.plubserver.domain.archive.model.QArchive.archive;
+import static plub.plubserver.domain.archive.model.QArchiveImage.archiveImage;
 
 @RequiredArgsConstructor
 public class ArchiveRepositoryImpl implements ArchiveRepositoryCustom {
@@ -30,9 +38,26 @@ public class ArchiveRepositoryImpl implements ArchiveRepositoryCustom {
                         .limit(CursorUtils.TEN_AMOUNT)
                         .fetch(),
                 pageable,
-                () -> queryFactory.selectFrom(archive)
+                () -> queryFactory.select(archive.count())
+                        .from(archive)
                         .where(archive.plubbing.id.eq(plubbingId))
-                        .fetch().size());
+                        .fetchOne());
+    }
+
+    // 페이지에 나온 아카이브들의 이미지를 IN 쿼리 한 번으로 조회 (아카이브 id 별 등록 순서)
+    @Override
+    public Map<Long, List<String>> findAllImagesByArchiveIds(Collection<Long> archiveIds) {
+        Map<Long, List<String>> images = new LinkedHashMap<>();
+        if (archiveIds.isEmpty()) return images;
+        List<Tuple> rows = queryFactory
+                .select(archiveImage.archive.id, archiveImage.image)
+                .from(archiveImage)
+                .where(archiveImage.archive.id.in(archiveIds))
+                .orderBy(archiveImage.id.asc())
+                .fetch();
+        rows.forEach(row -> images.computeIfAbsent(row.get(archiveImage.archive.id), id -> new ArrayList<>())
+                .add(row.get(archiveImage.image)));
+        return images;
     }
 
     private BooleanExpression getCursorId(Long cursorId) {
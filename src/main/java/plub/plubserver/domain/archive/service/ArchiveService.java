@@ -6,6 +6,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import plub.plubserver.common.batch.BatchLoader;
 import plub.plubserver.common.dto.PageResponse;
 import plub.plubserver.common.exception.StatusCode;
 import plub.plubserver.domain.account.model.Account;
@@ -56,15 +57,25 @@ public class ArchiveService {
         // TODO : 가끔 전체 조회 not unique resultSet 에러 발생하는거 핸들해야함, 근데
         // 상황 시연을 하기 어려워서 못 하는 중
         // cursorId = sequence
-        Page<ArchiveCardResponse> result = archiveRepository
-                .findAllByPlubbingId(plubbingId, pageable, cursorId)
-                .map(it -> ArchiveCardResponse.of(it, getAccessType(loginAccount, it)));
+        Page<Archive> archives = archiveRepository.findAllByPlubbingId(plubbingId, pageable, cursorId);
+
+        // 호스트는 페이지당 한 번, 이미지는 페이지의 아카이브를 모아 한 번에 조회
+        Account host = plubbingService.getHost(plubbingId);
+        BatchLoader<Long, List<String>> imageLoader = BatchLoader
+                .of(archiveRepository::findAllImagesByArchiveIds, List.<String>of())
+                .loadAll(archives.getContent(), Archive::getId);
+
+        Page<ArchiveCardResponse> result = archives
+                .map(it -> ArchiveCardResponse.of(it, getAccessType(loginAccount, host, it), imageLoader.get(it.getId())));
         return PageResponse.ofCursor(result, result.getTotalElements());
     }
 
     private String getAccessType(Account loginAccount, Archive archive) {
+        return getAccessType(loginAccount, plubbingService.getHost(archive.getPlubbing().getId()), archive);
+    }
+
+    private String getAccessType(Account loginAccount, Account host, Archive archive) {
         String accessType = "normal";
-        Account host = plubbingService.getHost(archive.getPlubbing().getId());
         if (loginAccount.getId().equals(host.getId())) accessType = "host";
         if (loginAccount.getId().equals(archive.getAccount().getId())) accessType = "author";
         return accessType;
@@ -74,10 +74,11 @@ public class CalendarController {
     public ApiResponse<CalendarListResponse> getCalendarList(
             @PathVariable Long plubbingId,
             @PageableDefault Pageable pageable,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) Long cursorId
     ) {
         Account currentAccount = accountService.getCurrentAccount();
-        return success(calendarService.getCalendarList(currentAccount, plubbingId, pageable, cursorId));
+        return success(calendarService.getCalendarList(currentAccount, plubbingId, pageable, cursor, cursorId));
     }
 
     @ApiOperation(value = "참석 여부 선택")
@@ -53,6 +53,7 @@ public class CalendarDto {
                     .placeName(placeName)
                     .plubbing(plubbing)
                     .alarmType(calendarAlarmType)
+                    .alarmAt(Calendar.calculateAlarmAt(startedAt, startTime, calendarAlarmType))
                     .build();
         }
 
@@ -0,0 +1,9 @@
+package plub.plubserver.domain.calendar.event;
+
+import java.time.LocalDateTime;
+
+public record CalendarAlarmChangedEvent(
+        Long calendarId,
+        LocalDateTime alarmAt
+) {
+}
@@ -7,9 +7,14 @@ import plub.plubserver.domain.calendar.dto.CalendarDto;
 import plub.plubserver.domain.plubbing.model.Plubbing;
 
 import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_calendar_alarm_at", columnList = "alarm_at"))
 @Getter
 @Builder
 @AllArgsConstructor
@@ -39,6 +44,9 @@ public class Calendar extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private CalendarAlarmType alarmType;
 
+    // 알림 발송 시각 (alarmType 기준으로 계산, 알림 발송 후 또는 알림 없음이면 null)
+    private LocalDateTime alarmAt;
+
     // 플러빙 일자(다) - 모임(1)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "plubbing_id")
@@ -65,5 +73,25 @@ public class Calendar extends BaseEntity {
         this.roadAddress = request.roadAddress();
         this.placeName = request.placeName();
         this.alarmType = CalendarAlarmType.valueOf(request.alarmType());
+        this.alarmAt = calculateAlarmAt(startedAt, startTime, alarmType);
+    }
+
+    public void markAlarmSent() {
+        this.alarmAt = null;
+    }
+
+    public void updateAlarmAt(LocalDateTime alarmAt) {
+        this.alarmAt = alarmAt;
+    }
+
+    // 시작 일자(yyyy-MM-dd) + 시작 시간(HH:mm) 에서 알림 종류만큼 앞당긴 시각
+    public static LocalDateTime calculateAlarmAt(String startedAt, String startTime, CalendarAlarmType alarmType) {
+        if (alarmType == null || alarmType == CalendarAlarmType.NONE || startedAt == null) return null;
+        try {
+            LocalTime time = startTime == null || startTime.isBlank() ? LocalTime.MIDNIGHT : LocalTime.parse(startTime);
+            return alarmType.getAlarmTime(LocalDate.parse(startedAt).atTime(time));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
     }
 }
@@ -5,7 +5,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import plub.plubserver.domain.account.model.Account;
 import plub.plubserver.domain.calendar.model.Calendar;
+import plub.plubserver.domain.calendar.model.CalendarAlarmType;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +18,22 @@ public interface CalendarRepository extends JpaRepository<Calendar, Long>, Calen
 
     Optional<Calendar> findByIdAndPlubbingIdAndVisibilityIsTrue(Long id, Long plubbingId);
 
-    Optional<Calendar> findFirstByPlubbingIdAndVisibilityIsTrueOrderByStartedAtDesc(Long plubbingId);
-
     List<Calendar> findAllByAccount(Account account);
+
+    // 알림 시각이 다가오는 일정 중 내가 맡은 파티션(plubbing id 기준)의 일정만 조회 (idx_calendar_alarm_at)
+    @Query("select c from Calendar c " +
+            "where c.alarmAt between :from and :to and c.visibility = true " +
+            "and mod(c.plubbing.id, :partitionCount) in :partitions")
+    List<Calendar> findAllUpcomingAlarms(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("partitionCount") int partitionCount,
+            @Param("partitions") Collection<Integer> partitions
+    );
+
+    // alarmAt 컬럼 추가 이전에 생성된, 아직 시작하지 않은 일정
+    List<Calendar> findAllByAlarmAtIsNullAndAlarmTypeNotAndStartedAtGreaterThanEqualAndVisibilityIsTrue(
+            CalendarAlarmType alarmType,
+            String startedAt
+    );
 }
@@ -1,14 +1,13 @@
 package plub.plubserver.domain.calendar.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import plub.plubserver.common.pagination.KeysetSlice;
 import plub.plubserver.domain.calendar.model.Calendar;
 
 public interface CalendarRepositoryCustom {
-    Page<Calendar> findAllByPlubbingId(
+    KeysetSlice<Calendar> findAllByPlubbingId(
             Long plubbingId,
-            Pageable pageable,
-            Long cursorId,
-            String startedAt
+            int size,
+            String cursor,
+            Long cursorId
     );
 }
@@ -1,14 +1,14 @@
 package plub.plubserver.domain.calendar.repository;
 
-import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
+import plub.plubserver.common.pagination.KeysetSlice;
+import plub.plubserver.common.pagination.KeysetSort;
 import plub.plubserver.domain.calendar.model.Calendar;
 
+import java.util.List;
+
 import static plub.plubserver.domain.calendar.model.QCalendar.calendar;
 
 
@@ -16,36 +16,24 @@ import static plub.plubserver.domain.calendar.model.QCalendar.calendar;
 public class CalendarRepositoryImpl implements CalendarRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
+    // 시작일 최신순 (같은 날이면 id 로 구분)
+    private static final KeysetSort<Calendar> STARTED_AT_SORT = KeysetSort.<Calendar>create()
+            .desc(calendar.startedAt, String.class, Calendar::getStartedAt)
+            .desc(calendar.id, Long.class, Calendar::getId);
+
     @Override
-    public Page<Calendar> findAllByPlubbingId(
+    public KeysetSlice<Calendar> findAllByPlubbingId(
             Long plubbingId,
-            Pageable pageable,
-            Long cursorId,
-            String startedAt
+            int size,
+            String cursor,
+            Long cursorId
     ) {
+        List<Object> cursorValues = STARTED_AT_SORT.resolveCursor(cursor, cursorId,
+                id -> queryFactory.selectFrom(calendar).where(calendar.id.eq(id)).fetchOne());
         JPQLQuery<Calendar> query = queryFactory
                 .selectFrom(calendar)
                 .where(calendar.plubbing.id.eq(plubbingId),
-                        calendar.visibility.eq(true),
-                        getCursorId(startedAt, cursorId)
-                )
-                .orderBy(calendar.startedAt.desc(), calendar.id.desc())
-                .distinct();
-
-
-        return PageableExecutionUtils.getPage(
-                query.orderBy(calendar.startedAt.desc(), calendar.id.desc())
-                        .offset(pageable.getOffset())
-                        .limit(pageable.getPageSize())
-                        .fetch(),
-                pageable,
-                () -> queryFactory.selectFrom(calendar)
-                        .fetch().size());
-    }
-
-    private BooleanExpression getCursorId(String startedAt, Long cursorId) {
-        return cursorId == null || cursorId == 0 ? null : calendar.startedAt.lt(startedAt)
-                .and(calendar.id.gt(cursorId))
-                .or(calendar.startedAt.lt(startedAt));
+                        calendar.visibility.eq(true));
+        return STARTED_AT_SORT.fetch(query, cursorValues, size);
     }
 }
@@ -0,0 +1,126 @@
+package plub.plubserver.domain.calendar.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static plub.plubserver.common.constant.GlobalConstants.*;
+
+/**
+ * 일정 알림 파티션 lease (Redis)
+ * 일정은 plubbing id 기준으로 CALENDAR_ALARM_PARTITION_COUNT 개 파티션에 나뉘고,
+ * 살아있는 인스턴스 수만큼 파티션을 나눠 가진 인스턴스만 해당 파티션의 일정을 조회한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CalendarAlarmLease {
+
+    private static final String LEASE_KEY = "calendar:alarm:lease:";
+    private static final String NODE_KEY = "calendar:alarm:nodes";
+    private static final String SENT_KEY = "calendar:alarm:sent:";
+
+    // 내가 가진 lease 만 연장/반납
+    static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class
+    );
+    static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final StringRedisTemplate template;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<Integer> ownedPartitions = ConcurrentHashMap.newKeySet();
+
+    public static int partitionOf(Long plubbingId) {
+        return (int) Math.floorMod(plubbingId, (long) CALENDAR_ALARM_PARTITION_COUNT);
+    }
+
+    /**
+     * 살아있는 인스턴스 수에 맞춰 파티션을 연장, 반납, 획득
+     * @return 새로 획득한 파티션
+     */
+    public synchronized Set<Integer> rebalance() {
+        long now = System.currentTimeMillis();
+        long leaseMillis = CALENDAR_ALARM_LEASE_TIME * 1000L;
+        template.opsForZSet().add(NODE_KEY, nodeId, now);
+        template.opsForZSet().removeRangeByScore(NODE_KEY, Double.NEGATIVE_INFINITY, now - leaseMillis);
+        Long nodeCount = template.opsForZSet().zCard(NODE_KEY);
+        int target = (int) Math.ceil((double) CALENDAR_ALARM_PARTITION_COUNT / Math.max(1, nodeCount == null ? 1 : nodeCount));
+
+        // 연장 실패(만료되어 다른 인스턴스가 가져감)한 파티션은 버림
+        ownedPartitions.removeIf(partition -> !execute(RENEW_SCRIPT, partition, String.valueOf(leaseMillis)));
+
+        // 몫보다 많이 가지고 있으면 다른 인스턴스가 가져갈 수 있도록 반납
+        List<Integer> owned = new ArrayList<>(ownedPartitions);
+        Collections.sort(owned);
+        for (int i = owned.size() - 1; i >= target; i--) {
+            execute(RELEASE_SCRIPT, owned.get(i));
+            ownedPartitions.remove(owned.get(i));
+        }
+
+        Set<Integer> acquired = new HashSet<>();
+        for (int partition = 0; partition < CALENDAR_ALARM_PARTITION_COUNT && ownedPartitions.size() < target; partition++) {
+            if (ownedPartitions.contains(partition)) continue;
+            Boolean success = template.opsForValue()
+                    .setIfAbsent(LEASE_KEY + partition, nodeId, Duration.ofMillis(leaseMillis));
+            if (Boolean.TRUE.equals(success)) {
+                ownedPartitions.add(partition);
+                acquired.add(partition);
+            }
+        }
+        return acquired;
+    }
+
+    public Set<Integer> getOwnedPartitions() {
+        return Set.copyOf(ownedPartitions);
+    }
+
+    /**
+     * 알림 발송 권한 획득, 같은 일정의 같은 알림 시각에 대해 클러스터 전체에서 한 번만 true
+     * (파티션 이동 직후 이전 인스턴스의 휠에 남아있는 알림 중복 발송 방지)
+     */
+    public boolean acquireAlarm(Long calendarId, long alarmAtMillis) {
+        Boolean success = template.opsForValue().setIfAbsent(
+                SENT_KEY + calendarId + ":" + alarmAtMillis,
+                nodeId,
+                Duration.ofSeconds(CALENDAR_ALARM_SENT_KEEP_TIME)
+        );
+        return Boolean.TRUE.equals(success);
+    }
+
+    // 발송에 실패한 경우 다음 조회 때 다시 발송할 수 있도록 반납
+    public void releaseAlarm(Long calendarId, long alarmAtMillis) {
+        template.delete(SENT_KEY + calendarId + ":" + alarmAtMillis);
+    }
+
+    @PreDestroy
+    public synchronized void release() {
+        try {
+            ownedPartitions.forEach(partition -> execute(RELEASE_SCRIPT, partition));
+            template.opsForZSet().remove(NODE_KEY, nodeId);
+        } catch (Exception e) {
+            log.warn("일정 알림 lease 반납 실패 : {}", e.getMessage());
+        }
+        ownedPartitions.clear();
+    }
+
+    private boolean execute(RedisScript<Long> script, int partition, String... args) {
+        List<String> argv = new ArrayList<>();
+        argv.add(nodeId);
+        argv.addAll(Arrays.asList(args));
+        Long result = template.execute(script, List.of(LEASE_KEY + partition), argv.toArray());
+        return result != null && result > 0;
+    }
+}
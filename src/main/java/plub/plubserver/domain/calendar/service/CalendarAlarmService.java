@@ -0,0 +1,71 @@
+package plub.plubserver.domain.calendar.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import plub.plubserver.domain.calendar.model.Calendar;
+import plub.plubserver.domain.calendar.model.CalendarAlarmType;
+import plub.plubserver.domain.calendar.repository.CalendarRepository;
+import plub.plubserver.domain.notification.service.NotificationService;
+import plub.plubserver.domain.plubbing.model.Plubbing;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static plub.plubserver.common.constant.GlobalConstants.CALENDAR_ALARM_PARTITION_COUNT;
+import static plub.plubserver.domain.notification.dto.NotificationDto.BroadcastParams;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CalendarAlarmService {
+
+    private final CalendarRepository calendarRepository;
+    private final NotificationService notificationService;
+
+    public List<Calendar> getUpcomingAlarms(LocalDateTime from, LocalDateTime to, Collection<Integer> partitions) {
+        if (partitions.isEmpty()) return List.of();
+        return calendarRepository.findAllUpcomingAlarms(from, to, CALENDAR_ALARM_PARTITION_COUNT, partitions);
+    }
+
+    /**
+     * 일정 알림 발송, 휠에 등록된 이후 일정이 수정/삭제되었으면 발송하지 않음
+     * @return 발송했으면 true
+     */
+    @Transactional
+    public boolean sendAlarm(Long calendarId, LocalDateTime alarmAt) {
+        Calendar calendar = calendarRepository.findById(calendarId).orElse(null);
+        if (calendar == null || !calendar.isVisibility() || !alarmAt.equals(calendar.getAlarmAt())) return false;
+        Plubbing plubbing = calendar.getPlubbing();
+        notificationService.broadcastToPlubbing(plubbing.getId(), BroadcastParams.ofCalendarAlarm(plubbing, calendar));
+        calendar.markAlarmSent();
+        return true;
+    }
+
+    // alarmAt 컬럼 추가 이전에 생성된 일정의 알림 시각 채우기 (이미 지난 알림은 채우지 않음)
+    @Transactional
+    public int backfillAlarmAt() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Calendar> calendars = calendarRepository
+                .findAllByAlarmAtIsNullAndAlarmTypeNotAndStartedAtGreaterThanEqualAndVisibilityIsTrue(
+                        CalendarAlarmType.NONE,
+                        LocalDate.now().toString()
+                );
+        int count = 0;
+        for (Calendar calendar : calendars) {
+            LocalDateTime alarmAt = Calendar.calculateAlarmAt(
+                    calendar.getStartedAt(),
+                    calendar.getStartTime(),
+                    calendar.getAlarmType()
+            );
+            if (alarmAt == null || alarmAt.isBefore(now)) continue;
+            calendar.updateAlarmAt(alarmAt);
+            count++;
+        }
+        return count;
+    }
+}
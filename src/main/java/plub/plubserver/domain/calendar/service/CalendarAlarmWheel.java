@@ -0,0 +1,83 @@
+package plub.plubserver.domain.calendar.service;
+
+import java.util.*;
+
+/**
+ * 일정 알림용 해시 타이밍 휠
+ * 알림 시각(epoch millis)을 tick 단위 슬롯에 나눠 담고, 매 tick 마다 해당 슬롯만 확인한다
+ * 일정 id 를 키로 사용하므로 같은 일정을 여러 번 등록해도 하나만 유지된다
+ */
+public class CalendarAlarmWheel {
+
+    private final long tickMillis;
+    private final List<Set<Long>> buckets;
+    private final Map<Long, Long> deadlines = new HashMap<>();
+    private long currentTick;
+
+    public CalendarAlarmWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) buckets.add(new HashSet<>());
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * @return 새로 등록되었거나 알림 시각이 변경되었으면 true, 이미 같은 시각으로 등록되어 있으면 false
+     */
+    public synchronized boolean register(Long calendarId, long deadlineMillis) {
+        Long registered = deadlines.get(calendarId);
+        if (registered != null && registered == deadlineMillis) return false;
+        if (registered != null) bucketOf(registered).remove(calendarId);
+        deadlines.put(calendarId, deadlineMillis);
+        bucketOf(deadlineMillis).add(calendarId);
+        return true;
+    }
+
+    public synchronized boolean cancel(Long calendarId) {
+        Long registered = deadlines.remove(calendarId);
+        if (registered == null) return false;
+        bucketOf(registered).remove(calendarId);
+        return true;
+    }
+
+    /**
+     * 현재 시각까지 휠을 돌리고, 알림 시각이 지난 일정 id 를 꺼내서 반환
+     */
+    public synchronized Map<Long, Long> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        Map<Long, Long> expired = new LinkedHashMap<>();
+        // 한 바퀴 이상 밀렸으면 모든 슬롯을 한 번씩만 확인하면 충분
+        long fromTick = Math.max(currentTick, targetTick - buckets.size() + 1);
+        for (long tick = fromTick; tick <= targetTick; tick++) {
+            Iterator<Long> iterator = buckets.get(slotOf(tick)).iterator();
+            while (iterator.hasNext()) {
+                Long calendarId = iterator.next();
+                long deadline = deadlines.get(calendarId);
+                if (deadline <= nowMillis) {
+                    iterator.remove();
+                    deadlines.remove(calendarId);
+                    expired.put(calendarId, deadline);
+                }
+            }
+        }
+        currentTick = targetTick;
+        return expired;
+    }
+
+    public synchronized boolean contains(Long calendarId) {
+        return deadlines.containsKey(calendarId);
+    }
+
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    // 이미 지난 알림은 다음 tick 에서 바로 꺼내지도록 현재 슬롯에 담는다
+    private Set<Long> bucketOf(long deadlineMillis) {
+        return buckets.get(slotOf(Math.max(deadlineMillis / tickMillis, currentTick)));
+    }
+
+    private int slotOf(long tick) {
+        return (int) (tick % buckets.size());
+    }
+}
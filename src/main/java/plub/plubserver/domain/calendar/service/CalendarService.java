@@ -1,13 +1,15 @@
 package plub.plubserver.domain.calendar.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import plub.plubserver.common.dto.PageResponse;
+import plub.plubserver.common.pagination.KeysetSlice;
 import plub.plubserver.common.exception.StatusCode;
 import plub.plubserver.domain.account.model.Account;
+import plub.plubserver.domain.calendar.event.CalendarAlarmChangedEvent;
 import plub.plubserver.domain.calendar.exception.CalendarException;
 import plub.plubserver.domain.calendar.model.AttendStatus;
 import plub.plubserver.domain.calendar.model.Calendar;
@@ -25,7 +27,7 @@ import java.util.stream.Collectors;
 
 import static plub.plubserver.domain.calendar.dto.CalendarAttendDto.*;
 import static plub.plubserver.domain.calendar.dto.CalendarDto.*;
-import static plub.plubserver.domain.notification.dto.NotificationDto.NotifyParams;
+import static plub.plubserver.domain.notification.dto.NotificationDto.BroadcastParams;
 
 @Service
 @RequiredArgsConstructor
@@ -35,6 +37,7 @@ public class CalendarService {
     private final CalendarAttendRepository calendarAttendRepository;
     private final PlubbingService plubbingService;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Calendar getCalendar(Long calendarId) {
         return calendarRepository.findById(calendarId).orElseThrow(
@@ -122,13 +125,10 @@ public class CalendarService {
         }
 
         plubbing.addCalendar(calendar);
+        eventPublisher.publishEvent(new CalendarAlarmChangedEvent(calendar.getId(), calendar.getAlarmAt()));
 
         // 멤버들에게 푸시 알림
-        plubbing.getMembers().forEach(member -> {
-            notificationService.pushMessage(
-                    NotifyParams.ofCreateCalendar(member, plubbing, calendar)
-            );
-        });
+        notificationService.broadcastToPlubbing(plubbing.getId(), BroadcastParams.ofCreateCalendar(plubbing, calendar));
 
         return CalendarIdResponse.of(calendar.getId());
     }
@@ -141,13 +141,10 @@ public class CalendarService {
                 .orElseThrow(() -> new CalendarException(StatusCode.NOT_FOUNT_CALENDAR));
         checkCalendarRole(loginAccount, calendar);
         calendar.updateCalendar(updateCalendarResponse);
+        eventPublisher.publishEvent(new CalendarAlarmChangedEvent(calendar.getId(), calendar.getAlarmAt()));
 
         // 멤버들에게 푸시 알림
-        plubbing.getMembers().forEach(member -> {
-            notificationService.pushMessage(
-                    NotifyParams.ofUpdateCalendar(member, plubbing, calendar)
-            );
-        });
+        notificationService.broadcastToPlubbing(plubbing.getId(), BroadcastParams.ofUpdateCalendar(plubbing, calendar));
 
         return CalendarIdResponse.of(calendar.getId());
     }
@@ -160,6 +157,7 @@ public class CalendarService {
                 .orElseThrow(() -> new CalendarException(StatusCode.NOT_FOUNT_CALENDAR));
         checkCalendarRole(account, calendar);
         calendar.softDelete();
+        eventPublisher.publishEvent(new CalendarAlarmChangedEvent(calendar.getId(), null));
         return new CalendarMessage("soft delete calendar");
     }
 
@@ -188,17 +186,10 @@ public class CalendarService {
         return CalendarAttendResponse.of(calendarAttend);
     }
 
-    public CalendarListResponse getCalendarList(Account currentAccount, Long plubbingId, Pageable pageable, Long cursorId) {
+    public CalendarListResponse getCalendarList(Account currentAccount, Long plubbingId, Pageable pageable, String cursor, Long cursorId) {
         Plubbing plubbing = plubbingService.getPlubbing(plubbingId);
         plubbingService.checkMember(currentAccount, plubbing);
-        Long nextCursorId = cursorId;
-        if (cursorId != null && cursorId == 0) {
-            nextCursorId = calendarRepository.findFirstByPlubbingIdAndVisibilityIsTrueOrderByStartedAtDesc(plubbingId)
-                    .orElseThrow(() -> new CalendarException(StatusCode.NOT_FOUNT_CALENDAR))
-                    .getId();
-        }
-        String startedAt = cursorId == null ? null : getCalendar(nextCursorId).getStartedAt();
-        Page<CalendarCardResponse> calendarPage = calendarRepository.findAllByPlubbingId(plubbingId, pageable, cursorId, startedAt)
+        KeysetSlice<CalendarCardResponse> calendarPage = calendarRepository.findAllByPlubbingId(plubbingId, pageable.getPageSize(), cursor, cursorId)
                 .map(calendar -> {
                     List<CalendarAttend> calendarAttendList = calendar.getCalendarAttendList().stream()
                             .filter(calendarAttend -> calendarAttend.getAttendStatus().equals(AttendStatus.YES))
@@ -209,7 +200,7 @@ public class CalendarService {
                     return CalendarCardResponse.of(calendar, isAuthor, isEditable, list);
                 });
         Long totalElements = calendarRepository.countAllByPlubbing(plubbingId);
-        PageResponse<CalendarCardResponse> response = PageResponse.ofCursor(calendarPage, totalElements);
+        PageResponse<CalendarCardResponse> response = PageResponse.ofKeyset(calendarPage, totalElements);
         return CalendarListResponse.ofCursor(response);
     }
 
@@ -2,72 +2,128 @@ package plub.plubserver.domain.calendar.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.TaskScheduler;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import plub.plubserver.domain.calendar.event.CalendarAlarmChangedEvent;
 import plub.plubserver.domain.calendar.model.Calendar;
-import plub.plubserver.domain.calendar.repository.CalendarRepository;
-import plub.plubserver.domain.notification.dto.NotificationDto;
-import plub.plubserver.domain.notification.model.NotificationType;
-import plub.plubserver.domain.notification.service.NotificationService;
-import plub.plubserver.domain.plubbing.model.Plubbing;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import static plub.plubserver.common.constant.GlobalConstants.*;
+
+/**
+ * 일정 알림 스케줄러
+ * 주기적으로 CALENDAR_ALARM_WINDOW 안에 알림 시각이 있는 일정만 조회해서 타이밍 휠에 등록하고,
+ * 매 tick 마다 알림 시각이 지난 일정의 알림을 발송한다
+ * 여러 인스턴스에서는 CalendarAlarmLease 로 파티션을 나눠 조회하고, 알림마다 발송 권한을 획득한 인스턴스만 발송한다
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
-@Slf4j
 public class SchedulerService {
 
-    private final CalendarRepository calendarRepository;
-    private final NotificationService notificationService;
-    private final TaskScheduler taskScheduler;
+    private final CalendarAlarmService calendarAlarmService;
+    private final CalendarAlarmLease calendarAlarmLease;
+
+    private final CalendarAlarmWheel wheel = new CalendarAlarmWheel(
+            CALENDAR_ALARM_TICK * 1000L,
+            CALENDAR_ALARM_WHEEL_SIZE,
+            System.currentTimeMillis()
+    );
 
-    // DB에 저장된 모든 캘린더 정보를 가져와서 스케줄링
-    @Scheduled(fixedRate = 60000) // 매분마다 실행 (적절한 주기로 변경 가능)
-    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int count = calendarAlarmService.backfillAlarmAt();
+            if (count > 0) log.info("일정 알림 시각 채움 : {}건", count);
+            scheduleCalendars();
+        } catch (Exception e) {
+            log.error("일정 알림 시각 채우기 중 예외 발생: " + e.getMessage(), e);
+        }
+    }
+
+    // 알림 시각이 다가오는 일정만 휠에 등록 (이미 등록된 일정은 무시)
+    @Scheduled(fixedDelay = CALENDAR_ALARM_SWEEP_INTERVAL * 1000L)
     public void scheduleCalendars() {
-        try{
-            List<Calendar> calendars = calendarRepository.findAll();
+        try {
             LocalDateTime now = LocalDateTime.now();
+            List<Calendar> calendars = calendarAlarmService.getUpcomingAlarms(
+                    now.minusSeconds(CALENDAR_ALARM_GRACE),
+                    now.plusSeconds(CALENDAR_ALARM_WINDOW),
+                    calendarAlarmLease.getOwnedPartitions()
+            );
+            calendars.forEach(calendar -> register(calendar.getId(), calendar.getAlarmAt()));
+        } catch (Exception e) {
+            log.error("스케줄링 작업 중 예외 발생: " + e.getMessage(), e);
+        }
+    }
 
-            for (Calendar calendar : calendars) {
-                LocalDateTime schedulerTime = parseSchedulerTime(calendar);
-                if (schedulerTime.isBefore(now)) {
-                    // 스케줄 시간이 이미 지났으면 알림 전송 후 캘린더 삭제
-                    sendNotificationAndRemoveCalendar(calendar);
-                } else {
-                    // 스케줄링
-                    taskScheduler.schedule(() -> sendNotificationAndRemoveCalendar(calendar), Instant.from(schedulerTime));
-                }
+    // 파티션 lease 연장, 새로 맡은 파티션이 생기면 바로 조회
+    @Scheduled(fixedRate = CALENDAR_ALARM_LEASE_RENEW_INTERVAL * 1000L)
+    public void renewLease() {
+        try {
+            Set<Integer> acquired = calendarAlarmLease.rebalance();
+            if (!acquired.isEmpty()) {
+                log.info("일정 알림 파티션 획득 : {}", acquired);
+                scheduleCalendars();
             }
         } catch (Exception e) {
-            log.error("스케줄링 작업 중 예외 발생: " + e.getMessage(), e);
+            log.error("일정 알림 lease 갱신 중 예외 발생: " + e.getMessage(), e);
         }
+    }
+
+    @Scheduled(fixedRate = CALENDAR_ALARM_TICK * 1000L)
+    public void tick() {
+        Map<Long, Long> expired = wheel.advance(System.currentTimeMillis());
+        expired.forEach(this::fire);
+    }
+
+    private void fire(Long calendarId, Long deadline) {
+        try {
+            // 다른 인스턴스가 이미 발송했으면 건너뜀
+            if (!calendarAlarmLease.acquireAlarm(calendarId, deadline)) return;
+        } catch (Exception e) {
+            log.error("일정 알림 발송 권한 획득 중 예외 발생: calendarId={}, {}", calendarId, e.getMessage(), e);
+            return;
+        }
+        try {
+            calendarAlarmService.sendAlarm(calendarId, toLocalDateTime(deadline));
+        } catch (Exception e) {
+            log.error("일정 알림 발송 중 예외 발생: calendarId={}, {}", calendarId, e.getMessage(), e);
+            calendarAlarmLease.releaseAlarm(calendarId, deadline);
+        }
+    }
 
+    // 일정 생성/수정/삭제가 커밋된 이후 휠에 반영
+    // 요청을 받은 인스턴스가 파티션과 관계없이 바로 등록하고, 중복 발송은 acquireAlarm 으로 막는다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCalendarAlarmChanged(CalendarAlarmChangedEvent event) {
+        register(event.calendarId(), event.alarmAt());
+    }
+
+    private void register(Long calendarId, LocalDateTime alarmAt) {
+        // 알림이 없거나 아직 먼 일정은 휠에서 빼고, 이후 주기적인 조회에서 등록
+        if (alarmAt == null || alarmAt.isAfter(LocalDateTime.now().plusSeconds(CALENDAR_ALARM_WINDOW))) {
+            wheel.cancel(calendarId);
+            return;
+        }
+        wheel.register(calendarId, toEpochMillis(alarmAt));
     }
 
-    private void sendNotificationAndRemoveCalendar(Calendar calendar) {
-        Plubbing plubbing = calendar.getPlubbing();
-        plubbing.getMembers().forEach(member -> {
-            NotificationDto.NotifyParams params = NotificationDto.NotifyParams.builder()
-                    .receiver(member)
-                    .type(NotificationType.CREATE_UPDATE_CALENDAR)
-                    .redirectTargetId(calendar.getId())
-                    .title(plubbing.getName())
-                    .content("곧 일정이 시작됩니다!\n : " + calendar.getTitle())
-                    .build();
-            notificationService.pushMessage(params);
-        });
-        calendarRepository.delete(calendar);
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 
-    private LocalDateTime parseSchedulerTime(Calendar calendar) {
-        LocalDateTime schedulerTime = LocalDateTime.parse(calendar.getStartedAt() + "T" + calendar.getStartTime());
-        return calendar.getAlarmType().getAlarmTime(schedulerTime);
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
     }
 }
@@ -5,10 +5,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import plub.plubserver.domain.plubbing.model.Plubbing;
+import plub.plubserver.domain.plubbing.repository.PlubbingCategoryIndexListener;
+import plub.plubserver.domain.recruit.repository.RecruitLuceneIndexListener;
 
 import javax.persistence.*;
 
 @Entity
+@EntityListeners({PlubbingCategoryIndexListener.class, RecruitLuceneIndexListener.class})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PlubbingSubCategory {
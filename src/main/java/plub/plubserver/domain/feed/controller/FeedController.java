@@ -112,11 +112,12 @@ public class FeedController {
     public ApiResponse<PageResponse<FeedCommentResponse>> getFeedCommentList(
             @PathVariable Long plubbingId,
             @PathVariable Long feedId,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) Long cursorId,
             @PageableDefault(size = 20) Pageable pageable
     ) {
         Account loginAccount = accountService.getCurrentAccount();
-        return success(feedService.getFeedCommentList(loginAccount, plubbingId, feedId, pageable, cursorId));
+        return success(feedService.getFeedCommentList(loginAccount, plubbingId, feedId, pageable, cursor, cursorId));
     }
 
     @ApiOperation(value = "게시글 댓글 생성")
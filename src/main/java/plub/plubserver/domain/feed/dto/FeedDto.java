@@ -92,6 +92,11 @@ public class FeedDto {
         }
 
         public static FeedCardResponse of(Feed feed, Boolean isAuthor, Boolean isHost, Long likeCount, Long commentCount) {
+            return of(feed, feed.getAccount(), isAuthor, isHost, likeCount, commentCount);
+        }
+
+        // 목록 조회는 페이지의 작성자를 모아 한 번에 가져온 Account 를 넘긴다
+        public static FeedCardResponse of(Feed feed, Account author, Boolean isAuthor, Boolean isHost, Long likeCount, Long commentCount) {
             return FeedCardResponse.builder()
                     .feedId(feed.getId())
                     .feedType(feed.getFeedType().toString())
@@ -103,13 +108,26 @@ public class FeedDto {
                     .pin(feed.isPin())
                     .likeCount(likeCount)
                     .commentCount(commentCount)
-                    .profileImage(feed.getAccount().getProfileImage())
-                    .nickname(feed.getAccount().getNickname())
+                    .profileImage(author == null ? null : author.getProfileImage())
+                    .nickname(author == null ? null : author.getNickname())
                     .plubbingId(feed.getPlubbing().getId())
                     .isAuthor(isAuthor)
                     .isHost(isHost)
                     .build();
         }
+
+        // 캐시에 저장된 카드에 조회 시점의 작성자 닉네임/프로필을 채움
+        public FeedCardResponse withAuthor(Account author) {
+            return new FeedCardResponse(feedId, feedType, viewType, title, content, feedImage, createdAt, pin,
+                    likeCount, commentCount, author == null ? null : author.getProfileImage(),
+                    author == null ? null : author.getNickname(), plubbingId, isAuthor, isHost);
+        }
+
+        // 캐시에 저장된 카드에 조회자 기준 값과 최신 좋아요/댓글 수를 채움
+        public FeedCardResponse withViewer(Boolean isAuthor, Boolean isHost, Long likeCount, Long commentCount) {
+            return new FeedCardResponse(feedId, feedType, viewType, title, content, feedImage, createdAt, pin,
+                    likeCount, commentCount, profileImage, nickname, plubbingId, isAuthor, isHost);
+        }
     }
 
     public record FeedListResponse(
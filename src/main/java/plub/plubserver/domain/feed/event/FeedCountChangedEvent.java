@@ -0,0 +1,10 @@
+package plub.plubserver.domain.feed.event;
+
+// 게시글 좋아요/댓글 수 증감
+public record FeedCountChangedEvent(
+        Long plubbingId,
+        Long feedId,
+        int likeDelta,
+        int commentDelta
+) {
+}
@@ -0,0 +1,8 @@
+package plub.plubserver.domain.feed.event;
+
+// 게시글 삭제
+public record FeedDeletedEvent(
+        Long plubbingId,
+        Long feedId
+) {
+}
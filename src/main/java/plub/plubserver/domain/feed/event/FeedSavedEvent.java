@@ -0,0 +1,25 @@
+package plub.plubserver.domain.feed.event;
+
+import plub.plubserver.domain.feed.dto.FeedDto.FeedCardResponse;
+import plub.plubserver.domain.feed.model.Feed;
+
+// 게시글 작성/수정/고정 (카드는 조회자, 작성자 정보와 무관한 값만 채워서 전달)
+public record FeedSavedEvent(
+        Long plubbingId,
+        Long feedId,
+        Long accountId,
+        FeedCardResponse card,
+        String pinedAt,
+        boolean created
+) {
+    public static FeedSavedEvent of(Feed feed, boolean created) {
+        return new FeedSavedEvent(
+                feed.getPlubbing().getId(),
+                feed.getId(),
+                feed.getAccount().getId(),
+                FeedCardResponse.of(feed, null, null, null, (long) feed.getLikeCount(), (long) feed.getCommentCount()),
+                feed.isPin() ? feed.getPinedAt() : null,
+                created
+        );
+    }
+}
@@ -7,6 +7,7 @@ import plub.plubserver.domain.account.model.Account;
 import javax.persistence.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_feed_like_account_feed", columnNames = {"account_id", "feed_id"}))
 @Getter
 @Builder
 @AllArgsConstructor
@@ -1,11 +1,10 @@
 package plub.plubserver.domain.feed.repository;
 
-import org.springframework.data.domain.Page;
+import plub.plubserver.common.pagination.KeysetSlice;
 import plub.plubserver.domain.feed.model.Feed;
-import org.springframework.data.domain.Pageable;
 import plub.plubserver.domain.feed.model.FeedComment;
 
 
 public interface FeedCommentRepositoryCustom {
-    Page<FeedComment> findAllByFeed(Feed feed, Pageable pageable, Long lastCommentGroupId, Long lastCommentId);
-}
\ No newline at end of file
+    KeysetSlice<FeedComment> findAllByFeed(Feed feed, int size, String cursor, Long cursorId);
+}
@@ -1,14 +1,16 @@
 package plub.plubserver.domain.feed.repository;
 
-import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
+import plub.plubserver.common.pagination.KeysetSlice;
+import plub.plubserver.common.pagination.KeysetSort;
+import plub.plubserver.domain.account.model.QAccount;
 import plub.plubserver.domain.feed.model.Feed;
 import plub.plubserver.domain.feed.model.FeedComment;
+import plub.plubserver.domain.feed.model.QFeedComment;
+
+import java.util.List;
 
 import static plub.plubserver.domain.feed.model.QFeedComment.feedComment;
 
@@ -16,37 +18,31 @@ import static plub.plubserver.domain.feed.model.QFeedComment.feedComment;
 public class FeedCommentRepositoryImpl implements FeedCommentRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
+    // 댓글 그룹 순, 그룹 내에서는 작성 순
+    private static final KeysetSort<FeedComment> COMMENT_GROUP_SORT = KeysetSort.<FeedComment>create()
+            .asc(feedComment.commentGroupId, Long.class, FeedComment::getCommentGroupId)
+            .asc(feedComment.id, Long.class, FeedComment::getId);
+
+    private static final QFeedComment parent = new QFeedComment("parent");
+    private static final QAccount parentAccount = new QAccount("parentAccount");
+
     @Override
-    public Page<FeedComment> findAllByFeed(
+    public KeysetSlice<FeedComment> findAllByFeed(
             Feed feed,
-            Pageable pageable,
-            Long lastCommentGroupId,
-            Long lastCommentId
+            int size,
+            String cursor,
+            Long cursorId
     ) {
+        List<Object> cursorValues = COMMENT_GROUP_SORT.resolveCursor(cursor, cursorId,
+                id -> queryFactory.selectFrom(feedComment).where(feedComment.id.eq(id)).fetchOne());
         JPQLQuery<FeedComment> query = queryFactory
                 .selectFrom(feedComment)
+                // 응답에 작성자와 부모 댓글 작성자 닉네임이 들어가므로 한 번에 조회
+                .join(feedComment.account).fetchJoin()
+                .leftJoin(feedComment.parent, parent).fetchJoin()
+                .leftJoin(parent.account, parentAccount).fetchJoin()
                 .where(feedComment.feed.eq(feed),
-                        feedComment.visibility.eq(true),
-                        getCursorId(lastCommentGroupId, lastCommentId))
-                .distinct();
-
-        return PageableExecutionUtils.getPage(
-                query.orderBy(feedComment.commentGroupId.asc(),
-                                feedComment.id.asc())
-                        .offset(pageable.getOffset())
-                        .limit(pageable.getPageSize())
-                        .fetch(),
-                pageable,
-                () -> queryFactory.selectFrom(feedComment)
-                        .fetch().size());
-    }
-
-    private BooleanExpression getCursorId(Long lastCommentGroupId, Long lastCommentId) {
-        if (lastCommentGroupId == null || lastCommentId == null) {
-            return null;
-        }
-        return feedComment.commentGroupId.goe(lastCommentGroupId)
-                .and(feedComment.id.gt(lastCommentId))
-                .or(feedComment.commentGroupId.gt(lastCommentGroupId));
+                        feedComment.visibility.eq(true));
+        return COMMENT_GROUP_SORT.fetch(query, cursorValues, size);
     }
-}
\ No newline at end of file
+}
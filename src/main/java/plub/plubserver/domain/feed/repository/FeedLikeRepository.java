@@ -7,8 +7,4 @@ import plub.plubserver.domain.feed.model.FeedLike;
 
 public interface FeedLikeRepository extends JpaRepository<FeedLike, Long> {
     boolean existsByAccountAndFeed(Account account, Feed feed);
-
-    void deleteByAccountAndFeed(Account account, Feed feed);
-
-    Long countAllByVisibilityAndFeed(boolean visibility, Feed feed);
 }
\ No newline at end of file
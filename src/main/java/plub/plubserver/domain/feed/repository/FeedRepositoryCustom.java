@@ -1,14 +1,14 @@
 package plub.plubserver.domain.feed.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import plub.plubserver.domain.account.model.Account;
 import plub.plubserver.domain.feed.model.Feed;
 import plub.plubserver.domain.feed.model.ViewType;
 import plub.plubserver.domain.plubbing.model.Plubbing;
 
 public interface FeedRepositoryCustom {
-    Page<Feed> findAllByPlubbingAndPinAndVisibilityCursor(
+    Slice<Feed> findAllByPlubbingAndPinAndVisibilityCursor(
             Plubbing plubbing,
             Boolean pin,
             Boolean visibility,
@@ -16,7 +16,7 @@ public interface FeedRepositoryCustom {
             Long cursorId
     );
 
-    Page<Feed> findAllByPlubbingAndAccountAndVisibilityAndViewType(
+    Slice<Feed> findAllByPlubbingAndAccountAndVisibilityAndViewType(
             Plubbing plubbing,
             Account account,
             Boolean visibility,
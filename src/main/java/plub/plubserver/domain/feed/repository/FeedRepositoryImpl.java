@@ -5,13 +5,13 @@ import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.domain.Slice;
 import plub.plubserver.domain.account.model.Account;
 import plub.plubserver.domain.feed.model.Feed;
 import plub.plubserver.domain.feed.model.ViewType;
 import plub.plubserver.domain.plubbing.model.Plubbing;
+import plub.plubserver.util.CursorUtils;
 
 import static plub.plubserver.domain.feed.model.QFeed.feed;
 
@@ -21,7 +21,7 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public Page<Feed> findAllByPlubbingAndPinAndVisibilityCursor(
+    public Slice<Feed> findAllByPlubbingAndPinAndVisibilityCursor(
             Plubbing plubbing,
             Boolean pin,
             Boolean visibility,
@@ -33,21 +33,13 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
                 .where(feed.plubbing.eq(plubbing),
                         feed.pin.eq(pin),
                         feed.visibility.eq(visibility),
-                        getCursorId(cursorId))
-                .distinct();
+                        getCursorId(cursorId));
 
-        return PageableExecutionUtils.getPage(
-                query.orderBy(feed.id.desc())
-                        .limit(pageable.getPageSize())
-                        .fetch(),
-                pageable,
-                () -> queryFactory
-                        .selectFrom(feed)
-                        .fetch().size());
+        return CursorUtils.fetchSlice(query.orderBy(feed.id.desc()), pageable);
     }
 
     @Override
-    public Page<Feed> findAllByPlubbingAndAccountAndVisibilityAndViewType(
+    public Slice<Feed> findAllByPlubbingAndAccountAndVisibilityAndViewType(
             Plubbing plubbing,
             Account account,
             Boolean visibility,
@@ -61,17 +53,9 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
                         feed.account.eq(account),
                         feed.visibility.eq(visibility),
                         feed.viewType.eq(ViewType.NORMAL),
-                        getCursorId(cursorId))
-                .distinct();
+                        getCursorId(cursorId));
 
-        return PageableExecutionUtils.getPage(
-                query.orderBy(feed.id.desc())
-                        .limit(pageable.getPageSize())
-                        .fetch(),
-                pageable,
-                () -> queryFactory
-                        .selectFrom(feed)
-                        .fetch().size());
+        return CursorUtils.fetchSlice(query.orderBy(feed.id.desc()), pageable);
     }
 
     private BooleanExpression getCursorId(Long cursorId) {
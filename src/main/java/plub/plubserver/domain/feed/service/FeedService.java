@@ -1,21 +1,31 @@
 package plub.plubserver.domain.feed.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import plub.plubserver.common.batch.BatchLoader;
+import plub.plubserver.common.comment.CommentTarget;
+import plub.plubserver.common.comment.CommentTree;
 import plub.plubserver.common.dto.CommentDto.*;
 import plub.plubserver.common.dto.PageResponse;
+import plub.plubserver.common.pagination.KeysetSlice;
+import plub.plubserver.common.reaction.ReactionEngine;
+import plub.plubserver.common.reaction.ReactionTarget;
 import plub.plubserver.common.exception.StatusCode;
 import plub.plubserver.domain.account.model.Account;
+import plub.plubserver.domain.account.repository.AccountRepository;
 import plub.plubserver.domain.feed.dto.FeedDto.*;
+import plub.plubserver.domain.feed.event.FeedCountChangedEvent;
+import plub.plubserver.domain.feed.event.FeedDeletedEvent;
+import plub.plubserver.domain.feed.event.FeedSavedEvent;
 import plub.plubserver.domain.feed.exception.FeedException;
 import plub.plubserver.domain.feed.model.Feed;
 import plub.plubserver.domain.feed.model.FeedComment;
-import plub.plubserver.domain.feed.model.FeedLike;
 import plub.plubserver.domain.feed.model.ViewType;
 import plub.plubserver.domain.feed.repository.FeedCommentRepository;
 import plub.plubserver.domain.feed.repository.FeedLikeRepository;
@@ -24,8 +34,11 @@ import plub.plubserver.domain.notification.service.NotificationService;
 import plub.plubserver.domain.plubbing.model.Plubbing;
 import plub.plubserver.domain.plubbing.service.PlubbingService;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static plub.plubserver.common.exception.StatusCode.NOT_FOUND_COMMENT;
 import static plub.plubserver.domain.notification.dto.NotificationDto.NotifyParams;
@@ -40,6 +53,11 @@ public class FeedService {
     private final FeedCommentRepository feedCommentRepository;
     private final FeedLikeRepository feedLikeRepository;
     private final NotificationService notificationService;
+    private final FeedTimelineCache feedTimelineCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReactionEngine reactionEngine;
+    private final CommentTree commentTree;
+    private final AccountRepository accountRepository;
 
     public Feed getFeed(Long feedId) {
         return feedRepository.findByIdAndVisibility(feedId, true).orElseThrow(
@@ -58,6 +76,7 @@ public class FeedService {
         plubbingService.checkMemberAndActive(account, plubbing);
         Feed feed = createFeedRequest.toEntity(plubbing, account);
         feedRepository.save(feed);
+        eventPublisher.publishEvent(FeedSavedEvent.of(feed, true));
         return new FeedIdResponse(feed.getId());
     }
 
@@ -65,9 +84,14 @@ public class FeedService {
         Plubbing plubbing = plubbingService.getPlubbing(plubbingId);
         plubbingService.checkMemberAndActive(account, plubbing);
         Boolean isHost = plubbingService.isHost(account, plubbing);
+        // 앞쪽 페이지는 캐시에서, 캐시 범위를 벗어나면 DB 커서 조회
+        Optional<PageResponse<FeedCardResponse>> cached = feedTimelineCache.getRecent(plubbing, account, isHost, pageable, cursorId);
+        if (cached.isPresent()) return cached.get();
         Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<FeedCardResponse> feedCardList = feedRepository.findAllByPlubbingAndPinAndVisibilityCursor(plubbing, false, true, sortedPageable, cursorId)
-                .map(it -> FeedCardResponse.of(it, isFeedAuthor(account, it), isHost, getLikeCount(it), getCommentCount(it)));
+        Slice<Feed> feeds = feedRepository.findAllByPlubbingAndPinAndVisibilityCursor(plubbing, false, true, sortedPageable, cursorId);
+        BatchLoader<Long, Account> authorLoader = authorLoader(feeds.getContent());
+        Slice<FeedCardResponse> feedCardList = feeds
+                .map(it -> FeedCardResponse.of(it, authorLoader.get(getAuthorId(it)), isFeedAuthor(account, it), isHost, getLikeCount(it), getCommentCount(it)));
         Long totalElements = feedRepository.countAllByPlubbingAndVisibility(plubbing, true);
         return PageResponse.ofCursor(feedCardList, totalElements);
     }
@@ -76,8 +100,12 @@ public class FeedService {
         Plubbing plubbing = plubbingService.getPlubbing(plubbingId);
         plubbingService.checkMemberAndActive(account, plubbing);
         Boolean isHost = plubbingService.isHost(account, plubbing);
-        List<FeedCardResponse> pinedFeedCardList = feedRepository.findAllByPlubbingAndPinAndVisibility(plubbing, true, true, Sort.by(Sort.Direction.DESC, "pinedAt"))
-                .stream().map((Feed feed) -> FeedCardResponse.of(feed, isFeedAuthor(account, feed), isHost, getLikeCount(feed), getCommentCount(feed))).toList();
+        Optional<List<FeedCardResponse>> cached = feedTimelineCache.getPinned(plubbing, account, isHost);
+        if (cached.isPresent()) return FeedListResponse.of(cached.get());
+        List<Feed> pinedFeeds = feedRepository.findAllByPlubbingAndPinAndVisibility(plubbing, true, true, Sort.by(Sort.Direction.DESC, "pinedAt"));
+        BatchLoader<Long, Account> authorLoader = authorLoader(pinedFeeds);
+        List<FeedCardResponse> pinedFeedCardList = pinedFeeds.stream()
+                .map((Feed feed) -> FeedCardResponse.of(feed, authorLoader.get(getAuthorId(feed)), isFeedAuthor(account, feed), isHost, getLikeCount(feed), getCommentCount(feed))).toList();
         return FeedListResponse.of(pinedFeedCardList);
     }
 
@@ -90,6 +118,7 @@ public class FeedService {
             throw new FeedException(StatusCode.CANNOT_DELETED_FEED);
         checkFeedAuthor(account, feed);
         feed.updateFeed(updateFeedRequest);
+        eventPublisher.publishEvent(FeedSavedEvent.of(feed, false));
         Boolean isHost = plubbingService.isHost(account, feed.getPlubbing());
         return FeedResponse.of(feed, true, isHost, isLike(account, feed), getLikeCount(feed), getCommentCount(feed));
     }
@@ -103,6 +132,7 @@ public class FeedService {
             throw new FeedException(StatusCode.CANNOT_DELETED_FEED);
         checkFeedAuthor(account, feed);
         feed.softDelete();
+        eventPublisher.publishEvent(new FeedDeletedEvent(feed.getPlubbing().getId(), feed.getId()));
         return new FeedMessage("soft delete feed");
     }
 
@@ -126,6 +156,7 @@ public class FeedService {
         if (feed.getViewType().equals(ViewType.SYSTEM))
             throw new FeedException(StatusCode.CANNOT_PIN_FEED);
         feed.pin();
+        eventPublisher.publishEvent(FeedSavedEvent.of(feed, false));
 
         // 핀된 게시글 사용자에게 푸시 알림
         notificationService.pushMessage(NotifyParams.ofPinFeed(feed));
@@ -138,32 +169,21 @@ public class FeedService {
         Feed feed = getFeed(feedId);
         checkFeedStatus(feed);
         plubbingService.checkMemberAndActive(account, feed.getPlubbing());
-        if (!feedLikeRepository.existsByAccountAndFeed(account, feed)) {
-            feedLikeRepository.save(FeedLike.builder().feed(feed).account(account).build());
-            return new FeedMessage(feedId + ", Like Success.");
-        } else {
-            feedLikeRepository.deleteByAccountAndFeed(account, feed);
-            return new FeedMessage(feedId + ", Like Cancel.");
-        }
+        int delta = reactionEngine.toggle(ReactionTarget.FEED, feed.getId(), account.getId());
+        if (delta != 0)
+            eventPublisher.publishEvent(new FeedCountChangedEvent(feed.getPlubbing().getId(), feed.getId(), delta, 0));
+        return new FeedMessage(feedId + (delta < 0 ? ", Like Cancel." : ", Like Success."));
     }
 
-    public PageResponse<FeedCommentResponse> getFeedCommentList(Account account, Long plubbingId, Long feedId, Pageable pageable, Long cursorId) {
+    public PageResponse<FeedCommentResponse> getFeedCommentList(Account account, Long plubbingId, Long feedId, Pageable pageable, String cursor, Long cursorId) {
         plubbingService.getPlubbing(plubbingId);
         Feed feed = getFeed(feedId);
         checkFeedStatus(feed);
         plubbingService.checkMember(account, feed.getPlubbing());
-        Long nextCursorId = cursorId;
-        if (cursorId != null && cursorId == 0) {
-            Optional<FeedComment> first = feedCommentRepository.findFirstByVisibilityAndFeedId(true, feedId);
-            nextCursorId = first.map(FeedComment::getId).orElse(null);
-        }
-        Long commentGroupId = nextCursorId == null ? null : getFeedComment(nextCursorId).getCommentGroupId();
-        Page<FeedCommentResponse> feedCommentList = feedCommentRepository.findAllByFeed(feed, pageable, commentGroupId, cursorId)
-                .map(it -> FeedCommentResponse.of(it, isCommentAuthor(account, it), isFeedAuthor(account, feed), isAuthorComment(it)));
-        Long totalElements = feedCommentRepository.countAllByVisibilityAndFeed(true, feed);
-        boolean pageLast = feedCommentList.getNumber() == feedCommentList.getTotalPages() - 1
-                || (long) feedCommentList.getNumber() * feedCommentList.getSize() + feedCommentList.getNumberOfElements() >= totalElements;
-        return PageResponse.ofCursor(feedCommentList, totalElements, pageLast);
+        KeysetSlice<FeedCommentResponse> feedCommentList = feedCommentRepository.findAllByFeed(feed, pageable.getPageSize(), cursor, cursorId)
+                .map(it -> FeedCommentResponse.of(it, isCommentAuthor(account, it), isFeedAuthor(account, feed), isFeedAuthor(it.getAccount(), feed)));
+        Long totalElements = getCommentCount(feed);
+        return PageResponse.ofKeyset(feedCommentList, totalElements);
     }
 
     @Transactional
@@ -187,6 +207,8 @@ public class FeedService {
         FeedComment feedComment = feedCommentRepository.save(
                 createCommentRequest.toFeedComment(feed, commentAuthor)
         );
+        commentTree.addComment(CommentTarget.FEED, feed.getId());
+        eventPublisher.publishEvent(new FeedCountChangedEvent(feed.getPlubbing().getId(), feed.getId(), 0, 1));
 
         NotifyParams params;
 
@@ -235,34 +257,38 @@ public class FeedService {
         if (!isFeedAuthor(account, feedComment.getFeed()) && !isCommentAuthor(account, feedComment))
             throw new FeedException(StatusCode.NOT_FEED_AUTHOR_ERROR);
 
-        if (feedComment.getChildren().size() != 0)
-            deleteChildComment(feedComment);
-
-        feedComment.softDelete();
+        Feed feed = feedComment.getFeed();
+        int deletedCount = commentTree.softDeleteSubtree(CommentTarget.FEED, feed.getId(), feedComment.getId(), feedComment.getCommentGroupId());
+        if (deletedCount > 0)
+            eventPublisher.publishEvent(new FeedCountChangedEvent(feed.getPlubbing().getId(), feed.getId(), 0, -deletedCount));
         return new CommentMessage("soft delete comment");
     }
 
-    private void deleteChildComment(FeedComment feedComment) {
-        if (feedComment.getChildren().size() == 0)
-            return;
-        feedComment.getChildren().forEach(it -> {
-            it.softDelete();
-            deleteChildComment(it);
-            feedCommentRepository.save(it);
-        });
-    }
-
     public MyFeedListResponse getMyFeedList(Account loginAccount, Long plubbingId, Pageable pageable, Long cursorId) {
         Plubbing plubbing = plubbingService.getPlubbing(plubbingId);
         plubbingService.checkMember(loginAccount, plubbing);
         Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<FeedCardResponse> myFeedCardList = feedRepository.findAllByPlubbingAndAccountAndVisibilityAndViewType(plubbing, loginAccount, true, ViewType.NORMAL, sortedPageable, cursorId)
-                .map((Feed feed) -> FeedCardResponse.of(feed, true, true, getLikeCount(feed), getCommentCount(feed)));
+        Slice<FeedCardResponse> myFeedCardList = feedRepository.findAllByPlubbingAndAccountAndVisibilityAndViewType(plubbing, loginAccount, true, ViewType.NORMAL, sortedPageable, cursorId)
+                .map((Feed feed) -> FeedCardResponse.of(feed, loginAccount, true, true, getLikeCount(feed), getCommentCount(feed)));
         Long totalElements = feedRepository.countAllByPlubbingAndAccountAndVisibilityAndViewType(plubbing, loginAccount, true, ViewType.NORMAL);
         PageResponse<FeedCardResponse> response = PageResponse.ofCursor(myFeedCardList, totalElements);
         return MyFeedListResponse.of(plubbing, response);
     }
 
+    // 카드의 작성자 닉네임/프로필은 페이지의 작성자 id 를 모아 IN 쿼리 한 번으로 조회
+    private BatchLoader<Long, Account> authorLoader(Collection<Feed> feeds) {
+        return BatchLoader.<Long, Account>of(
+                ids -> accountRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(Account::getId, Function.identity())),
+                null
+        ).loadAll(feeds, this::getAuthorId);
+    }
+
+    // 지연 로딩 프록시의 id 는 초기화 없이 읽힌다
+    private Long getAuthorId(Feed feed) {
+        return feed.getAccount().getId();
+    }
+
     //TODO
     public CommentIdResponse reportFeedComment(Account account, Long plubbingId, Long feedId, Long commentId) {
         return new CommentIdResponse(commentId);
@@ -301,12 +327,13 @@ public class FeedService {
         return feedComment.getFeed().getAccount().getId().equals(feedComment.getAccount().getId());
     }
 
+    // 카운트 쿼리 없이 피드 행에 유지되는 값을 그대로 사용
     public Long getCommentCount(Feed feed) {
-        return feedCommentRepository.countAllByVisibilityAndFeed(true, feed);
+        return (long) feed.getCommentCount();
     }
 
     public Long getLikeCount(Feed feed) {
-        return feedLikeRepository.countAllByVisibilityAndFeed(true, feed);
+        return (long) feed.getLikeCount();
     }
 
     private Boolean isLike(Account account, Feed feed) {
@@ -318,6 +345,7 @@ public class FeedService {
     public void makeSystem(long feedId) {
         Feed feed = getFeed(feedId);
         feed.makeSystem();
+        eventPublisher.publishEvent(FeedSavedEvent.of(feed, false));
     }
 
     @Transactional
@@ -326,5 +354,6 @@ public class FeedService {
         String content = "<b>" + nickname + "</b> 님이 <b>" + plubbing.getName() + "</b> 에 들어왔어요";
         Feed feed = Feed.createSystemFeed(plubbing, title, content);
         feedRepository.save(feed);
+        eventPublisher.publishEvent(FeedSavedEvent.of(feed, true));
     }
 }
\ No newline at end of file
@@ -0,0 +1,369 @@
+package plub.plubserver.domain.feed.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import plub.plubserver.common.batch.BatchLoader;
+import plub.plubserver.common.dto.PageResponse;
+import plub.plubserver.domain.account.model.Account;
+import plub.plubserver.domain.account.repository.AccountRepository;
+import plub.plubserver.domain.feed.dto.FeedDto.FeedCardResponse;
+import plub.plubserver.domain.feed.event.FeedCountChangedEvent;
+import plub.plubserver.domain.feed.event.FeedDeletedEvent;
+import plub.plubserver.domain.feed.event.FeedSavedEvent;
+import plub.plubserver.domain.feed.model.Feed;
+import plub.plubserver.domain.feed.repository.FeedRepository;
+import plub.plubserver.domain.plubbing.model.Plubbing;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static plub.plubserver.common.constant.GlobalConstants.FEED_TIMELINE_CACHE_TIME;
+import static plub.plubserver.common.constant.GlobalConstants.FEED_TIMELINE_SIZE;
+
+/**
+ * 모임별 게시판 타임라인 캐시 (Redis)
+ * 최근 게시글 FEED_TIMELINE_SIZE 개(zset, 점수 = 게시글 id)와 고정 게시글(zset, 점수 = 고정 시각)을 따로 두고,
+ * 카드 JSON / 작성자 id / 좋아요 수 / 댓글 수 / 전체 개수는 hash 하나에 담고, 작성자 닉네임/프로필은 조회할 때 작성자 id 로 한 번에 읽어 채운다
+ * 게시글 작성/수정/삭제/고정과 좋아요, 댓글 증감은 커밋 후 캐시에 바로 반영하고 (캐시가 있을 때만), 캐시는 FEED_TIMELINE_CACHE_TIME 마다 새로 적재된다
+ * 적재하는 동안(DB 조회 ~ 저장) 커밋된 변경이 이전 스냅샷에 덮이지 않도록 반영할 때마다 모임별 버전을 올리고,
+ * 캐시가 없고 조회 전에 읽은 버전이 그대로일 때만 적재한다 (적재하지 못한 조회는 DB 에서 응답)
+ * 캐시 범위를 벗어나는 페이지나 Redis 를 사용할 수 없을 때는 Optional.empty() 를 돌려주고 호출 측이 DB 커서 조회를 한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedTimelineCache {
+
+    private static final String KEY_PREFIX = "feed:timeline:";
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int FIELDS_PER_FEED = 5;
+
+    // 캐시가 없고 버전이 그대로일 때만 적재 (KEYS : hash, recent, pins, version / ARGV : ttl, version, total, more, [id, card, author, like, comment, pinScore]...)
+    static final RedisScript<Long> BUILD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return 0 end " +
+                    "if (redis.call('get', KEYS[4]) or '') ~= ARGV[2] then return 0 end " +
+                    "redis.call('del', KEYS[2], KEYS[3]) " +
+                    "redis.call('hset', KEYS[1], 'total', ARGV[3], 'more', ARGV[4]) " +
+                    "for i = 5, #ARGV, 6 do " +
+                    "  local id = ARGV[i] " +
+                    "  redis.call('hset', KEYS[1], 'card:' .. id, ARGV[i + 1], 'author:' .. id, ARGV[i + 2], " +
+                    "    'like:' .. id, ARGV[i + 3], 'comment:' .. id, ARGV[i + 4]) " +
+                    "  if ARGV[i + 5] == '' then redis.call('zadd', KEYS[2], id, id) " +
+                    "  else redis.call('zadd', KEYS[3], ARGV[i + 5], id) end " +
+                    "end " +
+                    "for i = 1, 3 do redis.call('expire', KEYS[i], ARGV[1]) end " +
+                    "return 1",
+            Long.class
+    );
+
+    // 점수 내림차순으로 [total, more, (id, card, author, like, comment)...], 캐시가 없으면 nil (KEYS : hash, zset / ARGV : max, limit)
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then return false end " +
+                    "local result = {redis.call('hget', KEYS[1], 'total') or '0', redis.call('hget', KEYS[1], 'more') or '0'} " +
+                    "for _, id in ipairs(redis.call('zrevrangebyscore', KEYS[2], ARGV[1], '-inf', 'LIMIT', 0, tonumber(ARGV[2]))) do " +
+                    "  local fields = redis.call('hmget', KEYS[1], 'card:' .. id, 'author:' .. id, 'like:' .. id, 'comment:' .. id) " +
+                    "  table.insert(result, id) " +
+                    "  for j = 1, 4 do table.insert(result, fields[j] or '') end " +
+                    "end " +
+                    "return result",
+            List.class
+    );
+
+    // 작성/수정/고정 반영 (KEYS : hash, recent, pins, version / ARGV : id, card, author, like, comment, pinScore, size, created, ttl)
+    // 최근 목록은 최신 글부터 빈틈없이 이어져야 하므로, 잘린 목록보다 오래된 글은 다시 넣지 않는다
+    static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('incr', KEYS[4]) " +
+                    "redis.call('expire', KEYS[4], ARGV[9]) " +
+                    "if redis.call('exists', KEYS[1]) == 0 then return 0 end " +
+                    "local id = ARGV[1] " +
+                    "local cached = redis.call('zscore', KEYS[2], id) or redis.call('zscore', KEYS[3], id) " +
+                    "if ARGV[8] == '0' and not cached then return 0 end " +
+                    "if ARGV[6] ~= '' then " +
+                    "  redis.call('zrem', KEYS[2], id) " +
+                    "  redis.call('zadd', KEYS[3], ARGV[6], id) " +
+                    "else " +
+                    "  redis.call('zrem', KEYS[3], id) " +
+                    "  local oldest = redis.call('zrange', KEYS[2], 0, 0, 'WITHSCORES') " +
+                    "  if redis.call('hget', KEYS[1], 'more') == '1' and oldest[2] and tonumber(id) < tonumber(oldest[2]) then " +
+                    "    redis.call('hdel', KEYS[1], 'card:' .. id, 'author:' .. id, 'like:' .. id, 'comment:' .. id) " +
+                    "    return 0 " +
+                    "  end " +
+                    "  redis.call('zadd', KEYS[2], id, id) " +
+                    "end " +
+                    "redis.call('hset', KEYS[1], 'card:' .. id, ARGV[2], 'author:' .. id, ARGV[3]) " +
+                    "redis.call('hsetnx', KEYS[1], 'like:' .. id, ARGV[4]) " +
+                    "redis.call('hsetnx', KEYS[1], 'comment:' .. id, ARGV[5]) " +
+                    "if ARGV[8] == '1' then redis.call('hincrby', KEYS[1], 'total', 1) end " +
+                    "local overflow = redis.call('zcard', KEYS[2]) - tonumber(ARGV[7]) " +
+                    "if overflow > 0 then " +
+                    "  for _, old in ipairs(redis.call('zrange', KEYS[2], 0, overflow - 1)) do " +
+                    "    redis.call('hdel', KEYS[1], 'card:' .. old, 'author:' .. old, 'like:' .. old, 'comment:' .. old) " +
+                    "  end " +
+                    "  redis.call('zremrangebyrank', KEYS[2], 0, overflow - 1) " +
+                    "  redis.call('hset', KEYS[1], 'more', '1') " +
+                    "end " +
+                    "return 1",
+            Long.class
+    );
+
+    // 삭제 반영 (KEYS : hash, recent, pins, version / ARGV : id, ttl)
+    static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('incr', KEYS[4]) " +
+                    "redis.call('expire', KEYS[4], ARGV[2]) " +
+                    "if redis.call('exists', KEYS[1]) == 0 then return 0 end " +
+                    "redis.call('zrem', KEYS[2], ARGV[1]) " +
+                    "redis.call('zrem', KEYS[3], ARGV[1]) " +
+                    "redis.call('hdel', KEYS[1], 'card:' .. ARGV[1], 'author:' .. ARGV[1], 'like:' .. ARGV[1], 'comment:' .. ARGV[1]) " +
+                    "redis.call('hincrby', KEYS[1], 'total', -1) " +
+                    "return 1",
+            Long.class
+    );
+
+    // 캐시된 게시글만 증감 (KEYS : hash, version / ARGV : field, delta, ttl)
+    static final RedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('incr', KEYS[2]) " +
+                    "redis.call('expire', KEYS[2], ARGV[3]) " +
+                    "if redis.call('hexists', KEYS[1], ARGV[1]) == 0 then return 0 end " +
+                    "return redis.call('hincrby', KEYS[1], ARGV[1], ARGV[2])",
+            Long.class
+    );
+
+    // 캐시를 지우고 버전 증가 (KEYS : hash, recent, pins, version / ARGV : ttl)
+    static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('del', KEYS[1], KEYS[2], KEYS[3]) " +
+                    "local version = redis.call('incr', KEYS[4]) " +
+                    "redis.call('expire', KEYS[4], ARGV[1]) " +
+                    "return version",
+            Long.class
+    );
+
+    private final StringRedisTemplate template;
+    private final FeedRepository feedRepository;
+    private final AccountRepository accountRepository;
+    private final ObjectMapper objectMapper;
+
+    private static String hashKey(Long plubbingId) {
+        return KEY_PREFIX + "{" + plubbingId + "}";
+    }
+
+    private static String recentKey(Long plubbingId) {
+        return hashKey(plubbingId) + ":recent";
+    }
+
+    private static String pinKey(Long plubbingId) {
+        return hashKey(plubbingId) + ":pins";
+    }
+
+    private static String versionKey(Long plubbingId) {
+        return hashKey(plubbingId) + ":version";
+    }
+
+    private static List<String> keys(Long plubbingId) {
+        return List.of(hashKey(plubbingId), recentKey(plubbingId), pinKey(plubbingId), versionKey(plubbingId));
+    }
+
+    private static String pinScore(String pinedAt) {
+        if (pinedAt == null) return "";
+        return String.valueOf(LocalDateTime.parse(pinedAt, DATE_TIME_FORMATTER).toEpochSecond(ZoneOffset.UTC));
+    }
+
+    /**
+     * 게시판 목록 (고정 게시글 제외)
+     * 캐시에 다음 페이지 유무까지 판단할 만큼 남아 있을 때만 캐시에서 응답
+     */
+    public Optional<PageResponse<FeedCardResponse>> getRecent(
+            Plubbing plubbing,
+            Account account,
+            Boolean isHost,
+            Pageable pageable,
+            Long cursorId
+    ) {
+        int size = pageable.getPageSize();
+        String max = cursorId == null || cursorId == 0 ? "+inf" : "(" + cursorId;
+        try {
+            List<String> result = read(plubbing, recentKey(plubbing.getId()), max, size + 1);
+            if (result == null) return Optional.empty();
+            boolean more = "1".equals(result.get(1));
+            List<FeedCardResponse> cards = toCards(result, account, isHost);
+            if (cards == null) return Optional.empty();
+
+            boolean hasNext = cards.size() > size;
+            if (!hasNext && more) return Optional.empty();
+            if (hasNext) cards = cards.subList(0, size);
+            Slice<FeedCardResponse> slice = new SliceImpl<>(cards, pageable, hasNext);
+            return Optional.of(PageResponse.ofCursor(slice, Long.valueOf(result.get(0))));
+        } catch (Exception e) {
+            log.warn("게시판 캐시 조회 실패 (plubbingId={}) : {}", plubbing.getId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 고정 게시글 목록 (고정 시각 내림차순)
+    public Optional<List<FeedCardResponse>> getPinned(Plubbing plubbing, Account account, Boolean isHost) {
+        try {
+            List<String> result = read(plubbing, pinKey(plubbing.getId()), "+inf", Integer.MAX_VALUE);
+            if (result == null) return Optional.empty();
+            return Optional.ofNullable(toCards(result, account, isHost));
+        } catch (Exception e) {
+            log.warn("고정 게시글 캐시 조회 실패 (plubbingId={}) : {}", plubbing.getId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 캐시가 없으면 DB 에서 적재 후 다시 조회, 동시 변경으로 적재하지 못했으면 null
+    @SuppressWarnings("unchecked")
+    private List<String> read(Plubbing plubbing, String zsetKey, String max, int limit) {
+        List<String> zsetKeys = List.of(hashKey(plubbing.getId()), zsetKey);
+        List<String> result = template.execute(READ_SCRIPT, zsetKeys, max, String.valueOf(limit));
+        if (result != null) return result;
+        load(plubbing);
+        return template.execute(READ_SCRIPT, zsetKeys, max, String.valueOf(limit));
+    }
+
+    // 카드 하나라도 비어 있으면 (동시 삭제 등) null
+    private List<FeedCardResponse> toCards(List<String> result, Account account, Boolean isHost) throws JsonProcessingException {
+        List<Long> authorIds = new ArrayList<>();
+        for (int i = 2; i + FIELDS_PER_FEED <= result.size(); i += FIELDS_PER_FEED) {
+            if (result.get(i + 1).isEmpty() || result.get(i + 2).isEmpty()) return null;
+            authorIds.add(Long.valueOf(result.get(i + 2)));
+        }
+        // 닉네임/프로필 변경이 바로 보이도록 작성자는 캐시하지 않고 페이지마다 IN 쿼리 한 번으로 조회
+        BatchLoader<Long, Account> authorLoader = BatchLoader.<Long, Account>of(
+                ids -> accountRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(Account::getId, Function.identity())),
+                null
+        ).loadAll(authorIds);
+
+        List<FeedCardResponse> cards = new ArrayList<>();
+        for (int i = 2; i + FIELDS_PER_FEED <= result.size(); i += FIELDS_PER_FEED) {
+            Long authorId = Long.valueOf(result.get(i + 2));
+            cards.add(objectMapper.readValue(result.get(i + 1), FeedCardResponse.class)
+                    .withAuthor(authorLoader.get(authorId))
+                    .withViewer(
+                            account.getId().equals(authorId),
+                            isHost,
+                            parseCount(result.get(i + 3)),
+                            parseCount(result.get(i + 4))
+                    ));
+        }
+        return cards;
+    }
+
+    private static Long parseCount(String value) {
+        return value.isEmpty() ? 0L : Math.max(0L, Long.parseLong(value));
+    }
+
+    private void load(Plubbing plubbing) {
+        String version = Optional.ofNullable(template.opsForValue().get(versionKey(plubbing.getId()))).orElse("");
+        Slice<Feed> recent = feedRepository.findAllByPlubbingAndPinAndVisibilityCursor(
+                plubbing, false, true, PageRequest.of(0, FEED_TIMELINE_SIZE), null);
+        List<Feed> pins = feedRepository.findAllByPlubbingAndPinAndVisibility(
+                plubbing, true, true, Sort.by(Sort.Direction.DESC, "pinedAt"));
+        Long total = feedRepository.countAllByPlubbingAndVisibility(plubbing, true);
+
+        List<String> args = new ArrayList<>(List.of(
+                String.valueOf(FEED_TIMELINE_CACHE_TIME),
+                version,
+                String.valueOf(total),
+                recent.hasNext() ? "1" : "0"
+        ));
+        for (Feed feed : recent) addArgs(args, feed);
+        for (Feed feed : pins) addArgs(args, feed);
+        template.execute(BUILD_SCRIPT, keys(plubbing.getId()), args.toArray(String[]::new));
+    }
+
+    private void addArgs(List<String> args, Feed feed) {
+        FeedCardResponse card = FeedCardResponse.of(feed, null, null, null, (long) feed.getLikeCount(), (long) feed.getCommentCount());
+        args.add(String.valueOf(feed.getId()));
+        args.add(toJson(card));
+        args.add(String.valueOf(feed.getAccount().getId()));
+        args.add(String.valueOf(feed.getLikeCount()));
+        args.add(String.valueOf(feed.getCommentCount()));
+        args.add(feed.isPin() ? pinScore(feed.getPinedAt()) : "");
+    }
+
+    private String toJson(FeedCardResponse card) {
+        try {
+            return objectMapper.writeValueAsString(card);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFeedSaved(FeedSavedEvent event) {
+        try {
+            FeedCardResponse card = event.card();
+            template.execute(
+                    SAVE_SCRIPT,
+                    keys(event.plubbingId()),
+                    String.valueOf(event.feedId()),
+                    toJson(card),
+                    String.valueOf(event.accountId()),
+                    String.valueOf(card.likeCount()),
+                    String.valueOf(card.commentCount()),
+                    pinScore(event.pinedAt()),
+                    String.valueOf(FEED_TIMELINE_SIZE),
+                    event.created() ? "1" : "0",
+                    String.valueOf(FEED_TIMELINE_CACHE_TIME)
+            );
+        } catch (Exception e) {
+            // 반영하지 못한 캐시는 지워서 다음 조회 때 다시 적재
+            evict(event.plubbingId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFeedDeleted(FeedDeletedEvent event) {
+        try {
+            template.execute(DELETE_SCRIPT, keys(event.plubbingId()), String.valueOf(event.feedId()),
+                    String.valueOf(FEED_TIMELINE_CACHE_TIME));
+        } catch (Exception e) {
+            evict(event.plubbingId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFeedCountChanged(FeedCountChangedEvent event) {
+        List<String> hashKeys = List.of(hashKey(event.plubbingId()), versionKey(event.plubbingId()));
+        String ttl = String.valueOf(FEED_TIMELINE_CACHE_TIME);
+        try {
+            if (event.likeDelta() != 0)
+                template.execute(INCREASE_SCRIPT, hashKeys, "like:" + event.feedId(), String.valueOf(event.likeDelta()), ttl);
+            if (event.commentDelta() != 0)
+                template.execute(INCREASE_SCRIPT, hashKeys, "comment:" + event.feedId(), String.valueOf(event.commentDelta()), ttl);
+        } catch (Exception e) {
+            evict(event.plubbingId(), e);
+        }
+    }
+
+    private void evict(Long plubbingId, Exception cause) {
+        log.warn("게시판 캐시 반영 실패 (plubbingId={}) : {}", plubbingId, cause.getMessage());
+        try {
+            template.execute(EVICT_SCRIPT, keys(plubbingId), String.valueOf(FEED_TIMELINE_CACHE_TIME));
+        } catch (Exception e) {
+            // 지우지 못한 캐시는 FEED_TIMELINE_CACHE_TIME 후 만료된다
+            log.warn("게시판 캐시 삭제 실패 (plubbingId={}) : {}", plubbingId, e.getMessage());
+        }
+    }
+}
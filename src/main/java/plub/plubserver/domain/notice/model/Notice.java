@@ -34,6 +34,13 @@ public class Notice extends BaseEntity {
     @JoinColumn(name = "account_id")
     private Account account;
 
+    // 좋아요/댓글 수 (목록 조회용 비정규화, 증감 쿼리로만 변경)
+    @Column(columnDefinition = "integer default 0", updatable = false)
+    private int likeCount;
+
+    @Column(columnDefinition = "integer default 0", updatable = false)
+    private int commentCount;
+
     // 공지(1) - 공지 좋아요(다)
     @OneToMany(mappedBy = "notice", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<NoticeLike> noticeLikeList = new ArrayList<>();
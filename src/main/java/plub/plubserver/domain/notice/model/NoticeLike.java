@@ -7,6 +7,7 @@ import plub.plubserver.domain.account.model.Account;
 import javax.persistence.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_notice_like_account_notice", columnNames = {"account_id", "notice_id"}))
 @Getter
 @Builder
 @AllArgsConstructor
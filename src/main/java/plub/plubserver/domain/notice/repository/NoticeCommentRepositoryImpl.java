@@ -7,8 +7,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
+import plub.plubserver.domain.account.model.QAccount;
 import plub.plubserver.domain.notice.model.Notice;
 import plub.plubserver.domain.notice.model.NoticeComment;
+import plub.plubserver.domain.notice.model.QNoticeComment;
 
 import static plub.plubserver.domain.notice.model.QNoticeComment.noticeComment;
 
@@ -16,6 +18,9 @@ import static plub.plubserver.domain.notice.model.QNoticeComment.noticeComment;
 public class NoticeCommentRepositoryImpl implements NoticeCommentRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
+    private static final QNoticeComment parent = new QNoticeComment("parent");
+    private static final QAccount parentAccount = new QAccount("parentAccount");
+
     @Override
     public Page<NoticeComment> findAllByNotice(
             Notice notice,
@@ -25,10 +30,13 @@ public class NoticeCommentRepositoryImpl implements NoticeCommentRepositoryCusto
     ) {
         JPQLQuery<NoticeComment> query = queryFactory
                 .selectFrom(noticeComment)
+                // 응답에 작성자와 부모 댓글 작성자 닉네임이 들어가므로 한 번에 조회
+                .join(noticeComment.account).fetchJoin()
+                .leftJoin(noticeComment.parent, parent).fetchJoin()
+                .leftJoin(parent.account, parentAccount).fetchJoin()
                 .where(noticeComment.notice.eq(notice),
                         noticeComment.visibility.eq(true),
-                        getCursorId(lastCommentGroupId, lastCommentId))
-                .distinct();
+                        getCursorId(lastCommentGroupId, lastCommentId));
 
         return PageableExecutionUtils.getPage(
                 query.orderBy(noticeComment.commentGroupId.asc(),
@@ -37,8 +45,12 @@ public class NoticeCommentRepositoryImpl implements NoticeCommentRepositoryCusto
                         .limit(pageable.getPageSize())
                         .fetch(),
                 pageable,
-                () -> queryFactory.selectFrom(noticeComment)
-                        .fetch().size());
+                () -> queryFactory.select(noticeComment.count())
+                        .from(noticeComment)
+                        .where(noticeComment.notice.eq(notice),
+                                noticeComment.visibility.eq(true),
+                                getCursorId(lastCommentGroupId, lastCommentId))
+                        .fetchOne());
     }
 
     private BooleanExpression getCursorId(Long lastCommentGroupId, Long lastCommentId) {
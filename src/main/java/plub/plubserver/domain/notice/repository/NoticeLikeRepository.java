@@ -8,9 +8,5 @@ import plub.plubserver.domain.notice.model.NoticeLike;
 
 public interface NoticeLikeRepository extends JpaRepository<NoticeLike, Long> {
     boolean existsByAccountAndNotice(Account account, Notice notice);
-
-    void deleteByAccountAndNotice(Account account, Notice notice);
-
-    Long countAllByVisibilityAndNotice(boolean visibility, Notice notice);
 }
 
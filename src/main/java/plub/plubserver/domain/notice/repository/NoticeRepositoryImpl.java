@@ -37,8 +37,11 @@ public class NoticeRepositoryImpl implements NoticeRepositoryCustom {
                         .fetch(),
                 pageable,
                 () -> queryFactory
-                        .selectFrom(notice)
-                        .fetch().size());
+                        .select(notice.count())
+                        .from(notice)
+                        .where(notice.plubbing.eq(plubbing),
+                                notice.visibility.eq(visibility))
+                        .fetchOne());
     }
 
     private BooleanExpression getCursorId(Long cursorId) {
@@ -7,21 +7,22 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import plub.plubserver.common.comment.CommentTarget;
+import plub.plubserver.common.comment.CommentTree;
 import plub.plubserver.common.dto.CommentDto.*;
 import plub.plubserver.common.dto.PageResponse;
 import plub.plubserver.common.exception.StatusCode;
+import plub.plubserver.common.reaction.ReactionEngine;
+import plub.plubserver.common.reaction.ReactionTarget;
 import plub.plubserver.domain.account.model.Account;
 import plub.plubserver.domain.account.service.AccountService;
 import plub.plubserver.domain.notice.dto.NoticeDto.*;
 import plub.plubserver.domain.notice.exception.NoticeException;
 import plub.plubserver.domain.notice.model.Notice;
 import plub.plubserver.domain.notice.model.NoticeComment;
-import plub.plubserver.domain.notice.model.NoticeLike;
 import plub.plubserver.domain.notice.repository.NoticeCommentRepository;
-import plub.plubserver.domain.notice.repository.NoticeLikeRepository;
 import plub.plubserver.domain.notice.repository.NoticeRepository;
-import plub.plubserver.domain.notification.dto.NotificationDto.NotifyParams;
-import plub.plubserver.domain.notification.model.NotificationType;
+import plub.plubserver.domain.notification.dto.NotificationDto.BroadcastParams;
 import plub.plubserver.domain.notification.service.NotificationService;
 import plub.plubserver.domain.plubbing.model.Plubbing;
 import plub.plubserver.domain.plubbing.service.PlubbingService;
@@ -35,9 +36,10 @@ public class NoticeService {
     private final PlubbingService plubbingService;
     private final AccountService accountService;
     private final NoticeRepository noticeRepository;
-    private final NoticeLikeRepository noticeLikeRepository;
     private final NoticeCommentRepository noticeCommentRepository;
     private final NotificationService notificationService; // TODO : AOP로 의존성을 줄일 방법 생각하기
+    private final ReactionEngine reactionEngine;
+    private final CommentTree commentTree;
 
     public Notice getNotice(Long noticeId) {
         return noticeRepository.findByIdAndVisibility(noticeId, true)
@@ -65,16 +67,7 @@ public class NoticeService {
 
     // 모임 멤버들에게 새 공지 알림 전체 발송
     private void notifyToMembers(Plubbing plubbing, Notice notice) {
-        plubbing.getMembers().forEach(member -> {
-            NotifyParams params = NotifyParams.builder()
-                    .receiver(member)
-                    .type(NotificationType.CREATE_NOTICE)
-                    .redirectTargetId(notice.getId())
-                    .title("공지")
-                    .content(plubbing.getName() + "에 새로운 공지가 등록되었어요. : " + notice.getTitle())
-                    .build();
-            notificationService.pushMessage(params);
-        });
+        notificationService.broadcastToPlubbing(plubbing.getId(), BroadcastParams.ofCreateNotice(plubbing, notice));
     }
 
     public PageResponse<NoticeCardResponse> getNoticeList(Account account, Long plubbingId, Long cursorId, Pageable pageable) {
@@ -122,13 +115,8 @@ public class NoticeService {
         Notice notice = getNotice(noticeId);
         checkNoticeStatus(notice);
         plubbingService.checkMemberAndActive(currentAccount, notice.getPlubbing());
-        if (!noticeLikeRepository.existsByAccountAndNotice(currentAccount, notice)) {
-            noticeLikeRepository.save(NoticeLike.builder().notice(notice).account(currentAccount).build());
-            return new NoticeMessage(noticeId + ", Like Success.");
-        } else {
-            noticeLikeRepository.deleteByAccountAndNotice(currentAccount, notice);
-            return new NoticeMessage(noticeId + ", Like Cancel.");
-        }
+        int delta = reactionEngine.toggle(ReactionTarget.NOTICE, notice.getId(), currentAccount.getId());
+        return new NoticeMessage(noticeId + (delta < 0 ? ", Like Cancel." : ", Like Success."));
     }
 
     public PageResponse<NoticeCommentResponse> getNoticeCommentList(Account account, Long plubbingId, Long noticeId, Pageable pageable, Long cursorId) {
@@ -143,8 +131,8 @@ public class NoticeService {
         }
         Long commentGroupId = nextCursorId == null ? null : getNoticeComment(nextCursorId).getCommentGroupId();
         Page<NoticeCommentResponse> noticeCommentList = noticeCommentRepository.findAllByNotice(notice, pageable, commentGroupId, cursorId)
-                .map(it -> NoticeCommentResponse.of(it, isCommentAuthor(currentAccount, it), isNoticeAuthor(currentAccount, notice), isAuthorComment(it)));
-        Long totalElements = noticeCommentRepository.countAllByVisibilityAndNotice(true, notice);
+                .map(it -> NoticeCommentResponse.of(it, isCommentAuthor(currentAccount, it), isNoticeAuthor(currentAccount, notice), isNoticeAuthor(it.getAccount(), notice)));
+        Long totalElements = getCommentCount(notice);
         boolean pageLast = noticeCommentList.getNumber() == noticeCommentList.getTotalPages() - 1
                 || noticeCommentList.getNumber() * noticeCommentList.getSize() + noticeCommentList.getNumberOfElements() >= totalElements;
         return PageResponse.ofCursor(noticeCommentList, totalElements, pageLast);
@@ -166,6 +154,7 @@ public class NoticeService {
         }
 
         NoticeComment noticeComment = noticeCommentRepository.save(createCommentRequest.toNoticeComment(notice, currentAccount));
+        commentTree.addComment(CommentTarget.NOTICE, notice.getId());
         if (parentComment != null) {
             parentComment.addChildComment(noticeComment);
             noticeComment.setCommentGroupId(parentComment.getCommentGroupId());
@@ -202,23 +191,10 @@ public class NoticeService {
         if (!noticeComment.getNotice().getAccount().equals(currentAccount) && !noticeComment.getAccount().equals(currentAccount))
             throw new NoticeException(StatusCode.NOT_NOTICE_AUTHOR_ERROR);
 
-        if (noticeComment.getChildren().size() != 0)
-            deleteChildComment(noticeComment);
-
-        noticeComment.softDelete();
+        commentTree.softDeleteSubtree(CommentTarget.NOTICE, noticeComment.getNotice().getId(), noticeComment.getId(), noticeComment.getCommentGroupId());
         return new CommentMessage("soft delete comment");
     }
 
-    private void deleteChildComment(NoticeComment noticeComment) {
-        if (noticeComment.getChildren().size() == 0)
-            return;
-        noticeComment.getChildren().forEach(it -> {
-            it.softDelete();
-            deleteChildComment(it);
-            noticeCommentRepository.save(it);
-        });
-    }
-
     private void checkNoticeStatus(Notice notice) {
         if (!notice.isVisibility())
             throw new NoticeException(StatusCode.DELETED_STATUS_NOTICE);
@@ -248,10 +224,12 @@ public class NoticeService {
         return noticeComment.getAccount().getId().equals(account.getId());
     }
 
-    public Long getCommentCount(Notice notice) {return noticeCommentRepository.countAllByVisibilityAndNotice(true, notice);
+    // 카운트 쿼리 없이 공지 행에 유지되는 값을 그대로 사용
+    public Long getCommentCount(Notice notice) {
+        return (long) notice.getCommentCount();
     }
 
     public Long getLikeCount(Notice notice) {
-        return noticeLikeRepository.countAllByVisibilityAndNotice(true, notice);
+        return (long) notice.getLikeCount();
     }
 }
@@ -24,4 +24,25 @@ public class FcmDto {
             String title,
             String body
     ) {}
+
+    public record FcmSendResult(
+            Long receiverId,
+            boolean success,
+            boolean retryable,
+            String errorMessage
+    ) {
+        public static FcmSendResult success(Long receiverId) {
+            return new FcmSendResult(receiverId, true, false, null);
+        }
+
+        // 네트워크 오류, 429, 5xx 등 다시 보내면 성공할 수 있는 실패
+        public static FcmSendResult failure(Long receiverId, String errorMessage) {
+            return new FcmSendResult(receiverId, false, true, errorMessage);
+        }
+
+        // 토큰 없음, 잘못된 토큰(400), 권한 없음(403), 등록 해제된 토큰(404) 등 재시도해도 실패
+        public static FcmSendResult rejected(Long receiverId, String errorMessage) {
+            return new FcmSendResult(receiverId, false, false, errorMessage);
+        }
+    }
 }
@@ -5,6 +5,7 @@ import plub.plubserver.domain.account.model.Account;
 import plub.plubserver.domain.calendar.model.Calendar;
 import plub.plubserver.domain.feed.model.Feed;
 import plub.plubserver.domain.feed.model.FeedComment;
+import plub.plubserver.domain.notice.model.Notice;
 import plub.plubserver.domain.notification.model.Notification;
 import plub.plubserver.domain.notification.model.NotificationType;
 import plub.plubserver.domain.plubbing.model.Plubbing;
@@ -23,53 +24,6 @@ public class NotificationDto {
         public NotifyParams {
         }
 
-        /**
-         * 일정 (Calendar)
-         */
-        public static NotifyParams ofCreateCalendar(
-                Account receiver,
-                Plubbing plubbing,
-                Calendar calendar
-        ) {
-            String content = """
-                    새로운 일정이 등록되었어요! 모이는 시간과 장소를 확인하고 참여해 보세요! : %s, %s ~ %s, %s
-                    """.formatted(
-                    calendar.getTitle(),
-                    calendar.getStartedAt(),
-                    calendar.getEndedAt(),
-                    calendar.getPlaceName()
-            );
-            return NotifyParams.builder()
-                    .receiver(receiver)
-                    .type(NotificationType.CREATE_UPDATE_CALENDAR)
-                    .redirectTargetId(plubbing.getId())
-                    .title(plubbing.getName())
-                    .content(content)
-                    .build();
-        }
-
-        public static NotifyParams ofUpdateCalendar(
-                Account receiver,
-                Plubbing plubbing,
-                Calendar calendar
-        ) {
-            String content = """
-                    모임 일정이 수정되었어요. 어떻게 변경되었는지 확인해 볼까요? : %s, %s ~ %s ,%s
-                    """.formatted(
-                    calendar.getTitle(),
-                    calendar.getStartedAt(),
-                    calendar.getEndedAt(),
-                    calendar.getPlaceName()
-            );
-            return NotifyParams.builder()
-                    .receiver(receiver)
-                    .type(NotificationType.CREATE_UPDATE_CALENDAR)
-                    .redirectTargetId(plubbing.getId())
-                    .title(plubbing.getName())
-                    .content(content)
-                    .build();
-        }
-
         /**
          * 게시글-댓글 (Feed)
          */
@@ -131,6 +85,78 @@ public class NotificationDto {
         }
     }
 
+    /**
+     * 모임 전체 멤버에게 보내는 알림 템플릿 (수신자는 NotificationService.broadcastToPlubbing 에서 일괄 조회)
+     */
+    public record BroadcastParams(
+            NotificationType type,
+            Long redirectTargetId,
+            String title,
+            String content
+    ) {
+        @Builder
+        public BroadcastParams {
+        }
+
+        /**
+         * 일정 (Calendar)
+         */
+        public static BroadcastParams ofCreateCalendar(Plubbing plubbing, Calendar calendar) {
+            String content = """
+                    새로운 일정이 등록되었어요! 모이는 시간과 장소를 확인하고 참여해 보세요! : %s, %s ~ %s, %s
+                    """.formatted(
+                    calendar.getTitle(),
+                    calendar.getStartedAt(),
+                    calendar.getEndedAt(),
+                    calendar.getPlaceName()
+            );
+            return BroadcastParams.builder()
+                    .type(NotificationType.CREATE_UPDATE_CALENDAR)
+                    .redirectTargetId(plubbing.getId())
+                    .title(plubbing.getName())
+                    .content(content)
+                    .build();
+        }
+
+        public static BroadcastParams ofUpdateCalendar(Plubbing plubbing, Calendar calendar) {
+            String content = """
+                    모임 일정이 수정되었어요. 어떻게 변경되었는지 확인해 볼까요? : %s, %s ~ %s ,%s
+                    """.formatted(
+                    calendar.getTitle(),
+                    calendar.getStartedAt(),
+                    calendar.getEndedAt(),
+                    calendar.getPlaceName()
+            );
+            return BroadcastParams.builder()
+                    .type(NotificationType.CREATE_UPDATE_CALENDAR)
+                    .redirectTargetId(plubbing.getId())
+                    .title(plubbing.getName())
+                    .content(content)
+                    .build();
+        }
+
+        public static BroadcastParams ofCalendarAlarm(Plubbing plubbing, Calendar calendar) {
+            return BroadcastParams.builder()
+                    .type(NotificationType.CREATE_UPDATE_CALENDAR)
+                    .redirectTargetId(calendar.getId())
+                    .title(plubbing.getName())
+                    .content("곧 일정이 시작됩니다!\n : " + calendar.getTitle())
+                    .build();
+        }
+
+        /**
+         * 공지 (Notice)
+         */
+        public static BroadcastParams ofCreateNotice(Plubbing plubbing, Notice notice) {
+            return BroadcastParams.builder()
+                    .type(NotificationType.CREATE_NOTICE)
+                    .redirectTargetId(notice.getId())
+                    .title("공지")
+                    .content(plubbing.getName() + "에 새로운 공지가 등록되었어요. : " + notice.getTitle())
+                    .build();
+        }
+    }
+
     /**
      * Response
      */
@@ -0,0 +1,7 @@
+package plub.plubserver.domain.notification.event;
+
+public record NotificationBroadcastEvent(
+        Long plubbingId,
+        int count
+) {
+}
@@ -0,0 +1,6 @@
+package plub.plubserver.domain.notification.event;
+
+public record NotificationCreatedEvent(
+        Long notificationId
+) {
+}
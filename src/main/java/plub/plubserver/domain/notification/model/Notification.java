@@ -5,8 +5,10 @@ import plub.plubserver.common.model.BaseEntity;
 import plub.plubserver.domain.account.model.Account;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_notification_delivery", columnList = "delivery_status, next_attempt_at"))
 @Getter
 @AllArgsConstructor
 @Builder
@@ -28,6 +30,16 @@ public class Notification extends BaseEntity {
 
     private Long redirectTargetId;
 
+    // FCM 송신 상태 (outbox), 커밋 이후 NotificationDispatcher 가 송신
+    @Enumerated(EnumType.STRING)
+    private NotificationDeliveryStatus deliveryStatus;
+
+    @Column(columnDefinition = "integer default 0")
+    private int retryCount;
+
+    // 다음 송신 시각 (null 이면 바로 송신), 송신 중에는 선점 만료 시각
+    private LocalDateTime nextAttemptAt;
+
     // 알람(다) - 회원(1)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_id")
@@ -36,5 +48,27 @@ public class Notification extends BaseEntity {
     public void read() {
         this.isRead = true;
     }
+
+    public void markSent() {
+        this.deliveryStatus = NotificationDeliveryStatus.SENT;
+        this.nextAttemptAt = null;
+    }
+
+    // 일시적인 실패 : 재시도 횟수를 넘기 전까지 nextAttemptAt 이후에 다시 송신
+    public void markFailed(int maxRetry, LocalDateTime nextAttemptAt) {
+        this.retryCount++;
+        if (retryCount >= maxRetry) {
+            markRejected();
+            return;
+        }
+        this.deliveryStatus = NotificationDeliveryStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    // 잘못되었거나 만료된 토큰, 수신 거부 등 재시도해도 실패하는 경우
+    public void markRejected() {
+        this.deliveryStatus = NotificationDeliveryStatus.FAILED;
+        this.nextAttemptAt = null;
+    }
 }
 
@@ -0,0 +1,6 @@
+package plub.plubserver.domain.notification.model;
+
+public enum NotificationDeliveryStatus {
+    // 송신 대기, 송신 중 (선점됨), 송신 완료, 송신 실패 (재시도 초과 또는 재시도 불가)
+    PENDING, SENDING, SENT, FAILED
+}
@@ -0,0 +1,56 @@
+package plub.plubserver.domain.notification.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import plub.plubserver.domain.notification.model.Notification;
+import plub.plubserver.domain.notification.model.NotificationDeliveryStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // 송신할 때가 된 알림 id 를 잠그고 가져옴 (다른 인스턴스가 잠근 행은 건너뜀 : FOR UPDATE SKIP LOCKED)
+    // 선점 만료 시각이 지난 SENDING 알림은 송신 도중 인스턴스가 종료된 경우이므로 다시 가져옴
+    @Query(value = "select notification_id from notification " +
+            "where delivery_status in ('PENDING', 'SENDING') " +
+            "and (next_attempt_at is null or next_attempt_at <= :now) " +
+            "order by notification_id limit :size " +
+            "for update skip locked",
+            nativeQuery = true)
+    List<Number> findIdsForDelivery(@Param("now") LocalDateTime now, @Param("size") int size);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Notification n set n.deliveryStatus = :status, n.nextAttemptAt = :leaseUntil where n.id in :ids")
+    int markSending(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") NotificationDeliveryStatus status,
+            @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    @Query("select n from Notification n join fetch n.account where n.id in :ids order by n.id")
+    List<Notification> findAllWithAccountByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 모임의 활동 중인 멤버 중 알림 수신에 동의한 회원에게 송신 대기 알림을 한 번에 저장 (INSERT ... SELECT)
+    @Modifying
+    @Query(value = "insert into notification " +
+            "(title, content, is_read, type, redirect_target_id, delivery_status, retry_count, account_id, " +
+            "created_at, modified_at, visibility) " +
+            "select :title, :content, false, :type, :redirectTargetId, 'PENDING', 0, a.account_id, " +
+            ":createdAt, :createdAt, true " +
+            "from account_plubbing ap join account a on a.account_id = ap.account_id " +
+            "where ap.plubbing_id = :plubbingId and ap.account_plubbing_status = 'ACTIVE' " +
+            "and ap.visibility = true and a.is_received_push_notification = true",
+            nativeQuery = true)
+    int insertAllForPlubbingMembers(
+            @Param("plubbingId") Long plubbingId,
+            @Param("title") String title,
+            @Param("content") String content,
+            @Param("type") String type,
+            @Param("redirectTargetId") Long redirectTargetId,
+            @Param("createdAt") String createdAt
+    );
+}
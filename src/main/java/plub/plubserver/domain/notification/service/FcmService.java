@@ -2,12 +2,12 @@ package plub.plubserver.domain.notification.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.auth.oauth2.AccessToken;
 import com.google.auth.oauth2.GoogleCredentials;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.Response;
+import okhttp3.*;
+import org.jetbrains.annotations.NotNull;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 import org.springframework.core.io.ClassPathResource;
@@ -17,33 +17,68 @@ import plub.plubserver.common.exception.StatusCode;
 import plub.plubserver.domain.notification.dto.NotificationDto.NotifyParams;
 import plub.plubserver.domain.notification.exception.NotificationException;
 
+import javax.annotation.PreDestroy;
 import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+import static plub.plubserver.common.constant.GlobalConstants.FCM_MAX_IN_FLIGHT;
+import static plub.plubserver.common.constant.GlobalConstants.FCM_TOKEN_REFRESH_MARGIN;
 import static plub.plubserver.domain.notification.dto.FcmDto.*;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FcmService {
+    private static final String FCM_URL = "https://fcm.googleapis.com/v1/projects/plub-1668049761866/messages:send";
+    private static final String FIREBASE_CONFIG_PATH = "plub-firebase-private-key.json";
+    private static final MediaType JSON_MEDIA_TYPE = MediaType.parse("application/json; charset=utf-8");
+
     private final ObjectMapper objectMapper;
     private final JSONParser jsonParser;
 
-    private String getAccessToken() {
+    // 커넥션 풀(HTTP/2)을 재사용하는 하나의 클라이언트, 동시 요청 수는 dispatcher 로 제한
+    private final OkHttpClient client = createClient();
+    private GoogleCredentials credentials;
+
+    private static OkHttpClient createClient() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(FCM_MAX_IN_FLIGHT);
+        dispatcher.setMaxRequestsPerHost(FCM_MAX_IN_FLIGHT);
+        return new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(5, 5, TimeUnit.MINUTES))
+                .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .build();
+    }
+
+    // 토큰을 캐싱하고, 만료 직전(FCM_TOKEN_REFRESH_MARGIN)에 미리 갱신
+    private synchronized String getAccessToken() {
         try {
-            String firebaseConfigPath = "plub-firebase-private-key.json";
-            GoogleCredentials credentials = GoogleCredentials
-                    .fromStream(new ClassPathResource(firebaseConfigPath).getInputStream())
-                    .createScoped(List.of("https://www.googleapis.com/auth/cloud-platform"));
-            credentials.refreshIfExpired();
-            return credentials.getAccessToken().getTokenValue();
+            if (credentials == null) {
+                credentials = GoogleCredentials
+                        .fromStream(new ClassPathResource(FIREBASE_CONFIG_PATH).getInputStream())
+                        .createScoped(List.of("https://www.googleapis.com/auth/cloud-platform"));
+            }
+            AccessToken accessToken = credentials.getAccessToken();
+            if (accessToken == null || isExpiringSoon(accessToken)) {
+                credentials.refresh();
+                accessToken = credentials.getAccessToken();
+            }
+            return accessToken.getTokenValue();
         } catch (IOException e) {
             log.warn("FCM getAccessToken Error : {}", e.getMessage());
             throw new NotificationException(StatusCode.GET_FCM_ACCESS_TOKEN_ERROR);
         }
     }
 
+    private boolean isExpiringSoon(AccessToken accessToken) {
+        if (accessToken.getExpirationTime() == null) return false;
+        long remainMillis = accessToken.getExpirationTime().getTime() - System.currentTimeMillis();
+        return remainMillis < FCM_TOKEN_REFRESH_MARGIN * 1000L;
+    }
+
     public String makeMessage(String targetToken, NotifyParams params) {
         try {
             FcmMessage fcmMessage = new FcmMessage(
@@ -65,24 +100,32 @@ public class FcmService {
         }
     }
 
-
-    @Async
-    public CompletableFuture<Boolean> sendPushMessage(String fcmToken, NotifyParams params) {
-        String message = makeMessage(fcmToken, params);
-        String accessToken = getAccessToken();
-        OkHttpClient client = new OkHttpClient();
-        String FCM_URL = "https://fcm.googleapis.com/v1/projects/plub-1668049761866/messages:send";
-        Request request = new Request.Builder()
+    private Request makeRequest(String accessToken, String message) {
+        return new Request.Builder()
                 .url(FCM_URL)
                 .addHeader("Authorization", "Bearer " + accessToken)
                 .addHeader("Content-Type", "application/json; UTF-8")
-                .post(okhttp3.RequestBody.create(message, okhttp3.MediaType.parse("application/json; charset=utf-8")))
+                .post(RequestBody.create(message, JSON_MEDIA_TYPE))
                 .build();
+    }
+
+    private String parseErrorMessage(Response response) {
+        try {
+            if (response.body() == null) return String.valueOf(response.code());
+            JSONObject responseBody = (JSONObject) jsonParser.parse(response.body().string());
+            return ((JSONObject) responseBody.get("error")).get("message").toString();
+        } catch (Exception e) {
+            return String.valueOf(response.code());
+        }
+    }
+
+    @Async
+    public CompletableFuture<Boolean> sendPushMessage(String fcmToken, NotifyParams params) {
+        String message = makeMessage(fcmToken, params);
+        Request request = makeRequest(getAccessToken(), message);
         try (Response response = client.newCall(request).execute()) {
-            if (!response.isSuccessful() && response.body() != null) {
-                JSONObject responseBody = (JSONObject) jsonParser.parse(response.body().string());
-                String errorMessage = ((JSONObject) responseBody.get("error")).get("message").toString();
-                log.warn("FCM [sendPushMessage] okHttp response is not OK : {}", errorMessage);
+            if (!response.isSuccessful()) {
+                log.warn("FCM [sendPushMessage] okHttp response is not OK : {}", parseErrorMessage(response));
                 return CompletableFuture.completedFuture(false);
             }
             return CompletableFuture.completedFuture(true);
@@ -91,4 +134,66 @@ public class FcmService {
             throw new NotificationException(StatusCode.SEND_FCM_PUSH_ERROR);
         }
     }
+
+    /**
+     * 여러 메시지를 동시에 송신 (동시 요청 수는 FCM_MAX_IN_FLIGHT 로 제한)
+     * 결과는 입력 순서대로 메시지별 성공/실패를 돌려준다
+     */
+    public List<FcmSendResult> sendPushMessages(List<NotifyParams> paramsList) {
+        if (paramsList.isEmpty()) return List.of();
+        String accessToken = getAccessToken();
+        List<CompletableFuture<FcmSendResult>> futures = paramsList.stream()
+                .map(params -> enqueue(accessToken, params))
+                .toList();
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    private CompletableFuture<FcmSendResult> enqueue(String accessToken, NotifyParams params) {
+        Long receiverId = params.receiver().getId();
+        String fcmToken = params.receiver().getFcmToken();
+        if (fcmToken == null || fcmToken.isBlank()) {
+            return CompletableFuture.completedFuture(FcmSendResult.rejected(receiverId, "empty fcm token"));
+        }
+        CompletableFuture<FcmSendResult> future = new CompletableFuture<>();
+        try {
+            client.newCall(makeRequest(accessToken, makeMessage(fcmToken, params))).enqueue(new Callback() {
+                @Override
+                public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                    log.warn("FCM [sendPushMessages] I/O Exception : {}", e.getMessage());
+                    future.complete(FcmSendResult.failure(receiverId, e.getMessage()));
+                }
+
+                @Override
+                public void onResponse(@NotNull Call call, @NotNull Response response) {
+                    try (response) {
+                        if (response.isSuccessful()) {
+                            future.complete(FcmSendResult.success(receiverId));
+                        } else {
+                            String errorMessage = parseErrorMessage(response);
+                            log.warn("FCM [sendPushMessages] okHttp response is not OK : {}", errorMessage);
+                            future.complete(isPermanentError(response.code())
+                                    ? FcmSendResult.rejected(receiverId, errorMessage)
+                                    : FcmSendResult.failure(receiverId, errorMessage));
+                        }
+                    }
+                }
+            });
+        } catch (NotificationException e) {
+            future.complete(FcmSendResult.failure(receiverId, e.getMessage()));
+        }
+        return future;
+    }
+
+    // INVALID_ARGUMENT(잘못된 토큰), SENDER_ID_MISMATCH, UNREGISTERED(만료된 토큰)
+    private static boolean isPermanentError(int code) {
+        return code == 400 || code == 403 || code == 404;
+    }
+
+    @PreDestroy
+    public void close() {
+        client.dispatcher().executorService().shutdown();
+        client.connectionPool().evictAll();
+    }
 }
@@ -0,0 +1,116 @@
+package plub.plubserver.domain.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import plub.plubserver.domain.account.model.Account;
+import plub.plubserver.domain.notification.exception.NotificationException;
+import plub.plubserver.domain.notification.model.Notification;
+import plub.plubserver.domain.notification.model.NotificationDeliveryStatus;
+import plub.plubserver.domain.notification.repository.NotificationRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static plub.plubserver.common.constant.GlobalConstants.*;
+import static plub.plubserver.domain.notification.dto.FcmDto.FcmSendResult;
+import static plub.plubserver.domain.notification.dto.NotificationDto.NotifyParams;
+
+/**
+ * 알림 송신 단계별 처리
+ * 선점(짧은 트랜잭션) -> FCM 송신(트랜잭션 밖) -> 결과 기록(짧은 트랜잭션) 순서로 NotificationDispatcher 가 호출한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationDeliveryService {
+
+    private final NotificationRepository notificationRepository;
+    private final FcmService fcmService;
+
+    /**
+     * now 시각까지 송신할 때가 된 알림을 한 배치만큼 SENDING 으로 바꾸고 수신자와 함께 돌려줌
+     * 선점 만료(NOTIFICATION_SEND_TIMEOUT) 전까지는 다른 인스턴스가 가져가지 않는다
+     */
+    @Transactional
+    public List<Notification> claimBatch(LocalDateTime now) {
+        List<Long> ids = notificationRepository.findIdsForDelivery(now, NOTIFICATION_DELIVERY_BATCH_SIZE).stream()
+                .map(Number::longValue)
+                .toList();
+        if (ids.isEmpty()) return List.of();
+        notificationRepository.markSending(ids, NotificationDeliveryStatus.SENDING, LocalDateTime.now().plusSeconds(NOTIFICATION_SEND_TIMEOUT));
+        return notificationRepository.findAllWithAccountByIdIn(ids);
+    }
+
+    /**
+     * FCM 송신 (트랜잭션 밖에서 호출)
+     * @return 알림 순서대로의 송신 결과
+     */
+    public List<FcmSendResult> send(List<Notification> notifications) {
+        List<NotifyParams> paramsList = new ArrayList<>();
+        for (Notification notification : notifications) {
+            Account receiver = notification.getAccount();
+            // 그 사이 알림 수신을 거부한 경우 송신하지 않음
+            if (receiver.isReceivedPushNotification()) paramsList.add(toNotifyParams(receiver, notification));
+        }
+
+        List<FcmSendResult> sent;
+        try {
+            sent = fcmService.sendPushMessages(paramsList);
+        } catch (NotificationException e) {
+            // access token 발급 실패 등 배치 전체 실패 -> 다음 송신 시각에 다시 송신
+            log.warn("Notification delivery failed : {}", e.getMessage());
+            sent = paramsList.stream()
+                    .map(params -> FcmSendResult.failure(params.receiver().getId(), e.getMessage()))
+                    .toList();
+        }
+
+        List<FcmSendResult> results = new ArrayList<>();
+        int index = 0;
+        for (Notification notification : notifications) {
+            Account receiver = notification.getAccount();
+            results.add(receiver.isReceivedPushNotification()
+                    ? sent.get(index++)
+                    : FcmSendResult.rejected(receiver.getId(), "push notification disabled"));
+        }
+        return results;
+    }
+
+    // 송신 결과 기록, 일시적인 실패는 재시도 횟수에 따라 간격을 늘려서 다시 송신
+    @Transactional
+    public void recordResults(List<Notification> notifications, List<FcmSendResult> results) {
+        Map<Long, Notification> rows = notificationRepository.findAllById(
+                notifications.stream().map(Notification::getId).toList()
+        ).stream().collect(Collectors.toMap(Notification::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification row = rows.get(notifications.get(i).getId());
+            // 선점이 만료되어 다른 곳에서 이미 처리한 알림은 건너뜀
+            if (row == null || row.getDeliveryStatus() != NotificationDeliveryStatus.SENDING) continue;
+            FcmSendResult result = results.get(i);
+            if (result.success()) row.markSent();
+            else if (result.retryable()) row.markFailed(NOTIFICATION_MAX_RETRY, nextAttemptAt(now, row.getRetryCount()));
+            else row.markRejected();
+        }
+    }
+
+    private LocalDateTime nextAttemptAt(LocalDateTime now, int retryCount) {
+        return now.plusSeconds((long) NOTIFICATION_RETRY_INTERVAL << retryCount);
+    }
+
+    private NotifyParams toNotifyParams(Account receiver, Notification notification) {
+        return NotifyParams.builder()
+                .receiver(receiver)
+                .type(notification.getType())
+                .redirectTargetId(notification.getRedirectTargetId())
+                .title(notification.getTitle())
+                .content(notification.getContent())
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package plub.plubserver.domain.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import plub.plubserver.domain.notification.event.NotificationBroadcastEvent;
+import plub.plubserver.domain.notification.event.NotificationCreatedEvent;
+import plub.plubserver.domain.notification.model.Notification;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static plub.plubserver.common.constant.GlobalConstants.*;
+import static plub.plubserver.domain.notification.dto.FcmDto.FcmSendResult;
+
+/**
+ * 알림 outbox 송신기
+ * 알림을 저장한 트랜잭션이 커밋되면 송신할 때가 된 알림을 배치 단위로 송신하고,
+ * 실패한 알림은 nextAttemptAt 이 지난 뒤 주기적인 송신에서 다시 보낸다
+ * 배치마다 선점 -> 송신 -> 기록을 각각 처리해서 FCM 호출 동안 DB 트랜잭션과 행 잠금을 잡고 있지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+    private final NotificationDeliveryService notificationDeliveryService;
+    private final TaskScheduler taskScheduler;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicBoolean requested = new AtomicBoolean(false);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleRetry() {
+        taskScheduler.scheduleWithFixedDelay(
+                this::dispatch,
+                Duration.ofSeconds(NOTIFICATION_RETRY_INTERVAL)
+        );
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        dispatch();
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationBroadcast(NotificationBroadcastEvent event) {
+        dispatch();
+    }
+
+    // 이미 송신 중이면 요청만 남기고, 송신 중인 스레드가 이어서 처리
+    private void dispatch() {
+        requested.set(true);
+        if (!running.compareAndSet(false, true)) return;
+        try {
+            while (requested.getAndSet(false)) {
+                deliverDue(LocalDateTime.now());
+            }
+        } catch (Exception e) {
+            log.error("알림 송신 중 예외 발생: " + e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 시작 시각 기준으로 송신할 때가 된 알림을 한 번씩만 처리
+     * 실패한 알림은 nextAttemptAt 이 시작 시각 이후로 밀리므로 같은 회차에 다시 선점되지 않는다
+     */
+    private void deliverDue(LocalDateTime startedAt) {
+        List<Notification> batch;
+        do {
+            batch = notificationDeliveryService.claimBatch(startedAt);
+            if (batch.isEmpty()) return;
+            List<FcmSendResult> results = notificationDeliveryService.send(batch);
+            notificationDeliveryService.recordResults(batch, results);
+        } while (batch.size() >= NOTIFICATION_DELIVERY_BATCH_SIZE);
+    }
+}
@@ -2,13 +2,21 @@ package plub.plubserver.domain.notification.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import plub.plubserver.common.exception.StatusCode;
 import plub.plubserver.domain.account.model.Account;
 import plub.plubserver.domain.account.repository.AccountRepository;
+import plub.plubserver.domain.notification.event.NotificationBroadcastEvent;
+import plub.plubserver.domain.notification.event.NotificationCreatedEvent;
 import plub.plubserver.domain.notification.exception.NotificationException;
 import plub.plubserver.domain.notification.model.Notification;
+import plub.plubserver.domain.notification.model.NotificationDeliveryStatus;
+import plub.plubserver.domain.notification.repository.NotificationRepository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 import static plub.plubserver.domain.notification.dto.NotificationDto.*;
 
@@ -18,9 +26,14 @@ import static plub.plubserver.domain.notification.dto.NotificationDto.*;
 @RequiredArgsConstructor
 public class NotificationService {
 
-    private final FcmService fcmService;
     private final AccountRepository accountRepository;
+    private final NotificationRepository notificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 호출한 트랜잭션 안에서는 알림(outbox)만 저장하고,
+     * FCM 송신은 커밋 이후 NotificationDispatcher 가 비동기로 처리
+     */
     @Transactional
     public void pushMessage(NotifyParams params) {
         Account receiver = accountRepository.findById(params.receiver().getId())
@@ -29,34 +42,19 @@ public class NotificationService {
         // 사용자가 알림 수신을 거부한 경우 바로 종료
         if (!receiver.isReceivedPushNotification()) return;
 
-        // 원래 future로 비동기 fcm 송신을 하려고 했으나, thenAccept 이후 트랜잭션이 해당
-        // 컨텍스트에서는 걸리지 않아서 future=true여도 저장이안됨, 그래서 그냥 동기로 처리
-        // 단점 : FCM 메시지가 정상적으로 송신되지 않아도 디비에 notification이 저장 됨
-        fcmService.sendPushMessage(
-                receiver.getFcmToken(),
-                params
-        );
-        Notification notification = Notification.builder()
-                .account(receiver)
-                .title(params.title())
-                .content(params.content())
-                .isRead(false)
-                .type(params.type())
-                .redirectTargetId(params.redirectTargetId())
-                .build();
-        receiver.addNotification(notification);
+        saveOutbox(receiver, params);
     }
 
-    // FCM 송신 성공 여부와 상관없이 강제로 Notification 엔티티 저장 (테스트용)
+    // 알림 수신 여부와 상관없이 강제로 Notification 엔티티 저장 (테스트용)
     @Deprecated
     @Transactional
     public void pushMessageForceSave(NotifyParams params) {
         Account receiver = accountRepository.findById(params.receiver().getId())
                 .orElseThrow(() -> new NotificationException(StatusCode.NOT_FOUND_ACCOUNT));
-        fcmService.sendPushMessage(
-                receiver.getFcmToken(),
-                params
-        );
+        saveOutbox(receiver, params);
+    }
+
+    private void saveOutbox(Account receiver, NotifyParams params) {
         Notification notification = Notification.builder()
                 .account(receiver)
                 .title(params.title())
@@ -64,8 +62,31 @@ public class NotificationService {
                 .isRead(false)
                 .type(params.type())
                 .redirectTargetId(params.redirectTargetId())
+                .deliveryStatus(NotificationDeliveryStatus.PENDING)
                 .build();
+        notificationRepository.save(notification);
         receiver.addNotification(notification);
+        eventPublisher.publishEvent(new NotificationCreatedEvent(notification.getId()));
+    }
+
+    /**
+     * 모임 전체 멤버에게 알림 발송
+     * 수신자 조회와 알림 저장을 한 번의 쿼리로 처리하고, 송신은 커밋 이후 배치 단위로 병렬 처리
+     * @return 저장된 알림 수
+     */
+    @Transactional
+    public int broadcastToPlubbing(Long plubbingId, BroadcastParams params) {
+        String now = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        int count = notificationRepository.insertAllForPlubbingMembers(
+                plubbingId,
+                params.title(),
+                params.content(),
+                params.type().name(),
+                params.redirectTargetId(),
+                now
+        );
+        if (count > 0) eventPublisher.publishEvent(new NotificationBroadcastEvent(plubbingId, count));
+        return count;
     }
 
     public NotificationListResponse getMyNotifications(Account account) {
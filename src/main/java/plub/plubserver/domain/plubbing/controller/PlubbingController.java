@@ -119,9 +119,10 @@ public class PlubbingController {
     @GetMapping("/recommendation")
     public ApiResponse<PageResponse<PlubbingCardResponse>> getRecommendation(
             @PageableDefault Pageable pageable,
-            @RequestParam("cursorId") Long cursorId
+            @RequestParam(required = false) String cursor,
+            @RequestParam(value = "cursorId", required = false) Long cursorId
     ) {
-        return success(plubbingService.getRecommendation(pageable, cursorId));
+        return success(plubbingService.getRecommendation(pageable, cursor, cursorId));
     }
 
     @ApiOperation(value = "카테고리별 모임 조회")
@@ -131,9 +132,10 @@ public class PlubbingController {
             @PageableDefault Pageable pageable,
             @RequestParam("sort") String sort,
             @RequestBody(required = false) PlubbingCardRequest plubbingCardRequest,
-            @RequestParam("cursorId") Long cursorId
+            @RequestParam(required = false) String cursor,
+            @RequestParam(value = "cursorId", required = false) Long cursorId
     ) {
-        return success(plubbingService.getPlubbingByCategory(categoryId, pageable, sort, plubbingCardRequest, cursorId));
+        return success(plubbingService.getPlubbingByCategory(categoryId, pageable, sort, plubbingCardRequest, cursor, cursorId));
     }
 
     @ApiOperation(value = "모임 나가기")
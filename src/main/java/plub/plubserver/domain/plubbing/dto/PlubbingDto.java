@@ -80,6 +80,7 @@ public class PlubbingDto {
                     .time(this.time)
                     .onOff(this.getOnOff())
                     .maxAccountNum(this.maxAccountNum)
+                    .curAccountNum(1) // 호스트
                     .status(PlubbingStatus.ACTIVE)
                     .visibility(true)
                     .build();
@@ -379,6 +380,12 @@ public class PlubbingDto {
         }
 
         public static PlubbingCardResponse of(Plubbing plubbing, boolean isHost, Boolean isBookmarked) {
+            return of(plubbing, plubbing.getDays().stream()
+                    .map(PlubbingMeetingDay::getDay)
+                    .toList(), isHost, isBookmarked);
+        }
+
+        public static PlubbingCardResponse of(Plubbing plubbing, List<MeetingDay> days, boolean isHost, boolean isBookmarked) {
             return PlubbingCardResponse.builder()
                     .plubbingId(plubbing.getId())
                     .name(plubbing.getName())
@@ -386,9 +393,7 @@ public class PlubbingDto {
                     .mainImage(plubbing.getMainImage())
                     .introduce(plubbing.getGoal())
                     .time(plubbing.getTime())
-                    .days(plubbing.getDays().stream()
-                            .map(PlubbingMeetingDay::getDay)
-                            .toList())
+                    .days(days)
                     .address(plubbing.getPlubbingPlace().getAddress())
                     .roadAddress(plubbing.getPlubbingPlace().getRoadAddress())
                     .placeName(plubbing.getPlubbingPlace().getPlaceName())
@@ -0,0 +1,7 @@
+package plub.plubserver.domain.plubbing.event;
+
+// 모임 생성/수정/인원 변경/종료 등 추천 후보에 영향을 주는 변경
+public record PlubbingChangedEvent(
+        Long plubbingId
+) {
+}
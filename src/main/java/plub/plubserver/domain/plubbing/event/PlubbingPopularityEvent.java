@@ -0,0 +1,10 @@
+package plub.plubserver.domain.plubbing.event;
+
+import plub.plubserver.domain.plubbing.model.PopularitySignal;
+
+// 지원, 가입 승낙 등 인기 순위에 반영할 행동 (커밋된 경우만 반영)
+public record PlubbingPopularityEvent(
+        Long plubbingId,
+        PopularitySignal signal
+) {
+}
@@ -13,8 +13,10 @@ import plub.plubserver.domain.category.model.PlubbingSubCategory;
 import plub.plubserver.domain.feed.model.Feed;
 import plub.plubserver.domain.notice.model.Notice;
 import plub.plubserver.domain.plubbing.dto.PlubbingDto.UpdatePlubbingRequest;
+import plub.plubserver.domain.plubbing.repository.PlubbingCategoryIndexListener;
 import plub.plubserver.domain.recruit.dto.RecruitDto.UpdateRecruitRequest;
 import plub.plubserver.domain.recruit.model.Recruit;
+import plub.plubserver.domain.recruit.repository.RecruitLuceneIndexListener;
 import plub.plubserver.domain.todo.model.TodoTimeline;
 
 import javax.persistence.*;
@@ -26,6 +28,7 @@ import static plub.plubserver.domain.plubbing.model.PlubbingStatus.ACTIVE;
 import static plub.plubserver.domain.plubbing.model.PlubbingStatus.DELETED;
 
 @Entity
+@EntityListeners({PlubbingCategoryIndexListener.class, RecruitLuceneIndexListener.class})
 @Getter
 @Builder
 @Where(clause = Visibility.TRUE)
@@ -57,7 +60,9 @@ public class Plubbing extends BaseEntity {
     @Embedded
     private PlubbingPlace plubbingPlace;
     private int maxAccountNum; // 최대 인원수 4~20
-    private int curAccountNum; // 현재 인원수
+    // 현재 인원수 - 엔티티 저장 시 덮어쓰지 않도록 조건부 update 쿼리로만 변경
+    @Column(updatable = false)
+    private int curAccountNum;
     private int views; // 조회수
     private String time;
 
@@ -185,14 +190,13 @@ public class Plubbing extends BaseEntity {
         this.status = status;
     }
 
-    @PostUpdate
-    public void updateCurAccountNum() {
-        // TODO : 명시적 호출을 안 하고도 자동으로 업데이트 할 수 있는 방법 찾기
-        curAccountNum = accountPlubbingList.size();
+    // 인원수 update 쿼리 실행 후 영속성 컨텍스트의 값 맞춤
+    public void plusCurAccountNum() {
+        curAccountNum++;
     }
 
-    public void plusView() {
-        views++;
+    public void minusCurAccountNum() {
+        curAccountNum--;
     }
 
     // archive
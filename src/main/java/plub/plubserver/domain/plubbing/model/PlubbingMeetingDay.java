@@ -1,10 +1,12 @@
 package plub.plubserver.domain.plubbing.model;
 
 import lombok.*;
+import plub.plubserver.domain.plubbing.repository.PlubbingCategoryIndexListener;
 
 import javax.persistence.*;
 
 @Entity
+@EntityListeners(PlubbingCategoryIndexListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PlubbingMeetingDay {
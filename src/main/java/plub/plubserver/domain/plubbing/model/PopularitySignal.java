@@ -0,0 +1,19 @@
+package plub.plubserver.domain.plubbing.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import static plub.plubserver.common.constant.GlobalConstants.*;
+
+// 인기 순위 점수에 반영되는 행동과 가중치
+@Getter
+@AllArgsConstructor
+public enum PopularitySignal {
+    VIEW(RANKING_VIEW_WEIGHT),
+    BOOKMARK(RANKING_BOOKMARK_WEIGHT),
+    UNBOOKMARK(-RANKING_BOOKMARK_WEIGHT),
+    APPLY(RANKING_APPLY_WEIGHT),
+    JOIN(RANKING_JOIN_WEIGHT);
+
+    private final int weight;
+}
@@ -24,6 +24,11 @@ public interface AccountPlubbingRepository extends JpaRepository<AccountPlubbing
     Optional<AccountPlubbing> findByPlubbingIdAndIsHost(@Param("plubbingId") Long plubbingId);
     void deleteByPlubbingAndAccount(Plubbing plubbing, Account account);
 
+    // 주어진 모임 중 내가 호스트인 모임 id (카드 목록 조립용)
+    @Query("select ap.plubbing.id from AccountPlubbing ap " +
+            "where ap.account.id = :accountId and ap.isHost = true and ap.plubbing.id in :plubbingIds")
+    List<Long> findAllHostPlubbingIds(@Param("accountId") Long accountId, @Param("plubbingIds") List<Long> plubbingIds);
+
     List<AccountPlubbing> findAllByPlubbingIdAndAccountPlubbingStatusAndIsHost(Long plubbingId, AccountPlubbingStatus accountPlubbingStatus, Boolean isHost);
     List<AccountPlubbing> findAllByAccountIdAndAccountPlubbingStatusAndIsHost(Long accountId, AccountPlubbingStatus accountPlubbingStatus, Boolean isHost);
 
@@ -0,0 +1,436 @@
+package plub.plubserver.domain.plubbing.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import plub.plubserver.common.model.SortType;
+import plub.plubserver.domain.plubbing.model.MeetingDay;
+import plub.plubserver.domain.plubbing.model.PlubbingStatus;
+import plub.plubserver.domain.recruit.model.RecruitStatus;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static plub.plubserver.common.constant.GlobalConstants.PLUBBING_CATEGORY_INDEX_REPAIR_INTERVAL;
+import static plub.plubserver.domain.category.model.QPlubbingSubCategory.plubbingSubCategory;
+import static plub.plubserver.domain.plubbing.model.QPlubbing.plubbing;
+import static plub.plubserver.domain.plubbing.model.QPlubbingMeetingDay.plubbingMeetingDay;
+import static plub.plubserver.domain.recruit.model.QRecruit.recruit;
+
+/**
+ * 카테고리 -> 모임 역색인 (메모리)
+ * 활성 모임 id 를 카테고리/서브 카테고리별 BitSet 으로 들고 있고, 모임마다 요일 비트마스크, 현재 인원, 정렬 키를 가진다
+ * 카테고리 조회는 BitSet 교집합과 비트마스크 비교로 필터링한 뒤 정렬해서 한 페이지의 id 만 돌려준다
+ * 변경은 엔티티 리스너(PlubbingCategoryIndexListener)가, 벌크 update 로 바뀌는 인원/조회수는 해당 코드가 커밋 후 반영하고
+ * 바뀐 모임 id 를 Redis pub/sub 으로 알려서 다른 인스턴스는 그 모임만 DB 에서 다시 읽는다
+ * 전체 재적재는 시작 시점과 알림 유실 복구용으로 PLUBBING_CATEGORY_INDEX_REPAIR_INTERVAL 마다만 수행한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlubbingCategoryIndex implements MessageListener {
+
+    static final String CHANGED_CHANNEL = "plubbing:category-index:changed";
+    // 자기가 보낸 알림은 이미 반영했으므로 무시
+    private static final String INSTANCE_ID = UUID.randomUUID().toString();
+
+    private final JPAQueryFactory queryFactory;
+    private final StringRedisTemplate template;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    record Entry(
+            long id,
+            long[] subCategoryIds,
+            int dayMask,
+            int curAccountNum,
+            int views,
+            String modifiedAt,
+            boolean recruiting
+    ) {
+        Entry withScalars(int curAccountNum, int views, String modifiedAt) {
+            return new Entry(id, subCategoryIds, dayMask, curAccountNum, views, modifiedAt, recruiting);
+        }
+
+        Entry withRecruiting(boolean recruiting) {
+            return new Entry(id, subCategoryIds, dayMask, curAccountNum, views, modifiedAt, recruiting);
+        }
+    }
+
+    /**
+     * @param subCategoryIds null 이면 카테고리 전체
+     * @param days           비어있으면 요일 무관
+     * @param accountNum     null 이면 인원 무관
+     */
+    public record Filter(
+            Long categoryId,
+            List<Long> subCategoryIds,
+            List<MeetingDay> days,
+            Integer accountNum,
+            boolean recruitingOnly
+    ) {
+        public static Filter ofCategory(Long categoryId) {
+            return new Filter(categoryId, null, List.of(), null, true);
+        }
+    }
+
+    /**
+     * @param lastKeyValues 마지막 행의 정렬 키 값 (다음 커서 생성용)
+     */
+    public record IndexSlice(
+            List<Long> plubbingIds,
+            boolean hasNext,
+            List<Object> lastKeyValues
+    ) {
+    }
+
+    private static final Comparator<Entry> POPULAR_ORDER = Comparator
+            .comparingInt(Entry::views).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::id).reversed());
+    private static final Comparator<Entry> LATEST_ORDER = Comparator
+            .comparing(Entry::modifiedAt, Comparator.nullsLast(Comparator.<String>reverseOrder()))
+            .thenComparing(Comparator.comparingLong(Entry::id).reversed());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, Entry> entries = new HashMap<>();
+    private Map<Long, BitSet> bySubCategory = new HashMap<>();
+    private Map<Long, BitSet> byCategory = new HashMap<>();
+    private Map<Long, Long> categoryOfSubCategory = new HashMap<>();
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANGED_CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = PLUBBING_CATEGORY_INDEX_REPAIR_INTERVAL * 1000L, initialDelay = PLUBBING_CATEGORY_INDEX_REPAIR_INTERVAL * 1000L)
+    public void reloadAll() {
+        try {
+            Map<Long, Long> newCategoryOfSubCategory = new HashMap<>();
+            Map<Long, Entry> loaded = load(null, newCategoryOfSubCategory);
+            replaceAll(loaded, newCategoryOfSubCategory);
+        } catch (Exception e) {
+            log.error("모임 카테고리 색인 적재 중 예외 발생: " + e.getMessage(), e);
+        }
+    }
+
+    // 새로 만든 색인으로 한 번에 교체
+    void replaceAll(Map<Long, Entry> loaded, Map<Long, Long> newCategoryOfSubCategory) {
+        Map<Long, BitSet> newBySubCategory = new HashMap<>();
+        Map<Long, BitSet> newByCategory = new HashMap<>();
+        loaded.values().forEach(entry -> addBits(entry, newBySubCategory, newByCategory, newCategoryOfSubCategory));
+        lock.writeLock().lock();
+        try {
+            entries = loaded;
+            bySubCategory = newBySubCategory;
+            byCategory = newByCategory;
+            categoryOfSubCategory = newCategoryOfSubCategory;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 모임 하나를 DB 에서 다시 읽어서 반영 (서브 카테고리, 요일 변경 등)
+    public void reload(Collection<Long> plubbingIds) {
+        if (!ready || plubbingIds.isEmpty()) return;
+        Map<Long, Long> loadedCategoryOfSubCategory = new HashMap<>();
+        Map<Long, Entry> loaded = load(plubbingIds, loadedCategoryOfSubCategory);
+        lock.writeLock().lock();
+        try {
+            categoryOfSubCategory.putAll(loadedCategoryOfSubCategory);
+            plubbingIds.forEach(this::removeEntry);
+            loaded.values().forEach(this::putEntry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모임 컬럼 변경 반영 (조회 쿼리 없이 엔티티 값으로 갱신)
+     * 색인에 없던 모임이 다시 활성화되면 DB 에서 읽어서 추가한다
+     */
+    public void update(Long plubbingId, boolean active, int curAccountNum, int views, String modifiedAt) {
+        if (!ready) return;
+        boolean needReload;
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(plubbingId);
+            if (!active) {
+                removeEntry(plubbingId);
+                return;
+            }
+            needReload = entry == null;
+            if (entry != null) entries.put(plubbingId, entry.withScalars(curAccountNum, views, modifiedAt));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (needReload) reload(List.of(plubbingId));
+    }
+
+    /**
+     * 벌크 update 로 바뀐 인원/조회수 반영 (엔티티 리스너가 호출되지 않는 경로)
+     * 조회 쿼리 없이 증감만 더하고, 다른 인스턴스에는 바뀐 모임 id 를 알린다
+     */
+    public void adjust(Map<Long, Integer> memberDeltas, Map<Long, Long> viewDeltas) {
+        if (!ready || (memberDeltas.isEmpty() && viewDeltas.isEmpty())) return;
+        lock.writeLock().lock();
+        try {
+            memberDeltas.forEach((id, delta) -> entries.computeIfPresent(id, (k, entry) ->
+                    entry.withScalars(entry.curAccountNum() + delta, entry.views(), entry.modifiedAt())));
+            viewDeltas.forEach((id, delta) -> entries.computeIfPresent(id, (k, entry) ->
+                    entry.withScalars(entry.curAccountNum(), Math.toIntExact(entry.views() + delta), entry.modifiedAt())));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Set<Long> changedIds = new HashSet<>(memberDeltas.keySet());
+        changedIds.addAll(viewDeltas.keySet());
+        publish(changedIds);
+    }
+
+    // 인원 변경이 커밋된 뒤에 반영 (롤백되면 버림)
+    public void adjustMembersAfterCommit(Long plubbingId, int delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            adjust(Map.of(plubbingId, delta), Map.of());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                adjust(Map.of(plubbingId, delta), Map.of());
+            }
+        });
+    }
+
+    // 이 인스턴스에서 반영한 변경을 다른 인스턴스에 알림
+    public void publish(Collection<Long> plubbingIds) {
+        if (plubbingIds.isEmpty()) return;
+        try {
+            String ids = plubbingIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+            template.convertAndSend(CHANGED_CHANNEL, INSTANCE_ID + ":" + ids);
+        } catch (Exception e) {
+            // 알리지 못한 인스턴스는 다음 복구 재적재에서 반영된다
+            log.warn("모임 카테고리 색인 변경 전파 실패 (plubbingIds={}) : {}", plubbingIds, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(INSTANCE_ID)) return;
+        try {
+            List<Long> plubbingIds = Arrays.stream(body.substring(separator + 1).split(","))
+                    .map(Long::valueOf)
+                    .toList();
+            reload(plubbingIds);
+        } catch (Exception e) {
+            log.warn("모임 카테고리 색인 변경 알림 처리 실패 : {}", e.getMessage());
+        }
+    }
+
+    public void updateRecruiting(Long plubbingId, boolean recruiting) {
+        if (!ready) return;
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(plubbingId);
+            if (entry != null) entries.put(plubbingId, entry.withRecruiting(recruiting));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long plubbingId) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(plubbingId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 필터에 맞는 모임 중 커서 이후 한 페이지의 id
+     * @param cursorValues 정렬 키 값 (인기순 : views, id / 최신순 : modifiedAt, id), null 이면 첫 페이지
+     * @return 색인이 준비되지 않았으면 empty
+     */
+    public Optional<IndexSlice> search(Filter filter, SortType sortType, List<Object> cursorValues, int size) {
+        if (!ready) return Optional.empty();
+        boolean popular = sortType == SortType.POPULAR;
+        Comparator<Entry> order = popular ? POPULAR_ORDER : LATEST_ORDER;
+        Entry cursorEntry = cursorValues == null ? null : popular
+                ? new Entry((Long) cursorValues.get(1), null, 0, 0, (Integer) cursorValues.get(0), null, false)
+                : new Entry((Long) cursorValues.get(1), null, 0, 0, 0, (String) cursorValues.get(0), false);
+
+        List<Entry> matched = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            forEachMatch(filter, entry -> {
+                if (cursorEntry == null || order.compare(entry, cursorEntry) > 0) matched.add(entry);
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matched.sort(order);
+        boolean hasNext = matched.size() > size;
+        List<Entry> page = hasNext ? matched.subList(0, size) : matched;
+        List<Object> lastKeyValues = null;
+        if (!page.isEmpty()) {
+            Entry last = page.get(page.size() - 1);
+            lastKeyValues = popular ? List.of(last.views(), last.id()) : List.of(last.modifiedAt(), last.id());
+        }
+        return Optional.of(new IndexSlice(page.stream().map(Entry::id).toList(), hasNext, lastKeyValues));
+    }
+
+    public OptionalLong count(Filter filter) {
+        if (!ready) return OptionalLong.empty();
+        long[] count = {0};
+        lock.readLock().lock();
+        try {
+            forEachMatch(filter, entry -> count[0]++);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return OptionalLong.of(count[0]);
+    }
+
+    private void forEachMatch(Filter filter, Consumer<Entry> consumer) {
+        BitSet candidates = candidates(filter);
+        int dayMask = dayMaskOf(filter.days());
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            Entry entry = entries.get((long) id);
+            if (entry == null) continue;
+            if (filter.recruitingOnly() && !entry.recruiting()) continue;
+            if (dayMask != 0 && (entry.dayMask() & dayMask) == 0) continue;
+            if (filter.accountNum() != null && entry.curAccountNum() != filter.accountNum()) continue;
+            consumer.accept(entry);
+        }
+    }
+
+    // 카테고리 BitSet, 서브 카테고리 필터가 있으면 그 카테고리에 속한 서브 카테고리 BitSet 의 합집합
+    private BitSet candidates(Filter filter) {
+        if (filter.subCategoryIds() == null) {
+            BitSet bits = byCategory.get(filter.categoryId());
+            return bits == null ? new BitSet() : bits;
+        }
+        BitSet union = new BitSet();
+        filter.subCategoryIds().stream()
+                .filter(id -> Objects.equals(categoryOfSubCategory.get(id), filter.categoryId()))
+                .map(bySubCategory::get)
+                .filter(Objects::nonNull)
+                .forEach(union::or);
+        return union;
+    }
+
+    static int dayMaskOf(Collection<MeetingDay> days) {
+        int mask = 0;
+        if (days == null) return mask;
+        for (MeetingDay day : days) mask |= 1 << day.ordinal();
+        return mask;
+    }
+
+    private void putEntry(Entry entry) {
+        entries.put(entry.id(), entry);
+        addBits(entry, bySubCategory, byCategory, categoryOfSubCategory);
+    }
+
+    private void removeEntry(Long plubbingId) {
+        Entry entry = entries.remove(plubbingId);
+        if (entry == null) return;
+        int bit = Math.toIntExact(entry.id());
+        for (long subCategoryId : entry.subCategoryIds()) {
+            BitSet subBits = bySubCategory.get(subCategoryId);
+            if (subBits != null) subBits.clear(bit);
+            BitSet categoryBits = byCategory.get(categoryOfSubCategory.get(subCategoryId));
+            if (categoryBits != null) categoryBits.clear(bit);
+        }
+    }
+
+    private static void addBits(Entry entry, Map<Long, BitSet> bySubCategory, Map<Long, BitSet> byCategory, Map<Long, Long> categoryOfSubCategory) {
+        int bit = Math.toIntExact(entry.id());
+        for (long subCategoryId : entry.subCategoryIds()) {
+            bySubCategory.computeIfAbsent(subCategoryId, k -> new BitSet()).set(bit);
+            Long categoryId = categoryOfSubCategory.get(subCategoryId);
+            if (categoryId != null) byCategory.computeIfAbsent(categoryId, k -> new BitSet()).set(bit);
+        }
+    }
+
+    /**
+     * 활성 모임을 읽어서 색인 항목 생성 (쿼리 3번)
+     * @param plubbingIds null 이면 전체
+     */
+    private Map<Long, Entry> load(Collection<Long> plubbingIds, Map<Long, Long> categoryOfSubCategory) {
+        List<Tuple> rows = queryFactory
+                .select(plubbing.id, plubbing.curAccountNum, plubbing.views, plubbing.modifiedAt, recruit.status)
+                .from(plubbing)
+                .join(plubbing.recruit, recruit)
+                .where(plubbingIds == null ? null : plubbing.id.in(plubbingIds),
+                        plubbing.status.eq(PlubbingStatus.ACTIVE),
+                        plubbing.visibility.eq(true))
+                .fetch();
+        if (rows.isEmpty()) return new HashMap<>();
+        List<Long> ids = rows.stream().map(row -> row.get(plubbing.id)).toList();
+
+        Map<Long, List<Long>> subCategories = new HashMap<>();
+        queryFactory
+                .select(plubbingSubCategory.plubbing.id, plubbingSubCategory.subCategory.id, plubbingSubCategory.subCategory.category.id)
+                .from(plubbingSubCategory)
+                .where(plubbingSubCategory.plubbing.id.in(ids))
+                .fetch()
+                .forEach(row -> {
+                    Long subCategoryId = row.get(plubbingSubCategory.subCategory.id);
+                    categoryOfSubCategory.put(subCategoryId, row.get(plubbingSubCategory.subCategory.category.id));
+                    subCategories.computeIfAbsent(row.get(plubbingSubCategory.plubbing.id), k -> new ArrayList<>())
+                            .add(subCategoryId);
+                });
+
+        Map<Long, Integer> dayMasks = new HashMap<>();
+        queryFactory
+                .select(plubbingMeetingDay.plubbing.id, plubbingMeetingDay.day)
+                .from(plubbingMeetingDay)
+                .where(plubbingMeetingDay.plubbing.id.in(ids))
+                .fetch()
+                .forEach(row -> dayMasks.merge(
+                        row.get(plubbingMeetingDay.plubbing.id),
+                        dayMaskOf(List.of(Objects.requireNonNull(row.get(plubbingMeetingDay.day)))),
+                        (a, b) -> a | b
+                ));
+
+        Map<Long, Entry> loaded = new HashMap<>();
+        for (Tuple row : rows) {
+            Long id = row.get(plubbing.id);
+            loaded.put(id, new Entry(
+                    id,
+                    subCategories.getOrDefault(id, List.of()).stream().mapToLong(Long::longValue).toArray(),
+                    dayMasks.getOrDefault(id, 0),
+                    Objects.requireNonNull(row.get(plubbing.curAccountNum)),
+                    Objects.requireNonNull(row.get(plubbing.views)),
+                    row.get(plubbing.modifiedAt),
+                    row.get(recruit.status) == RecruitStatus.RECRUITING
+            ));
+        }
+        return loaded;
+    }
+}
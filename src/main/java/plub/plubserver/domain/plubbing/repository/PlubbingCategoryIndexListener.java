@@ -0,0 +1,103 @@
+package plub.plubserver.domain.plubbing.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import plub.plubserver.domain.category.model.PlubbingSubCategory;
+import plub.plubserver.domain.plubbing.model.Plubbing;
+import plub.plubserver.domain.plubbing.model.PlubbingMeetingDay;
+import plub.plubserver.domain.plubbing.model.PlubbingStatus;
+import plub.plubserver.domain.recruit.model.Recruit;
+import plub.plubserver.domain.recruit.model.RecruitStatus;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 모임 카테고리 색인 갱신용 엔티티 리스너
+ * 변경 내용을 트랜잭션 동안 모아 두었다가 커밋된 뒤에만 색인에 반영한다 (롤백되면 버림)
+ * 모임 컬럼 변경은 엔티티 값으로 바로 갱신하고, 서브 카테고리/요일 변경은 해당 모임만 DB 에서 다시 읽는다
+ * 반영한 모임 id 는 다른 인스턴스에 알린다
+ */
+@Component
+@RequiredArgsConstructor
+public class PlubbingCategoryIndexListener {
+
+    // 엔티티 매니저 팩토리보다 늦게 생성되도록 지연 조회
+    private final ObjectProvider<PlubbingCategoryIndex> indexProvider;
+
+    private static class PendingChanges implements TransactionSynchronization {
+        private final PlubbingCategoryIndex index;
+        private final Set<Long> reloadIds = new HashSet<>();
+        private final Map<Long, Plubbing> updated = new LinkedHashMap<>();
+        private final Map<Long, Boolean> recruiting = new LinkedHashMap<>();
+
+        private PendingChanges(PlubbingCategoryIndex index) {
+            this.index = index;
+        }
+
+        @Override
+        public void afterCommit() {
+            updated.values().forEach(plubbing -> index.update(
+                    plubbing.getId(),
+                    plubbing.getStatus() == PlubbingStatus.ACTIVE && plubbing.isVisibility(),
+                    plubbing.getCurAccountNum(),
+                    plubbing.getViews(),
+                    plubbing.getModifiedAt()
+            ));
+            recruiting.forEach(index::updateRecruiting);
+            index.reload(reloadIds);
+
+            Set<Long> changedIds = new HashSet<>(reloadIds);
+            changedIds.addAll(updated.keySet());
+            changedIds.addAll(recruiting.keySet());
+            index.publish(changedIds);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PendingChanges.class);
+        }
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Object entity) {
+        PlubbingCategoryIndex index = indexProvider.getIfAvailable();
+        if (index == null || !index.isReady()) return;
+        PendingChanges changes = getPendingChanges(index);
+
+        if (entity instanceof Plubbing plubbing) {
+            if (plubbing.getId() == null) return;
+            changes.updated.put(plubbing.getId(), plubbing);
+        } else if (entity instanceof PlubbingSubCategory subCategory && subCategory.getPlubbing() != null) {
+            changes.reloadIds.add(subCategory.getPlubbing().getId());
+        } else if (entity instanceof PlubbingMeetingDay meetingDay && meetingDay.getPlubbing() != null) {
+            changes.reloadIds.add(meetingDay.getPlubbing().getId());
+        } else if (entity instanceof Recruit recruit && recruit.getPlubbing() != null) {
+            changes.recruiting.put(recruit.getPlubbing().getId(), recruit.getStatus() == RecruitStatus.RECRUITING);
+        }
+
+        // 트랜잭션 밖에서 바뀐 경우 바로 반영
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) changes.afterCommit();
+    }
+
+    private PendingChanges getPendingChanges(PlubbingCategoryIndex index) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return new PendingChanges(index);
+        PendingChanges changes = (PendingChanges) TransactionSynchronizationManager.getResource(PendingChanges.class);
+        if (changes == null) {
+            changes = new PendingChanges(index);
+            TransactionSynchronizationManager.bindResource(PendingChanges.class, changes);
+            TransactionSynchronizationManager.registerSynchronization(changes);
+        }
+        return changes;
+    }
+}
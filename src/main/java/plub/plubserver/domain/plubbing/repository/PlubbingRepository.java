@@ -1,6 +1,7 @@
 package plub.plubserver.domain.plubbing.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import plub.plubserver.domain.plubbing.model.Plubbing;
@@ -24,5 +25,18 @@ public interface PlubbingRepository extends JpaRepository<Plubbing, Long>, Plubb
 
     @Query("select b from Plubbing b where b.id = :id and b.visibility = true or b.visibility = false")
     Optional<Plubbing> findByIdAnyway(@Param("id") Long id);
+
+    /**
+     * 인원수 변경 (조건부 update)
+     * 정원 검사와 증가를 한 쿼리로 처리해서 동시에 가입해도 정원을 넘지 않는다
+     * @return 0 이면 정원 초과
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Plubbing b set b.curAccountNum = b.curAccountNum + 1 where b.id = :id and b.curAccountNum < b.maxAccountNum")
+    int increaseCurAccountNum(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Plubbing b set b.curAccountNum = b.curAccountNum - 1 where b.id = :id and b.curAccountNum > 0")
+    int decreaseCurAccountNum(@Param("id") Long id);
 }
 
@@ -1,22 +1,40 @@
 package plub.plubserver.domain.plubbing.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import plub.plubserver.common.model.SortType;
+import plub.plubserver.common.pagination.KeysetSlice;
 import plub.plubserver.domain.account.model.Account;
 import plub.plubserver.domain.plubbing.model.MeetingDay;
 import plub.plubserver.domain.plubbing.model.Plubbing;
 
 import java.util.List;
+import java.util.Map;
 
 public interface PlubbingRepositoryCustom {
-    Page<Plubbing> findAllBySubCategory(List<Long> subCategoryId, Pageable pageable, Long cursorId);
+    KeysetSlice<Plubbing> findAllBySubCategory(List<Long> subCategoryId, int size, String cursor, Long cursorId);
 
-    Page<Plubbing> findAllByViews(Pageable pageable, Long cursorId, Integer views);
+    Long countAllBySubCategory(List<Long> subCategoryId);
 
-    Page<Plubbing> findAllByCategory(Long categoryId, Pageable pageable, SortType sortType, Long cursorId);
+    KeysetSlice<Plubbing> findAllByViews(int size, String cursor, Long cursorId);
 
-    Page<Plubbing> findAllByCategoryAndFilter(Long categoryId, List<Long> subCategoryId, List<MeetingDay> meetingDays, Integer accountNum, Pageable pageable, SortType sortType, Long cursorId);
+    Long countAllByViews();
+
+    KeysetSlice<Plubbing> findAllByCategory(Long categoryId, int size, SortType sortType, String cursor, Long cursorId);
+
+    Long countAllByCategory(Long categoryId);
+
+    KeysetSlice<Plubbing> findAllByCategoryAndFilter(Long categoryId, List<Long> subCategoryId, List<MeetingDay> meetingDays, Integer accountNum, int size, SortType sortType, String cursor, Long cursorId);
+
+    Long countAllByCategoryAndFilter(Long categoryId, List<Long> subCategoryId, List<MeetingDay> meetingDays, Integer accountNum);
 
     List<Plubbing> findAllByHost(Account host);
-}
\ No newline at end of file
+
+    Map<Long, List<MeetingDay>> findAllMeetingDaysByPlubbingIds(List<Long> plubbingIds);
+
+    List<Plubbing> findAllRecommendCandidates(List<Long> plubbingIds);
+
+    Map<Long, List<Long>> findAllSubCategoryIdsByPlubbingIds(List<Long> plubbingIds);
+
+    List<Plubbing> findAllRankingCandidates(List<Long> plubbingIds);
+
+    Map<Long, List<Long>> findAllCategoryIdsByPlubbingIds(List<Long> plubbingIds);
+}
@@ -1,19 +1,25 @@
 package plub.plubserver.domain.plubbing.repository;
 
-import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
 import plub.plubserver.common.model.SortType;
+import plub.plubserver.common.pagination.KeysetSlice;
+import plub.plubserver.common.pagination.KeysetSort;
 import plub.plubserver.domain.account.model.Account;
 import plub.plubserver.domain.plubbing.model.*;
 import plub.plubserver.domain.recruit.model.RecruitStatus;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static plub.plubserver.domain.account.model.QAccount.account;
 import static plub.plubserver.domain.category.model.QPlubbingSubCategory.plubbingSubCategory;
@@ -21,111 +27,160 @@ import static plub.plubserver.domain.category.model.QSubCategory.subCategory;
 import static plub.plubserver.domain.plubbing.model.QAccountPlubbing.accountPlubbing;
 import static plub.plubserver.domain.plubbing.model.QPlubbing.plubbing;
 import static plub.plubserver.domain.plubbing.model.QPlubbingMeetingDay.plubbingMeetingDay;
+import static plub.plubserver.domain.recruit.model.QRecruit.recruit;
 
 @RequiredArgsConstructor
 public class PlubbingRepositoryImpl implements PlubbingRepositoryCustom {
     private final JPAQueryFactory queryFactory;
+    private final PlubbingCategoryIndex categoryIndex;
+
+    // 추천(관심 카테고리) : 등록순
+    private static final KeysetSort<Plubbing> ID_SORT = KeysetSort.<Plubbing>create()
+            .asc(plubbing.id, Long.class, Plubbing::getId);
+    // 인기순 : 조회수, 최신순 : 수정일시 (같은 값이면 id 로 구분)
+    private static final KeysetSort<Plubbing> POPULAR_SORT = KeysetSort.<Plubbing>create()
+            .desc(plubbing.views, Integer.class, Plubbing::getViews)
+            .desc(plubbing.id, Long.class, Plubbing::getId);
+    private static final KeysetSort<Plubbing> LATEST_SORT = KeysetSort.<Plubbing>create()
+            .desc(plubbing.modifiedAt, String.class, Plubbing::getModifiedAt)
+            .desc(plubbing.id, Long.class, Plubbing::getId);
+
+    private KeysetSort<Plubbing> sortOf(SortType sortType) {
+        return sortType == SortType.POPULAR ? POPULAR_SORT : LATEST_SORT;
+    }
+
+    private Plubbing findCursorRow(Long cursorId) {
+        return queryFactory.selectFrom(plubbing).where(plubbing.id.eq(cursorId)).fetchOne();
+    }
+
+    // 목록 조회와 count 가 같은 조건을 쓰도록 조건만 분리 (카테고리/요일은 exists 라서 join + distinct 불필요)
+    private JPQLQuery<Plubbing> listQuery(Predicate... conditions) {
+        return queryFactory.selectFrom(plubbing).where(conditions);
+    }
+
+    private Long count(Predicate... conditions) {
+        Long count = queryFactory.select(plubbing.count()).from(plubbing).where(conditions).fetchOne();
+        return count == null ? 0L : count;
+    }
+
+    private Predicate[] subCategoryConditions(List<Long> subCategoryId) {
+        return new Predicate[]{
+                hasSubCategory(null, subCategoryId),
+                plubbing.status.eq(PlubbingStatus.ACTIVE),
+                plubbing.visibility.eq(true),
+                plubbing.recruit.status.eq(RecruitStatus.RECRUITING)
+        };
+    }
 
     @Override
-    public Page<Plubbing> findAllBySubCategory(List<Long> subCategoryId, Pageable pageable, Long cursorId) {
-        JPQLQuery<Plubbing> query = queryFactory
-                .selectFrom(plubbing)
-                .join(plubbing.plubbingSubCategories, plubbingSubCategory)
-                .join(plubbingSubCategory.subCategory, subCategory)
-                .where(inSubCategoryId(subCategoryId),
-                        plubbing.status.eq(PlubbingStatus.ACTIVE),
-                        plubbing.visibility.eq(true),
-                        plubbing.recruit.status.eq(RecruitStatus.RECRUITING),
-                        getCursorId(cursorId))
-                .distinct();
+    public KeysetSlice<Plubbing> findAllBySubCategory(List<Long> subCategoryId, int size, String cursor, Long cursorId) {
+        return ID_SORT.fetch(
+                listQuery(subCategoryConditions(subCategoryId)),
+                ID_SORT.resolveCursor(cursor, cursorId, this::findCursorRow),
+                size
+        );
+    }
+
+    @Override
+    public Long countAllBySubCategory(List<Long> subCategoryId) {
+        return count(subCategoryConditions(subCategoryId));
+    }
 
-        return PageableExecutionUtils.getPage(
-                query.offset(pageable.getOffset())
-                        .limit(pageable.getPageSize())
-                        .fetch(),
-                pageable,
-                query::fetchCount);
+    private Predicate[] viewsConditions() {
+        return new Predicate[]{
+                plubbing.status.eq(PlubbingStatus.ACTIVE),
+                plubbing.visibility.eq(true),
+                plubbing.recruit.status.eq(RecruitStatus.RECRUITING)
+        };
     }
 
     @Override
-    public Page<Plubbing> findAllByViews(Pageable pageable, Long cursorId, Integer views) {
-        JPQLQuery<Plubbing> query = queryFactory
-                .selectFrom(plubbing)
-                .where(plubbing.status.eq(PlubbingStatus.ACTIVE),
-                        plubbing.visibility.eq(true),
-                        plubbing.recruit.status.eq(RecruitStatus.RECRUITING),
-                        getCursorIdByViews(cursorId, views))
-                .distinct();
+    public KeysetSlice<Plubbing> findAllByViews(int size, String cursor, Long cursorId) {
+        return POPULAR_SORT.fetch(
+                listQuery(viewsConditions()),
+                POPULAR_SORT.resolveCursor(cursor, cursorId, this::findCursorRow),
+                size
+        );
+    }
+
+    @Override
+    public Long countAllByViews() {
+        return count(viewsConditions());
+    }
+
+    private Predicate[] categoryConditions(Long categoryId) {
+        return new Predicate[]{
+                hasSubCategory(categoryId, null),
+                plubbing.status.eq(PlubbingStatus.ACTIVE),
+                plubbing.visibility.eq(true),
+                plubbing.recruit.status.eq(RecruitStatus.RECRUITING)
+        };
+    }
 
-        return PageableExecutionUtils.getPage(
-                query.orderBy(plubbing.views.desc())
-                        .offset(pageable.getOffset())
-                        .limit(pageable.getPageSize())
-                        .fetch(),
-                pageable,
-                query::fetchCount);
+    /**
+     * 카테고리 색인에서 한 페이지의 id 를 찾고 그 모임만 조회
+     * 색인이 아직 적재되지 않았으면 empty (DB 조회로 대체)
+     */
+    private Optional<KeysetSlice<Plubbing>> searchIndex(PlubbingCategoryIndex.Filter filter, SortType sortType, KeysetSort<Plubbing> sort, List<Object> cursorValues, int size) {
+        return categoryIndex.search(filter, sortType, cursorValues, size).map(indexSlice -> {
+            List<Long> ids = indexSlice.plubbingIds();
+            Map<Long, Plubbing> plubbings = ids.isEmpty() ? Map.of() : queryFactory
+                    .selectFrom(plubbing)
+                    .where(plubbing.id.in(ids))
+                    .fetch()
+                    .stream()
+                    .collect(Collectors.toMap(Plubbing::getId, Function.identity()));
+            List<Plubbing> content = ids.stream().map(plubbings::get).filter(Objects::nonNull).toList();
+            String nextCursor = indexSlice.hasNext() ? sort.encode(indexSlice.lastKeyValues()) : null;
+            return new KeysetSlice<>(content, indexSlice.hasNext(), nextCursor);
+        });
     }
 
     @Override
-    public Page<Plubbing> findAllByCategory(Long categoryId, Pageable pageable, SortType sortType, Long cursorId) {
-        JPQLQuery<Plubbing> query = queryFactory
-                .selectFrom(plubbing)
-                .join(plubbing.plubbingSubCategories, plubbingSubCategory)
-                .join(plubbingSubCategory.subCategory, subCategory)
-                .where(subCategory.category.id.eq(categoryId),
-                        plubbing.status.eq(PlubbingStatus.ACTIVE),
-                        plubbing.visibility.eq(true),
-                        plubbing.recruit.status.eq(RecruitStatus.RECRUITING),
-                        getCursorId(cursorId))
-                .distinct();
-
-        OrderSpecifier<?> order;
-        if (sortType == SortType.POPULAR) {
-            order = plubbing.views.desc();
-        } else {
-            order = plubbing.modifiedAt.desc();
-        }
-
-        return PageableExecutionUtils.getPage(
-                query.orderBy(order)
-                        .offset(pageable.getOffset())
-                        .limit(pageable.getPageSize())
-                        .fetch(),
-                pageable,
-                query::fetchCount);
+    public KeysetSlice<Plubbing> findAllByCategory(Long categoryId, int size, SortType sortType, String cursor, Long cursorId) {
+        KeysetSort<Plubbing> sort = sortOf(sortType);
+        List<Object> cursorValues = sort.resolveCursor(cursor, cursorId, this::findCursorRow);
+        return searchIndex(PlubbingCategoryIndex.Filter.ofCategory(categoryId), sortType, sort, cursorValues, size)
+                .orElseGet(() -> sort.fetch(listQuery(categoryConditions(categoryId)), cursorValues, size));
     }
 
     @Override
-    public Page<Plubbing> findAllByCategoryAndFilter(Long categoryId, List<Long> subCategoryId, List<MeetingDay> meetingDays, Integer accountNum, Pageable pageable, SortType sortType, Long cursorId) {
+    public Long countAllByCategory(Long categoryId) {
+        OptionalLong count = categoryIndex.count(PlubbingCategoryIndex.Filter.ofCategory(categoryId));
+        return count.isPresent() ? count.getAsLong() : count(categoryConditions(categoryId));
+    }
 
-        OrderSpecifier<?> order;
-        if (sortType == SortType.POPULAR) {
-            order = plubbing.views.desc();
-        } else {
-            order = plubbing.modifiedAt.desc();
-        }
+    private Predicate[] categoryAndFilterConditions(Long categoryId, List<Long> subCategoryId, List<MeetingDay> meetingDays, Integer accountNum) {
+        return new Predicate[]{
+                hasSubCategory(categoryId, subCategoryId),
+                hasMeetingDay(meetingDays),
+                eqAccountNum(accountNum),
+                plubbing.status.eq(PlubbingStatus.ACTIVE),
+                plubbing.visibility.eq(true)
+        };
+    }
 
-        JPQLQuery<Plubbing> query = queryFactory
-                .selectFrom(plubbing)
-                .join(plubbing.days, plubbingMeetingDay)
-                .join(plubbing.plubbingSubCategories, plubbingSubCategory)
-                .join(plubbingSubCategory.subCategory, subCategory)
-                .where(inSubCategoryId(subCategoryId),
-                        eqAccountNum(accountNum),
-                        inDays(meetingDays),
-                        subCategory.category.id.eq(categoryId),
-                        plubbing.status.eq(PlubbingStatus.ACTIVE),
-                        plubbing.visibility.eq(true),
-                        getCursorId(cursorId))
-                .distinct();
+    // 필터 조회는 기존과 같이 모집 상태와 관계없이 조회
+    private PlubbingCategoryIndex.Filter filterOf(Long categoryId, List<Long> subCategoryId, List<MeetingDay> meetingDays, Integer accountNum) {
+        return new PlubbingCategoryIndex.Filter(categoryId, subCategoryId, meetingDays, accountNum, false);
+    }
 
-        return PageableExecutionUtils.getPage(
-                query.orderBy(order)
-                        .offset(pageable.getOffset())
-                        .limit(pageable.getPageSize())
-                        .fetch(),
-                pageable,
-                query::fetchCount);
+    @Override
+    public KeysetSlice<Plubbing> findAllByCategoryAndFilter(Long categoryId, List<Long> subCategoryId, List<MeetingDay> meetingDays, Integer accountNum, int size, SortType sortType, String cursor, Long cursorId) {
+        KeysetSort<Plubbing> sort = sortOf(sortType);
+        List<Object> cursorValues = sort.resolveCursor(cursor, cursorId, this::findCursorRow);
+        return searchIndex(filterOf(categoryId, subCategoryId, meetingDays, accountNum), sortType, sort, cursorValues, size)
+                .orElseGet(() -> sort.fetch(
+                        listQuery(categoryAndFilterConditions(categoryId, subCategoryId, meetingDays, accountNum)),
+                        cursorValues,
+                        size
+                ));
+    }
+
+    @Override
+    public Long countAllByCategoryAndFilter(Long categoryId, List<Long> subCategoryId, List<MeetingDay> meetingDays, Integer accountNum) {
+        OptionalLong count = categoryIndex.count(filterOf(categoryId, subCategoryId, meetingDays, accountNum));
+        return count.isPresent() ? count.getAsLong() : count(categoryAndFilterConditions(categoryId, subCategoryId, meetingDays, accountNum));
     }
 
     // 내가 호스트인 모임 전체 조회
@@ -142,25 +197,108 @@ public class PlubbingRepositoryImpl implements PlubbingRepositoryCustom {
                 .fetch();
     }
 
-    private BooleanExpression eqAccountNum(Integer accountNum) {
-        return accountNum != null ? plubbing.curAccountNum.eq(accountNum) : null;
+    // 모임 id -> 모임 요일 (카드 목록 조립용, 한 번의 IN 쿼리)
+    @Override
+    public Map<Long, List<MeetingDay>> findAllMeetingDaysByPlubbingIds(List<Long> plubbingIds) {
+        return queryFactory
+                .select(plubbingMeetingDay.plubbing.id, plubbingMeetingDay.day)
+                .from(plubbingMeetingDay)
+                .where(plubbingMeetingDay.plubbing.id.in(plubbingIds))
+                .orderBy(plubbingMeetingDay.id.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        tuple -> tuple.get(plubbingMeetingDay.plubbing.id),
+                        Collectors.mapping(tuple -> tuple.get(plubbingMeetingDay.day), Collectors.toList())
+                ));
     }
 
-    private BooleanExpression inDays(List<MeetingDay> days) {
-        return !days.isEmpty() ? plubbingMeetingDay.day.in(days) : null;
+    /**
+     * 추천 후보 : 활성, 모집 중, 정원이 남은 모임 (모집글 fetch join)
+     * @param plubbingIds null 이면 전체
+     */
+    @Override
+    public List<Plubbing> findAllRecommendCandidates(List<Long> plubbingIds) {
+        return queryFactory
+                .selectFrom(plubbing)
+                .join(plubbing.recruit, recruit)
+                .fetchJoin()
+                .where(plubbingIds == null ? null : plubbing.id.in(plubbingIds),
+                        plubbing.status.eq(PlubbingStatus.ACTIVE),
+                        plubbing.visibility.eq(true),
+                        recruit.status.eq(RecruitStatus.RECRUITING),
+                        plubbing.curAccountNum.lt(plubbing.maxAccountNum))
+                .fetch();
     }
 
-    private BooleanExpression inSubCategoryId(List<Long> subCategoryId) {
-        return subCategoryId != null ? subCategory.id.in(subCategoryId) : null;
+    // 모임 id -> 서브 카테고리 id (모임 상태와 관계없이 조회)
+    @Override
+    public Map<Long, List<Long>> findAllSubCategoryIdsByPlubbingIds(List<Long> plubbingIds) {
+        return queryFactory
+                .select(plubbingSubCategory.plubbing.id, plubbingSubCategory.subCategory.id)
+                .from(plubbingSubCategory)
+                .where(plubbingSubCategory.plubbing.id.in(plubbingIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        tuple -> tuple.get(plubbingSubCategory.plubbing.id),
+                        Collectors.mapping(tuple -> tuple.get(plubbingSubCategory.subCategory.id), Collectors.toList())
+                ));
     }
 
-    private BooleanExpression getCursorIdByViews(Long cursorId, Integer views) {
-         return (cursorId == null || views == null) ? null : plubbing.views.loe(views)
-                 .and(plubbing.id.gt(cursorId)
-                 .or(plubbing.views.lt(views)));
+    // 인기 순위 대상 (모집 중인 공개 모임, 정원과 무관), plubbingIds 가 null 이면 전체
+    @Override
+    public List<Plubbing> findAllRankingCandidates(List<Long> plubbingIds) {
+        return queryFactory
+                .selectFrom(plubbing)
+                .join(plubbing.recruit, recruit)
+                .fetchJoin()
+                .where(plubbingIds == null ? null : plubbing.id.in(plubbingIds),
+                        plubbing.status.eq(PlubbingStatus.ACTIVE),
+                        plubbing.visibility.eq(true),
+                        recruit.status.eq(RecruitStatus.RECRUITING))
+                .fetch();
+    }
+
+    // 모임 id -> 카테고리 id (모임 상태와 관계없이 조회)
+    @Override
+    public Map<Long, List<Long>> findAllCategoryIdsByPlubbingIds(List<Long> plubbingIds) {
+        return queryFactory
+                .select(plubbingSubCategory.plubbing.id, subCategory.category.id)
+                .distinct()
+                .from(plubbingSubCategory)
+                .join(plubbingSubCategory.subCategory, subCategory)
+                .where(plubbingSubCategory.plubbing.id.in(plubbingIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        tuple -> tuple.get(plubbingSubCategory.plubbing.id),
+                        Collectors.mapping(tuple -> tuple.get(subCategory.category.id), Collectors.toList())
+                ));
     }
 
-    private BooleanExpression getCursorId(Long cursorId) {
-        return (cursorId == null || cursorId == 0) ? null : plubbing.id.gt(cursorId);
+    private BooleanExpression eqAccountNum(Integer accountNum) {
+        return accountNum != null ? plubbing.curAccountNum.eq(accountNum) : null;
+    }
+
+    // 모임 요일 중 하나라도 days 에 포함 (days 가 비어 있으면 요일 무관, 요일이 없는 모임도 포함 - 색인 조회와 같은 결과)
+    private BooleanExpression hasMeetingDay(List<MeetingDay> days) {
+        if (days == null || days.isEmpty()) return null;
+        return JPAExpressions.selectOne()
+                .from(plubbingMeetingDay)
+                .where(plubbingMeetingDay.plubbing.eq(plubbing),
+                        plubbingMeetingDay.day.in(days))
+                .exists();
+    }
+
+    // 카테고리(categoryId)와 서브 카테고리(subCategoryId) 조건을 만족하는 서브 카테고리가 하나라도 있는 모임 (null 인 조건은 무시)
+    private BooleanExpression hasSubCategory(Long categoryId, List<Long> subCategoryId) {
+        return JPAExpressions.selectOne()
+                .from(plubbingSubCategory)
+                .join(plubbingSubCategory.subCategory, subCategory)
+                .where(plubbingSubCategory.plubbing.eq(plubbing),
+                        categoryId == null ? null : subCategory.category.id.eq(categoryId),
+                        subCategoryId == null ? null : subCategory.id.in(subCategoryId))
+                .exists();
     }
-}
\ No newline at end of file
+}
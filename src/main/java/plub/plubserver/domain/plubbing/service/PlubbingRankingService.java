@@ -0,0 +1,332 @@
+package plub.plubserver.domain.plubbing.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import plub.plubserver.common.exception.PlubException;
+import plub.plubserver.common.pagination.KeysetSlice;
+import plub.plubserver.common.pagination.ScoreCursor;
+import plub.plubserver.domain.plubbing.event.PlubbingChangedEvent;
+import plub.plubserver.domain.plubbing.event.PlubbingPopularityEvent;
+import plub.plubserver.domain.plubbing.model.Plubbing;
+import plub.plubserver.domain.plubbing.model.PopularitySignal;
+import plub.plubserver.domain.plubbing.repository.PlubbingRepository;
+import plub.plubserver.domain.recruit.event.BookmarkChangedEvent;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static plub.plubserver.common.constant.GlobalConstants.*;
+
+/**
+ * 모임 인기 순위 (Redis sorted set)
+ * 조회, 북마크, 지원, 가입 승낙에 가중치를 주고 시간이 지날수록 RANKING_HALF_LIFE 마다 절반이 되도록 감쇠한 점수를 전체/카테고리별 sorted set 에 유지한다
+ * 감쇠는 기준 시각(epoch) 이후 경과 시간만큼 새 점수를 키우는 방식(forward decay)이라 기존 점수는 다시 계산하지 않고,
+ * 값이 너무 커지지 않도록 RANKING_REBASE_INTERVAL 마다 전체 점수를 줄이고 기준 시각을 옮긴다
+ * 행동은 메모리에 모아 두었다가 RANKING_FLUSH_INTERVAL 마다 반영하고, 순위 대상(모집 중인 공개 모임)은 모임 변경과 주기적인 대조로 맞춘다
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class PlubbingRankingService {
+
+    private static final String EPOCH_KEY = "ranking:epoch";
+    private static final String POPULAR_KEY = "ranking:popular";
+    private static final String CATEGORY_KEY = "ranking:category:";
+    private static final String KEY_INDEX_KEY = "ranking:keys";
+    private static final String RECONCILE_LOCK_KEY = "ranking:reconcile:lock";
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // 순위 대상인 경우만 감쇠 가중치만큼 점수 증가 (KEYS[1] : epoch, KEYS[2..] : 순위 키)
+    static final RedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = tonumber(redis.call('get', KEYS[1])) " +
+                    "if not epoch then return 0 end " +
+                    "local delta = tonumber(ARGV[2]) * math.pow(2, (tonumber(ARGV[3]) - epoch) / tonumber(ARGV[4])) " +
+                    "local updated = 0 " +
+                    "for i = 2, #KEYS do " +
+                    "  if redis.call('zscore', KEYS[i], ARGV[1]) then " +
+                    "    redis.call('zincrby', KEYS[i], tostring(delta), ARGV[1]) " +
+                    "    updated = updated + 1 " +
+                    "  end " +
+                    "end " +
+                    "return updated",
+            Long.class
+    );
+
+    // 모든 순위 키의 점수를 새 기준 시각에 맞게 줄이고 기준 시각 이동 (반영과 섞이지 않도록 한 번에 실행)
+    static final RedisScript<Long> REBASE_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = tonumber(redis.call('get', KEYS[1])) " +
+                    "if not epoch then redis.call('set', KEYS[1], ARGV[1]) return 0 end " +
+                    "local factor = math.pow(2, (epoch - tonumber(ARGV[1])) / tonumber(ARGV[2])) " +
+                    "local keys = redis.call('smembers', KEYS[2]) " +
+                    "for _, key in ipairs(keys) do " +
+                    "  redis.call('zunionstore', key, 1, key, 'WEIGHTS', tostring(factor)) " +
+                    "end " +
+                    "redis.call('set', KEYS[1], ARGV[1]) " +
+                    "return #keys",
+            Long.class
+    );
+
+    // 처음 점수로 추가 (이미 있으면 유지), 기준 시각을 스크립트 안에서 읽어서 점수 재조정과 섞이지 않는다
+    // KEYS[1] : epoch, KEYS[2..] : 순위 키, ARGV[1] : 반감기, ARGV[2..] : (모임 id, 가중치, 가중치 기준 시각) 반복
+    static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = tonumber(redis.call('get', KEYS[1])) " +
+                    "if not epoch then return 0 end " +
+                    "local added = 0 " +
+                    "for i = 2, #ARGV, 3 do " +
+                    "  local score = tonumber(ARGV[i + 1]) * math.pow(2, (tonumber(ARGV[i + 2]) - epoch) / tonumber(ARGV[1])) " +
+                    "  for j = 2, #KEYS do " +
+                    "    added = added + redis.call('zadd', KEYS[j], 'NX', tostring(score), ARGV[i]) " +
+                    "  end " +
+                    "end " +
+                    "return added",
+            Long.class
+    );
+
+    private final StringRedisTemplate template;
+    private final PlubbingRepository plubbingRepository;
+
+    // 기록(merge)과 꺼내기(remove)가 같은 키에 대해 원자적이라 꺼내는 도중의 기록은 다음 주기에 남는다
+    private final Map<Long, Double> pendingWeights = new ConcurrentHashMap<>();
+
+    public record RankingPage(
+            List<Long> plubbingIds,
+            boolean hasNext,
+            String nextCursor,
+            Long totalElements
+    ) {
+    }
+
+    /**
+     * 기준 시각 기준 감쇠 가중치 (기준 시각보다 RANKING_HALF_LIFE 늦을 때마다 2배)
+     */
+    public static double decayedWeight(double weight, long epochSeconds, long atSeconds) {
+        return weight * Math.pow(2, (double) (atSeconds - epochSeconds) / RANKING_HALF_LIFE);
+    }
+
+    // 처음 순위에 들어갈 때 점수의 SEED_SCRIPT 인자 : 누적 조회수, 인원을 마지막 수정 시각 기준으로 감쇠
+    private static List<String> seedArgs(Plubbing plubbing, long nowSeconds) {
+        double weight = PopularitySignal.VIEW.getWeight() * plubbing.getViews()
+                + PopularitySignal.JOIN.getWeight() * plubbing.getCurAccountNum();
+        String modifiedAt = plubbing.getModifiedAt();
+        long at = modifiedAt == null ? nowSeconds
+                : LocalDateTime.parse(modifiedAt, DATE_TIME_FORMATTER).atZone(ZoneId.systemDefault()).toEpochSecond();
+        return List.of(String.valueOf(plubbing.getId()), String.valueOf(weight), String.valueOf(at));
+    }
+
+    private void seed(List<String> keys, List<List<String>> seedArgs) {
+        List<String> scriptKeys = new ArrayList<>();
+        scriptKeys.add(EPOCH_KEY);
+        scriptKeys.addAll(keys);
+        for (int from = 0; from < seedArgs.size(); from += RANKING_SEED_BATCH_SIZE) {
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(RANKING_HALF_LIFE));
+            seedArgs.subList(from, Math.min(from + RANKING_SEED_BATCH_SIZE, seedArgs.size())).forEach(args::addAll);
+            template.execute(SEED_SCRIPT, scriptKeys, args.toArray());
+        }
+    }
+
+    private static String categoryKey(Long categoryId) {
+        return CATEGORY_KEY + categoryId;
+    }
+
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    /**
+     * 행동 기록 (메모리에 모았다가 주기적으로 반영)
+     */
+    public void record(Long plubbingId, PopularitySignal signal) {
+        pendingWeights.merge(plubbingId, (double) signal.getWeight(), Double::sum);
+    }
+
+    @Scheduled(fixedDelay = RANKING_FLUSH_INTERVAL * 1000L, initialDelay = RANKING_FLUSH_INTERVAL * 1000L)
+    @PreDestroy
+    public void flush() {
+        Map<Long, Double> weights = new HashMap<>();
+        for (Long plubbingId : List.copyOf(pendingWeights.keySet())) {
+            Double weight = pendingWeights.remove(plubbingId);
+            if (weight != null && weight != 0) weights.put(plubbingId, weight);
+        }
+        if (weights.isEmpty()) return;
+        try {
+            Map<Long, List<Long>> categoryIds = plubbingRepository.findAllCategoryIdsByPlubbingIds(new ArrayList<>(weights.keySet()));
+            long now = nowSeconds();
+            for (Iterator<Map.Entry<Long, Double>> it = weights.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<Long, Double> entry = it.next();
+                List<String> keys = new ArrayList<>(List.of(EPOCH_KEY, POPULAR_KEY));
+                categoryIds.getOrDefault(entry.getKey(), List.of()).forEach(id -> keys.add(categoryKey(id)));
+                template.execute(INCREASE_SCRIPT, keys, String.valueOf(entry.getKey()), String.valueOf(entry.getValue()),
+                        String.valueOf(now), String.valueOf(RANKING_HALF_LIFE));
+                it.remove();
+            }
+        } catch (Exception e) {
+            log.warn("인기 순위 반영 실패, 다음 주기에 재시도 : {}", e.getMessage());
+            weights.forEach((plubbingId, weight) -> pendingWeights.merge(plubbingId, weight, Double::sum));
+        }
+    }
+
+    /**
+     * 순위 조회 (sorted set 키셋 조회)
+     * 점수가 RANKING_FLUSH_INTERVAL 마다 바뀌므로 순위(offset) 대신 마지막으로 본 (점수, 모임 id) 다음부터 조회한다
+     * 기존 클라이언트의 cursorId 는 해당 모임의 현재 점수 다음부터 조회
+     * @param categoryId null 이면 전체 순위
+     * @return Redis 를 사용할 수 없거나 순위가 준비되지 않았거나 DB 조회 커서로 이어보는 중이면 empty (DB 조회로 대체)
+     */
+    public Optional<RankingPage> getPage(Long categoryId, String cursor, Long cursorId, int size) {
+        try {
+            // DB 조회로 시작한 스크롤은 DB 조회로 계속
+            if (cursor != null && !cursor.isBlank() && !ScoreCursor.isScoreCursor(cursor)) return Optional.empty();
+            if (!Boolean.TRUE.equals(template.hasKey(POPULAR_KEY))) return Optional.empty();
+            String key = categoryId == null ? POPULAR_KEY : categoryKey(categoryId);
+            ZSetOperations<String, String> operations = template.opsForZSet();
+            KeysetSlice<String> slice = ScoreCursor.fetch(
+                    operations, key, ScoreCursor.resolve(operations, key, cursor, cursorId), size);
+            Long totalElements = operations.zCard(key);
+            return Optional.of(new RankingPage(
+                    slice.content().stream().map(Long::valueOf).toList(),
+                    slice.hasNext(),
+                    slice.nextCursor(),
+                    totalElements == null ? 0L : totalElements
+            ));
+        } catch (PlubException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("인기 순위 조회 실패, DB 조회로 대체 : {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public Optional<List<Long>> getTop(int size) {
+        return getPage(null, null, null, size).map(RankingPage::plubbingIds);
+    }
+
+    /**
+     * 순위 id 순서대로 모임 조회 (그 사이 대상에서 빠진 모임은 제외)
+     */
+    public List<Plubbing> getCandidates(List<Long> plubbingIds) {
+        if (plubbingIds.isEmpty()) return List.of();
+        Map<Long, Plubbing> plubbings = plubbingRepository.findAllRankingCandidates(plubbingIds).stream()
+                .collect(Collectors.toMap(Plubbing::getId, Function.identity()));
+        return plubbingIds.stream()
+                .map(plubbings::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 모임 하나의 순위 대상 여부 갱신 (대상이 되면 처음 점수로 추가, 카테고리가 바뀌면 옮김, 대상이 아니면 제거)
+     */
+    public void refresh(Long plubbingId) {
+        String member = String.valueOf(plubbingId);
+        List<Plubbing> candidates = plubbingRepository.findAllRankingCandidates(List.of(plubbingId));
+        Set<String> keys = new HashSet<>();
+        if (!candidates.isEmpty()) {
+            keys.add(POPULAR_KEY);
+            plubbingRepository.findAllCategoryIdsByPlubbingIds(List.of(plubbingId))
+                    .getOrDefault(plubbingId, List.of())
+                    .forEach(id -> keys.add(categoryKey(id)));
+            seed(new ArrayList<>(keys), List.of(seedArgs(candidates.get(0), nowSeconds())));
+            keys.forEach(key -> template.opsForSet().add(KEY_INDEX_KEY, key));
+        }
+        Optional.ofNullable(template.opsForSet().members(KEY_INDEX_KEY)).orElse(Set.of()).stream()
+                .filter(key -> !keys.contains(key))
+                .forEach(key -> template.opsForZSet().remove(key, member));
+    }
+
+    /**
+     * 순위 대상 대조
+     * 기준 시각이 오래됐으면 점수를 줄여 옮기고, 새 대상은 처음 점수로 추가(기존 점수 유지), 대상이 아닌 모임과 빈 키는 제거
+     */
+    public int reconcile() {
+        long now = nowSeconds();
+        template.opsForValue().setIfAbsent(EPOCH_KEY, String.valueOf(now));
+        String epoch = template.opsForValue().get(EPOCH_KEY);
+        if (epoch != null && now - Long.parseLong(epoch) >= RANKING_REBASE_INTERVAL)
+            template.execute(REBASE_SCRIPT, List.of(EPOCH_KEY, KEY_INDEX_KEY), String.valueOf(now), String.valueOf(RANKING_HALF_LIFE));
+
+        List<Plubbing> candidates = plubbingRepository.findAllRankingCandidates(null);
+        Map<Long, List<Long>> categoryIds = candidates.isEmpty() ? Map.of()
+                : plubbingRepository.findAllCategoryIdsByPlubbingIds(candidates.stream().map(Plubbing::getId).toList());
+
+        Map<String, List<List<String>>> sets = new HashMap<>();
+        candidates.forEach(plubbing -> {
+            List<String> args = seedArgs(plubbing, now);
+            sets.computeIfAbsent(POPULAR_KEY, k -> new ArrayList<>()).add(args);
+            categoryIds.getOrDefault(plubbing.getId(), List.of()).forEach(id ->
+                    sets.computeIfAbsent(categoryKey(id), k -> new ArrayList<>()).add(args));
+        });
+
+        sets.forEach((key, seedArgs) -> {
+            seed(List.of(key), seedArgs);
+            template.opsForSet().add(KEY_INDEX_KEY, key);
+            Set<String> members = seedArgs.stream().map(args -> args.get(0)).collect(Collectors.toSet());
+            Object[] stale = Optional.ofNullable(template.opsForZSet().range(key, 0, -1)).orElse(Set.of()).stream()
+                    .filter(member -> !members.contains(member))
+                    .toArray();
+            if (stale.length > 0) template.opsForZSet().remove(key, stale);
+        });
+
+        Optional.ofNullable(template.opsForSet().members(KEY_INDEX_KEY)).orElse(Set.of()).stream()
+                .filter(key -> !sets.containsKey(key))
+                .forEach(key -> {
+                    template.delete(key);
+                    template.opsForSet().remove(KEY_INDEX_KEY, key);
+                });
+        return candidates.size();
+    }
+
+    // 여러 인스턴스 중 하나만 대조
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = RANKING_RECONCILE_INTERVAL * 1000L, initialDelay = RANKING_RECONCILE_INTERVAL * 1000L)
+    public void scheduleReconcile() {
+        try {
+            Boolean locked = template.opsForValue().setIfAbsent(
+                    RECONCILE_LOCK_KEY, "1", Duration.ofSeconds(RANKING_RECONCILE_INTERVAL / 2));
+            if (!Boolean.TRUE.equals(locked)) return;
+            log.info("인기 순위 대상 대조 : {}건", reconcile());
+        } catch (Exception e) {
+            log.error("인기 순위 대상 대조 중 예외 발생: " + e.getMessage(), e);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlubbingChanged(PlubbingChangedEvent event) {
+        try {
+            refresh(event.plubbingId());
+        } catch (Exception e) {
+            log.warn("인기 순위 대상 갱신 실패 (plubbingId={}) : {}", event.plubbingId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPopularity(PlubbingPopularityEvent event) {
+        record(event.plubbingId(), event.signal());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookmarkChanged(BookmarkChangedEvent event) {
+        record(event.plubbingId(), event.bookmarked() ? PopularitySignal.BOOKMARK : PopularitySignal.UNBOOKMARK);
+    }
+}
@@ -0,0 +1,268 @@
+package plub.plubserver.domain.plubbing.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisZSetCommands.Aggregate;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import plub.plubserver.common.exception.PlubException;
+import plub.plubserver.common.pagination.KeysetSlice;
+import plub.plubserver.common.pagination.ScoreCursor;
+import plub.plubserver.domain.account.event.AccountCategoryChangedEvent;
+import plub.plubserver.domain.account.model.Account;
+import plub.plubserver.domain.account.repository.AccountCategoryRepository;
+import plub.plubserver.domain.plubbing.event.PlubbingChangedEvent;
+import plub.plubserver.domain.plubbing.model.Plubbing;
+import plub.plubserver.domain.plubbing.repository.PlubbingRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static plub.plubserver.common.constant.GlobalConstants.*;
+
+/**
+ * 모임 추천 (Redis sorted set)
+ * 추천 후보(모집 중이고 정원이 남은 모임)를 조회수, 충원율, 최신성으로 점수를 매겨 서브 카테고리별 sorted set 에 유지하고,
+ * 회원별 추천 목록은 관심 서브 카테고리 set 의 합집합으로 만들어 RECOMMEND_ACCOUNT_CACHE_TIME 동안 캐싱하고 (관심사가 없으면 전체 후보 set 조회)
+ * 모임이 바뀌면 해당 모임의 점수만 갱신하고, 조회수 변화 등은 주기적인 전체 재계산으로 반영한다
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class PlubbingRecommendationService {
+
+    private static final String SUB_CATEGORY_KEY = "recommend:subcategory:";
+    private static final String POPULAR_KEY = "recommend:popular";
+    private static final String SUB_CATEGORY_INDEX_KEY = "recommend:subcategories";
+    private static final String ACCOUNT_KEY = "recommend:account:";
+    private static final String REBUILD_LOCK_KEY = "recommend:rebuild:lock";
+    private static final String REFRESHED_KEY = "recommend:refreshed";
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final StringRedisTemplate template;
+    private final PlubbingRepository plubbingRepository;
+    private final AccountCategoryRepository accountCategoryRepository;
+
+    public record RecommendationPage(
+            List<Long> plubbingIds,
+            boolean hasNext,
+            String nextCursor,
+            Long totalElements
+    ) {
+    }
+
+    /**
+     * 추천 점수 = 조회수(log) + 충원율 + 최신성(RECOMMEND_RECENCY_HALF_LIFE 마다 절반)
+     */
+    public static double score(int views, int curAccountNum, int maxAccountNum, LocalDateTime modifiedAt, LocalDateTime now) {
+        double viewScore = Math.log10(1 + Math.max(0, views));
+        double fillRate = maxAccountNum <= 0 ? 0 : Math.min(1.0, (double) curAccountNum / maxAccountNum);
+        double ageSeconds = modifiedAt == null ? 0 : Math.max(0, Duration.between(modifiedAt, now).getSeconds());
+        double recency = Math.pow(0.5, ageSeconds / RECOMMEND_RECENCY_HALF_LIFE);
+        return RECOMMEND_VIEW_WEIGHT * viewScore
+                + RECOMMEND_FILL_RATE_WEIGHT * fillRate
+                + RECOMMEND_RECENCY_WEIGHT * recency;
+    }
+
+    // 모집글 끌어올리기도 최신성에 반영되도록 모임, 모집글 중 늦은 수정일시 사용
+    private static double score(Plubbing plubbing, LocalDateTime now) {
+        String modifiedAt = plubbing.getModifiedAt();
+        String recruitModifiedAt = plubbing.getRecruit().getModifiedAt();
+        if (modifiedAt == null || (recruitModifiedAt != null && recruitModifiedAt.compareTo(modifiedAt) > 0))
+            modifiedAt = recruitModifiedAt;
+        return score(
+                plubbing.getViews(),
+                plubbing.getCurAccountNum(),
+                plubbing.getMaxAccountNum(),
+                modifiedAt == null ? null : LocalDateTime.parse(modifiedAt, DATE_TIME_FORMATTER),
+                now
+        );
+    }
+
+    /**
+     * 추천 목록 조회 (sorted set 키셋 조회)
+     * 커서는 마지막으로 본 (점수, 모임 id), 기존 클라이언트의 cursorId 는 해당 모임의 현재 점수 다음부터 조회
+     * @return Redis 를 사용할 수 없거나 후보가 준비되지 않았거나 DB 조회 커서로 이어보는 중이면 empty (DB 조회로 대체)
+     */
+    public Optional<RecommendationPage> getRecommendation(Account account, String cursor, Long cursorId, int size) {
+        try {
+            // DB 조회로 시작한 스크롤은 DB 조회로 계속
+            if (cursor != null && !cursor.isBlank() && !ScoreCursor.isScoreCursor(cursor)) return Optional.empty();
+            // 아직 후보를 계산하지 않았으면 (Redis 재시작 등) DB 조회로 대체
+            if (!Boolean.TRUE.equals(template.hasKey(POPULAR_KEY))) return Optional.empty();
+            String key = getAccountKey(account);
+            ZSetOperations<String, String> operations = template.opsForZSet();
+            KeysetSlice<String> slice = ScoreCursor.fetch(
+                    operations, key, ScoreCursor.resolve(operations, key, cursor, cursorId), size);
+            Long totalElements = operations.zCard(key);
+            return Optional.of(new RecommendationPage(
+                    slice.content().stream().map(Long::valueOf).toList(),
+                    slice.hasNext(),
+                    slice.nextCursor(),
+                    totalElements == null ? 0L : totalElements
+            ));
+        } catch (PlubException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("추천 목록 조회 실패, DB 조회로 대체 : {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 관심 서브 카테고리 set 의 합집합을 회원별로 캐싱 (관심사가 없으면 전체 후보 set 을 그대로 조회)
+    private String getAccountKey(Account account) {
+        String key = ACCOUNT_KEY + account.getId();
+        if (Boolean.TRUE.equals(template.hasKey(key))) return key;
+        List<String> sourceKeys = accountCategoryRepository.findAllByAccount(account).stream()
+                .map(it -> SUB_CATEGORY_KEY + it.getCategorySub().getId())
+                .distinct()
+                .toList();
+        if (sourceKeys.isEmpty()) return POPULAR_KEY;
+        template.opsForZSet().unionAndStore(
+                sourceKeys.get(0),
+                sourceKeys.subList(1, sourceKeys.size()),
+                key,
+                Aggregate.MAX
+        );
+        template.expire(key, Duration.ofSeconds(RECOMMEND_ACCOUNT_CACHE_TIME));
+        return key;
+    }
+
+    /**
+     * 모임 하나의 점수 갱신 (후보가 아니게 되면 제거)
+     * 전체 재계산 중이던 스냅샷이 이 갱신을 덮어쓰지 않도록 갱신한 모임을 기록해 두고 재계산이 끝나면 다시 반영한다
+     */
+    public void refresh(Long plubbingId) {
+        apply(plubbingId);
+        template.opsForSet().add(REFRESHED_KEY, String.valueOf(plubbingId));
+        template.expire(REFRESHED_KEY, Duration.ofSeconds(RECOMMEND_REBUILD_INTERVAL));
+    }
+
+    private void apply(Long plubbingId) {
+        List<Long> subCategoryIds = plubbingRepository
+                .findAllSubCategoryIdsByPlubbingIds(List.of(plubbingId))
+                .getOrDefault(plubbingId, List.of());
+        List<Plubbing> candidates = plubbingRepository.findAllRecommendCandidates(List.of(plubbingId));
+        String member = String.valueOf(plubbingId);
+        if (candidates.isEmpty()) {
+            template.opsForZSet().remove(POPULAR_KEY, member);
+            subCategoryIds.forEach(id -> template.opsForZSet().remove(SUB_CATEGORY_KEY + id, member));
+            return;
+        }
+        double score = score(candidates.get(0), LocalDateTime.now());
+        template.opsForZSet().add(POPULAR_KEY, member, score);
+        subCategoryIds.forEach(id -> {
+            template.opsForZSet().add(SUB_CATEGORY_KEY + id, member, score);
+            template.opsForSet().add(SUB_CATEGORY_INDEX_KEY, SUB_CATEGORY_KEY + id);
+        });
+    }
+
+    /**
+     * 전체 후보 재계산 (조회수, 최신성 반영)
+     * 키를 통째로 바꾸지 않고 제자리에서 점수를 덮어쓰고 후보가 아닌 모임만 지워서 재계산 중에도 조회할 수 있고,
+     * 재계산 중에 갱신된 모임은 스냅샷보다 최신이므로 마지막에 다시 반영한다
+     */
+    public int rebuild() {
+        template.delete(REFRESHED_KEY);
+        LocalDateTime now = LocalDateTime.now();
+        List<Plubbing> candidates = plubbingRepository.findAllRecommendCandidates(null);
+        Map<Long, Double> scores = candidates.stream()
+                .collect(Collectors.toMap(Plubbing::getId, it -> score(it, now)));
+        Map<Long, List<Long>> subCategoryIds = scores.isEmpty() ? Map.of()
+                : plubbingRepository.findAllSubCategoryIdsByPlubbingIds(new ArrayList<>(scores.keySet()));
+
+        Map<String, Set<TypedTuple<String>>> sets = new HashMap<>();
+        scores.forEach((plubbingId, score) -> {
+            TypedTuple<String> tuple = new DefaultTypedTuple<>(String.valueOf(plubbingId), score);
+            sets.computeIfAbsent(POPULAR_KEY, k -> new HashSet<>()).add(tuple);
+            subCategoryIds.getOrDefault(plubbingId, List.of()).forEach(id ->
+                    sets.computeIfAbsent(SUB_CATEGORY_KEY + id, k -> new HashSet<>()).add(tuple));
+        });
+
+        sets.forEach((key, tuples) -> {
+            template.opsForZSet().add(key, tuples);
+            Set<String> members = tuples.stream().map(TypedTuple::getValue).collect(Collectors.toSet());
+            Object[] stale = Optional.ofNullable(template.opsForZSet().range(key, 0, -1)).orElse(Set.of()).stream()
+                    .filter(member -> !members.contains(member))
+                    .toArray();
+            if (stale.length > 0) template.opsForZSet().remove(key, stale);
+            if (!key.equals(POPULAR_KEY)) template.opsForSet().add(SUB_CATEGORY_INDEX_KEY, key);
+        });
+
+        // 더 이상 후보가 없는 서브 카테고리 set 삭제
+        Set<String> indexedKeys = Optional.ofNullable(template.opsForSet().members(SUB_CATEGORY_INDEX_KEY)).orElse(Set.of());
+        indexedKeys.stream()
+                .filter(key -> !sets.containsKey(key))
+                .forEach(key -> {
+                    template.delete(key);
+                    template.opsForSet().remove(SUB_CATEGORY_INDEX_KEY, key);
+                });
+        if (!sets.containsKey(POPULAR_KEY)) template.delete(POPULAR_KEY);
+
+        // 재계산 중에 갱신된 모임 다시 반영
+        Optional.ofNullable(template.opsForSet().members(REFRESHED_KEY)).orElse(Set.of())
+                .forEach(member -> apply(Long.valueOf(member)));
+        return candidates.size();
+    }
+
+    // 여러 인스턴스 중 하나만 재계산
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = RECOMMEND_REBUILD_INTERVAL * 1000L, initialDelay = RECOMMEND_REBUILD_INTERVAL * 1000L)
+    public void scheduleRebuild() {
+        try {
+            Boolean locked = template.opsForValue().setIfAbsent(
+                    REBUILD_LOCK_KEY, "1", Duration.ofSeconds(RECOMMEND_REBUILD_INTERVAL / 2));
+            if (!Boolean.TRUE.equals(locked)) return;
+            log.info("추천 후보 재계산 : {}건", rebuild());
+        } catch (Exception e) {
+            log.error("추천 후보 재계산 중 예외 발생: " + e.getMessage(), e);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlubbingChanged(PlubbingChangedEvent event) {
+        try {
+            refresh(event.plubbingId());
+        } catch (Exception e) {
+            log.warn("추천 점수 갱신 실패 (plubbingId={}) : {}", event.plubbingId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountCategoryChanged(AccountCategoryChangedEvent event) {
+        try {
+            template.delete(ACCOUNT_KEY + event.accountId());
+        } catch (Exception e) {
+            log.warn("추천 목록 캐시 삭제 실패 (accountId={}) : {}", event.accountId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 추천된 모임 id 순서대로 모임 조회 (그 사이 후보에서 빠진 모임은 제외)
+     */
+    public List<Plubbing> getCandidates(List<Long> plubbingIds) {
+        if (plubbingIds.isEmpty()) return List.of();
+        Map<Long, Plubbing> plubbings = plubbingRepository.findAllRecommendCandidates(plubbingIds).stream()
+                .collect(Collectors.toMap(Plubbing::getId, Function.identity()));
+        return plubbingIds.stream()
+                .map(plubbings::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -2,13 +2,15 @@ package plub.plubserver.domain.plubbing.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import plub.plubserver.common.dto.PageResponse;
 import plub.plubserver.common.exception.StatusCode;
 import plub.plubserver.common.model.SortType;
+import plub.plubserver.common.pagination.KeysetSlice;
+import plub.plubserver.common.pagination.ScoreCursor;
 import plub.plubserver.domain.account.model.Account;
 import plub.plubserver.domain.account.model.Role;
 import plub.plubserver.domain.account.repository.AccountCategoryRepository;
@@ -20,21 +22,24 @@ import plub.plubserver.domain.notification.dto.NotificationDto.NotifyParams;
 import plub.plubserver.domain.notification.model.NotificationType;
 import plub.plubserver.domain.notification.service.NotificationService;
 import plub.plubserver.domain.plubbing.dto.PlubbingDto.*;
+import plub.plubserver.domain.plubbing.event.PlubbingChangedEvent;
 import plub.plubserver.domain.plubbing.exception.PlubbingException;
 import plub.plubserver.domain.plubbing.model.*;
 import plub.plubserver.domain.plubbing.repository.AccountPlubbingRepository;
+import plub.plubserver.domain.plubbing.repository.PlubbingCategoryIndex;
 import plub.plubserver.domain.plubbing.repository.PlubbingRepository;
+import plub.plubserver.domain.plubbing.service.PlubbingRankingService.RankingPage;
+import plub.plubserver.domain.plubbing.service.PlubbingRecommendationService.RecommendationPage;
 import plub.plubserver.domain.recruit.dto.RecruitDto.UpdateRecruitQuestionRequest;
 import plub.plubserver.domain.recruit.dto.RecruitDto.UpdateRecruitRequest;
 import plub.plubserver.domain.recruit.model.*;
 import plub.plubserver.domain.recruit.repository.AppliedAccountRepository;
+import plub.plubserver.domain.recruit.event.RecruitBookmarksClearedEvent;
 import plub.plubserver.domain.recruit.repository.BookmarkRepository;
+import plub.plubserver.domain.recruit.service.BookmarkCache;
 import plub.plubserver.domain.recruit.repository.RecruitRepository;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
 
 import static plub.plubserver.domain.plubbing.model.MyPlubbingStatus.GUEST;
 import static plub.plubserver.domain.plubbing.model.MyPlubbingStatus.HOST;
@@ -51,14 +56,38 @@ public class PlubbingService {
     private final AccountCategoryRepository accountCategoryRepository;
     private final AccountPlubbingRepository accountPlubbingRepository;
     private final BookmarkRepository bookmarkRepository;
+    private final BookmarkCache bookmarkCache;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PlubbingCategoryIndex plubbingCategoryIndex;
     private final RecruitRepository recruitRepository;
     private final AppliedAccountRepository appliedAccountRepository;
+    private final PlubbingRecommendationService plubbingRecommendationService;
+    private final PlubbingRankingService plubbingRankingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Plubbing getPlubbing(Long plubbingId) {
         return plubbingRepository.findById(plubbingId)
                 .orElseThrow(() -> new PlubbingException(StatusCode.NOT_FOUND_PLUBBING));
     }
 
+    /**
+     * 모임 가입
+     * 정원 검사와 인원 증가를 조건부 update 한 번으로 처리하고, 멤버 목록을 읽지 않고 AccountPlubbing 만 저장한다
+     */
+    @Transactional
+    public AccountPlubbing admitMember(Plubbing plubbing, Account account) {
+        if (plubbingRepository.increaseCurAccountNum(plubbing.getId()) == 0)
+            throw new PlubbingException(StatusCode.PLUBBING_MEMBER_IS_FULL);
+        plubbing.plusCurAccountNum();
+        plubbingCategoryIndex.adjustMembersAfterCommit(plubbing.getId(), 1);
+        return accountPlubbingRepository.save(AccountPlubbing.builder()
+                .account(account)
+                .plubbing(plubbing)
+                .accountPlubbingStatus(AccountPlubbingStatus.ACTIVE)
+                .isHost(false)
+                .build());
+    }
+
     private void createRecruit(CreatePlubbingRequest createPlubbingRequest, Plubbing plubbing) {
         // 모집 질문글 엔티티화
         List<RecruitQuestion> recruitQuestionList = convertRecruitQuestionEntityList(createPlubbingRequest.questions());
@@ -185,6 +214,7 @@ public class PlubbingService {
 
         plubbingRepository.flush(); // flush를 안 하면 recruitId가 null로 들어감
 
+        eventPublisher.publishEvent(new PlubbingChangedEvent(plubbing.getId()));
         return PlubbingIdResponse.of(plubbing);
     }
 
@@ -233,7 +263,6 @@ public class PlubbingService {
                 .stream().map(AccountPlubbing::getAccount).toList());
     }
 
-    @Transactional
     public MainPlubbingResponse getMainPlubbing(Long plubbingId) {
         Account currentAccount = accountService.getCurrentAccount();
         if (!accountPlubbingRepository.existsByAccountAndPlubbingId(currentAccount, plubbingId))
@@ -246,7 +275,8 @@ public class PlubbingService {
         List<Account> accounts = accountPlubbingRepository.findAllByPlubbingId(plubbingId)
                 .stream().map(AccountPlubbing::getAccount).toList();
 
-        plubbing.plusView();
+        viewCountBuffer.increasePlubbingView(plubbingId);
+        plubbingRankingService.record(plubbingId, PopularitySignal.VIEW);
 
         return MainPlubbingResponse.of(plubbing, accounts);
     }
@@ -317,7 +347,10 @@ public class PlubbingService {
                 .forEach(ap -> ap.changeStatus(AccountPlubbingStatus.END));
 
         // 해당 모집글 북마크도 전체 삭제
+        List<Long> bookmarkedAccountIds = bookmarkRepository.findAllAccountIdsByRecruit(plubbing.getRecruit());
         plubbing.getRecruit().getBookmarkList().clear();
+        eventPublisher.publishEvent(new RecruitBookmarksClearedEvent(plubbingId, bookmarkedAccountIds));
+        eventPublisher.publishEvent(new PlubbingChangedEvent(plubbingId));
         return new PlubbingMessage(true);
     }
 
@@ -340,7 +373,9 @@ public class PlubbingService {
                 .orElseThrow(() -> new PlubbingException(StatusCode.NOT_FOUND_PLUBBING));
         accountPlubbingRepository.deleteByPlubbing(plubbing);
         // 해당 모집글 북마크도 전체 삭제
+        List<Long> bookmarkedAccountIds = bookmarkRepository.findAllAccountIdsByRecruit(plubbing.getRecruit());
         plubbing.getRecruit().getBookmarkList().clear();
+        eventPublisher.publishEvent(new RecruitBookmarksClearedEvent(plubbingId, bookmarkedAccountIds));
         plubbingRepository.deleteById(plubbingId);
         return new PlubbingMessage(true);
     }
@@ -361,6 +396,7 @@ public class PlubbingService {
             plubbing.endPlubbing(PlubbingStatus.END);
             accountPlubbingList.forEach(a -> a.changeStatus(AccountPlubbingStatus.END));
         }
+        eventPublisher.publishEvent(new PlubbingChangedEvent(plubbingId));
         return new PlubbingMessage(plubbing.getStatus());
     }
 
@@ -373,6 +409,7 @@ public class PlubbingService {
         Plubbing plubbing = getPlubbing(plubbingId);
         checkHost(plubbing);
         plubbing.updateRecruit(updateRecruitRequest);
+        eventPublisher.publishEvent(new PlubbingChangedEvent(plubbingId));
         return PlubbingIdResponse.of(plubbing);
     }
 
@@ -395,6 +432,7 @@ public class PlubbingService {
 
             case "ON" -> plubbing.addPlubbingPlace(new PlubbingPlace());
         }
+        eventPublisher.publishEvent(new PlubbingChangedEvent(plubbingId));
         return PlubbingIdResponse.of(plubbing);
     }
 
@@ -428,6 +466,7 @@ public class PlubbingService {
                 .content(plubbing.getName() + "에서 강퇴되었어요.\uD83D\uDE22") // 슬픈 이모지
                 .build();
         notificationService.pushMessage(params);
+        eventPublisher.publishEvent(new PlubbingChangedEvent(plubbingId));
         return new PlubbingMessage(kickAccount.getNickname() + "님을 강퇴하였습니다.");
     }
 
@@ -436,47 +475,107 @@ public class PlubbingService {
             throw new PlubbingException(StatusCode.DELETED_STATUS_PLUBBING);
     }
 
-    public PageResponse<PlubbingCardResponse> getRecommendation(Pageable pageable, Long cursorId) {
+    /**
+     * 모임 카드 목록 조립
+     * 호스트 여부, 모임 요일은 각각 IN 쿼리 한 번, 북마크 여부는 북마크 캐시로 확인해서 카드 수와 관계없이 쿼리 수가 일정하다
+     */
+    public List<PlubbingCardResponse> toCardResponses(Account account, List<Plubbing> plubbings) {
+        if (plubbings.isEmpty()) return List.of();
+        List<Long> plubbingIds = plubbings.stream().map(Plubbing::getId).toList();
+        Set<Long> hostPlubbingIds = new HashSet<>(
+                accountPlubbingRepository.findAllHostPlubbingIds(account.getId(), plubbingIds));
+        Set<Long> bookmarkedPlubbingIds = bookmarkCache.getBookmarkedPlubbingIds(account.getId());
+        Map<Long, List<MeetingDay>> meetingDays = plubbingRepository.findAllMeetingDaysByPlubbingIds(plubbingIds);
+        return plubbings.stream()
+                .map(p -> PlubbingCardResponse.of(
+                        p,
+                        meetingDays.getOrDefault(p.getId(), List.of()),
+                        hostPlubbingIds.contains(p.getId()),
+                        bookmarkedPlubbingIds.contains(p.getId())
+                ))
+                .toList();
+    }
+
+    /**
+     * 추천 모임 조회
+     * 미리 계산된 추천 목록(sorted set)에서 조회하고, 사용할 수 없으면 관심 카테고리 기준 DB 조회
+     */
+    public PageResponse<PlubbingCardResponse> getRecommendation(Pageable pageable, String cursor, Long cursorId) {
         Account currentAccount = accountService.getCurrentAccount();
-        Long nextCursorId = cursorId;
-        if (cursorId != null && cursorId == 0) {
-            Optional<Plubbing> first = plubbingRepository.findFirstByVisibilityAndId(true, cursorId);
-            nextCursorId = first.map(Plubbing::getId).orElse(null);
+        Optional<RecommendationPage> recommendation = plubbingRecommendationService
+                .getRecommendation(currentAccount, cursor, cursorId, pageable.getPageSize());
+        if (recommendation.isPresent()) {
+            RecommendationPage page = recommendation.get();
+            List<Plubbing> plubbings = plubbingRecommendationService.getCandidates(page.plubbingIds());
+            KeysetSlice<PlubbingCardResponse> plubbingCardResponses = new KeysetSlice<>(
+                    toCardResponses(currentAccount, plubbings), page.hasNext(), page.nextCursor());
+            return PageResponse.ofKeyset(plubbingCardResponses, page.totalElements());
         }
 
+        // 추천 목록(sorted set)을 보다가 DB 조회로 바뀌면 마지막으로 본 모임 다음부터 이어서 조회
+        if (ScoreCursor.isScoreCursor(cursor)) {
+            cursorId = ScoreCursor.decode(cursor).memberId();
+            cursor = null;
+        }
         if (!currentAccount.getAccountCategories().isEmpty()) {
             List<Long> subCategoryId = accountCategoryRepository.findAllByAccount(currentAccount)
                     .stream().map(it -> it.getCategorySub().getId()).toList();
-            Page<PlubbingCardResponse> plubbingCardResponses = plubbingRepository.findAllBySubCategory(subCategoryId, pageable, cursorId)
-                    .map(p -> PlubbingCardResponse.of(p, isHost(currentAccount, p), isBookmarked(currentAccount, p)));
-            return PageResponse.of(plubbingCardResponses);
+            KeysetSlice<PlubbingCardResponse> plubbingCardResponses = plubbingRepository
+                    .findAllBySubCategory(subCategoryId, pageable.getPageSize(), cursor, cursorId)
+                    .mapContent(plubbings -> toCardResponses(currentAccount, plubbings));
+            return PageResponse.ofKeyset(plubbingCardResponses, plubbingRepository.countAllBySubCategory(subCategoryId));
         } else {
-            Integer views = nextCursorId == null ? null : getPlubbing(nextCursorId).getViews();
-
-            Page<PlubbingCardResponse> plubbingCardResponses = plubbingRepository.findAllByViews(pageable, cursorId, views)
-                    .map(p -> PlubbingCardResponse.of(p, isHost(currentAccount, p), isBookmarked(currentAccount, p)));
-            return PageResponse.of(plubbingCardResponses);
+            Optional<PageResponse<PlubbingCardResponse>> ranking =
+                    getRankingPage(currentAccount, null, pageable, cursor, cursorId);
+            if (ranking.isPresent()) return ranking.get();
+            KeysetSlice<PlubbingCardResponse> plubbingCardResponses = plubbingRepository
+                    .findAllByViews(pageable.getPageSize(), cursor, cursorId)
+                    .mapContent(plubbings -> toCardResponses(currentAccount, plubbings));
+            return PageResponse.ofKeyset(plubbingCardResponses, plubbingRepository.countAllByViews());
         }
     }
 
+    // 인기 순위(sorted set) 한 페이지, 사용할 수 없으면 empty (DB 조회로 대체)
+    private Optional<PageResponse<PlubbingCardResponse>> getRankingPage(
+            Account currentAccount,
+            Long categoryId,
+            Pageable pageable,
+            String cursor,
+            Long cursorId
+    ) {
+        return plubbingRankingService.getPage(categoryId, cursor, cursorId, pageable.getPageSize()).map(page -> {
+            List<Plubbing> plubbings = plubbingRankingService.getCandidates(page.plubbingIds());
+            KeysetSlice<PlubbingCardResponse> plubbingCardResponses = new KeysetSlice<>(
+                    toCardResponses(currentAccount, plubbings), page.hasNext(), page.nextCursor());
+            return PageResponse.ofKeyset(plubbingCardResponses, page.totalElements());
+        });
+    }
+
     public PageResponse<PlubbingCardResponse> getPlubbingByCategory(
             Long categoryId,
             Pageable pageable,
             String sort,
             PlubbingCardRequest plubbingCardRequest,
+            String cursor,
             Long cursorId
     ) {
         Account currentAccount = accountService.getCurrentAccount();
 
-        Long nextCursorId = cursorId;
-        if (cursorId != null && cursorId == 0) {
-            Optional<Plubbing> first = plubbingRepository.findFirstByVisibilityAndId(true, cursorId);
-            nextCursorId = first.map(Plubbing::getId).orElse(null);
-        }
-
         if (plubbingCardRequest == null) {
-            return PageResponse.of(plubbingRepository.findAllByCategory(categoryId, pageable, SortType.of(sort), nextCursorId)
-                    .map(p -> PlubbingCardResponse.of(p, isHost(currentAccount, p), isBookmarked(currentAccount, p))));
+            if (SortType.of(sort) == SortType.POPULAR) {
+                Optional<PageResponse<PlubbingCardResponse>> ranking =
+                        getRankingPage(currentAccount, categoryId, pageable, cursor, cursorId);
+                if (ranking.isPresent()) return ranking.get();
+            }
+            // 인기 순위(sorted set)를 보다가 DB 조회로 바뀌면 마지막으로 본 모임 다음부터 이어서 조회
+            if (ScoreCursor.isScoreCursor(cursor)) {
+                cursorId = ScoreCursor.decode(cursor).memberId();
+                cursor = null;
+            }
+            KeysetSlice<PlubbingCardResponse> plubbingCardResponses = plubbingRepository
+                    .findAllByCategory(categoryId, pageable.getPageSize(), SortType.of(sort), cursor, cursorId)
+                    .mapContent(plubbings -> toCardResponses(currentAccount, plubbings));
+            return PageResponse.ofKeyset(plubbingCardResponses, plubbingRepository.countAllByCategory(categoryId));
         }
 
         Integer accountNum = plubbingCardRequest.accountNum();
@@ -486,10 +585,11 @@ public class PlubbingService {
         if (days != null)
             meetingDays = days.stream().map(MeetingDay::valueOf).toList();
 
-        Page<PlubbingCardResponse> plubbingCardResponses = plubbingRepository
-                .findAllByCategoryAndFilter(categoryId, subCategoryId, meetingDays, accountNum, pageable, SortType.of(sort), nextCursorId)
-                .map(p -> PlubbingCardResponse.of(p, isHost(currentAccount, p), isBookmarked(currentAccount, p)));
-        return PageResponse.of(plubbingCardResponses);
+        KeysetSlice<PlubbingCardResponse> plubbingCardResponses = plubbingRepository
+                .findAllByCategoryAndFilter(categoryId, subCategoryId, meetingDays, accountNum, pageable.getPageSize(), SortType.of(sort), cursor, cursorId)
+                .mapContent(plubbings -> toCardResponses(currentAccount, plubbings));
+        Long totalElements = plubbingRepository.countAllByCategoryAndFilter(categoryId, subCategoryId, meetingDays, accountNum);
+        return PageResponse.ofKeyset(plubbingCardResponses, totalElements);
     }
 
     // 모임 나가기
@@ -510,6 +610,7 @@ public class PlubbingService {
                 .content(account.getNickname() + "님이 모임을 나갔어요.")
                 .build();
         notificationService.pushMessage(params);
+        eventPublisher.publishEvent(new PlubbingChangedEvent(plubbingId));
 
         boolean isHost = plubbing.getHost().equals(account);
         return PlubbingResponse.of(plubbing, isHost);
@@ -521,7 +622,7 @@ public class PlubbingService {
     }
 
     public Boolean isBookmarked(Account account, Plubbing plubbing) {
-        return bookmarkRepository.existsByAccountAndRecruit(account, plubbing.getRecruit());
+        return bookmarkCache.isBookmarked(account.getId(), plubbing.getId());
     }
 
     public void checkActive(Plubbing plubbing) {
@@ -0,0 +1,93 @@
+package plub.plubserver.domain.plubbing.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import plub.plubserver.domain.plubbing.repository.PlubbingCategoryIndex;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static plub.plubserver.common.constant.GlobalConstants.VIEW_COUNT_FLUSH_BATCH_SIZE;
+import static plub.plubserver.common.constant.GlobalConstants.VIEW_COUNT_FLUSH_INTERVAL;
+
+/**
+ * 조회수 write-behind 버퍼
+ * 상세 조회마다 엔티티를 수정하지 않고 메모리에 쌓아 두었다가 주기적으로 views = views + ? 로 한 번에 반영한다
+ * 증가(merge)와 꺼내기(remove)는 같은 키에 대해 원자적이라 꺼내는 도중에 들어온 조회수는 다음 주기 값에 남는다
+ * 증분 갱신이라 여러 서버가 각자 반영해도 값이 덮어써지지 않고, 반영 실패 시 다음 주기에 다시 시도한다
+ * 모임 조회수는 반영된 만큼 카테고리 색인에도 더한다 (벌크 update 라 엔티티 리스너가 호출되지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private static final String RECRUIT_UPDATE_SQL = "update recruit set views = views + ? where recruit_id = ?";
+    private static final String PLUBBING_UPDATE_SQL = "update plubbing set views = views + ? where plubbing_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlubbingCategoryIndex plubbingCategoryIndex;
+
+    private final Map<Long, Long> recruitViews = new ConcurrentHashMap<>();
+    private final Map<Long, Long> plubbingViews = new ConcurrentHashMap<>();
+
+    public void increaseRecruitView(Long recruitId) {
+        recruitViews.merge(recruitId, 1L, Long::sum);
+    }
+
+    public void increasePlubbingView(Long plubbingId) {
+        plubbingViews.merge(plubbingId, 1L, Long::sum);
+    }
+
+    // 아직 반영되지 않은 조회수 (상세 응답에 더해서 보여줌)
+    public long getPendingRecruitViews(Long recruitId) {
+        return pendingOf(recruitViews, recruitId);
+    }
+
+    public long getPendingPlubbingViews(Long plubbingId) {
+        return pendingOf(plubbingViews, plubbingId);
+    }
+
+    @Scheduled(fixedDelay = VIEW_COUNT_FLUSH_INTERVAL * 1000L, initialDelay = VIEW_COUNT_FLUSH_INTERVAL * 1000L)
+    @PreDestroy
+    public void flush() {
+        flush(recruitViews, RECRUIT_UPDATE_SQL);
+        Map<Long, Long> flushedPlubbingViews = new HashMap<>();
+        flush(plubbingViews, PLUBBING_UPDATE_SQL)
+                .forEach(arg -> flushedPlubbingViews.put((Long) arg[1], (Long) arg[0]));
+        plubbingCategoryIndex.adjust(Map.of(), flushedPlubbingViews);
+    }
+
+    private long pendingOf(Map<Long, Long> views, Long id) {
+        return views.getOrDefault(id, 0L);
+    }
+
+    // @return 반영에 성공한 (증분, id) 목록
+    private List<Object[]> flush(Map<Long, Long> views, String sql) {
+        // 값을 꺼내면서 맵에서 제거 (이후 조회는 새 값으로 쌓임)
+        List<Object[]> args = new ArrayList<>();
+        for (Long id : List.copyOf(views.keySet())) {
+            Long delta = views.remove(id);
+            if (delta != null && delta > 0) args.add(new Object[]{delta, id});
+        }
+        List<Object[]> flushed = new ArrayList<>();
+        for (int from = 0; from < args.size(); from += VIEW_COUNT_FLUSH_BATCH_SIZE) {
+            List<Object[]> batch = args.subList(from, Math.min(from + VIEW_COUNT_FLUSH_BATCH_SIZE, args.size()));
+            try {
+                jdbcTemplate.batchUpdate(sql, batch);
+                flushed.addAll(batch);
+            } catch (Exception e) {
+                log.warn("조회수 반영 실패, 다음 주기에 재시도: " + e.getMessage());
+                batch.forEach(arg -> views.merge((Long) arg[1], (Long) arg[0], Long::sum));
+            }
+        }
+        return flushed;
+    }
+}
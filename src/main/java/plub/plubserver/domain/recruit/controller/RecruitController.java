@@ -34,12 +34,13 @@ public class RecruitController {
     @GetMapping("/recruit")
     public ApiResponse<PageResponse<RecruitCardResponse>> searchRecruit(
             @PageableDefault(sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) Long cursorId,
             @RequestParam String keyword,
             @RequestParam String type,
             @RequestParam String sort
     ) {
-        return success(recruitService.search(cursorId, pageable, sort, RecruitSearchType.toType(type), keyword));
+        return success(recruitService.search(cursor, cursorId, pageable, sort, RecruitSearchType.toType(type), keyword));
     }
 
     @ApiOperation(value = "모집 상세 조회")
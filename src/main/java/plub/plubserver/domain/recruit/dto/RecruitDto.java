@@ -2,6 +2,7 @@ package plub.plubserver.domain.recruit.dto;
 
 import lombok.Builder;
 import org.springframework.lang.Nullable;
+import org.springframework.web.util.HtmlUtils;
 import plub.plubserver.domain.plubbing.model.AccountPlubbing;
 import plub.plubserver.domain.plubbing.model.Plubbing;
 import plub.plubserver.domain.plubbing.model.PlubbingPlace;
@@ -9,11 +10,13 @@ import plub.plubserver.domain.recruit.dto.QuestionDto.AnswerRequest;
 import plub.plubserver.domain.recruit.dto.QuestionDto.QuestionAnswerResponse;
 import plub.plubserver.domain.recruit.model.AppliedAccount;
 import plub.plubserver.domain.recruit.model.Recruit;
+import plub.plubserver.domain.recruit.model.RecruitSearchType;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
 import java.util.List;
 
+import static plub.plubserver.common.constant.GlobalConstants.RECRUIT_SEARCH_SNIPPET_PADDING;
 import static plub.plubserver.domain.plubbing.dto.PlubbingDto.PlubbingInfoResponse;
 
 public class RecruitDto {
@@ -97,6 +100,10 @@ public class RecruitDto {
         }
 
         public static RecruitResponse of(Recruit recruit, boolean isApplied, boolean isBookmarked, boolean isHost) {
+            return of(recruit, isApplied, isBookmarked, isHost, recruit.getViews());
+        }
+
+        public static RecruitResponse of(Recruit recruit, boolean isApplied, boolean isBookmarked, boolean isHost, int views) {
             Plubbing plubbing = recruit.getPlubbing();
 
             List<String> categories = plubbing.getPlubbingSubCategories().stream()
@@ -130,7 +137,7 @@ public class RecruitDto {
                     .curAccountNum(plubbing.getCurAccountNum())
                     .remainAccountNum(plubbing.getMaxAccountNum() - plubbing.getCurAccountNum())
                     .joinedAccounts(joinedAccounts)
-                    .views(recruit.getViews())
+                    .views(views)
                     .isHost(isHost)
                     .build();
         }
@@ -208,14 +215,19 @@ public class RecruitDto {
             int curAccountNum,
             boolean isBookmarked,
             String status,
-            int views
-
+            int views,
+            @Nullable
+            SearchHighlight highlight
     ) {
         @Builder
         public RecruitCardResponse {
         }
 
         public static RecruitCardResponse of(Recruit recruit, boolean isBookmarked) {
+            return of(recruit, isBookmarked, null);
+        }
+
+        public static RecruitCardResponse of(Recruit recruit, boolean isBookmarked, SearchHighlight highlight) {
             Plubbing plubbing = recruit.getPlubbing();
             PlubbingPlace place = plubbing.getPlubbingPlace();
             return RecruitCardResponse.builder()
@@ -238,10 +250,58 @@ public class RecruitDto {
                     .remainAccountNum(plubbing.getMaxAccountNum() - plubbing.getCurAccountNum())
                     .status(recruit.getStatus().name())
                     .views(recruit.getViews())
+                    .highlight(highlight)
                     .build();
         }
     }
 
+    /**
+     * 검색어 강조 - 일치 구간을 <em> 으로 감싼 값 (HTML 이스케이프), 검색 대상이 아닌 필드는 null
+     * 소개글은 첫 일치 위치 앞뒤만 잘라서 준다
+     */
+    public record SearchHighlight(
+            String title,
+            String introduce,
+            String name
+    ) {
+        public static SearchHighlight of(Recruit recruit, RecruitSearchType type, String keyword) {
+            return switch (type) {
+                case TITLE -> new SearchHighlight(highlight(recruit.getTitle(), keyword), null, null);
+                case NAME -> new SearchHighlight(null, null, highlight(recruit.getPlubbing().getName(), keyword));
+                default -> new SearchHighlight(
+                        highlight(recruit.getTitle(), keyword),
+                        highlight(snippet(recruit.getIntroduce(), keyword), keyword),
+                        null
+                );
+            };
+        }
+
+        private static String snippet(String text, String keyword) {
+            if (text == null) return null;
+            int index = text.indexOf(keyword);
+            if (index < 0) index = 0;
+            int start = Math.max(0, index - RECRUIT_SEARCH_SNIPPET_PADDING);
+            int end = Math.min(text.length(), index + keyword.length() + RECRUIT_SEARCH_SNIPPET_PADDING);
+            return (start > 0 ? "..." : "") + text.substring(start, end) + (end < text.length() ? "..." : "");
+        }
+
+        static String highlight(String text, String keyword) {
+            if (text == null) return null;
+            if (keyword == null || keyword.isEmpty()) return HtmlUtils.htmlEscape(text);
+            StringBuilder result = new StringBuilder();
+            int from = 0;
+            int index;
+            while ((index = text.indexOf(keyword, from)) >= 0) {
+                result.append(HtmlUtils.htmlEscape(text.substring(from, index)))
+                        .append("<em>")
+                        .append(HtmlUtils.htmlEscape(keyword))
+                        .append("</em>");
+                from = index + keyword.length();
+            }
+            return result.append(HtmlUtils.htmlEscape(text.substring(from))).toString();
+        }
+    }
+
     public record RecruitMyApplicationResponse(
             String recruitDate,
             PlubbingInfoResponse plubbingInfo,
@@ -0,0 +1,9 @@
+package plub.plubserver.domain.recruit.event;
+
+// 북마크 등록/취소
+public record BookmarkChangedEvent(
+        Long accountId,
+        Long plubbingId,
+        boolean bookmarked
+) {
+}
@@ -0,0 +1,10 @@
+package plub.plubserver.domain.recruit.event;
+
+import java.util.List;
+
+// 모집 종료, 모임 삭제/정지로 모집글의 북마크가 전체 삭제됨
+public record RecruitBookmarksClearedEvent(
+        Long plubbingId,
+        List<Long> accountIds
+) {
+}
@@ -3,7 +3,9 @@ package plub.plubserver.domain.recruit.model;
 import lombok.*;
 import plub.plubserver.common.model.BaseEntity;
 import plub.plubserver.domain.plubbing.model.Plubbing;
+import plub.plubserver.domain.plubbing.repository.PlubbingCategoryIndexListener;
 import plub.plubserver.domain.recruit.dto.RecruitDto.UpdateRecruitRequest;
+import plub.plubserver.domain.recruit.repository.RecruitLuceneIndexListener;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -11,6 +13,7 @@ import java.util.List;
 
 
 @Entity
+@EntityListeners({PlubbingCategoryIndexListener.class, RecruitLuceneIndexListener.class})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -77,10 +80,6 @@ public class Recruit extends BaseEntity {
         questionNum = recruitQuestions.size();
     }
 
-    public void plusView() {
-        views++;
-    }
-
     public void pullUp() {
         this.pullUpCount++;
     }
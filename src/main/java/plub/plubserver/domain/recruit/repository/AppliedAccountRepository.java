@@ -1,6 +1,7 @@
 package plub.plubserver.domain.recruit.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import plub.plubserver.domain.account.model.Account;
@@ -27,4 +28,9 @@ public interface AppliedAccountRepository extends JpaRepository<AppliedAccount,
 
     void deleteAllByAccount(Account account);
     List<AppliedAccount> findAllByAccount(Account account);
+
+    // 대기 중인 지원자만 승낙/거절 (동시에 요청해도 한 번만 처리), 0 이면 이미 처리된 지원자
+    @Modifying(flushAutomatically = true)
+    @Query("update AppliedAccount aa set aa.status = :status where aa.id = :id and aa.status = 'WAITING'")
+    int updateStatusIfWaiting(@Param("id") Long id, @Param("status") ApplicantStatus status);
 }
@@ -1,12 +1,25 @@
 package plub.plubserver.domain.recruit.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import plub.plubserver.domain.account.model.Account;
 import plub.plubserver.domain.recruit.model.Bookmark;
 import plub.plubserver.domain.recruit.model.Recruit;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long>, BookmarkRepositoryCustom {
-    Boolean existsByAccountAndRecruit(Account account, Recruit recruit);
+    Optional<Bookmark> findByAccountIdAndRecruitId(Long accountId, Long recruitId);
+
+    // 내가 북마크한 모임 id 전체 (북마크 캐시 적재용)
+    @Query("select r.plubbing.id from Bookmark b join b.recruit r where b.account.id = :accountId")
+    List<Long> findAllBookmarkedPlubbingIds(@Param("accountId") Long accountId);
+
+    // 모집글을 북마크한 회원 id (북마크 전체 삭제 시 캐시 정리용)
+    @Query("select b.account.id from Bookmark b where b.recruit = :recruit")
+    List<Long> findAllAccountIdsByRecruit(@Param("recruit") Recruit recruit);
 
     void deleteByRecruit(Recruit recruit);
 
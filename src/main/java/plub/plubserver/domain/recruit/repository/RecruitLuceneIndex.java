@@ -0,0 +1,414 @@
+package plub.plubserver.domain.recruit.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.*;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import plub.plubserver.common.model.SortType;
+import plub.plubserver.domain.plubbing.model.Plubbing;
+import plub.plubserver.domain.plubbing.model.PlubbingPlace;
+import plub.plubserver.domain.plubbing.model.PlubbingStatus;
+import plub.plubserver.domain.recruit.model.Recruit;
+import plub.plubserver.domain.recruit.model.RecruitSearchType;
+import plub.plubserver.domain.recruit.model.RecruitStatus;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static plub.plubserver.common.constant.GlobalConstants.RECRUIT_SEARCH_INDEX_BATCH_SIZE;
+import static plub.plubserver.common.constant.GlobalConstants.RECRUIT_SEARCH_INDEX_COMMIT_INTERVAL;
+import static plub.plubserver.common.constant.GlobalConstants.RECRUIT_SEARCH_REINDEX_INTERVAL;
+import static plub.plubserver.domain.category.model.QPlubbingSubCategory.plubbingSubCategory;
+import static plub.plubserver.domain.plubbing.model.QPlubbing.plubbing;
+import static plub.plubserver.domain.recruit.model.QRecruit.recruit;
+
+/**
+ * 모집글 내장 검색 색인 (Lucene, 로컬 디스크)
+ * 제목, 소개글, 모임 이름, 서브 카테고리 이름을 1~2 글자 n-gram 으로 색인해서 한글 부분 일치/접두어 검색을 DB 없이 처리하고,
+ * 모임 장소 좌표(LatLonPoint)도 함께 색인한다
+ * search.recruit.embedded.enabled 가 true 일 때만 열리고, 준비되지 않았으면 검색은 DB 로 대체된다
+ * 변경은 엔티티 리스너(RecruitLuceneIndexListener)가 커밋 후 반영하고(NRT),
+ * RECRUIT_SEARCH_REINDEX_INTERVAL 마다 DB 전체를 배치로 읽어 다시 색인한다 (기동 직후 한 번, 백그라운드)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecruitLuceneIndex {
+
+    private static final String PLUBBING_ID = "plubbingId";
+    private static final String RECRUIT_ID = "recruitId";
+    private static final String ID = "id";
+    private static final String VIEWS = "views";
+    private static final String MODIFIED_AT = "modifiedAt";
+    private static final String TITLE = "title";
+    private static final String INTRODUCE = "introduce";
+    private static final String NAME = "name";
+    private static final String SUB_CATEGORY = "subCategory";
+    private static final String LOCATION = "location";
+    private static final float TITLE_BOOST = 2f;
+
+    // 1~2 글자 n-gram (검색어는 2 글자 이상이면 bigram, 1 글자면 unigram 으로 찾는다)
+    private static final Analyzer NGRAM_ANALYZER = new Analyzer() {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new NGramTokenizer(1, 2);
+            return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+        }
+    };
+
+    /**
+     * @param lastKeyValues 마지막 결과의 정렬 키 값 (인기순 : views, id / 최신순 : modifiedAt, id / 정확도순 : score, id)
+     */
+    public record IndexSlice(
+            List<Long> recruitIds,
+            boolean hasNext,
+            List<Object> lastKeyValues
+    ) {
+    }
+
+    private final JPAQueryFactory queryFactory;
+
+    @Value("${search.recruit.embedded.enabled:false}")
+    private boolean enabled;
+
+    @Value("${search.recruit.embedded.path:./data/recruit-index}")
+    private String path;
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @PostConstruct
+    public void open() {
+        if (!enabled) return;
+        try {
+            Path indexPath = Paths.get(path);
+            Files.createDirectories(indexPath);
+            directory = FSDirectory.open(indexPath);
+            writer = new IndexWriter(directory, new IndexWriterConfig(NGRAM_ANALYZER)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            searcherManager = new SearcherManager(writer, null);
+            // 디스크에 남아 있는 색인이 있으면 전체 재색인이 끝나기 전에도 바로 사용
+            ready = writer.getDocStats().numDocs > 0;
+        } catch (IOException e) {
+            log.error("모집글 검색 색인 열기 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        ready = false;
+        try {
+            if (searcherManager != null) searcherManager.close();
+            if (writer != null) writer.close();
+            if (directory != null) directory.close();
+        } catch (IOException e) {
+            log.warn("모집글 검색 색인 닫기 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 재색인 (백그라운드)
+     * 기존 색인을 지우지 않고 배치 단위로 덮어쓴 뒤 더 이상 검색 대상이 아닌 문서만 지우므로 재색인 중에도 검색할 수 있다
+     */
+    @Scheduled(fixedDelay = RECRUIT_SEARCH_REINDEX_INTERVAL * 1000L)
+    public void reindexAll() {
+        if (writer == null) return;
+        long start = System.currentTimeMillis();
+        try {
+            // 재색인 도중 리스너가 추가한 문서는 지우지 않도록 시작 시점의 문서만 정리 대상
+            Set<Long> previous = indexedPlubbingIds();
+            Set<Long> indexed = new HashSet<>();
+            long lastId = 0L;
+            List<Plubbing> batch;
+            do {
+                batch = loadSearchable(null, lastId);
+                write(batch);
+                batch.forEach(it -> indexed.add(it.getId()));
+                if (!batch.isEmpty()) lastId = batch.get(batch.size() - 1).getId();
+            } while (batch.size() == RECRUIT_SEARCH_INDEX_BATCH_SIZE);
+
+            for (Long stale : previous) {
+                if (!indexed.contains(stale)) writer.deleteDocuments(new Term(PLUBBING_ID, String.valueOf(stale)));
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+            ready = true;
+            log.info("모집글 검색 색인 재색인 완료 - {}건, {}ms", indexed.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("모집글 검색 재색인 중 예외 발생: " + e.getMessage(), e);
+        }
+    }
+
+    // 변경된 모임만 다시 색인 (검색 대상이 아니게 된 모임은 삭제)
+    public void reindex(Collection<Long> plubbingIds) {
+        if (writer == null || plubbingIds.isEmpty()) return;
+        try {
+            List<Plubbing> searchable = loadSearchable(plubbingIds, null);
+            Set<Long> searchableIds = searchable.stream().map(Plubbing::getId).collect(Collectors.toSet());
+            for (Long plubbingId : plubbingIds) {
+                if (!searchableIds.contains(plubbingId))
+                    writer.deleteDocuments(new Term(PLUBBING_ID, String.valueOf(plubbingId)));
+            }
+            write(searchable);
+            searcherManager.maybeRefresh();
+        } catch (Exception e) {
+            log.error("모집글 검색 색인 갱신 중 예외 발생: " + e.getMessage(), e);
+        }
+    }
+
+    // 변경 내용을 디스크에 반영 (검색에는 NRT 로 이미 반영되어 있음)
+    @Scheduled(fixedDelay = RECRUIT_SEARCH_INDEX_COMMIT_INTERVAL * 1000L)
+    public void commit() {
+        if (writer == null || !writer.hasUncommittedChanges()) return;
+        try {
+            writer.commit();
+        } catch (IOException e) {
+            log.warn("모집글 검색 색인 커밋 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 커서 이후 한 페이지의 모집글 id
+     * @param cursorValues 정렬 키 값, null 이면 첫 페이지
+     * @return 색인이 준비되지 않았거나 검색에 실패하면 empty
+     */
+    public Optional<IndexSlice> search(RecruitSearchType type, String keyword, SortType sortType, List<Object> cursorValues, int size) {
+        if (!ready) return Optional.empty();
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            Query query = queryOf(type, keyword);
+            Sort sort = sortOf(sortType);
+            TopDocs topDocs = cursorValues == null
+                    ? searcher.search(query, size + 1, sort)
+                    : searcher.searchAfter(afterOf(sortType, cursorValues), query, size + 1, sort);
+
+            ScoreDoc[] hits = topDocs.scoreDocs;
+            boolean hasNext = hits.length > size;
+            int count = Math.min(hits.length, size);
+            List<Long> recruitIds = new ArrayList<>(count);
+            List<Object> lastKeyValues = null;
+            for (int i = 0; i < count; i++) {
+                Object[] fields = ((FieldDoc) hits[i]).fields;
+                recruitIds.add((Long) fields[1]);
+                if (i == count - 1) lastKeyValues = keyValuesOf(sortType, fields);
+            }
+            return Optional.of(new IndexSlice(recruitIds, hasNext, lastKeyValues));
+        } catch (Exception e) {
+            log.warn("모집글 검색 색인 조회 실패, DB 검색으로 대체: " + e.getMessage());
+            return Optional.empty();
+        } finally {
+            release(searcher);
+        }
+    }
+
+    public OptionalLong count(RecruitSearchType type, String keyword) {
+        if (!ready) return OptionalLong.empty();
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            return OptionalLong.of(searcher.count(queryOf(type, keyword)));
+        } catch (Exception e) {
+            return OptionalLong.empty();
+        } finally {
+            release(searcher);
+        }
+    }
+
+    // 기존 클라이언트의 cursorId -> 정확도순 커서 (해당 모집글의 점수)
+    public Optional<Double> scoreOf(Long recruitId, RecruitSearchType type, String keyword) {
+        if (!ready) return Optional.empty();
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            Query query = new BooleanQuery.Builder()
+                    .add(queryOf(type, keyword), BooleanClause.Occur.MUST)
+                    .add(new TermQuery(new Term(RECRUIT_ID, String.valueOf(recruitId))), BooleanClause.Occur.FILTER)
+                    .build();
+            ScoreDoc[] hits = searcher.search(query, 1).scoreDocs;
+            return hits.length == 0 ? Optional.empty() : Optional.of((double) hits[0].score);
+        } catch (Exception e) {
+            return Optional.empty();
+        } finally {
+            release(searcher);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) return;
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static Sort sortOf(SortType sortType) {
+        SortField id = new SortField(ID, SortField.Type.LONG, true);
+        return switch (sortType) {
+            case POPULAR -> new Sort(new SortField(VIEWS, SortField.Type.INT, true), id);
+            case ACCURACY -> new Sort(SortField.FIELD_SCORE, id);
+            default -> new Sort(new SortField(MODIFIED_AT, SortField.Type.STRING, true), id);
+        };
+    }
+
+    private static FieldDoc afterOf(SortType sortType, List<Object> cursorValues) {
+        Object key = switch (sortType) {
+            case POPULAR -> (Integer) cursorValues.get(0);
+            case ACCURACY -> ((Double) cursorValues.get(0)).floatValue();
+            default -> new BytesRef((String) cursorValues.get(0));
+        };
+        // 마지막 키(id)가 유일하므로 문서 번호는 비교에 쓰이지 않는다
+        return new FieldDoc(Integer.MAX_VALUE, Float.NaN, new Object[]{key, cursorValues.get(1)});
+    }
+
+    private static List<Object> keyValuesOf(SortType sortType, Object[] fields) {
+        Object key = switch (sortType) {
+            case POPULAR -> fields[0];
+            case ACCURACY -> ((Float) fields[0]).doubleValue();
+            default -> ((BytesRef) fields[0]).utf8ToString();
+        };
+        return List.of(key, fields[1]);
+    }
+
+    private static Query queryOf(RecruitSearchType type, String keyword) {
+        List<String> grams = gramsOf(keyword);
+        if (grams.isEmpty()) return new MatchNoDocsQuery();
+        return switch (type) {
+            case TITLE -> allGrams(TITLE, grams);
+            case NAME -> allGrams(NAME, grams);
+            // MIX = 제목, 소개글, 서브 카테고리 (제목 일치에 가중치)
+            default -> new BooleanQuery.Builder()
+                    .add(new BoostQuery(allGrams(TITLE, grams), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(allGrams(INTRODUCE, grams), BooleanClause.Occur.SHOULD)
+                    .add(allGrams(SUB_CATEGORY, grams), BooleanClause.Occur.SHOULD)
+                    .setMinimumNumberShouldMatch(1)
+                    .build();
+        };
+    }
+
+    private static Query allGrams(String field, List<String> grams) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        grams.forEach(gram -> builder.add(new TermQuery(new Term(field, gram)), BooleanClause.Occur.MUST));
+        return builder.build();
+    }
+
+    // 색인과 같은 방식으로 검색어를 n-gram 으로 분리 (2 글자 이상이면 bigram)
+    static List<String> gramsOf(String keyword) {
+        if (keyword == null || keyword.isBlank()) return List.of();
+        int[] codePoints = keyword.toLowerCase(Locale.ROOT).codePoints().toArray();
+        if (codePoints.length == 1) return List.of(new String(codePoints, 0, 1));
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i + 2 <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams.stream().distinct().toList();
+    }
+
+    private void write(List<Plubbing> plubbings) throws IOException {
+        if (plubbings.isEmpty()) return;
+        Map<Long, List<String>> subCategoryNames = findSubCategoryNames(plubbings.stream().map(Plubbing::getId).toList());
+        for (Plubbing it : plubbings) {
+            writer.updateDocument(
+                    new Term(PLUBBING_ID, String.valueOf(it.getId())),
+                    documentOf(it, subCategoryNames.getOrDefault(it.getId(), List.of()))
+            );
+        }
+    }
+
+    private static Document documentOf(Plubbing plubbing, List<String> subCategoryNames) {
+        Recruit recruit = plubbing.getRecruit();
+        Document document = new Document();
+        document.add(new StringField(PLUBBING_ID, String.valueOf(plubbing.getId()), Field.Store.YES));
+        document.add(new StringField(RECRUIT_ID, String.valueOf(recruit.getId()), Field.Store.NO));
+        document.add(new NumericDocValuesField(ID, recruit.getId()));
+        document.add(new NumericDocValuesField(VIEWS, recruit.getViews()));
+        document.add(new SortedDocValuesField(MODIFIED_AT, new BytesRef(Objects.toString(recruit.getModifiedAt(), ""))));
+        document.add(new TextField(TITLE, Objects.toString(recruit.getTitle(), ""), Field.Store.NO));
+        document.add(new TextField(INTRODUCE, Objects.toString(recruit.getIntroduce(), ""), Field.Store.NO));
+        document.add(new TextField(NAME, Objects.toString(plubbing.getName(), ""), Field.Store.NO));
+        document.add(new TextField(SUB_CATEGORY, String.join(" ", subCategoryNames), Field.Store.NO));
+        // x : 경도, y : 위도 (장소 미지정은 0, 0)
+        PlubbingPlace place = plubbing.getPlubbingPlace();
+        if (place != null && place.getPlacePositionX() != null && place.getPlacePositionY() != null
+                && !(place.getPlacePositionX() == 0 && place.getPlacePositionY() == 0)
+                && Math.abs(place.getPlacePositionY()) <= 90 && Math.abs(place.getPlacePositionX()) <= 180) {
+            document.add(new LatLonPoint(LOCATION, place.getPlacePositionY(), place.getPlacePositionX()));
+        }
+        return document;
+    }
+
+    // 색인에 들어있는 모임 id 전체 (재색인 후 지워진 모임 정리용)
+    private Set<Long> indexedPlubbingIds() throws IOException {
+        Set<Long> ids = new HashSet<>();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                LeafReader reader = leaf.reader();
+                Bits liveDocs = reader.getLiveDocs();
+                for (int doc = 0; doc < reader.maxDoc(); doc++) {
+                    if (liveDocs != null && !liveDocs.get(doc)) continue;
+                    ids.add(Long.valueOf(reader.document(doc).get(PLUBBING_ID)));
+                }
+            }
+        } finally {
+            release(searcher);
+        }
+        return ids;
+    }
+
+    /**
+     * 검색 대상 모임 (활성, 모집 중) 을 모집글과 함께 조회
+     * @param plubbingIds null 이면 lastId 이후 한 배치
+     */
+    private List<Plubbing> loadSearchable(Collection<Long> plubbingIds, Long lastId) {
+        return queryFactory
+                .selectFrom(plubbing)
+                .join(plubbing.recruit, recruit)
+                .fetchJoin()
+                .where(plubbingIds == null ? plubbing.id.gt(lastId) : plubbing.id.in(plubbingIds),
+                        plubbing.status.eq(PlubbingStatus.ACTIVE),
+                        plubbing.visibility.eq(true),
+                        recruit.status.eq(RecruitStatus.RECRUITING))
+                .orderBy(plubbing.id.asc())
+                .limit(plubbingIds == null ? RECRUIT_SEARCH_INDEX_BATCH_SIZE : plubbingIds.size())
+                .fetch();
+    }
+
+    private Map<Long, List<String>> findSubCategoryNames(List<Long> plubbingIds) {
+        return queryFactory
+                .select(plubbingSubCategory.plubbing.id, plubbingSubCategory.subCategory.name)
+                .from(plubbingSubCategory)
+                .where(plubbingSubCategory.plubbing.id.in(plubbingIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        tuple -> tuple.get(plubbingSubCategory.plubbing.id),
+                        Collectors.mapping(tuple -> tuple.get(plubbingSubCategory.subCategory.name), Collectors.toList())
+                ));
+    }
+}
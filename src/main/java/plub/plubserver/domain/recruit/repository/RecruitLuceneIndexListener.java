@@ -0,0 +1,76 @@
+package plub.plubserver.domain.recruit.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import plub.plubserver.domain.category.model.PlubbingSubCategory;
+import plub.plubserver.domain.plubbing.model.Plubbing;
+import plub.plubserver.domain.recruit.model.Recruit;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 모집글 검색 색인 갱신용 엔티티 리스너
+ * 트랜잭션 동안 바뀐 모임 id 를 모아 두었다가 커밋된 뒤 해당 모임만 다시 색인한다 (롤백되면 버림)
+ */
+@Component
+@RequiredArgsConstructor
+public class RecruitLuceneIndexListener {
+
+    // 엔티티 매니저 팩토리보다 늦게 생성되도록 지연 조회
+    private final ObjectProvider<RecruitLuceneIndex> indexProvider;
+
+    private static class PendingPlubbingIds implements TransactionSynchronization {
+        private final RecruitLuceneIndex index;
+        private final Set<Long> plubbingIds = new HashSet<>();
+
+        private PendingPlubbingIds(RecruitLuceneIndex index) {
+            this.index = index;
+        }
+
+        @Override
+        public void afterCommit() {
+            index.reindex(plubbingIds);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PendingPlubbingIds.class);
+        }
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Object entity) {
+        RecruitLuceneIndex index = indexProvider.getIfAvailable();
+        if (index == null || !index.isReady()) return;
+
+        Long plubbingId = null;
+        if (entity instanceof Plubbing plubbing) plubbingId = plubbing.getId();
+        else if (entity instanceof Recruit recruit && recruit.getPlubbing() != null)
+            plubbingId = recruit.getPlubbing().getId();
+        else if (entity instanceof PlubbingSubCategory subCategory && subCategory.getPlubbing() != null)
+            plubbingId = subCategory.getPlubbing().getId();
+        if (plubbingId == null) return;
+
+        // 트랜잭션 밖에서 바뀐 경우 바로 반영
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index.reindex(Set.of(plubbingId));
+            return;
+        }
+        PendingPlubbingIds pending = (PendingPlubbingIds) TransactionSynchronizationManager.getResource(PendingPlubbingIds.class);
+        if (pending == null) {
+            pending = new PendingPlubbingIds(index);
+            TransactionSynchronizationManager.bindResource(PendingPlubbingIds.class, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.plubbingIds.add(plubbingId);
+    }
+}
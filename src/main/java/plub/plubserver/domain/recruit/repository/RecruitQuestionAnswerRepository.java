@@ -1,7 +1,15 @@
 package plub.plubserver.domain.recruit.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import plub.plubserver.domain.recruit.model.RecruitQuestionAnswer;
 
-public interface RecruitQuestionAnswerRepository extends JpaRepository<RecruitQuestionAnswer, Long> {
+public interface RecruitQuestionAnswerRepository extends JpaRepository<RecruitQuestionAnswer, Long>, RecruitQuestionAnswerRepositoryCustom {
+
+    // 지원서 답변 전체를 한 번에 삭제 (답변 수정 시 교체용)
+    @Modifying
+    @Query("delete from RecruitQuestionAnswer a where a.appliedAccount.id = :appliedAccountId")
+    int deleteAllByAppliedAccountId(@Param("appliedAccountId") Long appliedAccountId);
 }
@@ -0,0 +1,9 @@
+package plub.plubserver.domain.recruit.repository;
+
+import plub.plubserver.domain.recruit.model.RecruitQuestionAnswer;
+
+import java.util.List;
+
+public interface RecruitQuestionAnswerRepositoryCustom {
+    void insertAll(Long appliedAccountId, List<RecruitQuestionAnswer> answers);
+}
@@ -0,0 +1,29 @@
+package plub.plubserver.domain.recruit.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import plub.plubserver.domain.recruit.model.RecruitQuestionAnswer;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class RecruitQuestionAnswerRepositoryImpl implements RecruitQuestionAnswerRepositoryCustom {
+
+    private static final String INSERT_SQL = "insert into recruit_question_answer " +
+            "(recruit_question_id, applied_account_id, answer) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 답변 일괄 insert (JDBC 배치)
+     * IDENTITY 전략이라 JPA 로는 답변마다 insert 가 나가므로 한 번의 배치로 보낸다 (같은 트랜잭션 커넥션 사용)
+     */
+    @Override
+    public void insertAll(Long appliedAccountId, List<RecruitQuestionAnswer> answers) {
+        if (answers.isEmpty()) return;
+        List<Object[]> args = answers.stream()
+                .map(answer -> new Object[]{answer.getRecruitQuestion().getId(), appliedAccountId, answer.getAnswer()})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
+}
@@ -1,28 +1,31 @@
 package plub.plubserver.domain.recruit.repository;
 
-import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
 import plub.plubserver.common.model.SortType;
+import plub.plubserver.common.pagination.KeysetSlice;
+import plub.plubserver.common.pagination.KeysetSort;
 import plub.plubserver.domain.plubbing.model.PlubbingStatus;
 import plub.plubserver.domain.recruit.model.Recruit;
 import plub.plubserver.domain.recruit.model.RecruitSearchType;
 import plub.plubserver.domain.recruit.model.RecruitStatus;
-import plub.plubserver.util.CursorUtils;
 
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import static plub.plubserver.domain.account.model.QAccount.account;
-import static plub.plubserver.domain.category.model.QPlubbingSubCategory.plubbingSubCategory;
-import static plub.plubserver.domain.category.model.QSubCategory.subCategory;
 import static plub.plubserver.domain.plubbing.model.QPlubbing.plubbing;
-import static plub.plubserver.domain.recruit.model.QBookmark.bookmark;
 import static plub.plubserver.domain.recruit.model.QRecruit.recruit;
 
 @Slf4j
@@ -30,72 +33,185 @@ import static plub.plubserver.domain.recruit.model.QRecruit.recruit;
 public class RecruitRepositoryImpl implements RecruitRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final EntityManager em;
+    private final RecruitSearchIndex searchIndex;
+    private final RecruitLuceneIndex luceneIndex;
+
+    // 인기순 : 조회수, 최신순 : 수정일시 (같은 값이면 id 로 구분)
+    private static final KeysetSort<Recruit> POPULAR_SORT = KeysetSort.<Recruit>create()
+            .desc(recruit.views, Integer.class, Recruit::getViews)
+            .desc(recruit.id, Long.class, Recruit::getId);
+    private static final KeysetSort<Recruit> LATEST_SORT = KeysetSort.<Recruit>create()
+            .desc(recruit.modifiedAt, String.class, Recruit::getModifiedAt)
+            .desc(recruit.id, Long.class, Recruit::getId);
+
+    // 정확도순 : 검색어 유사도, 같은 값이면 id 로 구분 (네이티브 쿼리 결과라 경로는 커서 인코딩용)
+    private record ScoredRecruit(Long id, Double score) {
+    }
+
+    private static final KeysetSort<ScoredRecruit> ACCURACY_SORT = KeysetSort.<ScoredRecruit>create()
+            .desc(Expressions.numberPath(Double.class, "score"), Double.class, ScoredRecruit::score)
+            .desc(Expressions.numberPath(Long.class, "id"), Long.class, ScoredRecruit::id);
+
+    private static final String SEARCH_FROM = " from recruit r join plubbing p on p.recruit_id = r.recruit_id " +
+            "where p.status = 'ACTIVE' and p.visibility = true and r.status = 'RECRUITING' ";
 
     private JPQLQuery<Recruit> getSearchDefaultQuery(RecruitSearchType type, String keyword) {
-        JPQLQuery<Recruit> prefixQuery = queryFactory.selectFrom(recruit)
+        // 검색 조건에 카테고리가 없으므로 모임만 조인 (1:1 이라 distinct 불필요)
+        return queryFactory.selectFrom(recruit)
                 .leftJoin(recruit.plubbing, plubbing)
                 .fetchJoin()
-                .leftJoin(plubbing.plubbingSubCategories, plubbingSubCategory)
-                .leftJoin(plubbingSubCategory.subCategory, subCategory)
-                .where(plubbing.status.eq(PlubbingStatus.ACTIVE),
-                        recruit.status.eq(RecruitStatus.RECRUITING))
-                .distinct();
+                .where(searchConditions(type, keyword));
+    }
 
-        return switch (type) {
-            case TITLE -> prefixQuery.where(recruit.title.contains(keyword));
-            case NAME -> prefixQuery.where(plubbing.name.contains(keyword));
+    private Predicate[] searchConditions(RecruitSearchType type, String keyword) {
+        BooleanExpression keywordCondition = switch (type) {
+            case TITLE -> recruit.title.contains(keyword);
+            case NAME -> plubbing.name.contains(keyword);
             // MIX = TITLE_INTRO
-            default -> prefixQuery.where(recruit.title.contains(keyword)
-                    .or(recruit.introduce.contains(keyword)));
+            default -> recruit.title.contains(keyword).or(recruit.introduce.contains(keyword));
+        };
+        return new Predicate[]{
+                plubbing.status.eq(PlubbingStatus.ACTIVE),
+                recruit.status.eq(RecruitStatus.RECRUITING),
+                keywordCondition
         };
     }
 
     @Override
-    public Page<Recruit> search(
+    public KeysetSlice<Recruit> search(
+            String cursor,
             Long cursorId,
-            Pageable pageable,
+            int size,
             SortType sortType,
             RecruitSearchType type,
             String keyword
     ) {
-        JPQLQuery<Recruit> searchQuery = getSearchDefaultQuery(type, keyword);
-        searchQuery = searchQuery.where(getCursorId(cursorId));
-        OrderSpecifier<?> order; // types : String, Integer
-        if (sortType == SortType.POPULAR) order = recruit.views.desc();
-        else order = recruit.modifiedAt.desc();
-        return PageableExecutionUtils.getPage(
-                searchQuery.orderBy(order).limit(CursorUtils.TEN_AMOUNT).fetch(),
-                pageable,
-                searchQuery::fetchCount
-        );
+        if (luceneIndex.isReady()) {
+            Optional<KeysetSlice<Recruit>> result = searchByLucene(cursor, cursorId, size, sortType, type, keyword);
+            if (result.isPresent()) return result.get();
+        }
+        if (sortType == SortType.ACCURACY && searchIndex.isReady())
+            return searchByAccuracy(cursor, cursorId, size, type, keyword);
+        KeysetSort<Recruit> sort = sortType == SortType.POPULAR ? POPULAR_SORT : LATEST_SORT;
+        List<Object> cursorValues = sort.resolveCursor(cursor, cursorId, this::findCursorRow);
+        return sort.fetch(getSearchDefaultQuery(type, keyword), cursorValues, size);
     }
 
-    private BooleanExpression getCursorId(Long cursorId) {
-        if (cursorId == null || cursorId == 0) return null;
-        else return recruit.id.gt(cursorId);
+    private Recruit findCursorRow(Long recruitId) {
+        return queryFactory.selectFrom(recruit).where(recruit.id.eq(recruitId)).fetchOne();
     }
 
-    @Override
-    public Long countAllBySearch(RecruitSearchType type, String keyword) {
-        return getSearchDefaultQuery(type, keyword).fetchCount();
+    // 내장 검색 색인에서 한 페이지의 id 를 찾고 그 모집글만 조회 (커서 형식은 DB 검색과 같음)
+    private Optional<KeysetSlice<Recruit>> searchByLucene(String cursor, Long cursorId, int size, SortType sortType, RecruitSearchType type, String keyword) {
+        List<Object> cursorValues = switch (sortType) {
+            case POPULAR -> POPULAR_SORT.resolveCursor(cursor, cursorId, this::findCursorRow);
+            case ACCURACY -> ACCURACY_SORT.resolveCursor(cursor, cursorId, id -> luceneIndex.scoreOf(id, type, keyword)
+                    .map(score -> new ScoredRecruit(id, score))
+                    .orElse(null));
+            default -> LATEST_SORT.resolveCursor(cursor, cursorId, this::findCursorRow);
+        };
+        return luceneIndex.search(type, keyword, sortType, cursorValues, size).map(indexSlice -> {
+            KeysetSort<?> sort = sortType == SortType.POPULAR ? POPULAR_SORT
+                    : sortType == SortType.ACCURACY ? ACCURACY_SORT : LATEST_SORT;
+            String nextCursor = indexSlice.hasNext() ? sort.encode(indexSlice.lastKeyValues()) : null;
+            return new KeysetSlice<>(findAllByIdsInOrder(indexSlice.recruitIds()), indexSlice.hasNext(), nextCursor);
+        });
     }
 
-
-    @Override
-    public List<Long> findAllBookmarkedRecruitIdByAccountId(Long accountId) {
-        return queryFactory.selectFrom(bookmark)
-                .leftJoin(bookmark.account, account)
+    // id 순서대로 모집글 조회 (모임 fetch join)
+    private List<Recruit> findAllByIdsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, Recruit> recruits = queryFactory.selectFrom(recruit)
+                .leftJoin(recruit.plubbing, plubbing)
                 .fetchJoin()
-                .where(
-                        bookmark.account.id.eq(accountId),
-                        bookmark.recruit.status.eq(RecruitStatus.RECRUITING)
-                )
+                .where(recruit.id.in(ids))
                 .fetch()
                 .stream()
-                .map(it -> it.getRecruit().getId())
+                .collect(Collectors.toMap(Recruit::getId, Function.identity()));
+        return ids.stream().map(recruits::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * 정확도순 검색 (pg_trgm)
+     * LIKE 조건은 GIN 트라이그램 인덱스로 찾고, word_similarity 로 점수를 매겨 (점수, id) 키셋으로 한 페이지의 id 만 조회한 뒤 엔티티를 읽는다
+     * 통합 검색은 제목 + 소개글 검색 문서 컬럼 하나로 찾고 제목 일치에 가중치를 준다
+     */
+    private KeysetSlice<Recruit> searchByAccuracy(String cursor, Long cursorId, int size, RecruitSearchType type, String keyword) {
+        List<Object> cursorValues = ACCURACY_SORT.resolveCursor(cursor, cursorId, id -> findScore(id, type, keyword));
+
+        String sql = "select s.id, s.score from (select r.recruit_id as id, " + scoreSql(type) + " as score" +
+                SEARCH_FROM + "and " + matchSql(type) + ") s " +
+                (cursorValues == null ? "" : "where s.score < :score or (s.score = :score and s.id < :cursorId) ") +
+                "order by s.score desc, s.id desc limit :limit";
+        Query query = em.createNativeQuery(sql)
+                .setParameter("keyword", keyword)
+                .setParameter("pattern", likePattern(keyword))
+                .setParameter("limit", size + 1);
+        if (cursorValues != null) {
+            query.setParameter("score", cursorValues.get(0));
+            query.setParameter("cursorId", cursorValues.get(1));
+        }
+        @SuppressWarnings("unchecked")
+        List<ScoredRecruit> rows = ((List<Object[]>) query.getResultList()).stream()
+                .map(row -> new ScoredRecruit(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue()))
                 .toList();
+
+        boolean hasNext = rows.size() > size;
+        if (hasNext) rows = rows.subList(0, size);
+        String nextCursor = hasNext ? ACCURACY_SORT.encode(ACCURACY_SORT.valuesOf(rows.get(rows.size() - 1))) : null;
+        List<Long> ids = rows.stream().map(ScoredRecruit::id).toList();
+        return new KeysetSlice<>(findAllByIdsInOrder(ids), hasNext, nextCursor);
+    }
+
+    // 기존 클라이언트의 cursorId -> 해당 모집글의 점수
+    private ScoredRecruit findScore(Long recruitId, RecruitSearchType type, String keyword) {
+        @SuppressWarnings("unchecked")
+        List<Number> scores = em.createNativeQuery("select " + scoreSql(type) +
+                        " from recruit r join plubbing p on p.recruit_id = r.recruit_id where r.recruit_id = :recruitId")
+                .setParameter("keyword", keyword)
+                .setParameter("recruitId", recruitId)
+                .getResultList();
+        return scores.isEmpty() ? null : new ScoredRecruit(recruitId, scores.get(0).doubleValue());
+    }
+
+    private String matchSql(RecruitSearchType type) {
+        return switch (type) {
+            case TITLE -> "r.title like :pattern";
+            case NAME -> "p.name like :pattern";
+            default -> "r.search_document like :pattern";
+        };
     }
 
+    private String scoreSql(RecruitSearchType type) {
+        String score = switch (type) {
+            case TITLE -> "word_similarity(:keyword, r.title)";
+            case NAME -> "word_similarity(:keyword, p.name)";
+            default -> "2 * word_similarity(:keyword, coalesce(r.title, '')) + word_similarity(:keyword, r.search_document)";
+        };
+        return "cast(" + score + " as double precision)";
+    }
+
+    // contains 와 같은 부분 일치 (LIKE 특수문자 이스케이프)
+    private String likePattern(String keyword) {
+        String escaped = keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    @Override
+    public Long countAllBySearch(RecruitSearchType type, String keyword) {
+        OptionalLong count = luceneIndex.count(type, keyword);
+        if (count.isPresent()) return count.getAsLong();
+        // fetch join 없이 같은 조건으로 count
+        Long total = queryFactory.select(recruit.count())
+                .from(recruit)
+                .leftJoin(recruit.plubbing, plubbing)
+                .where(searchConditions(type, keyword))
+                .fetchOne();
+        return total == null ? 0L : total;
+    }
+
+
     @Override
     public List<Recruit> findAllPlubbingRecruitByAccountId(List<Long> plubbingIdList) {
         return queryFactory.selectFrom(recruit)
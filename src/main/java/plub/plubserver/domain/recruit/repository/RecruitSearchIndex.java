@@ -0,0 +1,62 @@
+package plub.plubserver.domain.recruit.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 모집글 검색용 pg_trgm 인덱스
+ * JPA 로 표현할 수 없는 GIN(gin_trgm_ops) 인덱스와 검색 문서 컬럼(제목 + 소개글, generated column)은
+ * db/recruit_search_index.sql 로 한 번만 만들고, 기동 시에는 모두 있는지만 확인한다
+ * 없으면(스크립트 미실행, 인덱스 생성 실패로 invalid 상태 등) 정확도순 검색은 기존 LIKE 검색으로 대체된다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecruitSearchIndex {
+
+    private static final List<String> INDEX_NAMES = List.of(
+            "idx_recruit_title_trgm",
+            "idx_recruit_introduce_trgm",
+            "idx_recruit_search_document_trgm",
+            "idx_plubbing_name_trgm"
+    );
+
+    private static final String EXTENSION_SQL = "select count(*) from pg_extension where extname = 'pg_trgm'";
+    private static final String COLUMN_SQL = "select count(*) from information_schema.columns " +
+            "where table_schema = current_schema() and table_name = 'recruit' and column_name = 'search_document'";
+    // concurrently 로 만들다 실패한 인덱스는 invalid 로 남으므로 유효한 인덱스만 센다
+    private static final String VALID_INDEX_SQL = "select count(*) from pg_index i " +
+            "join pg_class c on c.oid = i.indexrelid " +
+            "where c.relnamespace = current_schema()::regnamespace and i.indisvalid " +
+            "and c.relname in ('" + String.join("', '", INDEX_NAMES) + "')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            ready = count(EXTENSION_SQL) == 1
+                    && count(COLUMN_SQL) == 1
+                    && count(VALID_INDEX_SQL) == INDEX_NAMES.size();
+            if (!ready) log.warn("모집글 검색 인덱스가 없음 (db/recruit_search_index.sql 미실행), LIKE 검색으로 대체");
+        } catch (Exception e) {
+            log.warn("모집글 검색 인덱스 확인 실패, LIKE 검색으로 대체: " + e.getMessage());
+        }
+    }
+
+    private long count(String sql) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        return count == null ? 0 : count;
+    }
+}
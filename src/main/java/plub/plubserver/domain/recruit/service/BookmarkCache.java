@@ -0,0 +1,121 @@
+package plub.plubserver.domain.recruit.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import plub.plubserver.domain.recruit.event.BookmarkChangedEvent;
+import plub.plubserver.domain.recruit.event.RecruitBookmarksClearedEvent;
+import plub.plubserver.domain.recruit.repository.BookmarkRepository;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static plub.plubserver.common.constant.GlobalConstants.BOOKMARK_CACHE_TIME;
+
+/**
+ * 회원별 북마크한 모임 id 집합 (Redis set)
+ * 처음 조회할 때 DB 에서 id 만 읽어 채우고 BOOKMARK_CACHE_TIME 동안 유지, 북마크 등록/취소와 북마크 전체 삭제는 커밋 후 캐시를 지운다
+ * 채우는 동안(DB 조회 ~ 저장) 커밋된 변경이 이전 스냅샷에 덮이지 않도록 변경마다 회원별 버전을 올리고, 조회 전에 읽은 버전이 그대로일 때만 저장한다
+ * 빈 집합도 캐시하기 위해 0 을 자리 표시자로 넣는다 (모임 id 는 1 부터)
+ * Redis 를 사용할 수 없으면 DB 에서 바로 읽는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookmarkCache {
+
+    private static final String ACCOUNT_KEY = "bookmark:account:";
+    private static final String VERSION_KEY = "bookmark:version:";
+    private static final String EMPTY = "0";
+
+    // 캐시가 없고 조회 전에 읽은 버전(ARGV[1], 없으면 빈 문자열)이 그대로일 때만 저장 (KEYS[1] : 캐시, KEYS[2] : 버전)
+    static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return 0 end " +
+                    "if (redis.call('get', KEYS[2]) or '') ~= ARGV[1] then return 0 end " +
+                    "redis.call('sadd', KEYS[1], unpack(ARGV, 3)) " +
+                    "redis.call('expire', KEYS[1], ARGV[2]) " +
+                    "return 1",
+            Long.class
+    );
+
+    // 캐시를 지우고 버전 증가 (KEYS[1] : 캐시, KEYS[2] : 버전)
+    static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('del', KEYS[1]) " +
+                    "local version = redis.call('incr', KEYS[2]) " +
+                    "redis.call('expire', KEYS[2], ARGV[1]) " +
+                    "return version",
+            Long.class
+    );
+
+    private final StringRedisTemplate template;
+    private final BookmarkRepository bookmarkRepository;
+
+    public boolean isBookmarked(Long accountId, Long plubbingId) {
+        String key = ACCOUNT_KEY + accountId;
+        try {
+            if (Boolean.TRUE.equals(template.opsForSet().isMember(key, String.valueOf(plubbingId)))) return true;
+            if (Boolean.TRUE.equals(template.hasKey(key))) return false;
+        } catch (Exception e) {
+            log.warn("북마크 캐시 조회 실패 (accountId={}) : {}", accountId, e.getMessage());
+        }
+        return getBookmarkedPlubbingIds(accountId).contains(plubbingId);
+    }
+
+    public Set<Long> getBookmarkedPlubbingIds(Long accountId) {
+        String key = ACCOUNT_KEY + accountId;
+        try {
+            Set<String> members = template.opsForSet().members(key);
+            if (members != null && !members.isEmpty()) {
+                return members.stream()
+                        .filter(it -> !EMPTY.equals(it))
+                        .map(Long::valueOf)
+                        .collect(Collectors.toSet());
+            }
+            String version = Optional.ofNullable(template.opsForValue().get(VERSION_KEY + accountId)).orElse("");
+            Set<Long> plubbingIds = load(accountId);
+            List<String> args = new ArrayList<>(List.of(version, String.valueOf(BOOKMARK_CACHE_TIME), EMPTY));
+            plubbingIds.forEach(id -> args.add(String.valueOf(id)));
+            template.execute(FILL_SCRIPT, List.of(key, VERSION_KEY + accountId), args.toArray());
+            return plubbingIds;
+        } catch (Exception e) {
+            log.warn("북마크 캐시 적재 실패 (accountId={}) : {}", accountId, e.getMessage());
+            return load(accountId);
+        }
+    }
+
+    private Set<Long> load(Long accountId) {
+        return new HashSet<>(bookmarkRepository.findAllBookmarkedPlubbingIds(accountId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookmarkChanged(BookmarkChangedEvent event) {
+        try {
+            invalidate(event.accountId());
+        } catch (Exception e) {
+            log.warn("북마크 캐시 삭제 실패 (accountId={}) : {}", event.accountId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRecruitBookmarksCleared(RecruitBookmarksClearedEvent event) {
+        try {
+            event.accountIds().forEach(this::invalidate);
+        } catch (Exception e) {
+            // 남은 캐시는 BOOKMARK_CACHE_TIME 후 만료되면서 다시 적재된다
+            log.warn("북마크 캐시 정리 실패 (plubbingId={}) : {}", event.plubbingId(), e.getMessage());
+        }
+    }
+
+    private void invalidate(Long accountId) {
+        template.execute(
+                INVALIDATE_SCRIPT,
+                List.of(ACCOUNT_KEY + accountId, VERSION_KEY + accountId),
+                String.valueOf(BOOKMARK_CACHE_TIME)
+        );
+    }
+}
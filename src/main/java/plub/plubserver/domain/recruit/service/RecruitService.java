@@ -2,11 +2,13 @@ package plub.plubserver.domain.recruit.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import plub.plubserver.common.dto.PageResponse;
+import plub.plubserver.common.pagination.KeysetSlice;
 import plub.plubserver.common.exception.StatusCode;
 import plub.plubserver.common.model.SortType;
 import plub.plubserver.domain.account.model.Account;
@@ -17,17 +19,21 @@ import plub.plubserver.domain.notification.model.NotificationType;
 import plub.plubserver.domain.notification.service.NotificationService;
 import plub.plubserver.domain.plubbing.dto.PlubbingDto.JoinedAccountsInfoResponse;
 import plub.plubserver.domain.plubbing.dto.PlubbingDto.PlubbingIdResponse;
+import plub.plubserver.domain.plubbing.event.PlubbingChangedEvent;
+import plub.plubserver.domain.plubbing.event.PlubbingPopularityEvent;
 import plub.plubserver.domain.plubbing.exception.PlubbingException;
-import plub.plubserver.domain.plubbing.model.AccountPlubbing;
-import plub.plubserver.domain.plubbing.model.AccountPlubbingStatus;
 import plub.plubserver.domain.plubbing.model.Plubbing;
 import plub.plubserver.domain.plubbing.model.PlubbingStatus;
+import plub.plubserver.domain.plubbing.model.PopularitySignal;
 import plub.plubserver.domain.plubbing.repository.AccountPlubbingRepository;
+import plub.plubserver.domain.plubbing.service.PlubbingRankingService;
 import plub.plubserver.domain.plubbing.service.PlubbingService;
-import plub.plubserver.domain.recruit.dto.QuestionDto.AnswerRequest;
+import plub.plubserver.domain.plubbing.service.ViewCountBuffer;
 import plub.plubserver.domain.recruit.dto.QuestionDto.QuestionListResponse;
 import plub.plubserver.domain.recruit.dto.QuestionDto.QuestionResponse;
 import plub.plubserver.domain.recruit.dto.RecruitDto.*;
+import plub.plubserver.domain.recruit.event.BookmarkChangedEvent;
+import plub.plubserver.domain.recruit.event.RecruitBookmarksClearedEvent;
 import plub.plubserver.domain.recruit.exception.RecruitException;
 import plub.plubserver.domain.recruit.model.*;
 import plub.plubserver.domain.recruit.repository.AppliedAccountRepository;
@@ -35,9 +41,12 @@ import plub.plubserver.domain.recruit.repository.BookmarkRepository;
 import plub.plubserver.domain.recruit.repository.RecruitQuestionAnswerRepository;
 import plub.plubserver.domain.recruit.repository.RecruitRepository;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Slf4j
@@ -53,7 +62,11 @@ public class RecruitService {
     private final NotificationService notificationService;
     private final FeedService feedService;
     private final BookmarkRepository bookmarkRepository;
+    private final BookmarkCache bookmarkCache;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PlubbingRankingService plubbingRankingService;
     private final RecruitQuestionAnswerRepository recruitQuestionAnswerRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private Recruit getRecruitByPlubbingId(Long plubbingId) {
         return plubbingService.getPlubbing(plubbingId).getRecruit();
@@ -62,16 +75,16 @@ public class RecruitService {
     /**
      * 조회
      */
-    @Transactional
     public RecruitResponse getRecruit(Long plubbingId) {
         Account account = accountService.getCurrentAccount();
         Recruit recruit = getRecruitByPlubbingId(plubbingId);
         boolean isApplied = appliedAccountRepository.existsByAccountAndRecruit(account, recruit);
-        boolean isBookmarked = account.getBookmarkList().stream()
-                .anyMatch(it -> it.getRecruit().equals(recruit));
-        recruit.plusView();
+        boolean isBookmarked = bookmarkCache.isBookmarked(account.getId(), plubbingId);
+        viewCountBuffer.increaseRecruitView(recruit.getId());
+        plubbingRankingService.record(plubbingId, PopularitySignal.VIEW);
         boolean isHost = account.equals(recruit.getPlubbing().getHost());
-        return RecruitResponse.of(recruit, isApplied, isBookmarked, isHost);
+        int views = recruit.getViews() + (int) viewCountBuffer.getPendingRecruitViews(recruit.getId());
+        return RecruitResponse.of(recruit, isApplied, isBookmarked, isHost, views);
     }
 
     public QuestionListResponse getRecruitQuestions(Long plubbingId) {
@@ -110,6 +123,7 @@ public class RecruitService {
      * 모집글 검색
      */
     public PageResponse<RecruitCardResponse> search(
+            String cursor,
             Long cursorId,
             Pageable pageable,
             String sort,
@@ -118,20 +132,20 @@ public class RecruitService {
     ) {
         Account account = accountService.getCurrentAccount();
         // 북마크 여부 체크해서 DTO로 반환
-        List<Long> bookmarkedRecruitIds = recruitRepository
-                .findAllBookmarkedRecruitIdByAccountId(account.getId());
-        Page<RecruitCardResponse> searchResult = recruitRepository.search(
+        Set<Long> bookmarkedPlubbingIds = bookmarkCache.getBookmarkedPlubbingIds(account.getId());
+        KeysetSlice<RecruitCardResponse> searchResult = recruitRepository.search(
+                cursor,
                 cursorId,
-                pageable,
+                pageable.getPageSize(),
                 SortType.of(sort),
                 type,
                 keyword
         ).map(it -> {
-            boolean isBookmarked = bookmarkedRecruitIds.contains(it.getPlubbing().getId());
-            return RecruitCardResponse.of(it, isBookmarked);
+            boolean isBookmarked = bookmarkedPlubbingIds.contains(it.getPlubbing().getId());
+            return RecruitCardResponse.of(it, isBookmarked, SearchHighlight.of(it, type, keyword));
         });
         Long totalElements = recruitRepository.countAllBySearch(type, keyword);
-        return PageResponse.ofCursor(searchResult, totalElements);
+        return PageResponse.ofKeyset(searchResult, totalElements);
     }
 
     /**
@@ -148,21 +162,20 @@ public class RecruitService {
         if (!recruit.getPlubbing().getStatus().equals(PlubbingStatus.ACTIVE))
             throw new PlubbingException(StatusCode.DELETED_STATUS_PLUBBING);
 
-        Optional<Bookmark> bookmark = account.getBookmarkList().stream()
-                .filter(b -> b.getRecruit().equals(recruit))
-                .findFirst();
+        Optional<Bookmark> bookmark = bookmarkRepository.findByAccountIdAndRecruitId(account.getId(), recruit.getId());
         boolean isBookmarked;
         if (bookmark.isEmpty()) {
             // 북마크가 되어있지 않으면 등록
-            account.addBookmark(Bookmark.builder()
+            bookmarkRepository.save(Bookmark.builder()
                     .account(account).recruit(recruit)
                     .build());
             isBookmarked = true;
         } else {
             // 북마크 취소
-            account.removeBookmark(bookmark.get());
+            bookmarkRepository.delete(bookmark.get());
             isBookmarked = false;
         }
+        eventPublisher.publishEvent(new BookmarkChangedEvent(account.getId(), plubbingId, isBookmarked));
         return BookmarkResponse.builder()
                 .isBookmarked(isBookmarked)
                 .plubbingId(plubbingId)
@@ -189,7 +202,10 @@ public class RecruitService {
         plubbingService.checkHost(recruit.getPlubbing());
         recruit.done();
         // 북마크 전체 삭제
+        List<Long> bookmarkedAccountIds = bookmarkRepository.findAllAccountIdsByRecruit(recruit);
         bookmarkRepository.deleteByRecruit(recruit);
+        eventPublisher.publishEvent(new RecruitBookmarksClearedEvent(plubbingId, bookmarkedAccountIds));
+        eventPublisher.publishEvent(new PlubbingChangedEvent(plubbingId));
         return RecruitStatusResponse.of(recruit);
     }
 
@@ -233,10 +249,11 @@ public class RecruitService {
         // 질문 답변 매핑
         List<RecruitQuestionAnswer> recruitQuestionAnswers =
                 makeAnswerList(applyRecruitRequest, recruit, appliedAccount);
-        appliedAccount.addAnswerList(recruitQuestionAnswers);
 
-        // 지원자 추가 및 모집글 지원자 수 증가
+        // 지원자 추가 후 답변은 한 번의 배치 insert
         recruit.addAppliedAccount(appliedAccount);
+        appliedAccountRepository.save(appliedAccount);
+        recruitQuestionAnswerRepository.insertAll(appliedAccount.getId(), recruitQuestionAnswers);
 
         // 호스트에게 푸시 알림
         Plubbing plubbing = recruit.getPlubbing();
@@ -248,36 +265,33 @@ public class RecruitService {
                 .content(plubbing.getName() + "에 새로운 지원자가 있어요! \n지원서를 확인하러 가볼까요? \uD83E\uDD29") // 별눈 이모지
                 .build();
         notificationService.pushMessage(params);
+        eventPublisher.publishEvent(new PlubbingPopularityEvent(plubbingId, PopularitySignal.APPLY));
         return PlubbingIdResponse.of(plubbingId);
     }
 
     /**
-     * 질문 답변 매핑
+     * 질문 답변 매핑 (저장은 호출하는 쪽에서 일괄 처리)
      * 사용처 : 모집 지원, 지원 수정 (모집글 질문 답변 수정)
      */
-    @Transactional
     public List<RecruitQuestionAnswer> makeAnswerList(
             ApplyRecruitRequest applyRecruitRequest,
             Recruit recruit,
             AppliedAccount appliedAccount
     ) {
-        List<RecruitQuestion> questions = recruit.getRecruitQuestionList();
-        List<RecruitQuestionAnswer> answers = new ArrayList<>();
-        for (AnswerRequest ar : applyRecruitRequest.answers()) {
-            RecruitQuestion question = questions.stream()
-                    .filter(it -> it.getId().equals(ar.questionId()))
-                    .findFirst()
-                    .orElseThrow(() -> new RecruitException(StatusCode.NOT_FOUND_QUESTION));
-            RecruitQuestionAnswer answer = recruitQuestionAnswerRepository.save(
-                    RecruitQuestionAnswer.builder()
+        if (applyRecruitRequest.answers() == null) return List.of();
+        Map<Long, RecruitQuestion> questions = recruit.getRecruitQuestionList().stream()
+                .collect(Collectors.toMap(RecruitQuestion::getId, Function.identity()));
+        return applyRecruitRequest.answers().stream()
+                .map(ar -> {
+                    RecruitQuestion question = questions.get(ar.questionId());
+                    if (question == null) throw new RecruitException(StatusCode.NOT_FOUND_QUESTION);
+                    return RecruitQuestionAnswer.builder()
                             .recruitQuestion(question)
                             .appliedAccount(appliedAccount)
                             .answer(ar.answer())
-                            .build()
-            );
-            answers.add(answer);
-        }
-        return answers;
+                            .build();
+                })
+                .toList();
     }
 
     /**
@@ -290,13 +304,11 @@ public class RecruitService {
     ) {
         Account loginAccount = accountService.getCurrentAccount();
         Recruit recruit = getRecruitByPlubbingId(plubbingId);
-        // 질문에 새로운 답변 다시 매핑
+        // 기존 답변을 한 번에 지우고 새 답변을 배치 insert
         AppliedAccount appliedAccount = getAppliedAccount(loginAccount, recruit);
-        appliedAccount.addAnswerList(makeAnswerList(
-                newApplyRecruitRequest,
-                recruit,
-                appliedAccount
-        ));
+        List<RecruitQuestionAnswer> answers = makeAnswerList(newApplyRecruitRequest, recruit, appliedAccount);
+        recruitQuestionAnswerRepository.deleteAllByAppliedAccountId(appliedAccount.getId());
+        recruitQuestionAnswerRepository.insertAll(appliedAccount.getId(), answers);
         return PlubbingIdResponse.of(plubbingId);
     }
 
@@ -341,30 +353,13 @@ public class RecruitService {
         Plubbing plubbing = plubbingService.getPlubbing(plubbingId);
         AppliedAccount appliedAccount = getAppliedAccountWithCheckHost(loginAccount, plubbingId, accountId);
 
-        // 모임이 꽉 찼는지 확인
-        if (plubbing.getCurAccountNum() >= plubbing.getMaxAccountNum())
-            throw new RecruitException(StatusCode.PLUBBING_MEMBER_IS_FULL);
-
-        // 이미 승낙 또는 거절한 지원자인지 확인
-        if (appliedAccount.getStatus().equals(ApplicantStatus.ACCEPTED) ||
-                appliedAccount.getStatus().equals(ApplicantStatus.REJECTED))
+        // 대기 중인 지원자만 승낙 (이미 승낙 또는 거절한 지원자면 예외)
+        if (appliedAccountRepository.updateStatusIfWaiting(appliedAccount.getId(), ApplicantStatus.ACCEPTED) == 0)
             throw new RecruitException(StatusCode.ALREADY_ACCEPTED);
-
-        // 지원자 승낙
         appliedAccount.accept();
 
-        // 모임에 해당 지원자 추가
-        AccountPlubbing accountPlubbing = AccountPlubbing.builder()
-                .account(appliedAccount.getAccount())
-                .plubbing(plubbing)
-                .accountPlubbingStatus(AccountPlubbingStatus.ACTIVE)
-                .isHost(false)
-                .build();
-
-        plubbing.addAccountPlubbing(accountPlubbing);
-
-        // 명시적 호출을 해야지만 반영 됨
-        plubbing.updateCurAccountNum();
+        // 모임에 해당 지원자 추가 (정원 초과면 예외로 승낙까지 롤백)
+        plubbingService.admitMember(plubbing, appliedAccount.getAccount());
 
         feedService.createSystemFeed(plubbing, appliedAccount.getAccount().getNickname());
 
@@ -377,6 +372,8 @@ public class RecruitService {
                 .content(plubbing.getName() + "과 함께하게 되었어요! \n멤버들과 함께 즐겁고 유익한 시간 보내시길 바라요 \uD83D\uDE42") // 웃음 이모지
                 .build();
         notificationService.pushMessage(params);
+        eventPublisher.publishEvent(new PlubbingChangedEvent(plubbingId));
+        eventPublisher.publishEvent(new PlubbingPopularityEvent(plubbingId, PopularitySignal.JOIN));
         return JoinedAccountsInfoResponse.of(plubbing);
     }
 
@@ -387,15 +384,11 @@ public class RecruitService {
     public JoinedAccountsInfoResponse rejectApplicant(Account loginAccount, Long plubbingId, Long accountId) {
         AppliedAccount appliedAccount = getAppliedAccountWithCheckHost(loginAccount, plubbingId, accountId);
 
-        if (appliedAccount.getStatus().equals(ApplicantStatus.REJECTED) ||
-                appliedAccount.getStatus().equals(ApplicantStatus.ACCEPTED))
+        if (appliedAccountRepository.updateStatusIfWaiting(appliedAccount.getId(), ApplicantStatus.REJECTED) == 0)
             throw new RecruitException(StatusCode.ALREADY_REJECTED);
         appliedAccount.reject();
 
-        Plubbing plubbing = plubbingService.getPlubbing(plubbingId);
-        plubbing.updateCurAccountNum();
-
-        return JoinedAccountsInfoResponse.of(plubbing);
+        return JoinedAccountsInfoResponse.of(plubbingService.getPlubbing(plubbingId));
     }
 
     /**
@@ -407,6 +400,7 @@ public class RecruitService {
         if (recruit.getPullUpCount() >= 2)
             throw new RecruitException(StatusCode.PULL_UP_LIMIT_OVER);
         recruit.pullUp();
+        eventPublisher.publishEvent(new PlubbingChangedEvent(plubbingId));
         return new PullUpResponse(plubbingId, recruit.getPullUpCount());
     }
 }
@@ -2,6 +2,7 @@ package plub.plubserver.domain.report.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import plub.plubserver.common.exception.PlubException;
@@ -11,6 +12,7 @@ import plub.plubserver.domain.account.model.Account;
 import plub.plubserver.domain.account.model.SuspendAccount;
 import plub.plubserver.domain.account.repository.SuspendAccountRepository;
 import plub.plubserver.domain.archive.model.Archive;
+import plub.plubserver.domain.feed.event.FeedDeletedEvent;
 import plub.plubserver.domain.feed.model.Feed;
 import plub.plubserver.domain.feed.model.FeedComment;
 import plub.plubserver.domain.notice.model.NoticeComment;
@@ -20,6 +22,7 @@ import plub.plubserver.domain.notification.service.NotificationService;
 import plub.plubserver.domain.plubbing.model.AccountPlubbing;
 import plub.plubserver.domain.plubbing.model.Plubbing;
 import plub.plubserver.domain.plubbing.repository.PlubbingRepository;
+import plub.plubserver.domain.recruit.event.RecruitBookmarksClearedEvent;
 import plub.plubserver.domain.recruit.model.Recruit;
 import plub.plubserver.domain.recruit.repository.BookmarkRepository;
 import plub.plubserver.domain.report.config.ReportStatusMessage;
@@ -53,6 +56,7 @@ public class ReportService {
     private final PlubbingRepository plubbingRepository;
     private final BookmarkRepository bookmarkRepository;
     private final EntityManager em;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 신고하기
     @Transactional
@@ -176,7 +180,9 @@ public class ReportService {
 
             // 북마크 전체 삭제 후 모임 상태 정지로 변경
             plubbingRepository.findAllByHost(reportedAccount).forEach(plubbing -> {
+                List<Long> bookmarkedAccountIds = bookmarkRepository.findAllAccountIdsByRecruit(plubbing.getRecruit());
                 bookmarkRepository.deleteByRecruit(plubbing.getRecruit());
+                eventPublisher.publishEvent(new RecruitBookmarksClearedEvent(plubbing.getId(), bookmarkedAccountIds));
                 plubbing.pause();
             });
         } else if (reportedAccountCount >= REPORT_ACCOUNT_PAUSED_COUNT) {
@@ -246,6 +252,8 @@ public class ReportService {
         T entity = findOrThrow(clazz, report.getTargetId());
         if (frequency >= maxFrequency || recentFrequency >= maxRecentFrequency) {
             entity.softDelete();
+            if (entity instanceof Feed feed)
+                eventPublisher.publishEvent(new FeedDeletedEvent(feed.getPlubbing().getId(), feed.getId()));
         }
     }
 
@@ -66,10 +66,11 @@ public class TodoController {
     public ApiResponse<PageResponse<TodoTimelineAllResponse>> getAllTodoList(
             @PathVariable Long plubbingId,
             @PageableDefault Pageable pageable,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) Long cursorId
     ) {
         Account currentAccount = accountService.getCurrentAccount();
-        return success(todoService.getAllTodoList(currentAccount, plubbingId, pageable, cursorId));
+        return success(todoService.getAllTodoList(currentAccount, plubbingId, pageable, cursor, cursorId));
     }
 
     @ApiOperation(value = "투두 타임라인 날짜 조회 (캘린더 용)")
@@ -88,10 +89,11 @@ public class TodoController {
             @PathVariable Long plubbingId,
             @PathVariable Long accountId,
             @PageableDefault Pageable pageable,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) Long cursorId
     ) {
         Account currentAccount = accountService.getCurrentAccount();
-        return success(todoService.getAccountTodoTimelinePage(currentAccount, plubbingId, accountId, pageable, cursorId));
+        return success(todoService.getAccountTodoTimelinePage(currentAccount, plubbingId, accountId, pageable, cursor, cursorId));
     }
 
     @ApiOperation(value = "투두 리스트 삭제 (캘린더 용)")
@@ -162,10 +164,11 @@ public class TodoController {
     public ApiResponse<MyTodoListResponse> getMyTodoList(
             @PathVariable Long plubbingId,
             @PageableDefault Pageable pageable,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) Long cursorId
     ) {
         Account currentAccount = accountService.getCurrentAccount();
-        return success(todoService.getMyTodoTimelinePage(currentAccount, plubbingId, pageable, cursorId));
+        return success(todoService.getMyTodoTimelinePage(currentAccount, plubbingId, pageable, cursor, cursorId));
     }
 
     @ApiOperation(value = "투두 좋아요")
@@ -9,6 +9,7 @@ import plub.plubserver.domain.account.model.Account;
 import javax.persistence.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_todo_like_account_timeline", columnNames = {"account_id", "todo_timelime_id"}))
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
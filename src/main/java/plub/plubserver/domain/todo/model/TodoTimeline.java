@@ -49,6 +49,8 @@ public class TodoTimeline extends BaseEntity {
     @OneToMany(mappedBy = "todoTimeline", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<TodoLike> todoLikes = new ArrayList<>();
 
+    // 좋아요 수 (ReactionEngine 의 증감 쿼리로만 변경, 엔티티 값은 응답용)
+    @Column(updatable = false)
     private int likeTodo;
 
     public void updateTodo(Todo todo) {
@@ -59,11 +61,8 @@ public class TodoTimeline extends BaseEntity {
         todo.updateTodoTimeline(this);
     }
 
-    public void addLike() {
-        this.likeTodo++;
-    }
-
-    public void subLike() {
-        this.likeTodo--;
+    // DB 에는 반영되지 않음 (응답에 증감을 보여주기 위한 값)
+    public void applyLikeDelta(long delta) {
+        this.likeTodo += (int) delta;
     }
 }
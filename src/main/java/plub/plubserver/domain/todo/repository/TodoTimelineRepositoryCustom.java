@@ -1,7 +1,6 @@
 package plub.plubserver.domain.todo.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import plub.plubserver.common.pagination.KeysetSlice;
 import plub.plubserver.domain.account.model.Account;
 import plub.plubserver.domain.plubbing.model.Plubbing;
 import plub.plubserver.domain.todo.model.TodoTimeline;
@@ -9,7 +8,9 @@ import plub.plubserver.domain.todo.model.TodoTimeline;
 import java.util.List;
 
 public interface TodoTimelineRepositoryCustom {
-    Page<TodoTimeline> findByAccountAndPlubbing(Account account, Plubbing plubbing, Pageable pageable, Long cursorId, String timelineDate);
-    Page<TodoTimeline> findAllByPlubbing(Plubbing plubbing, Pageable pageable, Long cursorId, String timelineDate);
+    KeysetSlice<TodoTimeline> findByAccountAndPlubbing(Account account, Plubbing plubbing, int size, String cursor, Long cursorId);
+    KeysetSlice<TodoTimeline> findAllByPlubbing(Plubbing plubbing, int size, String cursor, Long cursorId);
+    Long countByAccountAndPlubbing(Account account, Plubbing plubbing);
+    Long countAllByPlubbingWithUpcoming(Plubbing plubbing);
     List<TodoTimeline> findByAccountAndPlubbingAndDate(Account account, Long id, int year, int month);
 }
@@ -1,19 +1,20 @@
 package plub.plubserver.domain.todo.repository;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
+import plub.plubserver.common.pagination.KeysetSlice;
+import plub.plubserver.common.pagination.KeysetSort;
 import plub.plubserver.domain.account.model.Account;
 import plub.plubserver.domain.plubbing.model.Plubbing;
 import plub.plubserver.domain.plubbing.model.QPlubbing;
 import plub.plubserver.domain.todo.model.TodoTimeline;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static plub.plubserver.domain.todo.model.QTodoTimeline.todoTimeline;
@@ -24,86 +25,111 @@ public class TodoTimelineRepositoryImpl implements TodoTimelineRepositoryCustom
 
     private final JPAQueryFactory queryFactory;
 
+    // 날짜 최신순, 같은 날짜면 id 로 구분
+    private static final KeysetSort<TodoTimeline> DATE_SORT = KeysetSort.<TodoTimeline>create()
+            .desc(todoTimeline.date, LocalDate.class, TodoTimeline::getDate)
+            .desc(todoTimeline.id, Long.class, TodoTimeline::getId);
+
+    private TodoTimeline findCursorRow(Long cursorId) {
+        return queryFactory.selectFrom(todoTimeline).where(todoTimeline.id.eq(cursorId)).fetchOne();
+    }
+
     @Override
-    public Page<TodoTimeline> findByAccountAndPlubbing(
+    public KeysetSlice<TodoTimeline> findByAccountAndPlubbing(
             Account account,
             Plubbing plubbing,
-            Pageable pageable,
-            Long cursorId,
-            String date
+            int size,
+            String cursor,
+            Long cursorId
     ) {
-        LocalDate now = LocalDate.now();
-        JPAQuery<TodoTimeline> query = queryFactory
+        JPQLQuery<TodoTimeline> query = queryFactory
                 .selectFrom(todoTimeline)
                 .leftJoin(todoTimeline.plubbing, QPlubbing.plubbing)
                 .fetchJoin()
                 .where(
                         todoTimeline.plubbing.eq(plubbing),
-                        todoTimeline.date.loe(now),
-                        todoTimeline.account.eq(account),
-                        getCursorId(cursorId, date)
-                )
-                .orderBy(todoTimeline.date.desc(), todoTimeline.id.desc())
-                .distinct();
-
-
-        return PageableExecutionUtils.getPage(
-                query.orderBy(todoTimeline.id.desc())
-                        .limit(pageable.getPageSize())
-                        .fetch(),
-                pageable,
-                () -> queryFactory
-                        .selectFrom(todoTimeline)
-                        .fetch().size());
+                        todoTimeline.date.loe(LocalDate.now()),
+                        todoTimeline.account.eq(account)
+                );
+        return DATE_SORT.fetch(query, DATE_SORT.resolveCursor(cursor, cursorId, this::findCursorRow), size);
     }
 
+    // 오늘까지의 타임라인, 첫 페이지에는 3개월 이내 다가오는 타임라인(최대 3개)을 앞에 붙임
     @Override
-    public Page<TodoTimeline> findAllByPlubbing(
+    public KeysetSlice<TodoTimeline> findAllByPlubbing(
             Plubbing plubbing,
-            Pageable pageable,
-            Long cursorId,
-            String date
+            int size,
+            String cursor,
+            Long cursorId
     ) {
         LocalDate now = LocalDate.now();
-        List<TodoTimeline> fetch1 = queryFactory
-                .selectFrom(todoTimeline)
-                .leftJoin(todoTimeline.plubbing)
-                .fetchJoin()
-                .where(
-                        todoTimeline.plubbing.eq(plubbing),
-                        todoTimeline.date.loe(now),
-                        getCursorId(cursorId, date)
-                )
-                .orderBy(todoTimeline.date.desc(), todoTimeline.id.desc())
-                .distinct()
-                .limit(pageable.getPageSize())
-                .fetch();
+        List<Object> cursorValues = DATE_SORT.resolveCursor(cursor, cursorId, this::findCursorRow);
+        KeysetSlice<TodoTimeline> pastSlice = DATE_SORT.fetch(
+                queryFactory
+                        .selectFrom(todoTimeline)
+                        .leftJoin(todoTimeline.plubbing)
+                        .fetchJoin()
+                        .where(
+                                todoTimeline.plubbing.eq(plubbing),
+                                todoTimeline.date.loe(now)
+                        ),
+                cursorValues,
+                size
+        );
+        if (cursorValues != null) return pastSlice;
 
-        LocalDate nextMonth = now.plusMonths(3);
-        List<TodoTimeline> fetch2 = queryFactory
+        List<TodoTimeline> upcoming = new ArrayList<>(queryFactory
                 .selectFrom(todoTimeline)
                 .leftJoin(todoTimeline.plubbing)
                 .fetchJoin()
                 .where(
                         todoTimeline.plubbing.eq(plubbing),
                         todoTimeline.date.gt(now),
-                        todoTimeline.date.loe(nextMonth)
+                        todoTimeline.date.loe(now.plusMonths(3))
                 )
-                .orderBy(todoTimeline.date.asc())
-                .distinct()
+                .orderBy(todoTimeline.date.asc(), todoTimeline.id.asc())
                 .limit(3)
-                .fetch();
+                .fetch());
+        Collections.reverse(upcoming);
+        upcoming.addAll(pastSlice.content());
+        return new KeysetSlice<>(upcoming, pastSlice.hasNext(), pastSlice.nextCursor());
+    }
 
-        fetch1.addAll(fetch2);
-        fetch1.sort((o1, o2) -> o2.getDate().compareTo(o1.getDate()));
+    @Override
+    public Long countByAccountAndPlubbing(Account account, Plubbing plubbing) {
+        return queryFactory
+                .select(todoTimeline.count())
+                .from(todoTimeline)
+                .where(
+                        todoTimeline.plubbing.eq(plubbing),
+                        todoTimeline.date.loe(LocalDate.now()),
+                        todoTimeline.account.eq(account)
+                )
+                .fetchOne();
+    }
 
-        return PageableExecutionUtils.getPage(
-                fetch1,
-                pageable,
-                () -> queryFactory
-                        .selectFrom(todoTimeline)
-                        .fetch().size()
-        );
+    // findAllByPlubbing 과 같은 조건 : 오늘까지의 타임라인 + 3개월 이내 다가오는 타임라인(최대 3개)
+    @Override
+    public Long countAllByPlubbingWithUpcoming(Plubbing plubbing) {
+        LocalDate now = LocalDate.now();
+        Long pastCount = queryFactory
+                .select(todoTimeline.count())
+                .from(todoTimeline)
+                .where(
+                        todoTimeline.plubbing.eq(plubbing),
+                        todoTimeline.date.loe(now)
+                )
+                .fetchOne();
+        Long upcomingCount = queryFactory
+                .select(todoTimeline.count())
+                .from(todoTimeline)
+                .where(
+                        todoTimeline.plubbing.eq(plubbing),
+                        todoTimeline.date.gt(now),
+                        todoTimeline.date.loe(now.plusMonths(3))
+                )
+                .fetchOne();
+        return (pastCount == null ? 0 : pastCount) + Math.min(3, upcomingCount == null ? 0 : upcomingCount);
     }
 
     @Override
@@ -118,12 +144,6 @@ public class TodoTimelineRepositoryImpl implements TodoTimelineRepositoryCustom
                 .fetch();
     }
 
-    private BooleanExpression getCursorId(Long cursorId, String date) {
-        return cursorId == 0 || cursorId == null ? null : todoTimeline.date.lt(LocalDate.parse(date))
-                .and(todoTimeline.id.gt(cursorId))
-                .or(todoTimeline.date.lt(LocalDate.parse(date)));
-    }
-
     private BooleanExpression getCursorDate(String cursorDate) {
         return cursorDate == null ? null : todoTimeline.date.loe(LocalDate.parse(cursorDate));
     }
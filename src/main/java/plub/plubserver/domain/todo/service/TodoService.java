@@ -1,13 +1,15 @@
 package plub.plubserver.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import plub.plubserver.common.dto.PageResponse;
 import plub.plubserver.common.exception.StatusCode;
 import plub.plubserver.common.model.BaseEntity;
+import plub.plubserver.common.pagination.KeysetSlice;
+import plub.plubserver.common.reaction.ReactionEngine;
+import plub.plubserver.common.reaction.ReactionTarget;
 import plub.plubserver.domain.account.exception.AccountException;
 import plub.plubserver.domain.account.model.Account;
 import plub.plubserver.domain.account.repository.AccountRepository;
@@ -15,9 +17,7 @@ import plub.plubserver.domain.plubbing.model.Plubbing;
 import plub.plubserver.domain.plubbing.service.PlubbingService;
 import plub.plubserver.domain.todo.exception.TodoException;
 import plub.plubserver.domain.todo.model.Todo;
-import plub.plubserver.domain.todo.model.TodoLike;
 import plub.plubserver.domain.todo.model.TodoTimeline;
-import plub.plubserver.domain.todo.repository.TodoLikeRepository;
 import plub.plubserver.domain.todo.repository.TodoRepository;
 import plub.plubserver.domain.todo.repository.TodoTimelineRepository;
 
@@ -36,7 +36,7 @@ public class TodoService {
     private final TodoTimelineRepository todoTimelineRepository;
     private final PlubbingService plubbingService;
     private final AccountRepository accountRepository;
-    private final TodoLikeRepository todoLikeRepository;
+    private final ReactionEngine reactionEngine;
 
 
     private Todo getTodoById(Long todoId) {
@@ -233,12 +233,13 @@ public class TodoService {
             Account currentAccount,
             Long plubbingId,
             Pageable pageable,
+            String cursor,
             Long cursorId
     ) {
         Plubbing plubbing = plubbingService.getPlubbing(plubbingId);
         plubbingService.checkMember(currentAccount, plubbing);
         PageResponse<TodoTimelineResponse> response =
-                getTodoTimelinePageResponse(currentAccount, plubbing, pageable, currentAccount, cursorId);
+                getTodoTimelinePageResponse(currentAccount, plubbing, pageable, currentAccount, cursor, cursorId);
         return MyTodoListResponse.of(plubbing, response);
     }
 
@@ -248,12 +249,13 @@ public class TodoService {
             Long plubbingId,
             Long accountId,
             Pageable pageable,
+            String cursor,
             Long cursorId
     ) {
         Plubbing plubbing = plubbingService.getPlubbing(plubbingId);
         Account account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new AccountException(StatusCode.NOT_FOUND_ACCOUNT));
-        return getTodoTimelinePageResponse(currentAccount, plubbing, pageable, account, cursorId);
+        return getTodoTimelinePageResponse(currentAccount, plubbing, pageable, account, cursor, cursorId);
     }
 
     private PageResponse<TodoTimelineResponse> getTodoTimelinePageResponse(
@@ -261,31 +263,18 @@ public class TodoService {
             Plubbing plubbing,
             Pageable pageable,
             Account account,
+            String cursor,
             Long cursorId
     ) {
-        String date = nextCursorTimelineByPlubbing(plubbing, account, cursorId);
-        Page<TodoTimelineResponse> timelineResponsePage =
-                todoTimelineRepository.findByAccountAndPlubbing(account, plubbing, pageable, cursorId, date)
+        plubbingService.checkMemberAndActive(account, plubbing);
+        KeysetSlice<TodoTimelineResponse> timelineResponsePage =
+                todoTimelineRepository.findByAccountAndPlubbing(account, plubbing, pageable.getPageSize(), cursor, cursorId)
                         .map(todoTimeline -> {
                             List<Todo> todoList = todoRepository.findAllByTodoTimelineAndPlubbing(todoTimeline, plubbing);
                             return TodoTimelineResponse.of(todoTimeline, currentAccount, todoList);
                         });
-        return PageResponse.ofCursor(timelineResponsePage, timelineResponsePage.getTotalElements());
-    }
-
-    public String nextCursorTimelineByPlubbing(Plubbing plubbing, Account account, Long cursorId) {
-        plubbingService.checkMemberAndActive(account, plubbing);
-
-        Long nextCursorId = cursorId;
-        if (cursorId != null && cursorId == 0) {
-            Optional<TodoTimeline> first = todoTimelineRepository.findFirstByPlubbingOrderByDateDesc(plubbing);
-            if (first.isEmpty()) {
-                nextCursorId = null;
-            } else {
-                nextCursorId = first.map(TodoTimeline::getId).orElse(null);
-            }
-        }
-        return nextCursorId == null ? null : getTodoTimeline(nextCursorId).getDate().toString();
+        Long totalElements = todoTimelineRepository.countByAccountAndPlubbing(account, plubbing);
+        return PageResponse.ofKeyset(timelineResponsePage, totalElements);
     }
 
     // 타임라인 전체 조회
@@ -293,21 +282,22 @@ public class TodoService {
             Account currentAccount,
             Long plubbingId,
             Pageable pageable,
+            String cursor,
             Long cursorId
     ) {
         Plubbing plubbing = plubbingService.getPlubbing(plubbingId);
         plubbingService.checkMemberAndActive(currentAccount, plubbing);
-        String date = nextCursorTimelineByPlubbing(plubbing, currentAccount, cursorId);
 
-        Page<TodoTimelineAllResponse> timelineResponsePage =
-                todoTimelineRepository.findAllByPlubbing(plubbing, pageable, cursorId, date)
+        KeysetSlice<TodoTimelineAllResponse> timelineResponsePage =
+                todoTimelineRepository.findAllByPlubbing(plubbing, pageable.getPageSize(), cursor, cursorId)
                         .map(todoTimeline ->
                         {
                             List<Todo> todoList = todoRepository.findAllByTodoTimelineAndPlubbing(todoTimeline, plubbing);
                             return TodoTimelineAllResponse.of(todoTimeline, currentAccount, todoList);
                         });
 
-        return PageResponse.ofCursor(timelineResponsePage, timelineResponsePage.getTotalElements());
+        Long totalElements = todoTimelineRepository.countAllByPlubbingWithUpcoming(plubbing);
+        return PageResponse.ofKeyset(timelineResponsePage, totalElements);
     }
 
     // 회원 타임라인 날짜 조회
@@ -325,23 +315,8 @@ public class TodoService {
         plubbingService.checkMemberAndActive(currentAccount, plubbing);
         TodoTimeline todoTimeline = todoTimelineRepository.findByIdAndPlubbing(timelineId, plubbing)
                 .orElseThrow(() -> new TodoException(StatusCode.NOT_FOUNT_TODO_TIMELINE));
-        todoLikeRepository.findByAccountAndTodoTimeline(currentAccount, todoTimeline)
-                .ifPresentOrElse(todoLike -> {
-                    if (todoLike.isLike()) {
-                        todoLike.updateIsLike();
-                        todoTimeline.subLike();
-                    } else {
-                        todoLike.updateIsLike();
-                        todoTimeline.addLike();
-                    }
-                }, () -> {
-                    TodoLike todoLike = todoLikeRepository.save(TodoLike.builder()
-                            .account(currentAccount)
-                            .todoTimeline(todoTimeline)
-                            .build());
-                    todoTimeline.addLike();
-                    todoLike.updateIsLike();
-                });
+        int delta = reactionEngine.toggle(ReactionTarget.TODO, todoTimeline.getId(), currentAccount.getId());
+        todoTimeline.applyLikeDelta(delta);
         List<Todo> todoList = todoRepository.findAllByTodoTimelineAndPlubbing(todoTimeline, plubbing);
         return TodoTimelineResponse.of(todoTimeline, currentAccount, todoList);
     }
@@ -1,5 +1,13 @@
 package plub.plubserver.util;
 
+import com.querydsl.jpa.JPQLQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
 public class CursorUtils {
 
     public static final int TEN_AMOUNT = 10;
@@ -15,4 +23,16 @@ public class CursorUtils {
         }
         return nextCursorId;
     }
+
+    /**
+     * 페이지 크기 + 1 개를 조회해서 다음 페이지 유무를 판단 (count 쿼리 없음)
+     * 전체 개수가 필요하면 같은 조건의 count 쿼리를 따로 실행
+     */
+    public static <T> Slice<T> fetchSlice(JPQLQuery<T> query, Pageable pageable) {
+        int pageSize = pageable.getPageSize();
+        List<T> content = query.limit(pageSize + 1L).fetch();
+        boolean hasNext = content.size() > pageSize;
+        if (hasNext) content = new ArrayList<>(content.subList(0, pageSize));
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
 }
@@ -1,40 +1,132 @@
 package plub.plubserver.util;
 
+import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.model.CityResponse;
 import com.maxmind.geoip2.record.City;
 import com.maxmind.geoip2.record.Subdivision;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PreDestroy;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static plub.plubserver.common.constant.GlobalConstants.GEO_CITY_CACHE_SIZE;
 
 
 @Component
 @Slf4j
 public class GeoReader {
+    private static final String UNKNOWN = "unknown";
+
     private DatabaseReader reader;
 
+    // IP -> 도시 정보 LRU 캐시 (accessOrder = true)
+    private final Map<String, String> cityCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(GEO_CITY_CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > GEO_CITY_CACHE_SIZE;
+                }
+            }
+    );
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    // 애플리케이션 시작 시 한 번만 DB 파일을 열고, 메모리 매핑으로 읽는다
     public GeoReader() {
         try {
-            ClassPathResource resource = new ClassPathResource("GeoLite2-City.mmdb");
-            File dbFile = new File(resource.getURI());
-            reader = new DatabaseReader.Builder(dbFile).build();
-        } catch (Exception ignored) {
+            reader = new DatabaseReader.Builder(getDatabaseFile())
+                    .fileMode(Reader.FileMode.MEMORY_MAPPED)
+                    .build();
+        } catch (Exception e) {
+            log.warn("GeoLite2 DB 로딩 실패 : {}", e.getMessage());
+        }
+    }
+
+    // jar 내부 리소스는 File 로 매핑할 수 없으므로 임시 파일로 복사한다
+    private File getDatabaseFile() throws IOException {
+        ClassPathResource resource = new ClassPathResource("GeoLite2-City.mmdb");
+        if (resource.isFile()) return resource.getFile();
+        File tempFile = File.createTempFile("GeoLite2-City", ".mmdb");
+        tempFile.deleteOnExit();
+        try (InputStream inputStream = resource.getInputStream()) {
+            Files.copy(inputStream, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
         }
+        return tempFile;
     }
 
     public String getCity(InetAddress IpAddress) {
+        String key = IpAddress.getHostAddress();
+        String cached = cityCache.get(key);
+        if (cached != null) {
+            hitCount.increment();
+            return cached;
+        }
+        missCount.increment();
+        String cityInfo = lookupCity(IpAddress);
+        cityCache.put(key, cityInfo);
+        return cityInfo;
+    }
+
+    private String lookupCity(InetAddress IpAddress) {
+        if (reader == null) return UNKNOWN;
         try {
             CityResponse response = reader.city(IpAddress);
             Subdivision subdivision = response.getMostSpecificSubdivision();
             City city = response.getCity();
             return city.getName() + "," + subdivision.getName();
         } catch (Exception ex) {
-            return "unknown";
+            return UNKNOWN;
         }
     }
 
+    // 요청 스레드와 분리하여 IP 조회 및 로깅
+    @Async
+    public void logAccess(String clientIp, String method, String requestUri) {
+        String cityInfo = "";
+        try {
+            cityInfo = getCity(InetAddress.getByName(clientIp));
+        } catch (Exception ignored) {}
+        log.info("{}({}) {} {}", clientIp, cityInfo, method, requestUri);
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public int getCacheSize() {
+        return cityCache.size();
+    }
+
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @PreDestroy
+    public void close() {
+        log.info("GeoReader cache stat - hit={}, miss={}, size={}", getHitCount(), getMissCount(), getCacheSize());
+        if (reader == null) return;
+        try {
+            reader.close();
+        } catch (IOException ignored) {
+        }
+    }
 }
@@ -8,13 +8,14 @@ import org.springframework.web.servlet.HandlerInterceptor;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.net.InetAddress;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class IpTrackInterceptor implements HandlerInterceptor {
 
+    private final GeoReader geoReader;
+
     public static String getClientIP(HttpServletRequest request) {
         String ip = request.getHeader("X-Forwarded-For");
         if (ip == null) {
@@ -41,13 +42,8 @@ public class IpTrackInterceptor implements HandlerInterceptor {
             @NotNull HttpServletResponse response,
             @NotNull Object handler
     ) {
-        InetAddress ipAddress;
-        String cityInfo = "";
-        try {
-            ipAddress = InetAddress.getByName(getClientIP(request));
-            cityInfo = new GeoReader().getCity(ipAddress);
-        } catch (Exception ignored) {}
-        log.info("{}({}) {} {}", getClientIP(request), cityInfo, request.getMethod(), request.getRequestURI());
+        // 위치 조회 및 로깅은 비동기로 처리
+        geoReader.logAccess(getClientIP(request), request.getMethod(), request.getRequestURI());
         return true;
     }
 }
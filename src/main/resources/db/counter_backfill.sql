@@ -0,0 +1,42 @@
+-- 좋아요/댓글 수 카운터 일괄 보정
+-- 카운터 컬럼을 추가한 뒤 배포 직전에 한 번만 실행한다. 이후 차이는 CounterReconciler 가 id 구간별로 보정한다
+-- 테이블 전체를 잠그고 집계하므로 트래픽이 적은 시간에 실행한다
+--   psql "$DATABASE_URL" -v ON_ERROR_STOP=1 -f counter_backfill.sql
+
+begin;
+
+lock table feed, notice, todo_timeline in share row exclusive mode;
+
+update feed t set like_count = c.cnt
+from (select p.feed_id, count(ch.feed_like_id) as cnt
+      from feed p left join feed_like ch on ch.feed_id = p.feed_id and ch.visibility = true
+      group by p.feed_id) c
+where t.feed_id = c.feed_id and t.like_count is distinct from c.cnt;
+
+update feed t set comment_count = c.cnt
+from (select p.feed_id, count(ch.feed_comment_id) as cnt
+      from feed p left join feed_comment ch on ch.feed_id = p.feed_id and ch.visibility = true
+      group by p.feed_id) c
+where t.feed_id = c.feed_id and t.comment_count is distinct from c.cnt;
+
+update notice t set like_count = c.cnt
+from (select p.notice_id, count(ch.notice_like_id) as cnt
+      from notice p left join notice_like ch on ch.notice_id = p.notice_id and ch.visibility = true
+      group by p.notice_id) c
+where t.notice_id = c.notice_id and t.like_count is distinct from c.cnt;
+
+update notice t set comment_count = c.cnt
+from (select p.notice_id, count(ch.notice_comment_id) as cnt
+      from notice p left join notice_comment ch on ch.notice_id = p.notice_id and ch.visibility = true
+      group by p.notice_id) c
+where t.notice_id = c.notice_id and t.comment_count is distinct from c.cnt;
+
+-- 투두 좋아요 행은 취소해도 남아 있으므로 is_like 인 행만 센다
+update todo_timeline t set like_todo = c.cnt
+from (select p.todo_timelime_id, count(ch.todo_like_id) as cnt
+      from todo_timeline p left join todo_like ch
+          on ch.todo_timelime_id = p.todo_timelime_id and ch.visibility = true and ch.is_like = true
+      group by p.todo_timelime_id) c
+where t.todo_timelime_id = c.todo_timelime_id and t.like_todo is distinct from c.cnt;
+
+commit;
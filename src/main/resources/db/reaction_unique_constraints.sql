@@ -0,0 +1,42 @@
+-- 좋아요 (account, 대상) unique 제약
+-- ReactionEngine 토글은 on conflict (account_id, 대상) 을 사용하므로 배포 전에 한 번만 실행한다 (제약이 없으면 토글 쿼리가 실패한다)
+-- 기존 중복 행 때문에 Hibernate DDL 로는 제약이 만들어지지 않으므로, 중복을 정리한 뒤 같은 이름으로 제약을 추가한다
+-- 정리와 제약 추가를 한 트랜잭션에서 실행해서 그 사이에 중복 행이 다시 생기지 않게 한다
+--   psql "$DATABASE_URL" -v ON_ERROR_STOP=1 -f reaction_unique_constraints.sql
+-- 지워진 중복 행만큼 좋아요 수가 달라지므로 이어서 counter_backfill.sql 을 실행한다
+
+begin;
+
+lock table feed_like, notice_like, todo_like in share row exclusive mode;
+
+-- 피드/공지 : 보이는 행을 우선으로 가장 먼저 생긴 행 하나만 남김
+delete from feed_like d
+using (select feed_like_id,
+              row_number() over (partition by account_id, feed_id order by visibility desc, feed_like_id) as rn
+       from feed_like) r
+where d.feed_like_id = r.feed_like_id and r.rn > 1;
+
+delete from notice_like d
+using (select notice_like_id,
+              row_number() over (partition by account_id, notice_id order by visibility desc, notice_like_id) as rn
+       from notice_like) r
+where d.notice_like_id = r.notice_like_id and r.rn > 1;
+
+-- 투두 : 마지막으로 바뀐 행 (현재 좋아요 상태) 하나만 남김
+delete from todo_like d
+using (select todo_like_id,
+              row_number() over (partition by account_id, todo_timelime_id
+                                 order by visibility desc, modified_at desc nulls last, todo_like_id desc) as rn
+       from todo_like) r
+where d.todo_like_id = r.todo_like_id and r.rn > 1;
+
+alter table feed_like drop constraint if exists uk_feed_like_account_feed;
+alter table feed_like add constraint uk_feed_like_account_feed unique (account_id, feed_id);
+
+alter table notice_like drop constraint if exists uk_notice_like_account_notice;
+alter table notice_like add constraint uk_notice_like_account_notice unique (account_id, notice_id);
+
+alter table todo_like drop constraint if exists uk_todo_like_account_timeline;
+alter table todo_like add constraint uk_todo_like_account_timeline unique (account_id, todo_timelime_id);
+
+commit;
@@ -0,0 +1,16 @@
+-- 모집글 정확도순 검색 (pg_trgm) 스키마
+-- 배포 전에 한 번만 실행한다. 애플리케이션은 이 스키마가 있는지만 확인하고 없으면 LIKE 검색으로 대체한다 (RecruitSearchIndex)
+-- create index concurrently 는 트랜잭션 안에서 실행할 수 없으므로 자동 커밋으로 실행한다
+--   psql "$DATABASE_URL" -v ON_ERROR_STOP=1 -f recruit_search_index.sql
+-- 인덱스 생성이 중간에 실패하면 invalid 인덱스가 남으므로 drop index concurrently 후 다시 실행한다
+
+create extension if not exists pg_trgm;
+
+-- 제목 + 소개글 검색 문서 (generated column 추가는 테이블을 다시 쓰므로 트래픽이 적은 시간에 실행)
+alter table recruit add column if not exists search_document text
+    generated always as (coalesce(title, '') || chr(10) || coalesce(introduce, '')) stored;
+
+create index concurrently if not exists idx_recruit_title_trgm on recruit using gin (title gin_trgm_ops);
+create index concurrently if not exists idx_recruit_introduce_trgm on recruit using gin (introduce gin_trgm_ops);
+create index concurrently if not exists idx_recruit_search_document_trgm on recruit using gin (search_document gin_trgm_ops);
+create index concurrently if not exists idx_plubbing_name_trgm on plubbing using gin (name gin_trgm_ops);
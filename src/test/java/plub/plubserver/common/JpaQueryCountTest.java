@@ -0,0 +1,68 @@
+package plub.plubserver.common;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import plub.plubserver.config.querydsl.QuerydslConfig;
+import plub.plubserver.config.security.AccountSnapshotCache;
+import plub.plubserver.domain.plubbing.repository.PlubbingCategoryIndex;
+import plub.plubserver.domain.recruit.repository.RecruitLuceneIndex;
+import plub.plubserver.domain.recruit.repository.RecruitSearchIndex;
+
+import javax.persistence.EntityManager;
+
+/**
+ * 목록 조회가 실제로 실행하는 SQL 수 검증용 (H2, Hibernate Statistics)
+ * 저장한 데이터를 flush/clear 한 뒤 startCounting() 부터 준비된 statement 수를 센다
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:plub;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=DAY,MONTH,YEAR,VALUE,USER,KEY;LOCK_TIMEOUT=10000",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QuerydslConfig.class)
+public abstract class JpaQueryCountTest {
+
+    // 리포지토리 구현체, 엔티티 리스너가 주입받는 빈 (쿼리 수와 무관)
+    @MockBean
+    PlubbingCategoryIndex plubbingCategoryIndex;
+
+    @MockBean
+    RecruitSearchIndex recruitSearchIndex;
+
+    @MockBean
+    RecruitLuceneIndex recruitLuceneIndex;
+
+    @MockBean
+    AccountSnapshotCache accountSnapshotCache;
+
+    @Autowired
+    protected EntityManager em;
+
+    protected <T> T persist(T entity) {
+        em.persist(entity);
+        return entity;
+    }
+
+    // 영속성 컨텍스트를 비워서 이후 조회가 모두 DB 로 가게 하고 통계 초기화
+    protected void startCounting() {
+        em.flush();
+        em.clear();
+        statistics().clear();
+    }
+
+    protected long queryCount() {
+        return statistics().getPrepareStatementCount();
+    }
+
+    private Statistics statistics() {
+        return em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+}
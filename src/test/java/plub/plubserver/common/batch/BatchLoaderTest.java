@@ -0,0 +1,73 @@
+package plub.plubserver.common.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchLoaderTest {
+
+    @Test
+    @DisplayName("페이지의 키를 모아 한 번만 조회하고, 결과에 없는 키는 기본값")
+    void loadAll() {
+        // given
+        List<Collection<Long>> calls = new ArrayList<>();
+        BatchLoader<Long, Long> loader = BatchLoader.of(keys -> {
+            calls.add(List.copyOf(keys));
+            return keys.stream().filter(key -> key % 2 == 0).collect(Collectors.toMap(key -> key, key -> key * 10));
+        }, 0L);
+
+        // when
+        loader.loadAll(List.of(1L, 2L, 3L, 4L, 2L));
+
+        // then
+        assertThat(calls).containsExactly(List.of(1L, 2L, 3L, 4L));
+        assertThat(loader.get(2L)).isEqualTo(20L);
+        assertThat(loader.get(3L)).isZero();
+        assertThat(calls).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("이미 가져온 키는 다시 조회하지 않고 빠진 키만 조회")
+    void loadAll_onlyMissing() {
+        // given
+        List<Collection<Long>> calls = new ArrayList<>();
+        BatchLoader<Long, String> loader = BatchLoader.of(keys -> {
+            calls.add(List.copyOf(keys));
+            return keys.stream().collect(Collectors.toMap(key -> key, String::valueOf));
+        }, "");
+        loader.loadAll(List.of(1L, 2L));
+
+        // when
+        loader.loadAll(List.of(1L, 2L));
+        String value = loader.get(5L);
+
+        // then
+        assertThat(value).isEqualTo("5");
+        assertThat(calls).containsExactly(List.of(1L, 2L), List.of(5L));
+        assertThat(loader.get(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("키가 없으면 조회 함수를 호출하지 않음")
+    void loadAll_empty() {
+        // given
+        List<Collection<Long>> calls = new ArrayList<>();
+        BatchLoader<Long, String> loader = BatchLoader.of(keys -> {
+            calls.add(keys);
+            return Map.of();
+        }, "");
+
+        // when
+        loader.loadAll(List.of());
+
+        // then
+        assertThat(calls).isEmpty();
+    }
+}
@@ -0,0 +1,85 @@
+package plub.plubserver.common.comment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentTreeTest {
+
+    @Mock
+    NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    CommentTree commentTree;
+
+    @Test
+    @DisplayName("원댓글 삭제는 그룹 전체를 update 한 번으로 숨기고 숨겨진 수만큼 댓글 수 감소")
+    void softDeleteSubtree_root() {
+        // given
+        given(jdbcTemplate.update(eq(CommentTarget.FEED.getGroupDeleteSql()), any(SqlParameterSource.class)))
+                .willReturn(4);
+        given(jdbcTemplate.update(eq(CommentTarget.FEED.getCounterSql()), any(SqlParameterSource.class)))
+                .willReturn(1);
+
+        // when
+        int deletedCount = commentTree.softDeleteSubtree(CommentTarget.FEED, 1L, 10L, 10L);
+
+        // then
+        assertThat(deletedCount).isEqualTo(4);
+        ArgumentCaptor<SqlParameterSource> captor = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate).update(eq(CommentTarget.FEED.getCounterSql()), captor.capture());
+        assertThat(captor.getValue().getValue("delta")).isEqualTo(-4);
+        assertThat(captor.getValue().getValue("ownerId")).isEqualTo(1L);
+        verify(jdbcTemplate, never()).update(eq(CommentTarget.FEED.getSubtreeDeleteSql()), any(SqlParameterSource.class));
+    }
+
+    @Test
+    @DisplayName("답글 삭제는 같은 그룹 안의 하위 트리만 숨김")
+    void softDeleteSubtree_reply() {
+        // given
+        given(jdbcTemplate.update(eq(CommentTarget.NOTICE.getSubtreeDeleteSql()), any(SqlParameterSource.class)))
+                .willReturn(2);
+        given(jdbcTemplate.update(eq(CommentTarget.NOTICE.getCounterSql()), any(SqlParameterSource.class)))
+                .willReturn(1);
+
+        // when
+        int deletedCount = commentTree.softDeleteSubtree(CommentTarget.NOTICE, 1L, 12L, 10L);
+
+        // then
+        assertThat(deletedCount).isEqualTo(2);
+        ArgumentCaptor<SqlParameterSource> captor = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate).update(eq(CommentTarget.NOTICE.getSubtreeDeleteSql()), captor.capture());
+        assertThat(captor.getValue().getValue("commentId")).isEqualTo(12L);
+        assertThat(captor.getValue().getValue("groupId")).isEqualTo(10L);
+        verify(jdbcTemplate).update(eq(CommentTarget.NOTICE.getCounterSql()), any(SqlParameterSource.class));
+    }
+
+    @Test
+    @DisplayName("동시 삭제로 새로 숨겨진 댓글이 없으면 댓글 수를 바꾸지 않음")
+    void softDeleteSubtree_alreadyDeleted() {
+        // given
+        given(jdbcTemplate.update(eq(CommentTarget.FEED.getGroupDeleteSql()), any(SqlParameterSource.class)))
+                .willReturn(0);
+
+        // when
+        int deletedCount = commentTree.softDeleteSubtree(CommentTarget.FEED, 1L, 10L, 10L);
+
+        // then
+        assertThat(deletedCount).isZero();
+        verify(jdbcTemplate, never()).update(eq(CommentTarget.FEED.getCounterSql()), any(SqlParameterSource.class));
+    }
+}
@@ -0,0 +1,95 @@
+package plub.plubserver.common.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CounterReconcilerTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    StringRedisTemplate template;
+
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    CounterReconciler counterReconciler;
+
+    @Test
+    @DisplayName("카운터마다 id 구간별 트랜잭션에서 부모 행을 먼저 잠그고, 구간 안에서 값이 다른 행만 갱신")
+    void reconcile() {
+        // given : 피드는 id 1 ~ 2500 (카운터 2개 x 3 구간), 공지, 투두는 비어 있음
+        CounterReconciler.Counter feedLike = CounterReconciler.COUNTERS.get(0);
+        Map<String, Object> empty = new HashMap<>();
+        empty.put("min_id", null);
+        empty.put("max_id", null);
+        given(jdbcTemplate.queryForMap(anyString())).willReturn(empty);
+        given(jdbcTemplate.queryForMap(feedLike.rangeSql())).willReturn(Map.of("min_id", 1L, "max_id", 2500L));
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        given(jdbcTemplate.update(anyString(), anyLong(), anyLong())).willReturn(2, 0, 1, 0, 0, 4);
+
+        // when
+        int updated = counterReconciler.reconcile();
+
+        // then
+        assertThat(updated).isEqualTo(7);
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).queryForList(feedLike.lockSql(), Long.class, 1L, 1000L);
+        order.verify(jdbcTemplate).update(feedLike.reconcileSql(), 1L, 1000L);
+        order.verify(jdbcTemplate).queryForList(feedLike.lockSql(), Long.class, 2001L, 3000L);
+        order.verify(jdbcTemplate).update(feedLike.reconcileSql(), 2001L, 3000L);
+        verify(transactionTemplate, times(6)).execute(any());
+        assertThat(feedLike.lockSql()).endsWith("for update");
+        assertThat(CounterReconciler.COUNTERS).hasSize(5)
+                .allSatisfy(counter -> assertThat(counter.reconcileSql())
+                        .contains("between ? and ?").contains("is distinct from"));
+        assertThat(CounterReconciler.COUNTERS.get(4).reconcileSql()).contains("like_todo").contains("ch.is_like = true");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 보정 중이면 건너뜀")
+    void scheduleReconcile_locked() {
+        // given
+        given(template.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("counter:reconcile:lock"), eq("1"), eq(Duration.ofSeconds(30 * 60))))
+                .willReturn(false);
+
+        // when
+        counterReconciler.scheduleReconcile();
+
+        // then
+        verify(jdbcTemplate, never()).queryForMap(anyString());
+    }
+}
@@ -0,0 +1,104 @@
+package plub.plubserver.common.pagination;
+
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPQLQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import plub.plubserver.common.exception.PlubException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class KeysetSortTest {
+
+    record Row(Long id, Integer views) {
+    }
+
+    private final KeysetSort<Row> sort = KeysetSort.<Row>create()
+            .desc(Expressions.numberPath(Integer.class, "views"), Integer.class, Row::views)
+            .desc(Expressions.numberPath(Long.class, "id"), Long.class, Row::id);
+
+    @Test
+    @DisplayName("커서 인코딩 후 디코딩하면 같은 키 값")
+    void encodeDecode() {
+        // given
+        List<Object> values = List.of(120, 35L);
+
+        // when
+        List<Object> decoded = sort.decode(sort.encode(values));
+
+        // then
+        assertThat(decoded).containsExactly(120, 35L);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 INVALID_CURSOR 예외")
+    void decode_invalid() {
+        assertThatThrownBy(() -> sort.decode("not-a-cursor"))
+                .isInstanceOf(PlubException.class);
+        assertThatThrownBy(() -> sort.decode(sort.encode(List.of(1L))))
+                .isInstanceOf(PlubException.class);
+    }
+
+    @Test
+    @DisplayName("기존 cursorId 는 해당 행의 키 값으로 변환, 0 이면 첫 페이지")
+    void resolveCursor_legacyCursorId() {
+        // when
+        List<Object> values = sort.resolveCursor(null, 7L, id -> new Row(id, 42));
+        List<Object> first = sort.resolveCursor(null, 0L, id -> new Row(id, 42));
+
+        // then
+        assertThat(values).containsExactly(42, 7L);
+        assertThat(first).isNull();
+    }
+
+    @Test
+    @DisplayName("페이지 크기 + 1 개가 조회되면 마지막 행의 키로 다음 커서를 만든다")
+    void fetch_hasNext() {
+        // given
+        JPQLQuery<Row> query = mockQuery(List.of(new Row(3L, 10), new Row(2L, 10), new Row(1L, 5)));
+
+        // when
+        KeysetSlice<Row> slice = sort.fetch(query, null, 2);
+
+        // then
+        verify(query).limit(3L);
+        verify(query, never()).where(any());
+        assertThat(slice.content()).hasSize(2);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(sort.decode(slice.nextCursor())).containsExactly(10, 2L);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 다음 커서가 없다")
+    void fetch_last() {
+        // given
+        JPQLQuery<Row> query = mockQuery(List.of(new Row(1L, 5)));
+
+        // when
+        KeysetSlice<Row> slice = sort.fetch(query, List.of(10, 2L), 2);
+
+        // then
+        verify(query).where(any());
+        assertThat(slice.isLast()).isTrue();
+        assertThat(slice.nextCursor()).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private JPQLQuery<Row> mockQuery(List<Row> result) {
+        JPQLQuery<Row> query = mock(JPQLQuery.class);
+        given(query.where(any())).willReturn(query);
+        given(query.orderBy(any())).willReturn(query);
+        given(query.limit(anyLong())).willReturn(query);
+        given(query.fetch()).willReturn(result);
+        return query;
+    }
+}
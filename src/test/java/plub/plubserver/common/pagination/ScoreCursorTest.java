@@ -0,0 +1,100 @@
+package plub.plubserver.common.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import plub.plubserver.common.exception.PlubException;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ScoreCursorTest {
+
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> operations = mock(ZSetOperations.class);
+
+    private static TypedTuple<String> tuple(String member, double score) {
+        return new DefaultTypedTuple<>(member, score);
+    }
+
+    @Test
+    @DisplayName("커서 인코딩 후 디코딩하면 같은 점수와 멤버, KeysetSort 커서와 구분된다")
+    void encodeDecode() {
+        // given
+        ScoreCursor cursor = new ScoreCursor(12.375, "35");
+        String keysetCursor = KeysetSort.<Long>create().encode(List.of(1L));
+
+        // when
+        String encoded = cursor.encode();
+
+        // then
+        assertThat(ScoreCursor.decode(encoded)).isEqualTo(cursor);
+        assertThat(ScoreCursor.isScoreCursor(encoded)).isTrue();
+        assertThat(ScoreCursor.isScoreCursor(keysetCursor)).isFalse();
+        assertThat(ScoreCursor.decode(encoded).memberId()).isEqualTo(35L);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 INVALID_CURSOR 예외")
+    void decode_invalid() {
+        assertThatThrownBy(() -> ScoreCursor.decode("2"))
+                .isInstanceOf(PlubException.class);
+        assertThatThrownBy(() -> ScoreCursor.decode("z.not-base64!"))
+                .isInstanceOf(PlubException.class);
+    }
+
+    @Test
+    @DisplayName("다음 페이지는 마지막으로 본 점수 이하에서 조회하고 같은 점수는 멤버 역순으로 커서 뒤만 포함")
+    void fetch_afterCursor() {
+        // given
+        ScoreCursor cursor = new ScoreCursor(5.0, "7");
+        given(operations.count("ranking", 5.0, 5.0)).willReturn(3L);
+        given(operations.reverseRangeByScoreWithScores("ranking", Double.NEGATIVE_INFINITY, 5.0, 0, 6))
+                .willReturn(new LinkedHashSet<>(List.of(
+                        tuple("9", 5.0), tuple("7", 5.0), tuple("3", 5.0), tuple("12", 4.0), tuple("4", 1.0))));
+
+        // when
+        KeysetSlice<String> slice = ScoreCursor.fetch(operations, "ranking", cursor, 2);
+
+        // then
+        assertThat(slice.content()).containsExactly("3", "12");
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(ScoreCursor.decode(slice.nextCursor())).isEqualTo(new ScoreCursor(4.0, "12"));
+    }
+
+    @Test
+    @DisplayName("마지막 페이지면 다음 커서 없음")
+    void fetch_lastPage() {
+        // given
+        given(operations.reverseRangeByScoreWithScores("ranking", Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 0, 3))
+                .willReturn(new LinkedHashSet<>(List.of(tuple("2", 3.0), tuple("1", 1.0))));
+
+        // when
+        KeysetSlice<String> slice = ScoreCursor.fetch(operations, "ranking", null, 2);
+
+        // then
+        assertThat(slice.content()).containsExactly("2", "1");
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("기존 cursorId 는 해당 모임의 현재 점수로 커서를 만들고, 순위에 없으면 첫 페이지")
+    void resolve_legacyCursorId() {
+        // given
+        given(operations.score("ranking", "7")).willReturn(2.5);
+        given(operations.score("ranking", "8")).willReturn(null);
+
+        // when, then
+        assertThat(ScoreCursor.resolve(operations, "ranking", null, 7L)).isEqualTo(new ScoreCursor(2.5, "7"));
+        assertThat(ScoreCursor.resolve(operations, "ranking", null, 8L)).isNull();
+        assertThat(ScoreCursor.resolve(operations, "ranking", null, 0L)).isNull();
+    }
+}
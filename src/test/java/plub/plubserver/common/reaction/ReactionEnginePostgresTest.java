@@ -0,0 +1,161 @@
+package plub.plubserver.common.reaction;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토글 SQL (delete-returning CTE, on conflict upsert) 과 unique 제약 마이그레이션을 실제 PostgreSQL 에서 실행
+ * H2 는 두 문법을 지원하지 않으므로 Testcontainers 를 사용하고, Docker 가 없으면 건너뛴다
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReactionEnginePostgresTest {
+
+    private static final int THREADS = 8;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14-alpine");
+
+    static DataSource dataSource;
+    static JdbcTemplate jdbcTemplate;
+    static TransactionTemplate transactionTemplate;
+    static ReactionEngine reactionEngine;
+
+    @BeforeAll
+    static void setUpDataSource() {
+        dataSource = new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        reactionEngine = new ReactionEngine(new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    // 운영 스키마 중 토글에 쓰는 컬럼만, 제약 없이 만들고 중복 행을 넣은 뒤 마이그레이션 실행
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate.execute("drop table if exists feed, feed_like, notice, notice_like, todo_timeline, todo_like");
+        jdbcTemplate.execute("create table feed (feed_id bigint primary key, like_count integer not null default 0)");
+        jdbcTemplate.execute("create table notice (notice_id bigint primary key, like_count integer not null default 0)");
+        jdbcTemplate.execute("create table todo_timeline (todo_timelime_id bigint primary key, like_todo integer not null default 0)");
+        jdbcTemplate.execute("create table feed_like (feed_like_id bigserial primary key, account_id bigint, feed_id bigint,"
+                + " visibility boolean not null, created_at varchar(255), modified_at varchar(255))");
+        jdbcTemplate.execute("create table notice_like (notice_like_id bigserial primary key, account_id bigint, notice_id bigint,"
+                + " visibility boolean not null, created_at varchar(255), modified_at varchar(255))");
+        jdbcTemplate.execute("create table todo_like (todo_like_id bigserial primary key, account_id bigint, todo_timelime_id bigint,"
+                + " is_like boolean not null, visibility boolean not null, created_at varchar(255), modified_at varchar(255))");
+        jdbcTemplate.execute("insert into feed (feed_id) values (1), (2)");
+        jdbcTemplate.execute("insert into notice (notice_id) values (1)");
+        jdbcTemplate.execute("insert into todo_timeline (todo_timelime_id) values (1), (2)");
+        jdbcTemplate.execute("insert into feed_like (account_id, feed_id, visibility) values (1, 1, false), (1, 1, true), (1, 1, true)");
+        jdbcTemplate.execute("insert into notice_like (account_id, notice_id, visibility) values (1, 1, true), (1, 1, true)");
+        jdbcTemplate.execute("insert into todo_like (account_id, todo_timelime_id, is_like, visibility, modified_at) values"
+                + " (1, 1, true, true, '2023-01-01 10:00:00'), (1, 1, false, true, '2023-01-02 10:00:00')");
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/reaction_unique_constraints.sql"));
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private int toggleInTransaction(ReactionTarget target, Long targetId, Long accountId) {
+        Integer delta = transactionTemplate.execute(status -> reactionEngine.toggle(target, targetId, accountId));
+        return delta == null ? 0 : delta;
+    }
+
+    private int count(String sql) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    @Test
+    @DisplayName("마이그레이션은 중복 좋아요를 하나만 남기고 (피드/공지는 보이는 첫 행, 투두는 마지막 상태) unique 제약을 추가")
+    void migration() {
+        assertThat(jdbcTemplate.queryForList("select feed_like_id from feed_like", Long.class)).containsExactly(2L);
+        assertThat(jdbcTemplate.queryForList("select notice_like_id from notice_like", Long.class)).containsExactly(1L);
+        assertThat(jdbcTemplate.queryForList("select is_like from todo_like", Boolean.class)).containsExactly(false);
+        assertThat(jdbcTemplate.queryForList("select conname from pg_constraint where contype = 'u'", String.class))
+                .containsExactlyInAnyOrder("uk_feed_like_account_feed", "uk_notice_like_account_notice", "uk_todo_like_account_timeline");
+    }
+
+    @Test
+    @DisplayName("피드 좋아요는 행이 없으면 추가(+1), 있으면 삭제(-1)하고 좋아요 수를 같이 증감")
+    void toggle_feed() {
+        assertThat(toggleInTransaction(ReactionTarget.FEED, 2L, 10L)).isEqualTo(1);
+        assertThat(count("select count(*) from feed_like where feed_id = 2 and account_id = 10")).isEqualTo(1);
+        assertThat(count("select like_count from feed where feed_id = 2")).isEqualTo(1);
+
+        assertThat(toggleInTransaction(ReactionTarget.FEED, 2L, 10L)).isEqualTo(-1);
+        assertThat(count("select count(*) from feed_like where feed_id = 2 and account_id = 10")).isZero();
+        assertThat(count("select like_count from feed where feed_id = 2")).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 회원이 동시에 피드 좋아요를 눌러도 행은 최대 한 건이고 좋아요 수는 행 수와 같다")
+    void toggle_feed_concurrent() throws InterruptedException {
+        // when
+        AtomicInteger failures = runConcurrently(() -> toggleInTransaction(ReactionTarget.FEED, 2L, 10L));
+
+        // then
+        int rows = count("select count(*) from feed_like where feed_id = 2 and account_id = 10");
+        assertThat(failures.get()).isZero();
+        assertThat(rows).isLessThanOrEqualTo(1);
+        assertThat(count("select like_count from feed where feed_id = 2")).isEqualTo(rows);
+    }
+
+    @Test
+    @DisplayName("투두 좋아요는 동시 요청도 한 행의 is_like 를 차례로 뒤집고 좋아요 수는 마지막 상태와 같다")
+    void toggle_todo_concurrent() throws InterruptedException {
+        // when : 처음 추가(좋아요) 후 7번 뒤집힘
+        AtomicInteger failures = runConcurrently(() -> toggleInTransaction(ReactionTarget.TODO, 2L, 10L));
+
+        // then
+        assertThat(failures.get()).isZero();
+        assertThat(jdbcTemplate.queryForList("select is_like from todo_like where todo_timelime_id = 2 and account_id = 10", Boolean.class))
+                .containsExactly(false);
+        assertThat(count("select like_todo from todo_timeline where todo_timelime_id = 2")).isZero();
+    }
+
+    private AtomicInteger runConcurrently(Runnable task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        return failures;
+    }
+}
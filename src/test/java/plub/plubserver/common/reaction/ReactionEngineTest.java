@@ -0,0 +1,80 @@
+package plub.plubserver.common.reaction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReactionEngineTest {
+
+    @Mock
+    NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    ReactionEngine reactionEngine;
+
+    @Test
+    @DisplayName("토글 한 문장의 결과만큼 좋아요 수를 바로 증감 쿼리로 반영")
+    void toggle() {
+        // given
+        given(jdbcTemplate.queryForObject(eq(ReactionTarget.FEED.getToggleSql()), any(SqlParameterSource.class), eq(Integer.class)))
+                .willReturn(1);
+
+        // when
+        int delta = reactionEngine.toggle(ReactionTarget.FEED, 1L, 10L);
+
+        // then
+        assertThat(delta).isEqualTo(1);
+        ArgumentCaptor<SqlParameterSource> captor = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate).update(eq(ReactionTarget.FEED.getCounterSql()), captor.capture());
+        assertThat(captor.getValue().getValue("delta")).isEqualTo(1);
+        assertThat(captor.getValue().getValue("targetId")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("동시 요청으로 바뀐 행이 없으면 (연타로 중복 추가 시도) 좋아요 수를 바꾸지 않음")
+    void toggle_noChange() {
+        // given
+        given(jdbcTemplate.queryForObject(eq(ReactionTarget.NOTICE.getToggleSql()), any(SqlParameterSource.class), eq(Integer.class)))
+                .willReturn(0);
+
+        // when
+        int delta = reactionEngine.toggle(ReactionTarget.NOTICE, 1L, 10L);
+
+        // then
+        assertThat(delta).isZero();
+        verify(jdbcTemplate, never()).update(any(String.class), any(SqlParameterSource.class));
+    }
+
+    @Test
+    @DisplayName("투두 좋아요는 연달아 토글하면 매번 +1 / -1 을 그대로 반영 (모아 두지 않음)")
+    void toggle_todoRepeated() {
+        // given
+        given(jdbcTemplate.queryForObject(eq(ReactionTarget.TODO.getToggleSql()), any(SqlParameterSource.class), eq(Integer.class)))
+                .willReturn(1, -1, 1);
+
+        // when
+        int sum = 0;
+        for (int i = 0; i < 3; i++) {
+            sum += reactionEngine.toggle(ReactionTarget.TODO, 7L, 10L);
+        }
+
+        // then
+        assertThat(sum).isEqualTo(1);
+        verify(jdbcTemplate, times(3)).update(eq(ReactionTarget.TODO.getCounterSql()), any(SqlParameterSource.class));
+    }
+}
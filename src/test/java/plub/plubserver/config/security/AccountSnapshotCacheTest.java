@@ -0,0 +1,80 @@
+package plub.plubserver.config.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import plub.plubserver.domain.account.model.AccountStatus;
+import plub.plubserver.domain.account.model.Role;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AccountSnapshotCacheTest {
+
+    @Mock
+    StringRedisTemplate template;
+
+    @Mock
+    RedisMessageListenerContainer listenerContainer;
+
+    @InjectMocks
+    AccountSnapshotCache accountSnapshotCache;
+
+    private static AccountSnapshot snapshot(Role role) {
+        return new AccountSnapshot(1L, "a@plub", role, AccountStatus.NORMAL, 0);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다른 인스턴스에 알리고 다음 조회는 DB 에서 다시 읽음")
+    void evict() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        accountSnapshotCache.get(1L, () -> {
+            loads.incrementAndGet();
+            return Optional.of(snapshot(Role.ROLE_USER));
+        });
+
+        // when
+        accountSnapshotCache.evict(1L);
+        accountSnapshotCache.get(1L, () -> {
+            loads.incrementAndGet();
+            return Optional.of(snapshot(Role.ROLE_ADMIN));
+        });
+
+        // then
+        assertThat(loads).hasValue(2);
+        verify(template).convertAndSend(AccountSnapshotCache.EVICT_CHANNEL, "1");
+    }
+
+    @Test
+    @DisplayName("조회하는 동안 무효화되면 읽은 값을 캐시에 남기지 않음")
+    void get_evictedWhileLoading() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        Optional<AccountSnapshot> stale = accountSnapshotCache.get(1L, () -> {
+            loads.incrementAndGet();
+            accountSnapshotCache.evict(1L);
+            return Optional.of(snapshot(Role.ROLE_USER));
+        });
+        Optional<AccountSnapshot> fresh = accountSnapshotCache.get(1L, () -> {
+            loads.incrementAndGet();
+            return Optional.of(snapshot(Role.ROLE_ADMIN));
+        });
+
+        // then
+        assertThat(stale).map(AccountSnapshot::role).hasValue(Role.ROLE_USER);
+        assertThat(fresh).map(AccountSnapshot::role).hasValue(Role.ROLE_ADMIN);
+        assertThat(loads).hasValue(2);
+    }
+}
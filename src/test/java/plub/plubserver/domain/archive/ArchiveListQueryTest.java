@@ -0,0 +1,61 @@
+package plub.plubserver.domain.archive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import plub.plubserver.common.JpaQueryCountTest;
+import plub.plubserver.common.dto.PageResponse;
+import plub.plubserver.domain.account.model.Account;
+import plub.plubserver.domain.account.service.AccountService;
+import plub.plubserver.domain.archive.dto.ArchiveDto.ArchiveCardResponse;
+import plub.plubserver.domain.archive.model.Archive;
+import plub.plubserver.domain.archive.model.ArchiveImage;
+import plub.plubserver.domain.archive.repository.ArchiveRepository;
+import plub.plubserver.domain.archive.service.ArchiveService;
+import plub.plubserver.domain.plubbing.model.Plubbing;
+import plub.plubserver.domain.plubbing.service.PlubbingService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ArchiveListQueryTest extends JpaQueryCountTest {
+
+    @Autowired
+    ArchiveRepository archiveRepository;
+
+    @Test
+    @DisplayName("아카이브 목록은 카드 수, 이미지 수와 상관없이 목록 1번 + 이미지 IN 1번")
+    void getArchiveList() {
+        // given
+        AccountService accountService = mock(AccountService.class);
+        PlubbingService plubbingService = mock(PlubbingService.class);
+        ArchiveService archiveService = new ArchiveService(accountService, archiveRepository, plubbingService);
+
+        Plubbing plubbing = persist(Plubbing.builder().name("모임").visibility(true).build());
+        Account host = persist(Account.builder().email("a@plub").nickname("호스트").build());
+        Account member = persist(Account.builder().email("b@plub").nickname("멤버").build());
+        for (int sequence = 1; sequence <= 5; sequence++) {
+            Archive archive = persist(Archive.builder().plubbing(plubbing).account(sequence == 5 ? member : host)
+                    .title("아카이브" + sequence).sequence(sequence).build());
+            for (int i = 0; i < sequence; i++) {
+                persist(ArchiveImage.builder().archive(archive).image("image" + sequence + "-" + i).build());
+            }
+        }
+        given(accountService.getCurrentAccount()).willReturn(member);
+        given(plubbingService.getHost(plubbing.getId())).willReturn(host);
+        startCounting();
+
+        // when
+        PageResponse<ArchiveCardResponse> response = archiveService.getArchiveList(member, plubbing.getId(), PageRequest.of(0, 10), null);
+
+        // then
+        assertThat(queryCount()).isEqualTo(2);
+        ArchiveCardResponse first = response.getContent().get(0);
+        assertThat(first.images()).containsExactly("image5-0", "image5-1", "image5-2");
+        assertThat(first.imageCount()).isEqualTo(5);
+        assertThat(first.accessType()).isEqualTo("author");
+        assertThat(response.getContent().get(4).images()).containsExactly("image1-0");
+    }
+}
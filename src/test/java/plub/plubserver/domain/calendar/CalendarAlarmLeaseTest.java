@@ -0,0 +1,165 @@
+package plub.plubserver.domain.calendar;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import plub.plubserver.domain.calendar.service.CalendarAlarmLease;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static plub.plubserver.common.constant.GlobalConstants.CALENDAR_ALARM_PARTITION_COUNT;
+
+class CalendarAlarmLeaseTest {
+
+    // 여러 인스턴스가 공유하는 Redis 대용 (메모리)
+    InMemoryRedisTemplate redis;
+
+    @BeforeEach
+    void setUp() {
+        redis = new InMemoryRedisTemplate();
+    }
+
+    @Test
+    @DisplayName("인스턴스가 늘어나면 파티션을 겹치지 않게 나눠 가진다")
+    void rebalance_splitPartitions() {
+        // given
+        CalendarAlarmLease nodeA = new CalendarAlarmLease(redis);
+        CalendarAlarmLease nodeB = new CalendarAlarmLease(redis);
+
+        // when
+        nodeA.rebalance();
+        Set<Integer> ownedBySingleNode = nodeA.getOwnedPartitions();
+        nodeB.rebalance();
+        nodeA.rebalance();
+        nodeB.rebalance();
+
+        // then
+        assertThat(ownedBySingleNode).hasSize(CALENDAR_ALARM_PARTITION_COUNT);
+        Set<Integer> ownedByA = nodeA.getOwnedPartitions();
+        Set<Integer> ownedByB = nodeB.getOwnedPartitions();
+        assertThat(ownedByA).hasSize(CALENDAR_ALARM_PARTITION_COUNT / 2);
+        assertThat(ownedByB).hasSize(CALENDAR_ALARM_PARTITION_COUNT / 2);
+        assertThat(ownedByA).doesNotContainAnyElementsOf(ownedByB);
+        Set<Integer> all = new HashSet<>(ownedByA);
+        all.addAll(ownedByB);
+        assertThat(all).isEqualTo(allPartitions());
+    }
+
+    @Test
+    @DisplayName("lease 가 만료되면 다른 인스턴스가 파티션을 가져가고, 이전 인스턴스는 버린다")
+    void rebalance_takeOverExpiredLease() {
+        // given
+        CalendarAlarmLease nodeA = new CalendarAlarmLease(redis);
+        CalendarAlarmLease nodeB = new CalendarAlarmLease(redis);
+        nodeA.rebalance();
+        nodeB.rebalance();
+
+        // when
+        redis.expireLeases(); // nodeA 가 멈춰서 lease 연장을 못 한 상황
+        nodeB.rebalance();
+        nodeA.rebalance();
+
+        // then
+        assertThat(nodeB.getOwnedPartitions()).hasSize(CALENDAR_ALARM_PARTITION_COUNT / 2);
+        assertThat(nodeA.getOwnedPartitions()).doesNotContainAnyElementsOf(nodeB.getOwnedPartitions());
+    }
+
+    @Test
+    @DisplayName("같은 알림은 클러스터 전체에서 한 번만 발송 권한을 얻는다")
+    void acquireAlarm_once() {
+        // given
+        CalendarAlarmLease nodeA = new CalendarAlarmLease(redis);
+        CalendarAlarmLease nodeB = new CalendarAlarmLease(redis);
+
+        // when
+        boolean first = nodeA.acquireAlarm(1L, 1000L);
+        boolean second = nodeB.acquireAlarm(1L, 1000L);
+        boolean changedAlarm = nodeB.acquireAlarm(1L, 2000L);
+        nodeA.releaseAlarm(1L, 1000L);
+        boolean afterRelease = nodeB.acquireAlarm(1L, 1000L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(changedAlarm).isTrue();
+        assertThat(afterRelease).isTrue();
+    }
+
+    @Test
+    @DisplayName("plubbing id 로 파티션 계산")
+    void partitionOf() {
+        assertThat(CalendarAlarmLease.partitionOf(1L)).isEqualTo(1);
+        assertThat(CalendarAlarmLease.partitionOf((long) CALENDAR_ALARM_PARTITION_COUNT + 3)).isEqualTo(3);
+    }
+
+    private Set<Integer> allPartitions() {
+        return IntStream.range(0, CALENDAR_ALARM_PARTITION_COUNT).boxed().collect(Collectors.toSet());
+    }
+
+    /**
+     * lease 에서 사용하는 명령만 메모리로 흉내내는 StringRedisTemplate (TTL 은 expireLeases 로 직접 만료)
+     */
+    @SuppressWarnings("unchecked")
+    static class InMemoryRedisTemplate extends StringRedisTemplate {
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+        private final Map<String, Double> nodes = new ConcurrentHashMap<>();
+        private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        private final ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+
+        InMemoryRedisTemplate() {
+            given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                    .willAnswer(invocation -> values.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+            given(zSetOperations.add(anyString(), anyString(), anyDouble()))
+                    .willAnswer(invocation -> nodes.put(invocation.getArgument(1), invocation.getArgument(2)) == null);
+            given(zSetOperations.removeRangeByScore(anyString(), anyDouble(), anyDouble()))
+                    .willAnswer(invocation -> {
+                        double min = invocation.getArgument(1);
+                        double max = invocation.getArgument(2);
+                        nodes.values().removeIf(score -> score >= min && score <= max);
+                        return 0L;
+                    });
+            given(zSetOperations.zCard(anyString()))
+                    .willAnswer(invocation -> (long) nodes.size());
+        }
+
+        void expireLeases() {
+            values.keySet().removeIf(key -> key.startsWith("calendar:alarm:lease:"));
+        }
+
+        @Override
+        public ValueOperations<String, String> opsForValue() {
+            return valueOperations;
+        }
+
+        @Override
+        public ZSetOperations<String, String> opsForZSet() {
+            return zSetOperations;
+        }
+
+        @Override
+        public Boolean delete(String key) {
+            return values.remove(key) != null;
+        }
+
+        // RENEW_SCRIPT / RELEASE_SCRIPT : 내가 가진 lease 일 때만 연장/삭제
+        @Override
+        public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+            String key = keys.get(0);
+            if (!Objects.equals(values.get(key), args[0])) return (T) Long.valueOf(0);
+            if (script.getScriptAsString().contains("'del'")) values.remove(key);
+            return (T) Long.valueOf(1);
+        }
+    }
+}
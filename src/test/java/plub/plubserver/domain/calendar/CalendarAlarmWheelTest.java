@@ -0,0 +1,106 @@
+package plub.plubserver.domain.calendar;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import plub.plubserver.domain.calendar.model.Calendar;
+import plub.plubserver.domain.calendar.model.CalendarAlarmType;
+import plub.plubserver.domain.calendar.service.CalendarAlarmWheel;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalendarAlarmWheelTest {
+
+    private static final long TICK = 1000L;
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("알림 시각이 지난 일정만 꺼낸다")
+    void advance_expiredOnly() {
+        // given
+        CalendarAlarmWheel wheel = new CalendarAlarmWheel(TICK, 8, START);
+        wheel.register(1L, START + 2 * TICK);
+        wheel.register(2L, START + 5 * TICK);
+
+        // when
+        Map<Long, Long> expired = wheel.advance(START + 3 * TICK);
+
+        // then
+        assertThat(expired).containsOnlyKeys(1L);
+        assertThat(wheel.contains(2L)).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 일정을 여러 번 등록해도 한 번만 발송")
+    void register_idempotent() {
+        // given
+        CalendarAlarmWheel wheel = new CalendarAlarmWheel(TICK, 8, START);
+
+        // when
+        boolean first = wheel.register(1L, START + 2 * TICK);
+        boolean second = wheel.register(1L, START + 2 * TICK);
+        Map<Long, Long> expired = wheel.advance(START + 10 * TICK);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(expired).hasSize(1);
+        assertThat(wheel.advance(START + 20 * TICK)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("알림 시각 변경 및 취소")
+    void register_reschedule_and_cancel() {
+        // given
+        CalendarAlarmWheel wheel = new CalendarAlarmWheel(TICK, 8, START);
+        wheel.register(1L, START + 2 * TICK);
+        wheel.register(2L, START + 2 * TICK);
+
+        // when
+        wheel.register(1L, START + 6 * TICK);
+        wheel.cancel(2L);
+
+        // then
+        assertThat(wheel.advance(START + 3 * TICK)).isEmpty();
+        assertThat(wheel.advance(START + 6 * TICK)).containsEntry(1L, START + 6 * TICK);
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 먼 알림은 해당 바퀴에서만 발송")
+    void advance_multipleRounds() {
+        // given
+        CalendarAlarmWheel wheel = new CalendarAlarmWheel(TICK, 8, START);
+        wheel.register(1L, START + 10 * TICK); // 슬롯 2, 두 번째 바퀴
+
+        // when, then
+        assertThat(wheel.advance(START + 3 * TICK)).isEmpty();
+        assertThat(wheel.advance(START + 10 * TICK)).containsOnlyKeys(1L);
+    }
+
+    @Test
+    @DisplayName("이미 지난 알림은 다음 tick 에 바로 발송")
+    void register_pastDeadline() {
+        // given
+        CalendarAlarmWheel wheel = new CalendarAlarmWheel(TICK, 8, START);
+        wheel.advance(START + 5 * TICK);
+
+        // when
+        wheel.register(1L, START);
+
+        // then
+        assertThat(wheel.advance(START + 5 * TICK + 1)).containsOnlyKeys(1L);
+    }
+
+    @Test
+    @DisplayName("시작 일시와 알림 종류로 알림 시각 계산")
+    void calculateAlarmAt() {
+        assertThat(Calendar.calculateAlarmAt("2023-08-01", "10:00", CalendarAlarmType.THIRTY_MINUTES))
+                .isEqualTo(LocalDateTime.of(2023, 8, 1, 9, 30));
+        assertThat(Calendar.calculateAlarmAt("2023-08-01", "10:00", CalendarAlarmType.NONE)).isNull();
+        assertThat(Calendar.calculateAlarmAt("2023-08-01", null, CalendarAlarmType.ONE_DAY))
+                .isEqualTo(LocalDateTime.of(2023, 7, 31, 0, 0));
+    }
+}
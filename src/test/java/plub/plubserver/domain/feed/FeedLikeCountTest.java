@@ -0,0 +1,95 @@
+package plub.plubserver.domain.feed;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import plub.plubserver.common.reaction.ReactionEngine;
+import plub.plubserver.common.reaction.ReactionTarget;
+import plub.plubserver.domain.account.AccountTemplate;
+import plub.plubserver.domain.account.model.Account;
+import plub.plubserver.domain.feed.dto.FeedDto.FeedMessage;
+import plub.plubserver.domain.feed.event.FeedCountChangedEvent;
+import plub.plubserver.domain.feed.model.Feed;
+import plub.plubserver.domain.feed.repository.FeedRepository;
+import plub.plubserver.domain.feed.service.FeedService;
+import plub.plubserver.domain.plubbing.model.Plubbing;
+import plub.plubserver.domain.plubbing.service.PlubbingService;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FeedLikeCountTest {
+
+    @Mock
+    PlubbingService plubbingService;
+
+    @Mock
+    FeedRepository feedRepository;
+
+    @Mock
+    ReactionEngine reactionEngine;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    FeedService feedService;
+
+    private void givenFeed(Account account) {
+        Plubbing plubbing = Plubbing.builder().id(1L).build();
+        Feed feed = Feed.builder().id(1L).plubbing(plubbing).account(account).likeCount(3).commentCount(5).build();
+        given(feedRepository.findByIdAndVisibility(1L, true)).willReturn(Optional.of(feed));
+    }
+
+    @Test
+    @DisplayName("좋아요 토글 결과만큼 타임라인 캐시 좋아요 수 증감 이벤트 발행")
+    void likeFeed() {
+        // given
+        Account account = AccountTemplate.makeAccount1();
+        givenFeed(account);
+        given(reactionEngine.toggle(ReactionTarget.FEED, 1L, account.getId())).willReturn(-1);
+
+        // when
+        FeedMessage message = feedService.likeFeed(account, 1L, 1L);
+
+        // then
+        assertThat(message.result()).isEqualTo("1, Like Cancel.");
+        verify(eventPublisher).publishEvent(new FeedCountChangedEvent(1L, 1L, -1, 0));
+    }
+
+    @Test
+    @DisplayName("동시 요청으로 이미 반영된 토글(증감 0)은 이벤트를 발행하지 않음")
+    void likeFeed_alreadyApplied() {
+        // given
+        Account account = AccountTemplate.makeAccount1();
+        givenFeed(account);
+        given(reactionEngine.toggle(ReactionTarget.FEED, 1L, account.getId())).willReturn(0);
+
+        // when
+        feedService.likeFeed(account, 1L, 1L);
+
+        // then
+        verify(eventPublisher, never()).publishEvent(any(FeedCountChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("좋아요/댓글 수는 카운트 쿼리 없이 피드 행에서 읽음")
+    void getCounts() {
+        // given
+        Feed feed = Feed.builder().likeCount(3).commentCount(5).build();
+
+        // when - then
+        assertThat(feedService.getLikeCount(feed)).isEqualTo(3L);
+        assertThat(feedService.getCommentCount(feed)).isEqualTo(5L);
+    }
+}
@@ -0,0 +1,131 @@
+package plub.plubserver.domain.feed;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import plub.plubserver.common.JpaQueryCountTest;
+import plub.plubserver.common.comment.CommentTree;
+import plub.plubserver.common.dto.PageResponse;
+import plub.plubserver.common.reaction.ReactionEngine;
+import plub.plubserver.domain.account.model.Account;
+import plub.plubserver.domain.account.repository.AccountRepository;
+import plub.plubserver.domain.feed.dto.FeedDto.FeedCardResponse;
+import plub.plubserver.domain.feed.dto.FeedDto.FeedListResponse;
+import plub.plubserver.domain.feed.model.Feed;
+import plub.plubserver.domain.feed.model.FeedType;
+import plub.plubserver.domain.feed.model.ViewType;
+import plub.plubserver.domain.feed.repository.FeedCommentRepository;
+import plub.plubserver.domain.feed.repository.FeedLikeRepository;
+import plub.plubserver.domain.feed.repository.FeedRepository;
+import plub.plubserver.domain.feed.service.FeedService;
+import plub.plubserver.domain.feed.service.FeedTimelineCache;
+import plub.plubserver.domain.notification.service.NotificationService;
+import plub.plubserver.domain.plubbing.model.Plubbing;
+import plub.plubserver.domain.plubbing.service.PlubbingService;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class FeedListQueryTest extends JpaQueryCountTest {
+
+    @Autowired
+    FeedRepository feedRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    PlubbingService plubbingService = mock(PlubbingService.class);
+    FeedTimelineCache feedTimelineCache = mock(FeedTimelineCache.class);
+    FeedService feedService;
+
+    Plubbing plubbing;
+    List<Account> authors;
+
+    @BeforeEach
+    void setUp() {
+        feedService = new FeedService(plubbingService, feedRepository, mock(FeedCommentRepository.class),
+                mock(FeedLikeRepository.class), mock(NotificationService.class), feedTimelineCache,
+                mock(ApplicationEventPublisher.class), mock(ReactionEngine.class), mock(CommentTree.class),
+                accountRepository);
+
+        plubbing = persist(Plubbing.builder().name("모임").visibility(true).build());
+        authors = List.of(
+                persist(Account.builder().email("a@plub").nickname("작성자1").profileImage("a.png").build()),
+                persist(Account.builder().email("b@plub").nickname("작성자2").profileImage("b.png").build()),
+                persist(Account.builder().email("c@plub").nickname("작성자3").profileImage("c.png").build())
+        );
+        for (int i = 0; i < 9; i++) {
+            persist(feed(authors.get(i % authors.size()), i, false, null));
+        }
+        persist(feed(authors.get(0), 0, true, "2023-01-01 10:00:00"));
+        persist(feed(authors.get(1), 0, true, "2023-01-02 10:00:00"));
+        given(plubbingService.getPlubbing(plubbing.getId())).willReturn(plubbing);
+    }
+
+    private Feed feed(Account author, int likeCount, boolean pin, String pinedAt) {
+        return Feed.builder().plubbing(plubbing).account(author).title("피드").content("내용")
+                .feedType(FeedType.LINE).viewType(ViewType.NORMAL)
+                .pin(pin).pinedAt(pinedAt).likeCount(likeCount).commentCount(1).build();
+    }
+
+    @Test
+    @DisplayName("피드 목록은 카드 수, 작성자 수와 상관없이 목록 1번 + 작성자 IN 1번 + 전체 개수 1번")
+    void getFeedList() {
+        // given
+        Account viewer = authors.get(0);
+        startCounting();
+
+        // when
+        PageResponse<FeedCardResponse> response = feedService.getFeedList(viewer, plubbing.getId(), PageRequest.of(0, 10), null);
+
+        // then
+        assertThat(queryCount()).isEqualTo(3);
+        assertThat(response.getContent()).hasSize(9);
+        assertThat(response.getContent()).extracting(FeedCardResponse::nickname)
+                .containsOnly("작성자1", "작성자2", "작성자3");
+        assertThat(response.getContent().get(0).likeCount()).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("고정 피드 목록은 목록 1번 + 작성자 IN 1번")
+    void getPinedFeedList() {
+        // given
+        startCounting();
+
+        // when
+        FeedListResponse response = feedService.getPinedFeedList(authors.get(0), plubbing.getId());
+
+        // then
+        assertThat(queryCount()).isEqualTo(2);
+        assertThat(response.pinedFeedList()).extracting(FeedCardResponse::nickname)
+                .containsExactly("작성자2", "작성자1");
+    }
+
+    @Test
+    @DisplayName("타임라인 캐시에 있는 페이지는 쿼리 없이 응답")
+    void getFeedList_cached() {
+        // given
+        Account viewer = authors.get(0);
+        Pageable pageable = PageRequest.of(0, 10);
+        PageResponse<FeedCardResponse> cached = PageResponse.ofCursor(new SliceImpl<>(List.<FeedCardResponse>of()), 0L);
+        given(plubbingService.isHost(viewer, plubbing)).willReturn(true);
+        given(feedTimelineCache.getRecent(plubbing, viewer, true, pageable, null)).willReturn(Optional.of(cached));
+        startCounting();
+
+        // when
+        PageResponse<FeedCardResponse> response = feedService.getFeedList(viewer, plubbing.getId(), pageable, null);
+
+        // then
+        assertThat(response).isSameAs(cached);
+        assertThat(queryCount()).isZero();
+    }
+}
@@ -0,0 +1,194 @@
+package plub.plubserver.domain.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import plub.plubserver.common.dto.PageResponse;
+import plub.plubserver.domain.account.AccountTemplate;
+import plub.plubserver.domain.account.model.Account;
+import plub.plubserver.domain.account.repository.AccountRepository;
+import plub.plubserver.domain.feed.dto.FeedDto.FeedCardResponse;
+import plub.plubserver.domain.feed.event.FeedCountChangedEvent;
+import plub.plubserver.domain.feed.repository.FeedRepository;
+import plub.plubserver.domain.feed.service.FeedTimelineCache;
+import plub.plubserver.domain.plubbing.model.Plubbing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FeedTimelineCacheTest {
+
+    private static final List<String> RECENT_KEYS = List.of("feed:timeline:{1}", "feed:timeline:{1}:recent");
+    private static final List<String> ALL_KEYS = List.of("feed:timeline:{1}", "feed:timeline:{1}:recent",
+            "feed:timeline:{1}:pins", "feed:timeline:{1}:version");
+
+    @Mock
+    StringRedisTemplate template;
+
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    @Mock
+    FeedRepository feedRepository;
+
+    @Mock
+    AccountRepository accountRepository;
+
+    @Spy
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    FeedTimelineCache feedTimelineCache;
+
+    private List<String> readResult(String total, String more, Long authorId, long... feedIds) throws JsonProcessingException {
+        List<String> result = new ArrayList<>(List.of(total, more));
+        for (long feedId : feedIds) {
+            FeedCardResponse card = FeedCardResponse.builder().feedId(feedId).title("제목" + feedId).plubbingId(1L).build();
+            result.addAll(List.of(String.valueOf(feedId), objectMapper.writeValueAsString(card), String.valueOf(authorId), "2", "1"));
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("다음 페이지 유무까지 캐시에 있으면 게시글 조회 없이 조회자 기준 값과 현재 작성자 정보를 채워 응답")
+    void getRecent_hit() throws JsonProcessingException {
+        // given
+        Account account = AccountTemplate.makeAccount1();
+        Plubbing plubbing = Plubbing.builder().id(1L).build();
+        Pageable pageable = PageRequest.of(0, 2);
+        given(template.execute(FeedTimelineCache.READ_SCRIPT, RECENT_KEYS, "+inf", "3"))
+                .willReturn(readResult("7", "1", account.getId(), 9L, 8L, 7L));
+        given(accountRepository.findAllById(any())).willReturn(List.of(account));
+
+        // when
+        Optional<PageResponse<FeedCardResponse>> page = feedTimelineCache.getRecent(plubbing, account, false, pageable, null);
+
+        // then
+        assertThat(page).isPresent();
+        assertThat(page.get().getTotalElements()).isEqualTo(7L);
+        assertThat(page.get().isLast()).isFalse();
+        assertThat(page.get().getContent()).extracting(FeedCardResponse::feedId).containsExactly(9L, 8L);
+        assertThat(page.get().getContent().get(0).isAuthor()).isTrue();
+        assertThat(page.get().getContent().get(0).likeCount()).isEqualTo(2L);
+        assertThat(page.get().getContent()).extracting(FeedCardResponse::nickname).containsOnly(account.getNickname());
+        verify(accountRepository).findAllById(any());
+        verify(feedRepository, never()).countAllByPlubbingAndVisibility(any(), eq(true));
+    }
+
+    @Test
+    @DisplayName("캐시된 최근 목록 끝을 넘어가는 페이지는 DB 커서 조회로 넘김")
+    void getRecent_beyondCache() throws JsonProcessingException {
+        // given
+        Account account = AccountTemplate.makeAccount1();
+        Plubbing plubbing = Plubbing.builder().id(1L).build();
+        Pageable pageable = PageRequest.of(0, 2);
+        given(template.execute(FeedTimelineCache.READ_SCRIPT, RECENT_KEYS, "(8", "3"))
+                .willReturn(readResult("300", "1", account.getId(), 7L));
+
+        // when
+        Optional<PageResponse<FeedCardResponse>> page = feedTimelineCache.getRecent(plubbing, account, false, pageable, 8L);
+
+        // then
+        assertThat(page).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시가 없으면 DB 에서 한 번 적재한 뒤 캐시에서 응답")
+    void getRecent_miss() throws JsonProcessingException {
+        // given
+        Account account = AccountTemplate.makeAccount1();
+        Plubbing plubbing = Plubbing.builder().id(1L).build();
+        Pageable pageable = PageRequest.of(0, 2);
+        // 적재 스크립트도 같은 execute 로 호출되므로 lenient
+        lenient().when(template.execute(FeedTimelineCache.READ_SCRIPT, RECENT_KEYS, "+inf", "3"))
+                .thenReturn(null, readResult("1", "0", 99L, 5L));
+        given(feedRepository.findAllByPlubbingAndPinAndVisibilityCursor(eq(plubbing), eq(false), eq(true), any(), eq(null)))
+                .willReturn(new SliceImpl<>(List.of()));
+        given(feedRepository.countAllByPlubbingAndVisibility(plubbing, true)).willReturn(1L);
+        given(template.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("feed:timeline:{1}:version")).willReturn("4");
+
+        // when
+        Optional<PageResponse<FeedCardResponse>> page = feedTimelineCache.getRecent(plubbing, account, true, pageable, null);
+
+        // then
+        verify(template).execute(eq(FeedTimelineCache.BUILD_SCRIPT), eq(ALL_KEYS), any(), eq("4"), eq("1"), eq("0"));
+        assertThat(page).isPresent();
+        assertThat(page.get().isLast()).isTrue();
+        assertThat(page.get().getContent()).singleElement()
+                .satisfies(card -> {
+                    assertThat(card.isAuthor()).isFalse();
+                    assertThat(card.isHost()).isTrue();
+                });
+        verify(feedRepository).countAllByPlubbingAndVisibility(plubbing, true);
+    }
+
+    @Test
+    @DisplayName("적재하는 동안 다른 변경이 반영되어 적재하지 못하면 DB 조회로 넘김")
+    void getRecent_fillRefused() {
+        // given
+        Account account = AccountTemplate.makeAccount1();
+        Plubbing plubbing = Plubbing.builder().id(1L).build();
+        lenient().when(template.execute(FeedTimelineCache.READ_SCRIPT, RECENT_KEYS, "+inf", "3"))
+                .thenReturn(null, null);
+        given(feedRepository.findAllByPlubbingAndPinAndVisibilityCursor(eq(plubbing), eq(false), eq(true), any(), eq(null)))
+                .willReturn(new SliceImpl<>(List.of()));
+        given(template.opsForValue()).willReturn(valueOperations);
+
+        // when
+        Optional<PageResponse<FeedCardResponse>> page = feedTimelineCache.getRecent(plubbing, account, false, PageRequest.of(0, 2), null);
+
+        // then
+        assertThat(page).isEmpty();
+        verify(template).execute(eq(FeedTimelineCache.BUILD_SCRIPT), eq(ALL_KEYS), any(), eq(""), any(), eq("0"));
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 캐시를 지우면서 버전을 올려 진행 중인 적재도 막음")
+    void onFeedCountChanged_failure() {
+        // given
+        given(template.execute(eq(FeedTimelineCache.INCREASE_SCRIPT), any(), anyString(), anyString(), anyString()))
+                .willThrow(new IllegalStateException("connection reset"));
+
+        // when
+        feedTimelineCache.onFeedCountChanged(new FeedCountChangedEvent(1L, 5L, 1, 0));
+
+        // then
+        verify(template).execute(FeedTimelineCache.EVICT_SCRIPT, ALL_KEYS, "3600");
+    }
+
+    @Test
+    @DisplayName("Redis 를 사용할 수 없으면 DB 조회로 넘김")
+    void getRecent_redisDown() {
+        // given
+        Account account = AccountTemplate.makeAccount1();
+        Plubbing plubbing = Plubbing.builder().id(1L).build();
+        given(template.execute(FeedTimelineCache.READ_SCRIPT, RECENT_KEYS, "+inf", "3"))
+                .willThrow(new IllegalStateException("connection refused"));
+
+        // when - then
+        assertThat(feedTimelineCache.getRecent(plubbing, account, false, PageRequest.of(0, 2), null)).isEmpty();
+    }
+}
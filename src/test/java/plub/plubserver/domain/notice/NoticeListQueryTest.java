@@ -0,0 +1,60 @@
+package plub.plubserver.domain.notice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import plub.plubserver.common.JpaQueryCountTest;
+import plub.plubserver.common.comment.CommentTree;
+import plub.plubserver.common.dto.PageResponse;
+import plub.plubserver.common.reaction.ReactionEngine;
+import plub.plubserver.domain.account.model.Account;
+import plub.plubserver.domain.account.service.AccountService;
+import plub.plubserver.domain.notice.dto.NoticeDto.NoticeCardResponse;
+import plub.plubserver.domain.notice.model.Notice;
+import plub.plubserver.domain.notice.repository.NoticeCommentRepository;
+import plub.plubserver.domain.notice.repository.NoticeRepository;
+import plub.plubserver.domain.notice.service.NoticeService;
+import plub.plubserver.domain.notification.service.NotificationService;
+import plub.plubserver.domain.plubbing.model.Plubbing;
+import plub.plubserver.domain.plubbing.service.PlubbingService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class NoticeListQueryTest extends JpaQueryCountTest {
+
+    @Autowired
+    NoticeRepository noticeRepository;
+
+    @Test
+    @DisplayName("공지 목록은 카드 수, 작성자 수와 상관없이 목록 1번 + 전체 개수 1번 (카드에 연관 데이터 없음)")
+    void getNoticeList() {
+        // given
+        PlubbingService plubbingService = mock(PlubbingService.class);
+        AccountService accountService = mock(AccountService.class);
+        NoticeService noticeService = new NoticeService(plubbingService, accountService, noticeRepository,
+                mock(NoticeCommentRepository.class), mock(NotificationService.class), mock(ReactionEngine.class),
+                mock(CommentTree.class));
+
+        Plubbing plubbing = persist(Plubbing.builder().name("모임").visibility(true).build());
+        Account host = persist(Account.builder().email("a@plub").nickname("호스트").build());
+        Account member = persist(Account.builder().email("b@plub").nickname("멤버").build());
+        for (int i = 0; i < 6; i++) {
+            persist(Notice.builder().plubbing(plubbing).account(i % 2 == 0 ? host : member)
+                    .title("공지" + i).content("내용").build());
+        }
+        given(accountService.getAccount(host.getId())).willReturn(host);
+        given(plubbingService.getPlubbing(plubbing.getId())).willReturn(plubbing);
+        startCounting();
+
+        // when
+        PageResponse<NoticeCardResponse> response = noticeService.getNoticeList(host, plubbing.getId(), null, PageRequest.of(0, 10));
+
+        // then
+        assertThat(queryCount()).isEqualTo(2);
+        assertThat(response.getContent()).hasSize(6);
+        assertThat(response.getContent()).filteredOn(NoticeCardResponse::isHost).hasSize(3);
+    }
+}
@@ -0,0 +1,142 @@
+package plub.plubserver.domain.plubbing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import plub.plubserver.common.JpaQueryCountTest;
+import plub.plubserver.domain.account.model.Account;
+import plub.plubserver.domain.account.repository.AccountCategoryRepository;
+import plub.plubserver.domain.account.repository.AccountRepository;
+import plub.plubserver.domain.account.service.AccountService;
+import plub.plubserver.domain.category.service.CategoryService;
+import plub.plubserver.domain.notification.service.NotificationService;
+import plub.plubserver.domain.plubbing.exception.PlubbingException;
+import plub.plubserver.domain.plubbing.model.AccountPlubbing;
+import plub.plubserver.domain.plubbing.model.AccountPlubbingStatus;
+import plub.plubserver.domain.plubbing.model.Plubbing;
+import plub.plubserver.domain.plubbing.repository.AccountPlubbingRepository;
+import plub.plubserver.domain.plubbing.repository.PlubbingCategoryIndex;
+import plub.plubserver.domain.plubbing.repository.PlubbingRepository;
+import plub.plubserver.domain.plubbing.service.PlubbingRankingService;
+import plub.plubserver.domain.plubbing.service.PlubbingRecommendationService;
+import plub.plubserver.domain.plubbing.service.PlubbingService;
+import plub.plubserver.domain.plubbing.service.ViewCountBuffer;
+import plub.plubserver.domain.recruit.repository.AppliedAccountRepository;
+import plub.plubserver.domain.recruit.repository.BookmarkRepository;
+import plub.plubserver.domain.recruit.repository.RecruitRepository;
+import plub.plubserver.domain.recruit.service.BookmarkCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 정원 검사 조건부 update 를 실제 DB 에서 동시에 실행
+ * 스레드마다 별도 트랜잭션이 커밋되어야 하므로 테스트 트랜잭션을 쓰지 않고 직접 정리한다
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PlubbingAdmissionConcurrencyTest extends JpaQueryCountTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    PlubbingRepository plubbingRepository;
+
+    @Autowired
+    AccountPlubbingRepository accountPlubbingRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    TransactionTemplate transactionTemplate;
+    PlubbingService plubbingService;
+    Plubbing plubbing;
+    List<Account> accounts;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        plubbingService = new PlubbingService(plubbingRepository, mock(CategoryService.class), mock(AccountService.class),
+                mock(NotificationService.class), mock(AccountCategoryRepository.class), accountPlubbingRepository,
+                mock(BookmarkRepository.class), mock(BookmarkCache.class), mock(ViewCountBuffer.class),
+                mock(PlubbingCategoryIndex.class), mock(RecruitRepository.class), mock(AppliedAccountRepository.class),
+                mock(PlubbingRecommendationService.class), mock(PlubbingRankingService.class),
+                mock(ApplicationEventPublisher.class));
+
+        // 자리가 하나 남은 모임
+        plubbing = transactionTemplate.execute(status -> persist(Plubbing.builder().name("모임").visibility(true)
+                .maxAccountNum(4).curAccountNum(3).build()));
+        accounts = transactionTemplate.execute(status -> {
+            List<Account> saved = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                saved.add(persist(Account.builder().email("admission" + i + "@plub").nickname("가입자" + i).build()));
+            }
+            return saved;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            accountPlubbingRepository.deleteAllInBatch(accountPlubbingRepository.findAllByPlubbingId(plubbing.getId()));
+            plubbingRepository.deleteAllByIdInBatch(List.of(plubbing.getId()));
+            accountRepository.deleteAllInBatch(accounts);
+        });
+    }
+
+    @Test
+    @DisplayName("자리가 하나 남은 모임에 동시에 가입하면 한 명만 가입되고 인원은 정원을 넘지 않는다")
+    void admitMember_concurrent() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger full = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+
+        // when
+        for (Account account : accounts) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    transactionTemplate.executeWithoutResult(status -> plubbingService.admitMember(
+                            plubbingRepository.findById(plubbing.getId()).orElseThrow(),
+                            accountRepository.getReferenceById(account.getId())));
+                } catch (PlubbingException e) {
+                    full.incrementAndGet();
+                } catch (Exception e) {
+                    unexpected.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        List<AccountPlubbing> members = accountPlubbingRepository.findAllByPlubbingIdAndAccountPlubbingStatusAndIsHost(
+                plubbing.getId(), AccountPlubbingStatus.ACTIVE, false);
+        Plubbing reloaded = plubbingRepository.findById(plubbing.getId()).orElseThrow();
+        assertThat(unexpected.get()).isZero();
+        assertThat(full.get()).isEqualTo(THREADS - 1);
+        assertThat(members).hasSize(1);
+        assertThat(reloaded.getCurAccountNum()).isEqualTo(reloaded.getMaxAccountNum());
+    }
+}
@@ -0,0 +1,78 @@
+package plub.plubserver.domain.plubbing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import plub.plubserver.common.exception.StatusCode;
+import plub.plubserver.domain.account.AccountTemplate;
+import plub.plubserver.domain.plubbing.exception.PlubbingException;
+import plub.plubserver.domain.plubbing.model.AccountPlubbing;
+import plub.plubserver.domain.plubbing.model.AccountPlubbingStatus;
+import plub.plubserver.domain.plubbing.model.Plubbing;
+import plub.plubserver.domain.plubbing.repository.AccountPlubbingRepository;
+import plub.plubserver.domain.plubbing.repository.PlubbingCategoryIndex;
+import plub.plubserver.domain.plubbing.repository.PlubbingRepository;
+import plub.plubserver.domain.plubbing.service.PlubbingService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PlubbingAdmissionTest {
+
+    @Mock
+    PlubbingRepository plubbingRepository;
+
+    @Mock
+    AccountPlubbingRepository accountPlubbingRepository;
+
+    @Mock
+    PlubbingCategoryIndex plubbingCategoryIndex;
+
+    @InjectMocks
+    PlubbingService plubbingService;
+
+    @Test
+    @DisplayName("정원이 찼으면 멤버를 저장하지 않고 예외")
+    void admitMember_full() {
+        // given
+        Plubbing plubbing = Plubbing.builder().id(1L).maxAccountNum(4).curAccountNum(4).build();
+        given(plubbingRepository.increaseCurAccountNum(1L)).willReturn(0);
+
+        // when, then
+        assertThatThrownBy(() -> plubbingService.admitMember(plubbing, AccountTemplate.makeAccount2()))
+                .isInstanceOf(PlubbingException.class)
+                .hasMessage(StatusCode.PLUBBING_MEMBER_IS_FULL.getMessage());
+        verify(accountPlubbingRepository, never()).save(any());
+        verify(plubbingCategoryIndex, never()).adjustMembersAfterCommit(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("가입 가능 여부는 읽어 둔 엔티티 값이 아니라 조건부 update 결과로 판단하고, 성공하면 멤버만 저장")
+    void admitMember_success() {
+        // given : 읽어 둔 엔티티는 정원이 찬 값이지만 DB 조건부 update 는 성공
+        Plubbing plubbing = Plubbing.builder().id(1L).maxAccountNum(4).curAccountNum(4).build();
+        given(plubbingRepository.increaseCurAccountNum(1L)).willReturn(1);
+        given(accountPlubbingRepository.save(any(AccountPlubbing.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        AccountPlubbing accountPlubbing = plubbingService.admitMember(plubbing, AccountTemplate.makeAccount2());
+
+        // then
+        assertThat(accountPlubbing.getPlubbing()).isEqualTo(plubbing);
+        assertThat(accountPlubbing.isHost()).isFalse();
+        assertThat(accountPlubbing.getAccountPlubbingStatus()).isEqualTo(AccountPlubbingStatus.ACTIVE);
+        assertThat(plubbing.getCurAccountNum()).isEqualTo(5);
+        verify(plubbingRepository, never()).findById(any());
+        verify(plubbingCategoryIndex).adjustMembersAfterCommit(1L, 1);
+    }
+}
@@ -30,6 +30,11 @@ public class PlubbingMockUtils {
                     .questions(List.of("질문1", "질문2"))
                     .build();
     
+    // 모임 카드 목록 조립용 (id, 이름, 장소만 있는 모임)
+    public static Plubbing getMockCardPlubbing(Long id) {
+        return Plubbing.builder().id(id).name("모임" + id).plubbingPlace(new PlubbingPlace()).build();
+    }
+
     public static Plubbing getMockPlubbing(Account host) {
         Plubbing plubbing = createPlubbingRequest.toEntity();
         
@@ -0,0 +1,104 @@
+package plub.plubserver.domain.plubbing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import plub.plubserver.common.exception.PlubException;
+import plub.plubserver.common.pagination.ScoreCursor;
+import plub.plubserver.domain.plubbing.repository.PlubbingRepository;
+import plub.plubserver.domain.plubbing.service.PlubbingRankingService;
+import plub.plubserver.domain.plubbing.service.PlubbingRankingService.RankingPage;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+import static plub.plubserver.common.constant.GlobalConstants.RANKING_HALF_LIFE;
+import static plub.plubserver.domain.plubbing.service.PlubbingRankingService.decayedWeight;
+
+@ExtendWith(MockitoExtension.class)
+class PlubbingRankingServiceTest {
+
+    @Mock
+    StringRedisTemplate template;
+
+    @Mock
+    ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    PlubbingRepository plubbingRepository;
+
+    @InjectMocks
+    PlubbingRankingService rankingService;
+
+    private static TypedTuple<String> tuple(String member, double score) {
+        return new DefaultTypedTuple<>(member, score);
+    }
+
+    @Test
+    @DisplayName("같은 행동이라도 반감기만큼 늦게 일어나면 가중치가 2배 (이전 행동은 상대적으로 절반)")
+    void decayedWeight_halfLife() {
+        assertThat(decayedWeight(3, 1000, 1000)).isEqualTo(3.0);
+        assertThat(decayedWeight(3, 1000, 1000 + RANKING_HALF_LIFE)).isCloseTo(6.0, within(1e-9));
+        assertThat(decayedWeight(3, 1000, 1000 - RANKING_HALF_LIFE)).isCloseTo(1.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("카테고리 순위를 마지막으로 본 (점수, 모임 id) 다음부터 한 개 더 읽어서 다음 페이지 여부와 다음 커서를 준다")
+    void getPage() {
+        // given
+        String cursor = new ScoreCursor(9.5, "3").encode();
+        given(template.hasKey("ranking:popular")).willReturn(true);
+        given(template.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.count("ranking:category:3", 9.5, 9.5)).willReturn(1L);
+        given(zSetOperations.reverseRangeByScoreWithScores("ranking:category:3", Double.NEGATIVE_INFINITY, 9.5, 0, 4))
+                .willReturn(new LinkedHashSet<>(List.of(tuple("3", 9.5), tuple("7", 8.0), tuple("5", 6.0), tuple("9", 2.0))));
+        given(zSetOperations.zCard("ranking:category:3")).willReturn(6L);
+
+        // when
+        Optional<RankingPage> page = rankingService.getPage(3L, cursor, null, 2);
+
+        // then
+        assertThat(page).isPresent();
+        assertThat(page.get().plubbingIds()).containsExactly(7L, 5L);
+        assertThat(page.get().hasNext()).isTrue();
+        assertThat(ScoreCursor.decode(page.get().nextCursor())).isEqualTo(new ScoreCursor(6.0, "5"));
+        assertThat(page.get().totalElements()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("순위가 아직 없으면 empty (DB 조회로 대체)")
+    void getPage_notReady() {
+        // given
+        given(template.hasKey("ranking:popular")).willReturn(false);
+
+        // when
+        Optional<RankingPage> page = rankingService.getPage(null, null, null, 10);
+
+        // then
+        assertThat(page).isEmpty();
+    }
+
+    @Test
+    @DisplayName("DB 조회 커서로 이어보는 중이면 empty (DB 조회로 계속), 잘못된 순위 커서는 예외")
+    void getPage_cursorFormat() {
+        // given
+        given(template.hasKey("ranking:popular")).willReturn(true);
+
+        // when, then
+        assertThat(rankingService.getPage(null, "WyIxMjAiLCIzNSJd", null, 10)).isEmpty();
+        assertThatThrownBy(() -> rankingService.getPage(null, "z.!!", null, 10))
+                .isInstanceOf(PlubException.class);
+    }
+}
@@ -0,0 +1,35 @@
+package plub.plubserver.domain.plubbing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static plub.plubserver.domain.plubbing.service.PlubbingRecommendationService.score;
+
+class PlubbingRecommendationScoreTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2023, 3, 1, 12, 0);
+
+    @Test
+    @DisplayName("조회수, 충원율이 높을수록 점수가 높다")
+    void score_viewsAndFillRate() {
+        assertThat(score(100, 2, 10, now, now)).isGreaterThan(score(10, 2, 10, now, now));
+        assertThat(score(10, 8, 10, now, now)).isGreaterThan(score(10, 2, 10, now, now));
+    }
+
+    @Test
+    @DisplayName("최근에 수정된 모임일수록 점수가 높다")
+    void score_recency() {
+        double recent = score(10, 2, 10, now.minusHours(1), now);
+        double old = score(10, 2, 10, now.minusDays(30), now);
+        assertThat(recent).isGreaterThan(old);
+    }
+
+    @Test
+    @DisplayName("정원이 0 이거나 수정일시가 없어도 계산된다")
+    void score_edgeCases() {
+        assertThat(score(0, 0, 0, null, now)).isPositive();
+    }
+}
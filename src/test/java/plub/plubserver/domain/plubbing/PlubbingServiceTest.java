@@ -7,33 +7,52 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import plub.plubserver.common.exception.StatusCode;
 import plub.plubserver.domain.account.AccountTemplate;
 import plub.plubserver.domain.account.model.Account;
 import plub.plubserver.domain.account.service.AccountService;
 import plub.plubserver.domain.category.model.SubCategory;
 import plub.plubserver.domain.category.service.CategoryService;
+import plub.plubserver.common.dto.PageResponse;
+import plub.plubserver.common.pagination.KeysetSlice;
+import plub.plubserver.common.pagination.ScoreCursor;
 import plub.plubserver.domain.plubbing.dto.PlubbingDto.CreatePlubbingRequest;
+import plub.plubserver.domain.plubbing.dto.PlubbingDto.PlubbingCardResponse;
 import plub.plubserver.domain.plubbing.dto.PlubbingDto.UpdatePlubbingRequest;
 import plub.plubserver.domain.plubbing.exception.PlubbingException;
 import plub.plubserver.domain.plubbing.model.AccountPlubbing;
+import plub.plubserver.domain.plubbing.model.MeetingDay;
 import plub.plubserver.domain.plubbing.model.Plubbing;
 import plub.plubserver.domain.plubbing.model.PlubbingOnOff;
 import plub.plubserver.domain.plubbing.repository.AccountPlubbingRepository;
 import plub.plubserver.domain.plubbing.repository.PlubbingRepository;
+import plub.plubserver.domain.plubbing.service.PlubbingRankingService;
+import plub.plubserver.domain.plubbing.service.PlubbingRankingService.RankingPage;
+import plub.plubserver.domain.plubbing.service.PlubbingRecommendationService;
+import plub.plubserver.domain.plubbing.service.PlubbingRecommendationService.RecommendationPage;
 import plub.plubserver.domain.plubbing.service.PlubbingService;
 import plub.plubserver.domain.recruit.dto.RecruitDto;
 import plub.plubserver.domain.recruit.dto.RecruitDto.UpdateRecruitQuestionRequest;
 import plub.plubserver.domain.recruit.dto.RecruitDto.UpdateRecruitRequest;
+import plub.plubserver.domain.recruit.repository.BookmarkRepository;
+import plub.plubserver.domain.recruit.service.BookmarkCache;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,6 +68,21 @@ public class PlubbingServiceTest {
     @Mock
     AccountPlubbingRepository accountPlubbingRepository;
 
+    @Mock
+    BookmarkRepository bookmarkRepository;
+
+    @Mock
+    BookmarkCache bookmarkCache;
+
+    @Mock
+    PlubbingRecommendationService plubbingRecommendationService;
+
+    @Mock
+    PlubbingRankingService plubbingRankingService;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     PlubbingService plubbingService;
 
@@ -210,4 +244,95 @@ public class PlubbingServiceTest {
                 .isInstanceOf(PlubbingException.class)
                 .hasMessage(StatusCode.NOT_HOST_ERROR.getMessage());
     }
+
+    @Test
+    @DisplayName("모임 카드 목록 - 호스트/북마크/요일을 카드별 조회 없이 한 번에 조립")
+    void getRecommendation_batchHydration() {
+        // given
+        host.updateAccountCategory(new ArrayList<>());
+        Plubbing first = PlubbingMockUtils.getMockCardPlubbing(1L);
+        Plubbing second = PlubbingMockUtils.getMockCardPlubbing(2L);
+        given(plubbingRepository.findAllByViews(anyInt(), any(), any()))
+                .willReturn(new KeysetSlice<>(List.of(first, second), false, null));
+        given(plubbingRepository.countAllByViews()).willReturn(2L);
+        given(accountPlubbingRepository.findAllHostPlubbingIds(any(), any())).willReturn(List.of(1L));
+        given(bookmarkCache.getBookmarkedPlubbingIds(any())).willReturn(Set.of(2L));
+        given(plubbingRepository.findAllMeetingDaysByPlubbingIds(List.of(1L, 2L)))
+                .willReturn(Map.of(1L, List.of(MeetingDay.MON, MeetingDay.WED)));
+
+        // when
+        PageResponse<PlubbingCardResponse> response = plubbingService.getRecommendation(PageRequest.of(0, 10), null, null);
+
+        // then
+        List<PlubbingCardResponse> cards = response.getContent();
+        assertThat(cards.get(0).isHost()).isTrue();
+        assertThat(cards.get(0).isBookmarked()).isFalse();
+        assertThat(cards.get(0).days()).isEqualTo(List.of(MeetingDay.MON, MeetingDay.WED));
+        assertThat(cards.get(1).isHost()).isFalse();
+        assertThat(cards.get(1).isBookmarked()).isTrue();
+        assertThat(cards.get(1).days()).isEqualTo(List.of());
+        verify(accountPlubbingRepository, never()).findByAccountAndPlubbing(any(), any());
+        verify(bookmarkCache, never()).isBookmarked(any(), any());
+    }
+
+    @Test
+    @DisplayName("추천 모임 - 미리 계산된 추천 순서대로 조회하고 다음 커서를 넘겨준다")
+    void getRecommendation_precomputed() {
+        // given
+        Plubbing first = PlubbingMockUtils.getMockCardPlubbing(1L);
+        Plubbing second = PlubbingMockUtils.getMockCardPlubbing(2L);
+        given(plubbingRecommendationService.getRecommendation(any(), any(), any(), anyInt()))
+                .willReturn(Optional.of(new RecommendationPage(List.of(2L, 1L), true, "2", 5L)));
+        given(plubbingRecommendationService.getCandidates(List.of(2L, 1L))).willReturn(List.of(second, first));
+
+        // when
+        PageResponse<PlubbingCardResponse> response = plubbingService.getRecommendation(PageRequest.of(0, 2), null, null);
+
+        // then
+        assertThat(response.getContent().get(0).plubbingId()).isEqualTo(2L);
+        assertThat(response.getContent().get(1).plubbingId()).isEqualTo(1L);
+        assertThat(response.getNextCursor()).isEqualTo("2");
+        assertThat(response.getTotalElements()).isEqualTo(5L);
+        verify(plubbingRepository, never()).findAllByViews(anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("카테고리 인기순 - 테이블 정렬 없이 인기 순위 순서대로 조회")
+    void getPlubbingByCategory_ranking() {
+        // given
+        Plubbing first = PlubbingMockUtils.getMockCardPlubbing(1L);
+        Plubbing second = PlubbingMockUtils.getMockCardPlubbing(2L);
+        given(plubbingRankingService.getPage(3L, null, null, 2))
+                .willReturn(Optional.of(new RankingPage(List.of(2L, 1L), true, "2", 4L)));
+        given(plubbingRankingService.getCandidates(List.of(2L, 1L))).willReturn(List.of(second, first));
+
+        // when
+        PageResponse<PlubbingCardResponse> response = plubbingService.getPlubbingByCategory(
+                3L, PageRequest.of(0, 2), "popular", null, null, null);
+
+        // then
+        assertThat(response.getContent().get(0).plubbingId()).isEqualTo(2L);
+        assertThat(response.getNextCursor()).isEqualTo("2");
+        assertThat(response.getTotalElements()).isEqualTo(4L);
+        verify(plubbingRepository, never()).findAllByCategory(any(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("추천 모임 - 추천 목록을 사용할 수 없게 되면 추천 커서의 마지막 모임 다음부터 DB 조회")
+    void getRecommendation_fallbackFromScoreCursor() {
+        // given
+        host.updateAccountCategory(new ArrayList<>());
+        String cursor = new ScoreCursor(3.5, "7").encode();
+        given(plubbingRecommendationService.getRecommendation(any(), any(), any(), anyInt())).willReturn(Optional.empty());
+        given(plubbingRankingService.getPage(null, null, 7L, 10)).willReturn(Optional.empty());
+        given(plubbingRepository.findAllByViews(10, null, 7L)).willReturn(new KeysetSlice<>(List.of(), false, null));
+        given(plubbingRepository.countAllByViews()).willReturn(0L);
+
+        // when
+        PageResponse<PlubbingCardResponse> response = plubbingService.getRecommendation(PageRequest.of(0, 10), cursor, null);
+
+        // then
+        assertThat(response.getContent().isEmpty()).isTrue();
+        verify(plubbingRepository).findAllByViews(10, null, 7L);
+    }
 }
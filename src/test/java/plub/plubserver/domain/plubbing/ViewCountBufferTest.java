@@ -0,0 +1,116 @@
+package plub.plubserver.domain.plubbing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import plub.plubserver.domain.plubbing.repository.PlubbingCategoryIndex;
+import plub.plubserver.domain.plubbing.service.ViewCountBuffer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountBufferTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    PlubbingCategoryIndex plubbingCategoryIndex;
+
+    @InjectMocks
+    ViewCountBuffer viewCountBuffer;
+
+    @Test
+    @DisplayName("쌓인 조회수는 모집글별 증분 한 건씩 배치로 반영하고 비운다")
+    void flush() {
+        // given
+        viewCountBuffer.increaseRecruitView(1L);
+        viewCountBuffer.increaseRecruitView(1L);
+        viewCountBuffer.increaseRecruitView(2L);
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("update recruit"), captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(new Object[]{2L, 1L}, new Object[]{1L, 2L});
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("update plubbing"), anyList());
+        assertThat(viewCountBuffer.getPendingRecruitViews(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 조회수를 버퍼에 되돌려 다음 주기에 재시도")
+    void flush_failure() {
+        // given
+        viewCountBuffer.increasePlubbingView(3L);
+        given(jdbcTemplate.batchUpdate(startsWith("update plubbing"), anyList()))
+                .willThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when
+        viewCountBuffer.increasePlubbingView(3L);
+        viewCountBuffer.flush();
+
+        // then
+        assertThat(viewCountBuffer.getPendingPlubbingViews(3L)).isEqualTo(2);
+        verify(plubbingCategoryIndex).adjust(Map.of(), Map.of());
+    }
+
+    @Test
+    @DisplayName("반영된 모임 조회수는 카테고리 색인에도 더한다")
+    void flush_plubbingIndex() {
+        // given
+        viewCountBuffer.increasePlubbingView(3L);
+        viewCountBuffer.increasePlubbingView(3L);
+        viewCountBuffer.increasePlubbingView(4L);
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        verify(plubbingCategoryIndex).adjust(Map.of(), Map.of(3L, 2L, 4L, 1L));
+    }
+
+    @Test
+    @DisplayName("반영하는 도중에 들어온 조회수도 잃지 않고 반영되거나 다음 주기에 남는다")
+    void flush_concurrentIncrease() throws InterruptedException {
+        // given
+        AtomicLong flushed = new AtomicLong();
+        given(jdbcTemplate.batchUpdate(startsWith("update recruit"), anyList())).willAnswer(invocation -> {
+            List<Object[]> batch = invocation.getArgument(1);
+            batch.forEach(arg -> flushed.addAndGet((Long) arg[0]));
+            return new int[batch.size()];
+        });
+        int increments = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        for (int i = 0; i < increments; i++) executor.submit(() -> viewCountBuffer.increaseRecruitView(1L));
+        executor.shutdown();
+        while (!executor.awaitTermination(1, TimeUnit.MILLISECONDS)) viewCountBuffer.flush();
+        viewCountBuffer.flush();
+
+        // then
+        assertThat(flushed.get()).isEqualTo(increments);
+        assertThat(viewCountBuffer.getPendingRecruitViews(1L)).isZero();
+    }
+}
@@ -0,0 +1,144 @@
+package plub.plubserver.domain.plubbing.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import plub.plubserver.common.model.SortType;
+import plub.plubserver.domain.plubbing.model.MeetingDay;
+import plub.plubserver.domain.plubbing.repository.PlubbingCategoryIndex.Entry;
+import plub.plubserver.domain.plubbing.repository.PlubbingCategoryIndex.Filter;
+import plub.plubserver.domain.plubbing.repository.PlubbingCategoryIndex.IndexSlice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class PlubbingCategoryIndexTest {
+
+    private PlubbingCategoryIndex index;
+    private JPAQueryFactory queryFactory;
+    private StringRedisTemplate template;
+
+    // 카테고리 1 : 서브 카테고리 10, 11 / 카테고리 2 : 서브 카테고리 20
+    @BeforeEach
+    void setUp() {
+        queryFactory = mock(JPAQueryFactory.class);
+        template = mock(StringRedisTemplate.class);
+        index = new PlubbingCategoryIndex(queryFactory, template, mock(RedisMessageListenerContainer.class));
+        Map<Long, Entry> entries = new HashMap<>();
+        entries.put(1L, entry(1L, new long[]{10L}, List.of(MeetingDay.MON), 3, 100, "2023-01-01 10:00:00", true));
+        entries.put(2L, entry(2L, new long[]{11L}, List.of(MeetingDay.TUE), 4, 50, "2023-01-03 10:00:00", true));
+        entries.put(3L, entry(3L, new long[]{10L, 11L}, List.of(MeetingDay.MON, MeetingDay.WED), 3, 100, "2023-01-02 10:00:00", false));
+        entries.put(4L, entry(4L, new long[]{20L}, List.of(MeetingDay.MON), 3, 999, "2023-01-04 10:00:00", true));
+        index.replaceAll(entries, new HashMap<>(Map.of(10L, 1L, 11L, 1L, 20L, 2L)));
+    }
+
+    private Entry entry(long id, long[] subCategoryIds, List<MeetingDay> days, int cur, int views, String modifiedAt, boolean recruiting) {
+        return new Entry(id, subCategoryIds, PlubbingCategoryIndex.dayMaskOf(days), cur, views, modifiedAt, recruiting);
+    }
+
+    @Test
+    @DisplayName("카테고리 조회는 모집 중인 모임만 인기순으로 페이지 단위 조회")
+    void search_category_popular() {
+        // when
+        IndexSlice first = index.search(Filter.ofCategory(1L), SortType.POPULAR, null, 1).orElseThrow();
+        IndexSlice second = index.search(Filter.ofCategory(1L), SortType.POPULAR, first.lastKeyValues(), 1).orElseThrow();
+
+        // then
+        assertThat(first.plubbingIds()).containsExactly(1L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.plubbingIds()).containsExactly(2L);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(index.count(Filter.ofCategory(1L))).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("필터 조회는 서브 카테고리, 요일, 인원으로 거르고 최신순 정렬")
+    void search_filter_latest() {
+        // given
+        Filter filter = new Filter(1L, List.of(10L, 20L), List.of(MeetingDay.MON), 3, false);
+
+        // when
+        IndexSlice slice = index.search(filter, SortType.NEW, null, 10).orElseThrow();
+
+        // then : 서브 카테고리 20 은 카테고리 1 이 아니므로 제외
+        assertThat(slice.plubbingIds()).containsExactly(3L, 1L);
+        assertThat(slice.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("요일 필터가 비어 있으면 요일이 없는 모임도 포함 (DB 조회와 같은 결과)")
+    void search_filter_noDays() {
+        // given
+        Map<Long, Entry> entries = new HashMap<>();
+        entries.put(1L, entry(1L, new long[]{10L}, List.of(MeetingDay.MON), 3, 100, "2023-01-01 10:00:00", true));
+        entries.put(5L, entry(5L, new long[]{10L}, List.of(), 3, 10, "2023-01-05 10:00:00", true));
+        index.replaceAll(entries, new HashMap<>(Map.of(10L, 1L)));
+
+        // when
+        IndexSlice anyDay = index.search(new Filter(1L, null, List.of(), null, false), SortType.NEW, null, 10).orElseThrow();
+        IndexSlice monday = index.search(new Filter(1L, null, List.of(MeetingDay.MON), null, false), SortType.NEW, null, 10).orElseThrow();
+
+        // then
+        assertThat(anyDay.plubbingIds()).containsExactly(5L, 1L);
+        assertThat(monday.plubbingIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("비활성화된 모임은 색인에서 빠지고, 모집 상태 변경이 반영된다")
+    void update() {
+        // when
+        index.update(1L, false, 3, 100, "2023-01-01 10:00:00");
+        index.updateRecruiting(3L, true);
+
+        // then
+        IndexSlice slice = index.search(Filter.ofCategory(1L), SortType.POPULAR, null, 10).orElseThrow();
+        assertThat(slice.plubbingIds()).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("적재 전에는 empty 를 돌려줘서 DB 조회로 대체")
+    void search_notReady() {
+        PlubbingCategoryIndex notReady = new PlubbingCategoryIndex(mock(JPAQueryFactory.class),
+                mock(StringRedisTemplate.class), mock(RedisMessageListenerContainer.class));
+
+        assertThat(notReady.search(Filter.ofCategory(1L), SortType.POPULAR, null, 10)).isEmpty();
+        assertThat(notReady.count(Filter.ofCategory(1L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("벌크 update 로 바뀐 인원, 조회수는 증감만 더하고 다른 인스턴스에 알림")
+    void adjust() {
+        // when
+        index.adjust(Map.of(1L, 1), Map.of(2L, 100L));
+
+        // then : 인원 필터와 인기순 정렬에 바로 반영
+        Filter fourMembers = new Filter(1L, null, List.of(), 4, true);
+        assertThat(index.search(fourMembers, SortType.POPULAR, null, 10).orElseThrow().plubbingIds())
+                .containsExactly(2L, 1L);
+        verify(template).convertAndSend(eq(PlubbingCategoryIndex.CHANGED_CHANNEL), endsWith(":1,2"));
+    }
+
+    @Test
+    @DisplayName("변경 알림 형식이 잘못되었으면 DB 를 읽지 않고 무시")
+    void onMessage_invalid() {
+        // when
+        index.onMessage(new DefaultMessage(PlubbingCategoryIndex.CHANGED_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1,2".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        verifyNoInteractions(queryFactory);
+    }
+}
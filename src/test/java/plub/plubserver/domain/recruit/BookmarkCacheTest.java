@@ -0,0 +1,107 @@
+package plub.plubserver.domain.recruit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import plub.plubserver.domain.recruit.event.BookmarkChangedEvent;
+import plub.plubserver.domain.recruit.repository.BookmarkRepository;
+import plub.plubserver.domain.recruit.service.BookmarkCache;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BookmarkCacheTest {
+
+    @Mock
+    StringRedisTemplate template;
+
+    @Mock
+    SetOperations<String, String> setOperations;
+
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    @Mock
+    BookmarkRepository bookmarkRepository;
+
+    @InjectMocks
+    BookmarkCache bookmarkCache;
+
+    @Test
+    @DisplayName("캐시가 있으면 DB 조회 없이 자리 표시자를 뺀 모임 id 집합")
+    void getBookmarkedPlubbingIds_hit() {
+        // given
+        given(template.opsForSet()).willReturn(setOperations);
+        given(setOperations.members("bookmark:account:1")).willReturn(Set.of("0", "3", "7"));
+
+        // when
+        Set<Long> plubbingIds = bookmarkCache.getBookmarkedPlubbingIds(1L);
+
+        // then
+        assertThat(plubbingIds).containsExactlyInAnyOrder(3L, 7L);
+        verify(bookmarkRepository, never()).findAllBookmarkedPlubbingIds(any());
+    }
+
+    @Test
+    @DisplayName("캐시가 없으면 DB 에서 id 만 읽어서, 조회 전에 읽은 버전과 함께 자리 표시자를 넣어 저장 요청")
+    void getBookmarkedPlubbingIds_miss() {
+        // given
+        given(template.opsForSet()).willReturn(setOperations);
+        given(template.opsForValue()).willReturn(valueOperations);
+        given(setOperations.members("bookmark:account:1")).willReturn(Set.of());
+        given(valueOperations.get("bookmark:version:1")).willReturn("4");
+        given(bookmarkRepository.findAllBookmarkedPlubbingIds(1L)).willReturn(List.of(5L));
+
+        // when
+        Set<Long> plubbingIds = bookmarkCache.getBookmarkedPlubbingIds(1L);
+
+        // then
+        assertThat(plubbingIds).containsExactly(5L);
+        verify(template).execute(
+                any(RedisScript.class),
+                eq(List.of("bookmark:account:1", "bookmark:version:1")),
+                eq("4"), eq(String.valueOf(60 * 60)), eq("0"), eq("5")
+        );
+    }
+
+    @Test
+    @DisplayName("북마크가 바뀌면 캐시를 제자리에서 고치지 않고 지운 뒤 버전을 올린다")
+    void onBookmarkChanged_invalidate() {
+        // when
+        bookmarkCache.onBookmarkChanged(new BookmarkChangedEvent(1L, 3L, true));
+
+        // then
+        verify(template).execute(
+                any(RedisScript.class),
+                eq(List.of("bookmark:account:1", "bookmark:version:1")),
+                eq(String.valueOf(60 * 60))
+        );
+    }
+
+    @Test
+    @DisplayName("북마크 여부는 집합 포함 여부 한 번으로 확인")
+    void isBookmarked() {
+        // given
+        given(template.opsForSet()).willReturn(setOperations);
+        given(setOperations.isMember("bookmark:account:1", "3")).willReturn(true);
+
+        // when - then
+        assertThat(bookmarkCache.isBookmarked(1L, 3L)).isTrue();
+        verify(bookmarkRepository, never()).findAllBookmarkedPlubbingIds(any());
+    }
+}
@@ -0,0 +1,94 @@
+package plub.plubserver.domain.recruit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import plub.plubserver.common.exception.StatusCode;
+import plub.plubserver.domain.recruit.dto.QuestionDto.AnswerRequest;
+import plub.plubserver.domain.recruit.dto.RecruitDto.ApplyRecruitRequest;
+import plub.plubserver.domain.recruit.exception.RecruitException;
+import plub.plubserver.domain.recruit.model.AppliedAccount;
+import plub.plubserver.domain.recruit.model.Recruit;
+import plub.plubserver.domain.recruit.model.RecruitQuestion;
+import plub.plubserver.domain.recruit.model.RecruitQuestionAnswer;
+import plub.plubserver.domain.recruit.repository.RecruitQuestionAnswerRepositoryImpl;
+import plub.plubserver.domain.recruit.service.RecruitService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RecruitAnswerBatchTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    RecruitQuestionAnswerRepositoryImpl answerRepository;
+
+    @InjectMocks
+    RecruitService recruitService;
+
+    private final RecruitQuestion first = RecruitQuestion.builder().id(1L).questionTitle("질문1").build();
+    private final RecruitQuestion second = RecruitQuestion.builder().id(2L).questionTitle("질문2").build();
+    private final Recruit recruit = Recruit.builder().recruitQuestionList(List.of(first, second)).build();
+
+    @Test
+    @DisplayName("답변은 질문 id 로 바로 매핑하고 저장하지 않는다")
+    void makeAnswerList() {
+        // given
+        ApplyRecruitRequest request = new ApplyRecruitRequest(List.of(
+                new AnswerRequest(2L, "답변2"),
+                new AnswerRequest(1L, "답변1")
+        ));
+        AppliedAccount appliedAccount = AppliedAccount.builder().id(10L).build();
+
+        // when
+        List<RecruitQuestionAnswer> answers = recruitService.makeAnswerList(request, recruit, appliedAccount);
+
+        // then
+        assertThat(answers).extracting(RecruitQuestionAnswer::getRecruitQuestion).containsExactly(second, first);
+        assertThat(answers).extracting(RecruitQuestionAnswer::getAnswer).containsExactly("답변2", "답변1");
+        assertThat(answers).allMatch(answer -> answer.getAppliedAccount() == appliedAccount && answer.getId() == null);
+    }
+
+    @Test
+    @DisplayName("모집글에 없는 질문에 대한 답변이면 예외")
+    void makeAnswerList_unknownQuestion() {
+        // given
+        ApplyRecruitRequest request = new ApplyRecruitRequest(List.of(new AnswerRequest(3L, "답변")));
+
+        // when, then
+        assertThatThrownBy(() -> recruitService.makeAnswerList(request, recruit, AppliedAccount.builder().build()))
+                .isInstanceOf(RecruitException.class)
+                .hasMessage(StatusCode.NOT_FOUND_QUESTION.getMessage());
+    }
+
+    @Test
+    @DisplayName("지원서 답변은 한 번의 JDBC 배치로 insert")
+    void insertAll() {
+        // given
+        List<RecruitQuestionAnswer> answers = List.of(
+                RecruitQuestionAnswer.builder().recruitQuestion(first).answer("답변1").build(),
+                RecruitQuestionAnswer.builder().recruitQuestion(second).answer("답변2").build()
+        );
+
+        // when
+        answerRepository.insertAll(10L, answers);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue()).containsExactly(new Object[]{1L, 10L, "답변1"}, new Object[]{2L, 10L, "답변2"});
+    }
+}
@@ -0,0 +1,49 @@
+package plub.plubserver.domain.recruit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import plub.plubserver.domain.recruit.dto.RecruitDto.SearchHighlight;
+import plub.plubserver.domain.recruit.model.Recruit;
+import plub.plubserver.domain.recruit.model.RecruitSearchType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecruitSearchHighlightTest {
+
+    @Test
+    @DisplayName("제목 검색은 일치 구간을 모두 강조하고 HTML 은 이스케이프")
+    void highlight_title() {
+        // given
+        Recruit recruit = Recruit.builder()
+                .title("<주말> 등산 모임, 초보 등산 환영")
+                .introduce("소개")
+                .build();
+
+        // when
+        SearchHighlight highlight = SearchHighlight.of(recruit, RecruitSearchType.TITLE, "등산");
+
+        // then
+        assertThat(highlight.title()).isEqualTo("&lt;주말&gt; <em>등산</em> 모임, 초보 <em>등산</em> 환영");
+        assertThat(highlight.introduce()).isNull();
+        assertThat(highlight.name()).isNull();
+    }
+
+    @Test
+    @DisplayName("통합 검색은 소개글을 첫 일치 위치 주변으로 잘라서 강조")
+    void highlight_mix_snippet() {
+        // given
+        String introduce = "가".repeat(50) + "독서" + "나".repeat(50);
+        Recruit recruit = Recruit.builder()
+                .title("모임")
+                .introduce(introduce)
+                .build();
+
+        // when
+        SearchHighlight highlight = SearchHighlight.of(recruit, RecruitSearchType.MIX, "독서");
+
+        // then
+        assertThat(highlight.title()).isEqualTo("모임");
+        assertThat(highlight.introduce())
+                .isEqualTo("..." + "가".repeat(30) + "<em>독서</em>" + "나".repeat(30) + "...");
+    }
+}
@@ -0,0 +1,38 @@
+package plub.plubserver.domain.recruit.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import plub.plubserver.common.model.SortType;
+import plub.plubserver.domain.recruit.model.RecruitSearchType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RecruitLuceneIndexTest {
+
+    @Test
+    @DisplayName("검색어는 2 글자 이상이면 중복 없는 bigram, 1 글자면 그대로")
+    void gramsOf() {
+        assertThat(RecruitLuceneIndex.gramsOf("등산등산")).containsExactly("등산", "산등");
+        assertThat(RecruitLuceneIndex.gramsOf("Book")).containsExactly("bo", "oo", "ok");
+        assertThat(RecruitLuceneIndex.gramsOf("책")).containsExactly("책");
+        assertThat(RecruitLuceneIndex.gramsOf(" ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("설정이 꺼져 있으면 색인을 열지 않고 DB 검색으로 대체")
+    void disabled() {
+        // given
+        RecruitLuceneIndex index = new RecruitLuceneIndex(mock(JPAQueryFactory.class));
+
+        // when
+        index.open();
+        index.reindexAll();
+
+        // then
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.search(RecruitSearchType.MIX, "등산", SortType.NEW, null, 10)).isEmpty();
+        assertThat(index.count(RecruitSearchType.MIX, "등산")).isEmpty();
+    }
+}
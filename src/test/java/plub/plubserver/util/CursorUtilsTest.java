@@ -0,0 +1,56 @@
+package plub.plubserver.util;
+
+import com.querydsl.jpa.JPQLQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class CursorUtilsTest {
+
+    @Test
+    @DisplayName("페이지 크기 + 1 개가 조회되면 다음 페이지가 있다")
+    void fetchSlice_hasNext() {
+        // given
+        JPQLQuery<Long> query = mockQuery(List.of(1L, 2L, 3L, 4L));
+
+        // when
+        Slice<Long> slice = CursorUtils.fetchSlice(query, PageRequest.of(0, 3));
+
+        // then
+        verify(query).limit(4L);
+        assertThat(slice.getContent()).containsExactly(1L, 2L, 3L);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(slice.isLast()).isFalse();
+    }
+
+    @Test
+    @DisplayName("페이지 크기 이하로 조회되면 마지막 페이지")
+    void fetchSlice_last() {
+        // given
+        JPQLQuery<Long> query = mockQuery(List.of(1L, 2L, 3L));
+
+        // when
+        Slice<Long> slice = CursorUtils.fetchSlice(query, PageRequest.of(0, 3));
+
+        // then
+        assertThat(slice.getContent()).containsExactly(1L, 2L, 3L);
+        assertThat(slice.isLast()).isTrue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private JPQLQuery<Long> mockQuery(List<Long> result) {
+        JPQLQuery<Long> query = mock(JPQLQuery.class);
+        given(query.limit(anyLong())).willReturn(query);
+        given(query.fetch()).willReturn(result);
+        return query;
+    }
+}